@@ -6,6 +6,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Configuration
 public class GoogleMapsConfig {
@@ -13,6 +15,19 @@ public class GoogleMapsConfig {
     @Value("${google.maps.api-key:}")
     private String apiKey;
 
+    // 외부 API 지연이 요청 전체를 붙잡지 않도록 짧게 제한 (실패 시 좌표 기반 추정값으로 대체)
+    @Value("${google.maps.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${google.maps.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${google.maps.retry-timeout-ms:6000}")
+    private long retryTimeoutMs;
+
+    @Value("${google.maps.max-retries:1}")
+    private int maxRetries;
+
     @Bean
     public GeoApiContext geoApiContext() {
         if (apiKey == null || apiKey.trim().isEmpty()) {
@@ -23,6 +38,10 @@ public class GoogleMapsConfig {
         
         return new GeoApiContext.Builder()
                 .apiKey(apiKey)
+                .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .retryTimeout(retryTimeoutMs, TimeUnit.MILLISECONDS)
+                .maxRetries(maxRetries)
                 .build();
     }
 }
@@ -0,0 +1,10 @@
+package com.ikuzo.tabilog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 작업 (지출 집계 검증 등) 활성화
+}
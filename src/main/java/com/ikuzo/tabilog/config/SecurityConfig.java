@@ -59,8 +59,10 @@ public class SecurityConfig {
                         .requestMatchers("/auth/**").permitAll() // auth 경로도 인증 없이 허용 (개발 단계)
                         .requestMatchers("/api/spots/google-search").permitAll() // Google Maps 검색 API는 인증 없이 허용
                         .requestMatchers("/api/spots/nearby").permitAll() // Google Maps 주변 검색 API는 인증 없이 허용
+                        .requestMatchers("/api/spots/nearby/stored").permitAll() // 공개 계획의 저장된 관광지 주변 검색
                         .requestMatchers("/api/spots/directions").permitAll() // Google Maps 경로 API는 인증 없이 허용
                         .requestMatchers("/api/spots/travel-time").permitAll() // 이동 시간 API 허용
+                        .requestMatchers("/api/spots/travel-time/quick").permitAll() // 임시 이동 시간 API 허용
                         .requestMatchers("/api/spots/address").permitAll() // 주소 변환 API 허용
                         .requestMatchers("/api/categories/regions/**").permitAll() // 지역 API 허용
                         .requestMatchers("/api/upload/**").authenticated() // 파일 업로드는 인증 필요
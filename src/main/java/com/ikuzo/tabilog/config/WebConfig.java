@@ -1,10 +1,33 @@
 package com.ikuzo.tabilog.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.file.Paths;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
-    // Google Cloud Storage를 사용하므로 로컬 정적 리소스 설정 제거
-    // 이미지는 GCS에서 직접 서빙됩니다
+
+    // 기본(storage.type=gcs)은 이미지를 GCS 에서 직접 서빙합니다
+    @Value("${storage.type:gcs}")
+    private String storageType;
+
+    @Value("${storage.local.directory:uploads}")
+    private String localDirectory;
+
+    @Value("${storage.local.public-url:/uploads}")
+    private String localPublicUrl;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 로컬 저장소(개발/테스트)를 쓸 때만 업로드 디렉터리를 정적 리소스로 제공
+        if ("local".equals(storageType)) {
+            String pattern = (localPublicUrl.endsWith("/") ? localPublicUrl : localPublicUrl + "/") + "**";
+            String location = Paths.get(localDirectory).toAbsolutePath().toUri().toString();
+            registry.addResourceHandler(pattern)
+                    .addResourceLocations(location.endsWith("/") ? location : location + "/");
+        }
+    }
 }
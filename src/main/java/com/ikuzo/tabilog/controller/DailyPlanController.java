@@ -9,6 +9,7 @@ import com.ikuzo.tabilog.dto.response.DailyPlanResponse;
 import com.ikuzo.tabilog.dto.response.SpotResponse;
 import com.ikuzo.tabilog.dto.response.TravelSegmentResponse;
 import com.ikuzo.tabilog.global.ApiResponse;
+import com.ikuzo.tabilog.service.DailyScheduleService;
 import com.ikuzo.tabilog.service.SpotService;
 import com.ikuzo.tabilog.service.TravelSegmentService;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ public class DailyPlanController extends BaseController {
     private final PlanRepository planRepository;
     private final SpotService spotService;
     private final TravelSegmentService travelSegmentService;
+    private final DailyScheduleService dailyScheduleService;
 
     @PostMapping("/plans/{planId}")
     public ResponseEntity<ApiResponse<DailyPlanResponse>> createDailyPlan(
@@ -54,6 +56,7 @@ public class DailyPlanController extends BaseController {
                     .id(existingDailyPlan.getId())
                     .visitDate(existingDailyPlan.getVisitDate())
                     .departureTime(existingDailyPlan.getDepartureTime())
+                    .spotOrderVersion(existingDailyPlan.getSpotOrderVersion())
                     .spots(List.of()) // 빈 리스트
                     .travelSegments(List.of()) // 빈 리스트
                     .createdAt(existingDailyPlan.getCreatedAt())
@@ -75,6 +78,7 @@ public class DailyPlanController extends BaseController {
                 .id(savedDailyPlan.getId())
                 .visitDate(savedDailyPlan.getVisitDate())
                 .departureTime(savedDailyPlan.getDepartureTime())
+                .spotOrderVersion(savedDailyPlan.getSpotOrderVersion())
                 .spots(List.of()) // 빈 리스트
                 .travelSegments(List.of()) // 빈 리스트
                 .createdAt(savedDailyPlan.getCreatedAt())
@@ -100,8 +104,10 @@ public class DailyPlanController extends BaseController {
                 .id(dailyPlan.getId())
                 .visitDate(dailyPlan.getVisitDate())
                 .departureTime(dailyPlan.getDepartureTime())
+                .spotOrderVersion(dailyPlan.getSpotOrderVersion())
                 .spots(spots)
                 .travelSegments(travelSegments)
+                .schedule(dailyScheduleService.getSchedule(dailyPlan, spots, travelSegments))
                 .createdAt(dailyPlan.getCreatedAt())
                 .updatedAt(dailyPlan.getUpdatedAt())
                 .build();
@@ -130,8 +136,10 @@ public class DailyPlanController extends BaseController {
                 .id(dailyPlan.getId())
                 .visitDate(dailyPlan.getVisitDate())
                 .departureTime(dailyPlan.getDepartureTime())
+                .spotOrderVersion(dailyPlan.getSpotOrderVersion())
                 .spots(spots)
                 .travelSegments(travelSegments)
+                .schedule(dailyScheduleService.getSchedule(dailyPlan, spots, travelSegments))
                 .createdAt(dailyPlan.getCreatedAt())
                 .updatedAt(dailyPlan.getUpdatedAt())
                 .build();
@@ -1,6 +1,6 @@
 package com.ikuzo.tabilog.controller;
 
-import com.ikuzo.tabilog.service.GoogleCloudStorageService;
+import com.ikuzo.tabilog.service.ImageStorage;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,7 +19,7 @@ public class FileUploadController {
     private static final Logger logger = LoggerFactory.getLogger(FileUploadController.class);
     
     @Autowired
-    private GoogleCloudStorageService storageService;
+    private ImageStorage storageService;
 
     @PostMapping("/image")
     public ResponseEntity<Map<String, Object>> uploadImage(@RequestParam("file") MultipartFile file) {
@@ -48,7 +48,7 @@ public class FileUploadController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            // Google Cloud Storage에 업로드
+            // 이미지 저장소(GCS 또는 로컬)에 업로드
             String imageUrl = storageService.uploadImage(file);
             logger.info("이미지 업로드 성공: {}", imageUrl);
 
@@ -1,17 +1,28 @@
 package com.ikuzo.tabilog.controller;
 
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.dto.request.ItineraryBalanceRequest;
 import com.ikuzo.tabilog.dto.request.PlanRequest;
+import com.ikuzo.tabilog.dto.response.ItineraryBalanceResponse;
+import com.ikuzo.tabilog.dto.response.PageResponse;
+import com.ikuzo.tabilog.dto.response.PlanFeedResponse;
 import com.ikuzo.tabilog.dto.response.PlanResponse;
+import com.ikuzo.tabilog.dto.response.PlanSummaryResponse;
 import com.ikuzo.tabilog.global.ApiResponse;
+import com.ikuzo.tabilog.service.ItineraryBalanceService;
 import com.ikuzo.tabilog.service.PlanService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/plans")
@@ -19,6 +30,7 @@ import java.util.List;
 public class PlanController extends BaseController {
 
     private final PlanService planService;
+    private final ItineraryBalanceService itineraryBalanceService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<PlanResponse>> createPlan(
@@ -43,10 +55,46 @@ public class PlanController extends BaseController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @GetMapping
-    public ResponseEntity<ApiResponse<List<PlanResponse>>> getUserPlans(
+    // 계획 전체 관광지를 여러 날에 고르게 재배치한 제안 (저장하지 않음)
+    @GetMapping("/{planId}/balance")
+    public ResponseEntity<ApiResponse<ItineraryBalanceResponse>> previewBalance(
+            @PathVariable Long planId,
+            @RequestParam(required = false, defaultValue = "WALKING") TravelMode travelMode,
             Authentication authentication) {
         
+        Long userId = getCurrentUserId(authentication);
+        ItineraryBalanceResponse response = itineraryBalanceService.preview(planId, travelMode, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 미리보기에서 받은(또는 수정한) 날별 배치를 확정
+    @PostMapping("/{planId}/balance")
+    public ResponseEntity<ApiResponse<ItineraryBalanceResponse>> commitBalance(
+            @PathVariable Long planId,
+            @RequestParam(required = false, defaultValue = "WALKING") TravelMode travelMode,
+            @Valid @RequestBody ItineraryBalanceRequest request,
+            Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        ItineraryBalanceResponse response = itineraryBalanceService.commit(planId, travelMode, request, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success("일정이 재배치되었습니다.", response));
+    }
+
+    // 목록은 요약만 반환하고, 일정/관광지까지 포함한 상세 트리는 /full 로 조회
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<PlanSummaryResponse>>> getUserPlans(Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        List<PlanSummaryResponse> responses = planService.getUserPlanSummaries(userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    @GetMapping("/full")
+    public ResponseEntity<ApiResponse<List<PlanResponse>>> getUserPlansFull(Authentication authentication) {
+        
         Long userId = getCurrentUserId(authentication);
         List<PlanResponse> responses = planService.getUserPlans(userId);
         
@@ -54,8 +102,16 @@ public class PlanController extends BaseController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<PlanResponse>>> getActivePlans(
-            Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<PlanSummaryResponse>>> getActivePlans(Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        List<PlanSummaryResponse> responses = planService.getActivePlanSummaries(userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    @GetMapping("/active/full")
+    public ResponseEntity<ApiResponse<List<PlanResponse>>> getActivePlansFull(Authentication authentication) {
         
         Long userId = getCurrentUserId(authentication);
         List<PlanResponse> responses = planService.getActivePlans(userId);
@@ -64,8 +120,16 @@ public class PlanController extends BaseController {
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<ApiResponse<List<PlanResponse>>> getUpcomingPlans(
-            Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<PlanSummaryResponse>>> getUpcomingPlans(Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        List<PlanSummaryResponse> responses = planService.getUpcomingPlanSummaries(userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    @GetMapping("/upcoming/full")
+    public ResponseEntity<ApiResponse<List<PlanResponse>>> getUpcomingPlansFull(Authentication authentication) {
         
         Long userId = getCurrentUserId(authentication);
         List<PlanResponse> responses = planService.getUpcomingPlans(userId);
@@ -74,8 +138,16 @@ public class PlanController extends BaseController {
     }
 
     @GetMapping("/completed")
-    public ResponseEntity<ApiResponse<List<PlanResponse>>> getCompletedPlans(
-            Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<PlanSummaryResponse>>> getCompletedPlans(Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        List<PlanSummaryResponse> responses = planService.getCompletedPlanSummaries(userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    @GetMapping("/completed/full")
+    public ResponseEntity<ApiResponse<List<PlanResponse>>> getCompletedPlansFull(Authentication authentication) {
         
         Long userId = getCurrentUserId(authentication);
         List<PlanResponse> responses = planService.getCompletedPlans(userId);
@@ -107,10 +179,15 @@ public class PlanController extends BaseController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<PlanResponse>>> searchUserPlans(
+    public ResponseEntity<ApiResponse<PageResponse<?>>> searchUserPlans(
             @RequestParam(required = false) String prefecture,
             @RequestParam(required = false) String prefectures,
             @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean full,
             Authentication authentication) {
         
         Long userId = getCurrentUserId(authentication);
@@ -118,11 +195,16 @@ public class PlanController extends BaseController {
         // prefectures 파라미터 처리 (comma-separated)
         List<String> prefectureList = null;
         if (prefectures != null && !prefectures.trim().isEmpty() && !prefectures.equals("전체")) {
-            prefectureList = List.of(prefectures.split(","));
+            prefectureList = Arrays.stream(prefectures.split(","))
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .collect(Collectors.toList());
         }
         
-        // 사용자의 여행 계획을 prefecture(s)와 status로 필터링
-        List<PlanResponse> responses = planService.getUserPlansWithFilters(userId, prefecture, prefectureList, status);
+        // 사용자의 여행 계획을 prefecture(s), status, 기간으로 필터링 (DB에서 페이지 단위 조회)
+        PageResponse<?> responses = full
+                ? planService.searchUserPlans(userId, prefecture, prefectureList, status, from, to, page, size)
+                : planService.searchUserPlanSummaries(userId, prefecture, prefectureList, status, from, to, page, size);
         
         String message = "내 여행 계획을 조회했습니다.";
         if (prefecture != null && !prefecture.trim().isEmpty() && !prefecture.equals("전체")) {
@@ -139,12 +221,14 @@ public class PlanController extends BaseController {
     }
 
     @GetMapping("/public")
-    public ResponseEntity<ApiResponse<List<PlanResponse>>> getPublicPlans(
+    public ResponseEntity<ApiResponse<PlanFeedResponse>> getPublicPlans(
             @RequestParam(required = false) String prefecture,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         
-        // 공개된 여행 계획을 prefecture와 status로 필터링
-        List<PlanResponse> responses = planService.getPublicPlans(null, prefecture, status);
+        // 공개된 여행 계획을 prefecture와 status로 필터링 (cursor 이후 size건)
+        PlanFeedResponse responses = planService.getPublicPlanFeed(null, prefecture, status, cursor, size);
         
         String message = "공개된 여행 계획을 조회했습니다.";
         if (prefecture != null && !prefecture.trim().isEmpty() && !prefecture.equals("전체")) {
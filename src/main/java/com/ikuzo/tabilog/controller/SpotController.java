@@ -1,12 +1,24 @@
 package com.ikuzo.tabilog.controller;
 
 import com.ikuzo.tabilog.domain.spot.GoogleMap.GoogleMapsService;
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
 import com.ikuzo.tabilog.dto.response.GooglePlaceResponse;
 import com.ikuzo.tabilog.dto.response.GoogleDirectionsResponse;
+import com.ikuzo.tabilog.dto.response.NearbySpotResponse;
+import com.ikuzo.tabilog.dto.request.SpotOrderRequest;
 import com.ikuzo.tabilog.dto.request.SpotRequest;
+import com.ikuzo.tabilog.dto.response.PageResponse;
+import com.ikuzo.tabilog.dto.response.RouteOptimizationResponse;
+import com.ikuzo.tabilog.dto.response.SpotOrderResponse;
 import com.ikuzo.tabilog.dto.response.SpotResponse;
+import com.ikuzo.tabilog.dto.response.TravelMatrixResponse;
+import com.ikuzo.tabilog.dto.response.TravelTimeResponse;
 import com.ikuzo.tabilog.global.ApiResponse;
+import com.ikuzo.tabilog.service.NearbySpotService;
+import com.ikuzo.tabilog.service.SpotSearchService;
 import com.ikuzo.tabilog.service.SpotService;
+import com.ikuzo.tabilog.service.TravelMatrixService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,6 +27,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/spots")
@@ -23,6 +36,9 @@ public class SpotController extends BaseController {
 
     private final SpotService spotService;
     private final GoogleMapsService googleMapsService;
+    private final TravelMatrixService travelMatrixService;
+    private final SpotSearchService spotSearchService;
+    private final NearbySpotService nearbySpotService;
 
     @PostMapping("/daily-plans/{dailyPlanId}")
     public ResponseEntity<ApiResponse<SpotResponse>> addSpotToDailyPlan(
@@ -55,35 +71,82 @@ public class SpotController extends BaseController {
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    // 이름/주소/카테고리 검색 (공개 계획과 작성/참여한 계획의 관광지만, 관련도순)
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<SpotResponse>>> searchSpots(
-            @RequestParam String query) {
+    public ResponseEntity<ApiResponse<PageResponse<SpotResponse>>> searchSpots(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
         
-        List<SpotResponse> responses = spotService.searchSpots(query);
+        Long userId = authentication != null ? getCurrentUserId(authentication) : null;
+        PageResponse<SpotResponse> responses = spotSearchService.search(query, userId, page, size);
         
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    // Google Maps 호출은 비동기로 처리하여 응답을 기다리는 동안 요청 스레드를 반환
     @GetMapping("/travel-time")
-    public ResponseEntity<ApiResponse<String>> getTravelTime(
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> getTravelTime(
             @RequestParam double lat1,
             @RequestParam double lng1,
             @RequestParam double lat2,
             @RequestParam double lng2) {
         
-        String travelTime = googleMapsService.getTravelTime(lat1, lng1, lat2, lng2);
+        return googleMapsService.getTravelTimeAsync(lat1, lng1, lat2, lng2)
+                .thenApply(travelTime -> ResponseEntity.ok(ApiResponse.success(travelTime)));
+    }
+
+    // 캐시된 실제 값 또는 좌표 기반 추정값을 즉시 반환 (실제 경로는 백그라운드 조회)
+    @GetMapping("/travel-time/quick")
+    public ResponseEntity<ApiResponse<TravelTimeResponse>> getQuickTravelTime(
+            @RequestParam double lat1,
+            @RequestParam double lng1,
+            @RequestParam double lat2,
+            @RequestParam double lng2,
+            @RequestParam(required = false, defaultValue = "WALKING") String travelMode) {
+        
+        TravelTimeResponse travelTime = googleMapsService.getProvisionalTravelTime(lat1, lng1, lat2, lng2, travelMode);
         
         return ResponseEntity.ok(ApiResponse.success(travelTime));
     }
 
+    // 일별 계획의 모든 관광지 쌍 이동 시간을 한 번에 계산하고 이동 구간을 일괄 저장
+    @PostMapping("/daily-plans/{dailyPlanId}/travel-matrix")
+    public ResponseEntity<ApiResponse<TravelMatrixResponse>> rebuildTravelSegments(
+            @PathVariable Long dailyPlanId,
+            @RequestParam(required = false, defaultValue = "WALKING") TravelMode travelMode,
+            Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        TravelMatrixResponse response = travelMatrixService.rebuildTravelSegments(dailyPlanId, travelMode, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success("이동 구간이 계산되었습니다.", response));
+    }
+
+    // 이동 시간 행렬 기준으로 일별 계획의 방문 순서를 최적화 (숙소 등 첫/마지막 관광지 고정 가능)
+    @PostMapping("/daily-plans/{dailyPlanId}/optimize")
+    public ResponseEntity<ApiResponse<RouteOptimizationResponse>> optimizeVisitOrder(
+            @PathVariable Long dailyPlanId,
+            @RequestParam(required = false, defaultValue = "WALKING") TravelMode travelMode,
+            @RequestParam(required = false) Long startSpotId,
+            @RequestParam(required = false) Long endSpotId,
+            Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        RouteOptimizationResponse response = travelMatrixService.optimizeVisitOrder(
+                dailyPlanId, travelMode, startSpotId, endSpotId, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success("방문 순서가 최적화되었습니다.", response));
+    }
+
     @GetMapping("/address")
-    public ResponseEntity<ApiResponse<String>> getFormattedAddress(
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> getFormattedAddress(
             @RequestParam double lat,
             @RequestParam double lng) {
         
-        String address = googleMapsService.getFormattedAddress(lat, lng);
-        
-        return ResponseEntity.ok(ApiResponse.success(address));
+        return googleMapsService.getFormattedAddressAsync(lat, lng)
+                .thenApply(address -> ResponseEntity.ok(ApiResponse.success(address)));
     }
 
     @PutMapping("/{spotId}")
@@ -114,31 +177,56 @@ public class SpotController extends BaseController {
         return ResponseEntity.ok(ApiResponse.success("관광지 순서가 재정렬되었습니다.", null));
     }
 
+    // 드래그 앤 드롭 등으로 바뀐 전체 방문 순서를 한 번에 저장 (버전이 다르면 409)
+    @PutMapping("/daily-plans/{dailyPlanId}/order")
+    public ResponseEntity<ApiResponse<SpotOrderResponse>> updateSpotOrder(
+            @PathVariable Long dailyPlanId,
+            @Valid @RequestBody SpotOrderRequest request,
+            Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        SpotOrderResponse response = spotService.updateSpotOrder(dailyPlanId, request, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success("관광지 순서가 변경되었습니다.", response));
+    }
+
     @GetMapping("/google-search")
-    public ResponseEntity<ApiResponse<List<GooglePlaceResponse>>> searchPlaces(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<GooglePlaceResponse>>>> searchPlaces(
             @RequestParam String query,
             @RequestParam(required = false) String location,
             @RequestParam(required = false, defaultValue = "ja") String language,
             @RequestParam(required = false, defaultValue = "JP") String region) {
         
-        List<GooglePlaceResponse> places = googleMapsService.searchPlaces(query, location, language, region);
-        
-        return ResponseEntity.ok(ApiResponse.success(places));
+        return googleMapsService.searchPlacesAsync(query, location, language, region)
+                .thenApply(places -> ResponseEntity.ok(ApiResponse.success(places)));
     }
 
     @GetMapping("/nearby")
-    public ResponseEntity<ApiResponse<List<GooglePlaceResponse>>> getNearbyPlaces(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<GooglePlaceResponse>>>> getNearbyPlaces(
             @RequestParam double lat,
             @RequestParam double lng,
             @RequestParam(required = false, defaultValue = "tourist_attraction") String type) {
         
-        List<GooglePlaceResponse> places = googleMapsService.getNearbyPlaces(lat, lng, type);
-        
-        return ResponseEntity.ok(ApiResponse.success(places));
+        // 저장된 공개 관광지로 충분하면 Google API 를 호출하지 않음
+        return nearbySpotService.getNearbyPlacesAsync(lat, lng, type)
+                .thenApply(places -> ResponseEntity.ok(ApiResponse.success(places)));
+    }
+
+    // 공개 계획에 저장된 관광지 중 가까운 순 (반경 기본 1km, 최대 50km / limit 기본 20, 최대 50)
+    @GetMapping("/nearby/stored")
+    public ResponseEntity<ApiResponse<List<NearbySpotResponse>>> getNearbyStoredSpots(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Integer radius,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) List<SpotCategory> category) {
+
+        List<NearbySpotResponse> response = nearbySpotService.findNearbySpots(lat, lng, radius, limit, category);
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/directions")
-    public ResponseEntity<ApiResponse<GoogleDirectionsResponse>> getDirections(
+    public CompletableFuture<ResponseEntity<ApiResponse<GoogleDirectionsResponse>>> getDirections(
             @RequestParam double lat1,
             @RequestParam double lng1,
             @RequestParam double lat2,
@@ -148,9 +236,8 @@ public class SpotController extends BaseController {
             @RequestParam(required = false) String transitPreferences,
             @RequestParam(required = false) String dayOfWeek) {
         
-        GoogleDirectionsResponse directions = googleMapsService.getDirections(
-            lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek);
-        
-        return ResponseEntity.ok(ApiResponse.success(directions));
+        return googleMapsService.getDirectionsAsync(
+                lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek)
+                .thenApply(directions -> ResponseEntity.ok(ApiResponse.success(directions)));
     }
 }
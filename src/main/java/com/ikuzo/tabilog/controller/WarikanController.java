@@ -1,6 +1,8 @@
 package com.ikuzo.tabilog.controller;
 
+import com.ikuzo.tabilog.dto.request.SettlementRequest;
 import com.ikuzo.tabilog.dto.request.WarikanRequest;
+import com.ikuzo.tabilog.dto.response.SettlementResponse;
 import com.ikuzo.tabilog.dto.response.WarikanResponse;
 import com.ikuzo.tabilog.global.ApiResponse;
 import com.ikuzo.tabilog.service.WarikanService;
@@ -37,4 +39,20 @@ public class WarikanController extends BaseController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("와리깡 정보가 멤버들에게 전송되었습니다.", response));
     }
+
+    /**
+     * 기록된 지출로 멤버별 정산 금액과 최소 송금 목록 계산
+     * 요청 본문이 없으면 모든 멤버의 가중치를 1로 계산
+     */
+    @PostMapping("/plans/{planId}/settlement")
+    public ResponseEntity<ApiResponse<SettlementResponse>> calculateSettlement(
+            @PathVariable Long planId,
+            @Valid @RequestBody(required = false) SettlementRequest request,
+            Authentication authentication) {
+
+        Long userId = getCurrentUserId(authentication);
+        SettlementResponse response = warikanService.calculateSettlement(planId, request, userId);
+
+        return ResponseEntity.ok(ApiResponse.success("정산 결과를 계산했습니다.", response));
+    }
 }
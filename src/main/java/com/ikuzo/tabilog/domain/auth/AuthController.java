@@ -172,7 +172,7 @@ public class AuthController {
                 .map(refreshTokenService::verifyExpiration)
                 .map(RefreshToken::getUser)
                 .map(user -> {
-                    String token = jwtUtils.generateJwtTokenFromEmail(user.getEmail());
+                    String token = jwtUtils.generateJwtToken(UserDetailsImpl.build(user));
                     // (선택) 여기서도 expiresAt을 내려주고 싶다면 TokenRefreshResponse에 필드 추가 필요
                     return ResponseEntity.ok(new TokenRefreshResponse(token, requestRefreshToken));
                 })
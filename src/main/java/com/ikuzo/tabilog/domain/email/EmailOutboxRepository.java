@@ -0,0 +1,50 @@
+package com.ikuzo.tabilog.domain.email;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 전송 시각이 된 대기 메일 (오래된 순)
+    @Query("SELECT o FROM EmailOutbox o WHERE o.status = com.ikuzo.tabilog.domain.email.EmailOutboxStatus.PENDING " +
+           "AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<EmailOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 전송할 메일을 선점 (다른 인스턴스가 먼저 가져간 행은 nextAttemptAt 이 바뀌어 0건)
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.id = :id AND o.status = com.ikuzo.tabilog.domain.email.EmailOutboxStatus.PENDING " +
+           "AND o.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailOutbox o SET o.status = com.ikuzo.tabilog.domain.email.EmailOutboxStatus.SENT, " +
+           "o.attempts = o.attempts + 1, o.sentAt = :sentAt, o.lastError = NULL WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailOutbox o SET o.status = :status, o.attempts = o.attempts + 1, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError WHERE o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") EmailOutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    // 보관 기간이 지난 전송 완료 메일 id (afterId 이후, id 순 - 나누어 삭제)
+    @Query("SELECT o.id FROM EmailOutbox o WHERE o.id > :afterId " +
+           "AND o.status = com.ikuzo.tabilog.domain.email.EmailOutboxStatus.SENT AND o.sentAt < :cutoff ORDER BY o.id")
+    List<Long> findSentIdsAfter(@Param("afterId") Long afterId, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutbox o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
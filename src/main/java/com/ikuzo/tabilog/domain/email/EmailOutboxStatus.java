@@ -0,0 +1,17 @@
+package com.ikuzo.tabilog.domain.email;
+
+public enum EmailOutboxStatus {
+    PENDING("전송 대기"),
+    SENT("전송 완료"),
+    FAILED("전송 실패");
+
+    private final String description;
+
+    EmailOutboxStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,155 @@
+package com.ikuzo.tabilog.domain.email;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 컴파일된 이메일 템플릿
+ * "Subject: ..." 첫 줄과 빈 줄 뒤의 HTML 본문으로 된 템플릿을 고정 문자열 조각과 {{이름}} 슬롯 목록으로 한 번만 나누어 두고,
+ * 렌더링할 때는 스레드별로 재사용하는 StringBuilder 에 조각과 값을 차례로 붙입니다.
+ * 본문의 값은 HTML 이스케이프하고, 제목(평문 헤더)의 값은 그대로 두되 줄바꿈(CR/LF)만 공백으로 바꿉니다.
+ * 인스턴스는 불변이므로 여러 스레드가 함께 사용해도 됩니다.
+ */
+public final class EmailTemplate {
+
+    private static final String SUBJECT_PREFIX = "Subject:";
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    /** 렌더링 결과 */
+    public record Rendered(String subject, String html) {
+    }
+
+    private final String name;
+    private final Part subject;
+    private final Part body;
+    private final String[] slotNames;
+
+    private EmailTemplate(String name, Part subject, Part body, String[] slotNames) {
+        this.name = name;
+        this.subject = subject;
+        this.body = body;
+        this.slotNames = slotNames;
+    }
+
+    /**
+     * 템플릿 원문을 컴파일
+     * @throws IllegalArgumentException Subject 줄이 없거나 닫히지 않은 {{ 가 있는 경우
+     */
+    public static EmailTemplate compile(String name, String source) {
+        String normalized = source.startsWith("\uFEFF") ? source.substring(1) : source;
+        int lineEnd = normalized.indexOf('\n');
+        if (!normalized.startsWith(SUBJECT_PREFIX) || lineEnd < 0) {
+            throw new IllegalArgumentException("이메일 템플릿 첫 줄은 Subject: 이어야 합니다: " + name);
+        }
+        String subjectSource = normalized.substring(SUBJECT_PREFIX.length(), lineEnd).trim();
+        String bodySource = normalized.substring(lineEnd + 1).replaceFirst("^\\r?\\n", "");
+
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        Part subject = Part.parse(name, subjectSource, slots);
+        Part body = Part.parse(name, bodySource, slots);
+        return new EmailTemplate(name, subject, body, slots.keySet().toArray(new String[0]));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** 템플릿에 나오는 슬롯 이름 (처음 나온 순서) */
+    public List<String> getSlotNames() {
+        return List.of(slotNames);
+    }
+
+    /**
+     * 값을 채워 제목과 본문을 만듦 (본문의 값만 HTML 이스케이프됨)
+     * @throws IllegalArgumentException 템플릿의 슬롯에 해당하는 값이 없는 경우
+     */
+    public Rendered render(Map<String, ?> values) {
+        String[] resolved = new String[slotNames.length];
+        for (int i = 0; i < slotNames.length; i++) {
+            Object value = values.get(slotNames[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("이메일 템플릿 값이 없습니다: " + name + "." + slotNames[i]);
+            }
+            resolved[i] = value.toString();
+        }
+        return new Rendered(subject.render(resolved, false), body.render(resolved, true));
+    }
+
+    /** 제목 또는 본문 (literals[i] 다음에 slots[i] 값, 마지막에 literals[slots.length]) */
+    private record Part(String[] literals, int[] slots) {
+
+        static Part parse(String name, String source, Map<String, Integer> slotIndexes) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            int position = 0;
+            int open;
+            while ((open = source.indexOf("{{", position)) >= 0) {
+                int close = source.indexOf("}}", open + 2);
+                if (close < 0) {
+                    throw new IllegalArgumentException("닫히지 않은 슬롯이 있습니다: " + name + " (" + open + ")");
+                }
+                String literal = source.substring(position, open);
+                literals.add(literal);
+                String slotName = source.substring(open + 2, close).trim();
+                slots.add(slotIndexes.computeIfAbsent(slotName, key -> slotIndexes.size()));
+                position = close + 2;
+            }
+            String tail = source.substring(position);
+            literals.add(tail);
+            return new Part(literals.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        String render(String[] values, boolean html) {
+            StringBuilder buffer = BUFFER.get();
+            if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+                // 큰 메일 한 번으로 커진 버퍼를 계속 붙잡지 않도록 교체
+                buffer = new StringBuilder(8 * 1024);
+                BUFFER.set(buffer);
+            }
+            buffer.setLength(0);
+            for (int i = 0; i < slots.length; i++) {
+                buffer.append(literals[i]);
+                if (html) {
+                    appendEscaped(buffer, values[slots[i]]);
+                } else {
+                    appendHeaderValue(buffer, values[slots[i]]);
+                }
+            }
+            buffer.append(literals[slots.length]);
+            String result = buffer.toString();
+            buffer.setLength(0);
+            return result;
+        }
+    }
+
+    // 제목 헤더 주입을 막기 위해 줄바꿈만 공백으로 바꿈
+    private static void appendHeaderValue(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            buffer.append(c == '\r' || c == '\n' ? ' ' : c);
+        }
+    }
+
+    private static void appendEscaped(StringBuilder buffer, String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String entity = switch (value.charAt(i)) {
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '&' -> "&amp;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (entity != null) {
+                // 이스케이프할 문자가 없는 구간은 한 번에 붙임
+                buffer.append(value, start, i).append(entity);
+                start = i + 1;
+            }
+        }
+        buffer.append(value, start, value.length());
+    }
+}
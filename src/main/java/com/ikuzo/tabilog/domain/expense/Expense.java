@@ -2,6 +2,7 @@ package com.ikuzo.tabilog.domain.expense;
 
 import com.ikuzo.tabilog.domain.plan.Plan;
 import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +31,11 @@ public class Expense {
     @JoinColumn(name = "spot_id")
     private Spot spot;
     
+    // 결제한 멤버 (없으면 정산 시 플랜 작성자가 결제한 것으로 봄)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "paid_by_user_id")
+    private User paidBy;
+    
     @Column(name = "item", nullable = false, length = 100)
     private String item;
     
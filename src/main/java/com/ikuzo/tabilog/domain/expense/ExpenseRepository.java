@@ -3,11 +3,13 @@ package com.ikuzo.tabilog.domain.expense;
 import com.ikuzo.tabilog.domain.plan.Plan;
 import com.ikuzo.tabilog.domain.spot.Spot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -44,4 +46,40 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     // 특정 플랜의 특정 날짜 총 지출 금액 계산
     @Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.plan = :plan AND e.expenseDate = :expenseDate")
     Integer getTotalAmountByPlanAndDate(@Param("plan") Plan plan, @Param("expenseDate") LocalDate expenseDate);
+
+    // 특정 플랜 ID의 모든 지출 조회 (Plan 엔티티 로딩 없이)
+    @Query("SELECT e FROM Expense e WHERE e.plan.id = :planId ORDER BY e.expenseDate ASC")
+    List<Expense> findAllByPlanIdOrderByExpenseDateAsc(@Param("planId") Long planId);
+
+    // 지출 요약용: 플랜의 모든 지출을 관광지와 함께 한 번에 조회 (날짜, id 순)
+    @Query("SELECT e FROM Expense e LEFT JOIN FETCH e.spot WHERE e.plan.id = :planId ORDER BY e.expenseDate ASC, e.id ASC")
+    List<Expense> findAllWithSpotByPlanId(@Param("planId") Long planId);
+
+    // 지출 요약용: 관광지의 모든 지출을 관광지와 함께 한 번에 조회 (날짜, id 순)
+    @Query("SELECT e FROM Expense e JOIN FETCH e.spot s WHERE s.id = :spotId ORDER BY e.expenseDate ASC, e.id ASC")
+    List<Expense> findAllWithSpotBySpotId(@Param("spotId") Long spotId);
+
+    // 여러 플랜의 총 지출 금액을 플랜별로 집계 ([planId, sum])
+    @Query("SELECT e.plan.id, COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.plan.id IN :planIds GROUP BY e.plan.id")
+    List<Object[]> getTotalAmountByPlanIdIn(@Param("planIds") Collection<Long> planIds);
+
+    // 플랜의 결제자별 지출 합계 ([paidByUserId 또는 null, sum])
+    @Query("SELECT p.id, COALESCE(SUM(e.amount), 0) FROM Expense e LEFT JOIN e.paidBy p " +
+           "WHERE e.plan.id = :planId GROUP BY p.id")
+    List<Object[]> getTotalAmountByPayer(@Param("planId") Long planId);
+
+    // 여러 플랜의 지출을 (플랜, 카테고리, 날짜)별로 집계 ([planId, category, date, sum, count])
+    @Query("SELECT e.plan.id, e.category, e.expenseDate, COALESCE(SUM(e.amount), 0), COUNT(e) FROM Expense e " +
+           "WHERE e.plan.id IN :planIds GROUP BY e.plan.id, e.category, e.expenseDate")
+    List<Object[]> getAggregatesByPlanIdIn(@Param("planIds") Collection<Long> planIds);
+
+    // 관광지들의 지출을 (플랜, 카테고리, 날짜)별로 집계 ([planId, category, date, sum, count])
+    @Query("SELECT e.plan.id, e.category, e.expenseDate, COALESCE(SUM(e.amount), 0), COUNT(e) FROM Expense e " +
+           "WHERE e.spot.id IN :spotIds GROUP BY e.plan.id, e.category, e.expenseDate")
+    List<Object[]> getAggregatesBySpotIdIn(@Param("spotIds") Collection<Long> spotIds);
+
+    // 관광지가 다른 날로 옮겨졌을 때 해당 관광지 지출의 날짜 일괄 변경
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Expense e SET e.expenseDate = :expenseDate WHERE e.spot.id IN :spotIds")
+    int updateExpenseDateBySpotIdIn(@Param("spotIds") Collection<Long> spotIds, @Param("expenseDate") LocalDate expenseDate);
 }
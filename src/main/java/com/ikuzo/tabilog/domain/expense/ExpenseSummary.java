@@ -0,0 +1,110 @@
+package com.ikuzo.tabilog.domain.expense;
+
+import com.ikuzo.tabilog.domain.spot.Spot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 지출 목록을 한 번 훑어 총액, 카테고리별, 날짜별, 관광지별 합계를 함께 계산
+ * 카테고리는 enum 순서 인덱스의 long 배열에, 날짜/관광지는 [금액, 건수] long 배열에 누적합니다.
+ * 카테고리가 없는 지출은 OTHER 로, 관광지가 없는 지출은 unassigned 로 집계합니다.
+ */
+public class ExpenseSummary {
+
+    private static final ExpenseCategory[] CATEGORIES = ExpenseCategory.values();
+
+    public record DailyTotal(LocalDate date, long amount, int count) {
+    }
+
+    public record SpotTotal(Long spotId, String spotName, long amount, int count) {
+    }
+
+    private long total;
+    private int count;
+    private long unassignedAmount;
+    private final long[] amountByCategory = new long[CATEGORIES.length];
+    private final Map<LocalDate, long[]> byDate = new TreeMap<>();
+    private final Map<Long, long[]> bySpot = new LinkedHashMap<>();
+    private final Map<Long, String> spotNames = new LinkedHashMap<>();
+
+    public static ExpenseSummary of(Iterable<Expense> expenses) {
+        ExpenseSummary summary = new ExpenseSummary();
+        for (Expense expense : expenses) {
+            summary.add(expense);
+        }
+        return summary;
+    }
+
+    public void add(Expense expense) {
+        long amount = expense.getAmount() == null ? 0L : expense.getAmount();
+        total += amount;
+        count++;
+
+        ExpenseCategory category = expense.getCategory() == null ? ExpenseCategory.OTHER : expense.getCategory();
+        amountByCategory[category.ordinal()] += amount;
+
+        long[] daily = byDate.computeIfAbsent(expense.getExpenseDate(), date -> new long[2]);
+        daily[0] += amount;
+        daily[1]++;
+
+        Spot spot = expense.getSpot();
+        if (spot == null) {
+            unassignedAmount += amount;
+            return;
+        }
+        long[] spotTotal = bySpot.get(spot.getId());
+        if (spotTotal == null) {
+            spotTotal = new long[2];
+            bySpot.put(spot.getId(), spotTotal);
+            spotNames.put(spot.getId(), spot.getName());
+        }
+        spotTotal[0] += amount;
+        spotTotal[1]++;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /** 관광지가 없는 지출의 합계 */
+    public long getUnassignedAmount() {
+        return unassignedAmount;
+    }
+
+    /** 지출이 있는 카테고리만 (enum 선언 순서) */
+    public Map<ExpenseCategory, Long> getAmountByCategory() {
+        Map<ExpenseCategory, Long> amounts = new EnumMap<>(ExpenseCategory.class);
+        for (ExpenseCategory category : CATEGORIES) {
+            if (amountByCategory[category.ordinal()] != 0) {
+                amounts.put(category, amountByCategory[category.ordinal()]);
+            }
+        }
+        return amounts;
+    }
+
+    /** 날짜 오름차순 */
+    public List<DailyTotal> getDailyTotals() {
+        List<DailyTotal> totals = new ArrayList<>(byDate.size());
+        byDate.forEach((date, daily) -> totals.add(new DailyTotal(date, daily[0], (int) daily[1])));
+        return Collections.unmodifiableList(totals);
+    }
+
+    /** 관광지가 처음 나온 순서 */
+    public List<SpotTotal> getSpotTotals() {
+        List<SpotTotal> totals = new ArrayList<>(bySpot.size());
+        bySpot.forEach((spotId, spotTotal) ->
+                totals.add(new SpotTotal(spotId, spotNames.get(spotId), spotTotal[0], (int) spotTotal[1])));
+        return Collections.unmodifiableList(totals);
+    }
+}
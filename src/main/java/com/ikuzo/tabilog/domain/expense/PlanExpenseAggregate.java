@@ -0,0 +1,53 @@
+package com.ikuzo.tabilog.domain.expense;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 플랜별 지출 집계 (플랜, 카테고리, 날짜 → 합계, 건수)
+ * 지출 생성/수정/삭제와 같은 트랜잭션에서 증감되며, 플랜 목록의 지출 합계를 expenses 전체 SUM 없이 읽기 위해 사용합니다.
+ * 카테고리가 없는 지출은 OTHER 로 집계합니다.
+ */
+@Entity
+@Table(name = "plan_expense_aggregate", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_plan_expense_aggregate", columnNames = {"plan_id", "category", "expense_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlanExpenseAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 50)
+    private ExpenseCategory category;
+
+    @Column(name = "expense_date", nullable = false)
+    private LocalDate expenseDate;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "expense_count", nullable = false)
+    private Integer expenseCount;
+
+    @Builder
+    public PlanExpenseAggregate(Long planId, ExpenseCategory category, LocalDate expenseDate,
+                                Long totalAmount, Integer expenseCount) {
+        this.planId = planId;
+        this.category = category;
+        this.expenseDate = expenseDate;
+        this.totalAmount = totalAmount;
+        this.expenseCount = expenseCount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ikuzo.tabilog.domain.expense;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlanExpenseAggregateRepository extends JpaRepository<PlanExpenseAggregate, Long> {
+
+    // (플랜, 카테고리, 날짜) 집계에 금액/건수를 더함 (없으면 생성, 음수를 넘기면 차감)
+    @Modifying
+    @Query(value = "INSERT INTO plan_expense_aggregate (plan_id, category, expense_date, total_amount, expense_count) " +
+                   "VALUES (:planId, :category, :expenseDate, :amount, :count) " +
+                   "ON DUPLICATE KEY UPDATE total_amount = total_amount + :amount, expense_count = expense_count + :count",
+           nativeQuery = true)
+    int addAmount(@Param("planId") Long planId, @Param("category") String category,
+                  @Param("expenseDate") LocalDate expenseDate, @Param("amount") long amount, @Param("count") int count);
+
+    // 플랜의 총 지출 금액
+    @Query("SELECT COALESCE(SUM(a.totalAmount), 0) FROM PlanExpenseAggregate a WHERE a.planId = :planId")
+    Long getTotalAmountByPlanId(@Param("planId") Long planId);
+
+    // 플랜의 특정 날짜 총 지출 금액
+    @Query("SELECT COALESCE(SUM(a.totalAmount), 0) FROM PlanExpenseAggregate a " +
+           "WHERE a.planId = :planId AND a.expenseDate = :expenseDate")
+    Long getTotalAmountByPlanIdAndDate(@Param("planId") Long planId, @Param("expenseDate") LocalDate expenseDate);
+
+    // 여러 플랜의 총 지출 금액을 플랜별로 집계 ([planId, sum])
+    @Query("SELECT a.planId, COALESCE(SUM(a.totalAmount), 0) FROM PlanExpenseAggregate a " +
+           "WHERE a.planId IN :planIds GROUP BY a.planId")
+    List<Object[]> getTotalAmountByPlanIdIn(@Param("planIds") Collection<Long> planIds);
+
+    List<PlanExpenseAggregate> findAllByPlanIdIn(Collection<Long> planIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PlanExpenseAggregate a WHERE a.planId = :planId")
+    int deleteAllByPlanId(@Param("planId") Long planId);
+
+    // expenses 원본에서 플랜의 집계를 다시 생성 (deleteAllByPlanId 후 호출)
+    @Modifying
+    @Query(value = "INSERT INTO plan_expense_aggregate (plan_id, category, expense_date, total_amount, expense_count) " +
+                   "SELECT e.plan_id, COALESCE(e.category, 'OTHER'), e.expense_date, SUM(e.amount), COUNT(*) " +
+                   "FROM expenses e WHERE e.plan_id = :planId " +
+                   "GROUP BY e.plan_id, COALESCE(e.category, 'OTHER'), e.expense_date",
+           nativeQuery = true)
+    int insertFromExpenses(@Param("planId") Long planId);
+}
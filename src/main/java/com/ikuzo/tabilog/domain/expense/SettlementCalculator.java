@@ -0,0 +1,122 @@
+package com.ikuzo.tabilog.domain.expense;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 와리깡 정산 계산 (엔 단위 정수 연산)
+ * 멤버별 결제액과 분담 가중치로 부담액과 잔액(결제액 - 부담액)을 구하고,
+ * 받을 사람/낼 사람을 금액이 큰 순서의 힙에 넣어 가장 큰 둘끼리 송금을 맞추는 방식으로 송금 목록을 만듭니다.
+ * 송금은 최대 (잔액이 0이 아닌 멤버 수 - 1)건입니다.
+ * 멤버는 배열 인덱스로 구분하며, 부담액은 최대 잉여 방식으로 나누어 합계가 총액과 정확히 같습니다.
+ */
+public final class SettlementCalculator {
+
+    private SettlementCalculator() {
+    }
+
+    /** 송금 (from 멤버가 to 멤버에게 amount 엔) */
+    public record Transfer(int from, int to, long amount) {
+    }
+
+    /**
+     * @param shares   멤버별 부담액
+     * @param balances 멤버별 잔액 (양수: 받을 금액, 음수: 낼 금액)
+     */
+    public record Result(long total, long[] shares, long[] balances, List<Transfer> transfers) {
+    }
+
+    /**
+     * @param paid    멤버별 결제 합계
+     * @param weights 멤버별 분담 가중치 (0 이상, 합계는 양수)
+     */
+    public static Result settle(long[] paid, int[] weights) {
+        if (paid.length != weights.length) {
+            throw new IllegalArgumentException("결제액과 가중치의 멤버 수가 다릅니다.");
+        }
+        long total = 0;
+        for (long amount : paid) {
+            total = Math.addExact(total, amount);
+        }
+        long[] shares = split(total, weights);
+        long[] balances = new long[paid.length];
+        for (int i = 0; i < paid.length; i++) {
+            balances[i] = paid[i] - shares[i];
+        }
+        return new Result(total, shares, balances, transfers(balances));
+    }
+
+    /** total 을 가중치 비율로 나눔 (내림 후 나머지는 소수점 이하가 큰 멤버부터, 같으면 앞 멤버부터 1엔씩) */
+    static long[] split(long total, int[] weights) {
+        long weightSum = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("분담 가중치는 0 이상이어야 합니다.");
+            }
+            weightSum += weight;
+        }
+        if (weightSum == 0) {
+            throw new IllegalArgumentException("분담 가중치의 합은 0보다 커야 합니다.");
+        }
+
+        long[] shares = new long[weights.length];
+        long[] remainders = new long[weights.length];
+        long allocated = 0;
+        for (int i = 0; i < weights.length; i++) {
+            long numerator = Math.multiplyExact(total, (long) weights[i]);
+            shares[i] = Math.floorDiv(numerator, weightSum);
+            remainders[i] = Math.floorMod(numerator, weightSum);
+            allocated += shares[i];
+        }
+
+        long left = total - allocated; // 0 이상, 가중치가 있는 멤버 수 미만
+        if (left > 0) {
+            PriorityQueue<Integer> byRemainder = new PriorityQueue<>(weights.length, (a, b) ->
+                    remainders[a] != remainders[b] ? Long.compare(remainders[b], remainders[a]) : Integer.compare(a, b));
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] > 0) {
+                    byRemainder.add(i);
+                }
+            }
+            for (; left > 0; left--) {
+                shares[byRemainder.poll()]++;
+            }
+        }
+        return shares;
+    }
+
+    static List<Transfer> transfers(long[] balances) {
+        long[] remaining = balances.clone();
+        // 남은 금액(절댓값)이 큰 순서, 같으면 앞 멤버부터
+        PriorityQueue<Integer> creditors = new PriorityQueue<>((a, b) ->
+                remaining[a] != remaining[b] ? Long.compare(remaining[b], remaining[a]) : Integer.compare(a, b));
+        PriorityQueue<Integer> debtors = new PriorityQueue<>((a, b) ->
+                remaining[a] != remaining[b] ? Long.compare(remaining[a], remaining[b]) : Integer.compare(a, b));
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] > 0) {
+                creditors.add(i);
+            } else if (remaining[i] < 0) {
+                debtors.add(i);
+            }
+        }
+
+        List<Transfer> transfers = new ArrayList<>(Math.max(0, creditors.size() + debtors.size() - 1));
+        while (!creditors.isEmpty() && !debtors.isEmpty()) {
+            int creditor = creditors.poll();
+            int debtor = debtors.poll();
+            long amount = Math.min(remaining[creditor], -remaining[debtor]);
+            transfers.add(new Transfer(debtor, creditor, amount));
+            // 힙에서 꺼낸 뒤에 값을 바꾸고 남은 쪽만 다시 넣음
+            remaining[creditor] -= amount;
+            remaining[debtor] += amount;
+            if (remaining[creditor] > 0) {
+                creditors.add(creditor);
+            }
+            if (remaining[debtor] < 0) {
+                debtors.add(debtor);
+            }
+        }
+        return transfers;
+    }
+}
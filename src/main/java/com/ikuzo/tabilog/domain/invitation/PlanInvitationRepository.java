@@ -1,10 +1,15 @@
 package com.ikuzo.tabilog.domain.invitation;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +35,17 @@ public interface PlanInvitationRepository extends JpaRepository<PlanInvitation,
     // 만료된 초대 조회
     @Query("SELECT pi FROM PlanInvitation pi WHERE pi.status = 'PENDING' AND pi.expiresAt <= CURRENT_TIMESTAMP")
     List<PlanInvitation> findExpiredInvitations();
+
+    // 만료 처리할 초대 id (afterId 이후, id 순 - 나누어 처리)
+    @Query("SELECT pi.id FROM PlanInvitation pi WHERE pi.id > :afterId " +
+           "AND pi.status = com.ikuzo.tabilog.domain.invitation.InvitationStatus.PENDING AND pi.expiresAt <= :now ORDER BY pi.id")
+    List<Long> findExpiredIdsAfter(@Param("afterId") Long afterId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 대기 중인 만료 초대를 EXPIRED 로 변경 (조회 이후 수락된 초대는 제외)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PlanInvitation pi SET pi.status = com.ikuzo.tabilog.domain.invitation.InvitationStatus.EXPIRED " +
+           "WHERE pi.id IN :ids AND pi.status = com.ikuzo.tabilog.domain.invitation.InvitationStatus.PENDING " +
+           "AND pi.expiresAt <= :now")
+    int expireByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -38,6 +38,10 @@ public class DailyPlan {
     @Column(nullable = false)
     private LocalTime departureTime = LocalTime.of(9, 0);
 
+    // 관광지 구성/방문 순서가 바뀔 때마다 증가 (순서 일괄 변경 시 낙관적 검사용)
+    @Column(nullable = false)
+    private Long spotOrderVersion = 0L;
+
     @OneToMany(mappedBy = "dailyPlan", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("visitOrder ASC")
     private List<Spot> spots = new ArrayList<>();
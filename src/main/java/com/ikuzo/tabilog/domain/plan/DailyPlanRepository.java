@@ -1,11 +1,15 @@
 package com.ikuzo.tabilog.domain.plan;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +26,24 @@ public interface DailyPlanRepository extends JpaRepository<DailyPlan, Long> {
     // DailyPlan과 travelSegments를 함께 가져오기
     @Query("SELECT dp FROM DailyPlan dp LEFT JOIN FETCH dp.travelSegments ts WHERE dp.plan.id = :planId ORDER BY dp.visitDate ASC")
     List<DailyPlan> findAllByPlanIdWithTravelSegments(@Param("planId") Long planId);
+
+    // 여러 계획의 일별 계획 수를 계획별로 집계 ([planId, count])
+    @Query("SELECT dp.plan.id, COUNT(dp) FROM DailyPlan dp WHERE dp.plan.id IN :planIds GROUP BY dp.plan.id")
+    List<Object[]> countByPlanIdIn(@Param("planIds") Collection<Long> planIds);
+
+    // 관광지 순서 버전 확인 후 순서/이동 구간을 저장하기 위해 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT dp FROM DailyPlan dp WHERE dp.id = :dailyPlanId")
+    Optional<DailyPlan> findForUpdate(@Param("dailyPlanId") Long dailyPlanId);
+
+    // 관광지 순서 버전 증가
+    @Modifying
+    @Query("UPDATE DailyPlan dp SET dp.spotOrderVersion = dp.spotOrderVersion + 1 WHERE dp.id = :dailyPlanId")
+    int incrementSpotOrderVersion(@Param("dailyPlanId") Long dailyPlanId);
+
+    // 현재 버전이 expectedVersion 일 때만 증가 (0이면 다른 요청이 먼저 순서를 바꾼 것)
+    @Modifying
+    @Query("UPDATE DailyPlan dp SET dp.spotOrderVersion = dp.spotOrderVersion + 1 " +
+           "WHERE dp.id = :dailyPlanId AND dp.spotOrderVersion = :expectedVersion")
+    int incrementSpotOrderVersion(@Param("dailyPlanId") Long dailyPlanId, @Param("expectedVersion") Long expectedVersion);
 }
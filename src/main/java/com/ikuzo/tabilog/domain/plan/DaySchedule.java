@@ -0,0 +1,105 @@
+package com.ikuzo.tabilog.domain.plan;
+
+import java.util.Arrays;
+
+/**
+ * 하루 일정의 관광지별 도착/출발 시각 (자정 기준 분)
+ * arrival[i] = departure[i-1] + travel[i] (첫 관광지는 출발 시각), departure[i] = arrival[i] + stay[i]
+ * 입력(출발 시각, 체류 시간, 이동 시간) 중 바뀐 첫 위치부터 뒤쪽만 다시 계산하고,
+ * 마지막으로 바뀐 위치 이후 출발 시각이 이전 값과 같아지면 그 뒤는 그대로 둡니다.
+ */
+public class DaySchedule {
+
+    private final long[] spotIds;
+    private final int[] stayMinutes;
+    private final int[] travelMinutes;   // travelMinutes[i] = i-1 → i 이동 시간 (첫 관광지는 0)
+    private final int[] arrivals;
+    private final int[] departures;
+    private int startMinute;
+
+    public DaySchedule(long[] spotIds, int startMinute, int[] stayMinutes, int[] travelMinutes) {
+        this.spotIds = spotIds.clone();
+        this.startMinute = startMinute;
+        this.stayMinutes = stayMinutes.clone();
+        this.travelMinutes = travelMinutes.clone();
+        this.arrivals = new int[spotIds.length];
+        this.departures = new int[spotIds.length];
+        recompute(0, spotIds.length);
+    }
+
+    /** 같은 관광지들이 같은 순서로 있는지 (다르면 증분 계산 대신 새로 만들어야 함) */
+    public synchronized boolean hasSpots(long[] spotIds) {
+        return Arrays.equals(this.spotIds, spotIds);
+    }
+
+    /**
+     * 바뀐 입력을 반영하여 필요한 부분만 다시 계산
+     * @return 다시 계산한 관광지 수
+     */
+    public synchronized int update(int startMinute, int[] stayMinutes, int[] travelMinutes) {
+        int first = startMinute != this.startMinute ? 0 : -1;
+        int last = first;
+        for (int i = 0; i < spotIds.length; i++) {
+            if (stayMinutes[i] != this.stayMinutes[i] || travelMinutes[i] != this.travelMinutes[i]) {
+                if (first == -1) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        if (first == -1) {
+            return 0;
+        }
+
+        this.startMinute = startMinute;
+        System.arraycopy(stayMinutes, first, this.stayMinutes, first, spotIds.length - first);
+        System.arraycopy(travelMinutes, first, this.travelMinutes, first, spotIds.length - first);
+        return recompute(first, last);
+    }
+
+    public synchronized int getArrival(int index) {
+        return arrivals[index];
+    }
+
+    public synchronized int getDeparture(int index) {
+        return departures[index];
+    }
+
+    public synchronized int getStartMinute() {
+        return startMinute;
+    }
+
+    /** 마지막 관광지 출발 시각 (관광지가 없으면 출발 시각) */
+    public synchronized int getEndMinute() {
+        return spotIds.length == 0 ? startMinute : departures[spotIds.length - 1];
+    }
+
+    public synchronized int getStayMinutes(int index) {
+        return stayMinutes[index];
+    }
+
+    public synchronized int getTravelMinutes(int index) {
+        return travelMinutes[index];
+    }
+
+    public int size() {
+        return spotIds.length;
+    }
+
+    // from 부터 다시 계산, lastChanged 이후 출발 시각이 그대로면 중단
+    private int recompute(int from, int lastChanged) {
+        int count = 0;
+        for (int i = from; i < spotIds.length; i++) {
+            int arrival = (i == 0 ? startMinute : departures[i - 1]) + travelMinutes[i];
+            int departure = arrival + stayMinutes[i];
+            boolean unchanged = count > 0 && i > lastChanged && departure == departures[i] && arrival == arrivals[i];
+            arrivals[i] = arrival;
+            departures[i] = departure;
+            if (unchanged) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+}
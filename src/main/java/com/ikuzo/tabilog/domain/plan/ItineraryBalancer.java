@@ -0,0 +1,427 @@
+package com.ikuzo.tabilog.domain.plan;
+
+import com.ikuzo.tabilog.domain.spot.RouteOptimizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 날에 걸친 관광지 재배치
+ * 1. 옮길 수 있는 관광지를 좌표 기준 k-means(k = 일수)로 묶고, 현재 배치와 가장 많이 겹치는 날에 각 묶음을 배정
+ * 2. 하루 일정(체류 시간 + 예상 이동 시간)이 그날의 가용 시간을 넘으면,
+ *    넘친 날의 관광지를 여유 있는 다른 날로 옮겨 최대 초과분이 줄어드는 동안 반복
+ * 3. 각 날의 방문 순서 최적화(RouteOptimizer)는 fork-join 으로 날마다 병렬 실행
+ * 숙소처럼 고정된 관광지와 좌표가 없는 관광지는 원래 날에 그대로 둡니다.
+ */
+public final class ItineraryBalancer {
+
+    private static final int MAX_KMEANS_ITERATIONS = 50;
+    private static final long SEED = 42L;
+
+    private ItineraryBalancer() {
+    }
+
+    /**
+     * 재배치 대상 관광지
+     *
+     * @param currentDay 현재 속한 날 (0부터 시작하는 날 인덱스)
+     * @param pinned     다른 날로 옮기지 않음 (숙소 등)
+     */
+    public record Stop(Double latitude, Double longitude, int stayMinutes, int currentDay, boolean pinned) {
+
+        boolean located() {
+            return latitude != null && longitude != null;
+        }
+
+        boolean movable() {
+            return located() && !pinned;
+        }
+    }
+
+    /**
+     * 재배치 결과
+     * dayOrders[d] = d번째 날의 방문 순서 (관광지 인덱스), travelSeconds[d] = 그 순서대로 이동할 때의 예상 이동 시간
+     */
+    public record Result(int[][] dayOrders, long[] stayMinutes, long[] travelSeconds) {
+
+        public long totalMinutes(int day) {
+            return stayMinutes[day] + (travelSeconds[day] + 59) / 60;
+        }
+    }
+
+    /**
+     * @param stops         관광지 목록
+     * @param budgetMinutes 날마다 쓸 수 있는 시간(분)
+     * @param travelSeconds travelSeconds[i][j] = i → j 예상 이동 시간(초), 좌표 없는 관광지의 칸은 사용하지 않음
+     */
+    public static Result balance(List<Stop> stops, int[] budgetMinutes, long[][] travelSeconds) {
+        int days = budgetMinutes.length;
+        int[] dayOf = new int[stops.size()];
+        for (int i = 0; i < stops.size(); i++) {
+            dayOf[i] = stops.get(i).currentDay();
+        }
+        if (days > 1) {
+            assignClusters(stops, dayOf, days);
+        }
+
+        int[][] routes = optimizeRoutes(stops, dayOf, days, travelSeconds);
+        if (days > 1) {
+            rebalance(stops, dayOf, routes, budgetMinutes, travelSeconds);
+        }
+        return evaluate(stops, dayOf, days, travelSeconds);
+    }
+
+    /** 주어진 날별 방문 순서 그대로 체류/이동 시간을 계산 (재배치/순서 최적화 없음) */
+    public static Result measure(List<Stop> stops, int[][] dayOrders, long[][] travelSeconds) {
+        long[] stay = new long[dayOrders.length];
+        long[] travel = new long[dayOrders.length];
+        for (int day = 0; day < dayOrders.length; day++) {
+            int[] order = dayOrders[day];
+            for (int i : order) {
+                stay[day] += stops.get(i).stayMinutes();
+            }
+            travel[day] = routeSeconds(IntStream.of(order).filter(i -> stops.get(i).located()).toArray(), travelSeconds);
+        }
+        return new Result(dayOrders, stay, travel);
+    }
+
+    // 날 배정(dayOf)은 그대로 두고 날마다 방문 순서만 최적화하여 평가
+    private static Result evaluate(List<Stop> stops, int[] dayOf, int days, long[][] travelSeconds) {
+        int[][] routes = optimizeRoutes(stops, dayOf, days, travelSeconds);
+        int[][] orders = new int[days][];
+        long[] stay = new long[days];
+        long[] travel = new long[days];
+        for (int day = 0; day < days; day++) {
+            orders[day] = withUnlocated(stops, dayOf, day, routes[day]);
+            stay[day] = stayMinutes(stops, dayOf, day);
+            travel[day] = routeSeconds(routes[day], travelSeconds);
+        }
+        return new Result(orders, stay, travel);
+    }
+
+    // ====== 1. 좌표 군집화 ======
+
+    private static void assignClusters(List<Stop> stops, int[] dayOf, int days) {
+        List<Integer> movable = new ArrayList<>();
+        for (int i = 0; i < stops.size(); i++) {
+            if (stops.get(i).movable()) {
+                movable.add(i);
+            }
+        }
+        if (movable.isEmpty()) {
+            return;
+        }
+
+        double[][] points = project(stops, movable);
+        int clusters = Math.min(days, movable.size());
+        int[] clusterOf = kMeans(points, clusters);
+
+        // 묶음 → 날: 현재 그 날에 있던 관광지가 많은 쌍부터 배정
+        int[][] overlap = new int[clusters][days];
+        for (int k = 0; k < movable.size(); k++) {
+            overlap[clusterOf[k]][stops.get(movable.get(k)).currentDay()]++;
+        }
+        int[] dayOfCluster = new int[clusters];
+        Arrays.fill(dayOfCluster, -1);
+        boolean[] dayTaken = new boolean[days];
+        for (int assigned = 0; assigned < clusters; assigned++) {
+            int bestCluster = -1;
+            int bestDay = -1;
+            for (int c = 0; c < clusters; c++) {
+                if (dayOfCluster[c] != -1) {
+                    continue;
+                }
+                for (int d = 0; d < days; d++) {
+                    if (!dayTaken[d] && (bestCluster == -1 || overlap[c][d] > overlap[bestCluster][bestDay])) {
+                        bestCluster = c;
+                        bestDay = d;
+                    }
+                }
+            }
+            dayOfCluster[bestCluster] = bestDay;
+            dayTaken[bestDay] = true;
+        }
+        for (int k = 0; k < movable.size(); k++) {
+            dayOf[movable.get(k)] = dayOfCluster[clusterOf[k]];
+        }
+    }
+
+    // 위경도 → 평면 좌표 (경도는 평균 위도의 cos 으로 보정)
+    private static double[][] project(List<Stop> stops, List<Integer> indices) {
+        double meanLatitude = indices.stream().mapToDouble(i -> stops.get(i).latitude()).average().orElse(0);
+        double scale = Math.cos(Math.toRadians(meanLatitude));
+        double[][] points = new double[indices.size()][];
+        for (int k = 0; k < indices.size(); k++) {
+            Stop stop = stops.get(indices.get(k));
+            points[k] = new double[]{stop.latitude(), stop.longitude() * scale};
+        }
+        return points;
+    }
+
+    // k-means++ 초기화 (고정 시드) + Lloyd 반복
+    private static int[] kMeans(double[][] points, int clusters) {
+        Random random = new Random(SEED);
+        double[][] centers = new double[clusters][];
+        centers[0] = points[random.nextInt(points.length)].clone();
+        double[] nearest = new double[points.length];
+        for (int c = 1; c < clusters; c++) {
+            double total = 0;
+            for (int p = 0; p < points.length; p++) {
+                nearest[p] = Double.MAX_VALUE;
+                for (int k = 0; k < c; k++) {
+                    nearest[p] = Math.min(nearest[p], squaredDistance(points[p], centers[k]));
+                }
+                total += nearest[p];
+            }
+            double target = random.nextDouble() * total;
+            int chosen = points.length - 1;
+            for (int p = 0; p < points.length; p++) {
+                target -= nearest[p];
+                if (target <= 0) {
+                    chosen = p;
+                    break;
+                }
+            }
+            centers[c] = points[chosen].clone();
+        }
+
+        int[] clusterOf = new int[points.length];
+        Arrays.fill(clusterOf, -1);
+        for (int iteration = 0; iteration < MAX_KMEANS_ITERATIONS; iteration++) {
+            boolean changed = false;
+            for (int p = 0; p < points.length; p++) {
+                int best = 0;
+                for (int c = 1; c < clusters; c++) {
+                    if (squaredDistance(points[p], centers[c]) < squaredDistance(points[p], centers[best])) {
+                        best = c;
+                    }
+                }
+                if (clusterOf[p] != best) {
+                    clusterOf[p] = best;
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                break;
+            }
+
+            double[][] sums = new double[clusters][2];
+            int[] counts = new int[clusters];
+            for (int p = 0; p < points.length; p++) {
+                sums[clusterOf[p]][0] += points[p][0];
+                sums[clusterOf[p]][1] += points[p][1];
+                counts[clusterOf[p]]++;
+            }
+            for (int c = 0; c < clusters; c++) {
+                if (counts[c] > 0) {
+                    centers[c] = new double[]{sums[c][0] / counts[c], sums[c][1] / counts[c]};
+                } else {
+                    // 빈 묶음은 가장 멀리 떨어진 지점으로 다시 시작
+                    centers[c] = points[farthestPoint(points, centers, clusterOf)].clone();
+                }
+            }
+        }
+        return clusterOf;
+    }
+
+    private static int farthestPoint(double[][] points, double[][] centers, int[] clusterOf) {
+        int farthest = 0;
+        double farthestDistance = -1;
+        for (int p = 0; p < points.length; p++) {
+            double distance = squaredDistance(points[p], centers[clusterOf[p]]);
+            if (distance > farthestDistance) {
+                farthest = p;
+                farthestDistance = distance;
+            }
+        }
+        return farthest;
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        return dx * dx + dy * dy;
+    }
+
+    // ====== 2. 가용 시간 초과 해소 ======
+
+    private static void rebalance(List<Stop> stops, int[] dayOf, int[][] routes,
+                                  int[] budgetMinutes, long[][] travelSeconds) {
+        int days = budgetMinutes.length;
+        long[] load = new long[days];
+        for (int day = 0; day < days; day++) {
+            load[day] = loadMinutes(stops, dayOf, day, routes[day], travelSeconds);
+        }
+
+        for (int move = 0; move < stops.size() * days; move++) {
+            int source = -1;
+            for (int day = 0; day < days; day++) {
+                if (load[day] > budgetMinutes[day]
+                        && (source == -1 || load[day] - budgetMinutes[day] > load[source] - budgetMinutes[source])) {
+                    source = day;
+                }
+            }
+            if (source == -1) {
+                return;
+            }
+
+            // 넘친 날에서 한 관광지를 빼서 다른 날의 가장 싼 위치에 끼워 넣는 경우 중
+            // 두 날의 초과분 중 큰 값이 가장 작아지는 이동을 선택 (같으면 추가 이동 시간이 적은 쪽)
+            long currentOverload = load[source] - budgetMinutes[source];
+            int bestStop = -1;
+            int bestTarget = -1;
+            long bestOverload = currentOverload;
+            long bestExtra = Long.MAX_VALUE;
+            int[] route = routes[source];
+            for (int position = 0; position < route.length; position++) {
+                int stop = route[position];
+                if (!stops.get(stop).movable()) {
+                    continue;
+                }
+                long sourceLoad = load[source] - stops.get(stop).stayMinutes()
+                        - toMinutes(removalSaving(route, position, travelSeconds));
+                for (int target = 0; target < days; target++) {
+                    if (target == source) {
+                        continue;
+                    }
+                    long extra = insertionCost(routes[target], stop, travelSeconds);
+                    long targetLoad = load[target] + stops.get(stop).stayMinutes() + toMinutes(extra);
+                    long overload = Math.max(sourceLoad - budgetMinutes[source], targetLoad - budgetMinutes[target]);
+                    if (overload < bestOverload || overload == bestOverload && bestStop != -1 && extra < bestExtra) {
+                        bestStop = stop;
+                        bestTarget = target;
+                        bestOverload = overload;
+                        bestExtra = extra;
+                    }
+                }
+            }
+            if (bestStop == -1) {
+                return;
+            }
+
+            dayOf[bestStop] = bestTarget;
+            for (int day : new int[]{source, bestTarget}) {
+                routes[day] = RouteOptimizer.optimizeSubset(travelSeconds, locatedOf(stops, dayOf, day));
+                load[day] = loadMinutes(stops, dayOf, day, routes[day], travelSeconds);
+            }
+        }
+    }
+
+    // route[position] 을 빼면 줄어드는 이동 시간(초)
+    private static long removalSaving(int[] route, int position, long[][] travelSeconds) {
+        long saving = 0;
+        if (position > 0) {
+            saving += travelSeconds[route[position - 1]][route[position]];
+        }
+        if (position + 1 < route.length) {
+            saving += travelSeconds[route[position]][route[position + 1]];
+        }
+        if (position > 0 && position + 1 < route.length) {
+            saving -= travelSeconds[route[position - 1]][route[position + 1]];
+        }
+        return saving;
+    }
+
+    // 경로의 가장 싼 위치에 stop 을 끼워 넣을 때 늘어나는 이동 시간(초)
+    private static long insertionCost(int[] route, int stop, long[][] travelSeconds) {
+        if (route.length == 0) {
+            return 0;
+        }
+        long best = Math.min(travelSeconds[stop][route[0]], travelSeconds[route[route.length - 1]][stop]);
+        for (int k = 0; k + 1 < route.length; k++) {
+            long extra = travelSeconds[route[k]][stop] + travelSeconds[stop][route[k + 1]]
+                    - travelSeconds[route[k]][route[k + 1]];
+            best = Math.min(best, extra);
+        }
+        return best;
+    }
+
+    // ====== 3. 날별 방문 순서 (fork-join 병렬) ======
+
+    private static int[][] optimizeRoutes(List<Stop> stops, int[] dayOf, int days, long[][] travelSeconds) {
+        int[][] routes = new int[days][];
+        ForkJoinPool.commonPool().invoke(new RouteTask(stops, dayOf, travelSeconds, routes, 0, days));
+        return routes;
+    }
+
+    /** 날 범위를 반으로 나누어 각 날의 방문 순서를 병렬로 최적화 */
+    private static final class RouteTask extends RecursiveAction {
+        private final List<Stop> stops;
+        private final int[] dayOf;
+        private final long[][] travelSeconds;
+        private final int[][] routes;
+        private final int from;
+        private final int to;
+
+        private RouteTask(List<Stop> stops, int[] dayOf, long[][] travelSeconds, int[][] routes, int from, int to) {
+            this.stops = stops;
+            this.dayOf = dayOf;
+            this.travelSeconds = travelSeconds;
+            this.routes = routes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int day = from; day < to; day++) {
+                    routes[day] = RouteOptimizer.optimizeSubset(travelSeconds, locatedOf(stops, dayOf, day));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RouteTask(stops, dayOf, travelSeconds, routes, from, middle),
+                    new RouteTask(stops, dayOf, travelSeconds, routes, middle, to));
+        }
+    }
+
+    // ====== 공통 ======
+
+    private static int[] locatedOf(List<Stop> stops, int[] dayOf, int day) {
+        return IntStream.range(0, stops.size())
+                .filter(i -> dayOf[i] == day && stops.get(i).located())
+                .toArray();
+    }
+
+    // 최적화된 경로 뒤에 좌표 없는 관광지를 원래 순서대로 붙임
+    private static int[] withUnlocated(List<Stop> stops, int[] dayOf, int day, int[] route) {
+        int[] unlocated = IntStream.range(0, stops.size())
+                .filter(i -> dayOf[i] == day && !stops.get(i).located())
+                .toArray();
+        int[] order = Arrays.copyOf(route, route.length + unlocated.length);
+        System.arraycopy(unlocated, 0, order, route.length, unlocated.length);
+        return order;
+    }
+
+    private static long stayMinutes(List<Stop> stops, int[] dayOf, int day) {
+        long total = 0;
+        for (int i = 0; i < stops.size(); i++) {
+            if (dayOf[i] == day) {
+                total += stops.get(i).stayMinutes();
+            }
+        }
+        return total;
+    }
+
+    private static long loadMinutes(List<Stop> stops, int[] dayOf, int day, int[] route, long[][] travelSeconds) {
+        return stayMinutes(stops, dayOf, day) + toMinutes(routeSeconds(route, travelSeconds));
+    }
+
+    private static long routeSeconds(int[] route, long[][] travelSeconds) {
+        long total = 0;
+        for (int k = 0; k + 1 < route.length; k++) {
+            total += travelSeconds[route[k]][route[k + 1]];
+        }
+        return total;
+    }
+
+    private static long toMinutes(long seconds) {
+        return (seconds + 59) / 60;
+    }
+}
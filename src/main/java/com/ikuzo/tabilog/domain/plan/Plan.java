@@ -16,7 +16,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "plan")
+@Table(name = "plan", indexes = {
+    @Index(name = "idx_plan_public_feed", columnList = "is_public, created_at, id"),
+    @Index(name = "idx_plan_search", columnList = "prefecture, status, start_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Plan {
@@ -8,7 +8,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "plan_member")
+@Table(name = "plan_member", indexes = {
+    @Index(name = "idx_plan_member_user_plan", columnList = "user_id, plan_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PlanMember {
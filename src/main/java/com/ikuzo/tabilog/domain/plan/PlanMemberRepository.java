@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,4 +44,12 @@ public interface PlanMemberRepository extends JpaRepository<PlanMember, Long> {
 
     // 특정 플랜의 특정 멤버 ID로 조회
     Optional<PlanMember> findByIdAndPlanId(Long id, Long planId);
+
+    // 특정 계획의 모든 멤버를 사용자 정보와 함께 조회
+    @Query("SELECT pm FROM PlanMember pm JOIN FETCH pm.user WHERE pm.plan.id = :planId ORDER BY pm.id ASC")
+    List<PlanMember> findAllByPlanIdWithUser(@Param("planId") Long planId);
+
+    // 여러 계획의 멤버를 사용자 정보와 함께 한 번에 조회 (목록 화면용)
+    @Query("SELECT pm FROM PlanMember pm JOIN FETCH pm.user WHERE pm.plan.id IN :planIds ORDER BY pm.id ASC")
+    List<PlanMember> findAllByPlanIdInWithUser(@Param("planIds") Collection<Long> planIds);
 }
@@ -1,15 +1,19 @@
 package com.ikuzo.tabilog.domain.plan;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PlanRepository extends JpaRepository<Plan, Long> {
+public interface PlanRepository extends JpaRepository<Plan, Long>, JpaSpecificationExecutor<Plan> {
     
     // 사용자의 모든 여행 계획 조회
     List<Plan> findAllByUserIdOrderByStartDateDesc(Long userId);
@@ -22,7 +26,7 @@ public interface PlanRepository extends JpaRepository<Plan, Long> {
     Optional<Plan> findByIdAndUserIdWithDailyPlans(@Param("id") Long id, @Param("userId") Long userId);
     
     // 사용자가 작성하거나 멤버로 참여한 특정 여행 계획 조회 (DailyPlan 포함)
-    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN FETCH p.dailyPlans dp LEFT JOIN p.planMembers pm WHERE p.id = :id AND (p.user.id = :userId OR pm.user.id = :userId)")
+    @Query("SELECT DISTINCT p FROM Plan p JOIN FETCH p.user LEFT JOIN FETCH p.dailyPlans dp LEFT JOIN p.planMembers pm WHERE p.id = :id AND (p.user.id = :userId OR pm.user.id = :userId)")
     Optional<Plan> findByIdAndMemberUserIdWithDailyPlans(@Param("id") Long id, @Param("userId") Long userId);
     
     // 사용자의 활성 여행 계획 조회 (현재 날짜 기준)
@@ -37,53 +41,58 @@ public interface PlanRepository extends JpaRepository<Plan, Long> {
     @Query("SELECT p FROM Plan p WHERE p.user.id = :userId AND p.endDate < CURRENT_DATE ORDER BY p.endDate DESC")
     List<Plan> findCompletedPlansByUserId(@Param("userId") Long userId);
     
-    // 공개된 모든 여행 계획 조회 (필터링 없음)
-    @Query("SELECT p FROM Plan p WHERE p.isPublic = true AND p.user.publicAgreement = true ORDER BY p.createdAt DESC")
-    List<Plan> findAllPublicPlans();
-    
-    // 지역별 공개된 여행 계획 조회
-    @Query("SELECT p FROM Plan p WHERE p.isPublic = true AND p.user.publicAgreement = true AND p.region = :region ORDER BY p.createdAt DESC")
-    List<Plan> findPublicPlansByRegion(@Param("region") String region);
-    
-    // 현(prefecture)별 공개된 여행 계획 조회
-    @Query("SELECT p FROM Plan p WHERE p.isPublic = true AND p.user.publicAgreement = true AND p.prefecture = :prefecture ORDER BY p.createdAt DESC")
-    List<Plan> findPublicPlansByPrefecture(@Param("prefecture") String prefecture);
-    
-    // 상태별 공개된 여행 계획 조회
-    @Query("SELECT p FROM Plan p WHERE p.isPublic = true AND p.user.publicAgreement = true AND p.status = :status ORDER BY p.createdAt DESC")
-    List<Plan> findPublicPlansByStatus(@Param("status") String status);
-    
-    // 지역과 상태로 공개된 여행 계획 조회
-    @Query("SELECT p FROM Plan p WHERE p.isPublic = true AND p.user.publicAgreement = true AND p.region = :region AND p.status = :status ORDER BY p.createdAt DESC")
-    List<Plan> findPublicPlansByRegionAndStatus(@Param("region") String region, @Param("status") String status);
-    
-    // 현(prefecture)과 상태로 공개된 여행 계획 조회
-    @Query("SELECT p FROM Plan p WHERE p.isPublic = true AND p.user.publicAgreement = true AND p.prefecture = :prefecture AND p.status = :status ORDER BY p.createdAt DESC")
-    List<Plan> findPublicPlansByPrefectureAndStatus(@Param("prefecture") String prefecture, @Param("status") String status);
-    
-    // 지역, 현, 상태로 공개된 여행 계획 조회 (모든 필터)
-    @Query("SELECT p FROM Plan p WHERE p.isPublic = true AND p.user.publicAgreement = true AND " +
+    // 공개 피드 첫 페이지 (created_at, id 내림차순 키셋, idx_plan_public_feed 사용)
+    @Query("SELECT p FROM Plan p JOIN FETCH p.user u WHERE p.isPublic = true AND u.publicAgreement = true AND " +
            "(:region IS NULL OR p.region = :region) AND " +
            "(:prefecture IS NULL OR p.prefecture = :prefecture) AND " +
            "(:status IS NULL OR p.status = :status) " +
-           "ORDER BY p.createdAt DESC")
-    List<Plan> findPublicPlansWithFilters(@Param("region") String region, 
-                                         @Param("prefecture") String prefecture, 
-                                         @Param("status") String status);
-    
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Plan> findPublicFeed(@Param("region") String region,
+                              @Param("prefecture") String prefecture,
+                              @Param("status") String status,
+                              Pageable pageable);
+
+    // 공개 피드 다음 페이지 (커서보다 오래된 계획만 조회)
+    @Query("SELECT p FROM Plan p JOIN FETCH p.user u WHERE p.isPublic = true AND u.publicAgreement = true AND " +
+           "(p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) AND " +
+           "(:region IS NULL OR p.region = :region) AND " +
+           "(:prefecture IS NULL OR p.prefecture = :prefecture) AND " +
+           "(:status IS NULL OR p.status = :status) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Plan> findPublicFeedAfter(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorId") Long cursorId,
+                                   @Param("region") String region,
+                                   @Param("prefecture") String prefecture,
+                                   @Param("status") String status,
+                                   Pageable pageable);
+
     // 사용자가 작성하거나 멤버로 참여한 모든 여행 계획 조회
-    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN p.planMembers pm WHERE p.user.id = :userId OR pm.user.id = :userId ORDER BY p.startDate DESC")
+    @Query("SELECT DISTINCT p FROM Plan p JOIN FETCH p.user LEFT JOIN p.planMembers pm WHERE p.user.id = :userId OR pm.user.id = :userId ORDER BY p.startDate DESC")
     List<Plan> findAllByMemberUserIdOrderByStartDateDesc(@Param("userId") Long userId);
     
     // 사용자가 작성하거나 멤버로 참여한 활성 여행 계획 조회
-    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN p.planMembers pm WHERE (p.user.id = :userId OR pm.user.id = :userId) AND p.startDate <= CURRENT_DATE AND p.endDate >= CURRENT_DATE ORDER BY p.startDate ASC")
+    @Query("SELECT DISTINCT p FROM Plan p JOIN FETCH p.user LEFT JOIN p.planMembers pm WHERE (p.user.id = :userId OR pm.user.id = :userId) AND p.startDate <= CURRENT_DATE AND p.endDate >= CURRENT_DATE ORDER BY p.startDate ASC")
     List<Plan> findActivePlansByMemberUserId(@Param("userId") Long userId);
     
     // 사용자가 작성하거나 멤버로 참여한 예정된 여행 계획 조회
-    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN p.planMembers pm WHERE (p.user.id = :userId OR pm.user.id = :userId) AND p.startDate > CURRENT_DATE ORDER BY p.startDate ASC")
+    @Query("SELECT DISTINCT p FROM Plan p JOIN FETCH p.user LEFT JOIN p.planMembers pm WHERE (p.user.id = :userId OR pm.user.id = :userId) AND p.startDate > CURRENT_DATE ORDER BY p.startDate ASC")
     List<Plan> findUpcomingPlansByMemberUserId(@Param("userId") Long userId);
     
     // 사용자가 작성하거나 멤버로 참여한 완료된 여행 계획 조회
-    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN p.planMembers pm WHERE (p.user.id = :userId OR pm.user.id = :userId) AND p.endDate < CURRENT_DATE ORDER BY p.endDate DESC")
+    @Query("SELECT DISTINCT p FROM Plan p JOIN FETCH p.user LEFT JOIN p.planMembers pm WHERE (p.user.id = :userId OR pm.user.id = :userId) AND p.endDate < CURRENT_DATE ORDER BY p.endDate DESC")
     List<Plan> findCompletedPlansByMemberUserId(@Param("userId") Long userId);
+
+    // planIds 중 사용자가 볼 수 있는 계획 id (공개 계획, 작성자, 멤버). userId 가 null 이면 공개 계획만
+    @Query("SELECT p.id FROM Plan p WHERE p.id IN :planIds AND (" +
+           "(p.isPublic = true AND p.user.publicAgreement = true) OR p.user.id = :userId OR " +
+           "EXISTS (SELECT pm.id FROM PlanMember pm WHERE pm.plan = p AND pm.user.id = :userId))")
+    List<Long> findAccessiblePlanIds(@Param("planIds") Collection<Long> planIds, @Param("userId") Long userId);
+
+    // since 이후 수정된 계획 id (공개 여부 변경 반영용)
+    @Query("SELECT p.id FROM Plan p WHERE p.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 계획 id 를 afterId 이후부터 순서대로 조회 (전체 계획을 나누어 처리할 때)
+    @Query("SELECT p.id FROM Plan p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,71 @@
+package com.ikuzo.tabilog.domain.plan;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 여행 계획 검색 조건
+ * 모든 필터를 DB에서 적용하기 위한 Specification 모음입니다. null 조건은 무시됩니다.
+ */
+public final class PlanSpecifications {
+
+    private PlanSpecifications() {
+    }
+
+    // 사용자가 작성했거나 멤버로 참여한 계획 (멤버 조인 대신 EXISTS로 중복 행 방지)
+    public static Specification<Plan> accessibleBy(Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> member = query.subquery(Long.class);
+            Root<PlanMember> pm = member.from(PlanMember.class);
+            member.select(pm.get("id"))
+                    .where(cb.equal(pm.get("plan"), root),
+                            cb.equal(pm.get("user").get("id"), userId));
+            return cb.or(cb.equal(root.get("user").get("id"), userId), cb.exists(member));
+        };
+    }
+
+    // 작성자(user)를 함께 조회 (페이지 count 쿼리에는 fetch join 을 붙일 수 없으므로 제외)
+    public static Specification<Plan> fetchUser() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("user");
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Plan> prefectureIn(Collection<String> prefectures) {
+        if (prefectures == null || prefectures.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("prefecture").in(prefectures);
+    }
+
+    public static Specification<Plan> statusEquals(String status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // 여행 기간이 [from, to]와 겹치는 계획
+    public static Specification<Plan> overlaps(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.get("startDate"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("endDate"), from);
+            }
+            return cb.and(cb.lessThanOrEqualTo(root.get("startDate"), to),
+                    cb.greaterThanOrEqualTo(root.get("endDate"), from));
+        };
+    }
+}
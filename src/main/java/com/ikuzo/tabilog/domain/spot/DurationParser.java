@@ -0,0 +1,71 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자유 형식 시간 문자열(Spot.duration, TravelSegment.duration) → 분
+ * 예) "30분", "2시간", "1시간 30분", "1.5시간", "2時間", "45分", "1h30m", "90", "약 25분"
+ * 같은 문자열은 한 번만 해석하고 결과를 캐시합니다 (실제 값의 종류가 적어 캐시가 거의 항상 적중).
+ */
+public final class DurationParser {
+
+    public static final int DEFAULT_MINUTES = 60;
+
+    // 해석 결과 캐시 상한 (넘으면 캐시하지 않고 매번 해석)
+    private static final int MAX_CACHED = 4096;
+    private static final int UNPARSEABLE = -1;
+    private static final Map<String, Integer> CACHE = new ConcurrentHashMap<>();
+
+    // 자릿수를 제한하여 사용자가 입력한 긴 숫자로 int 범위를 넘지 않게 함 (넘는 값은 해석할 수 없는 값으로 처리)
+    private static final Pattern HOURS = Pattern.compile("(?<![\\d.])(\\d{1,3}(?:\\.\\d+)?)\\s*(시간|時間|hours?|hrs?|h)");
+    private static final Pattern MINUTES = Pattern.compile("(?<![\\d.])(\\d{1,4})\\s*(분|分|minutes?|mins?|m)(?![a-z])");
+    private static final Pattern NUMBER_ONLY = Pattern.compile("\\d{1,4}");
+
+    private DurationParser() {
+    }
+
+    /** 해석할 수 없는 값은 기본 체류 시간(60분) */
+    public static int parseMinutes(String duration) {
+        return parseMinutes(duration, DEFAULT_MINUTES);
+    }
+
+    /** 해석할 수 없는 값(예: "경로 없음")은 defaultMinutes */
+    public static int parseMinutes(String duration, int defaultMinutes) {
+        if (duration == null || duration.isBlank()) {
+            return defaultMinutes;
+        }
+        Integer cached = CACHE.get(duration);
+        if (cached == null) {
+            cached = parse(duration);
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.put(duration, cached);
+            }
+        }
+        return cached == UNPARSEABLE ? defaultMinutes : cached;
+    }
+
+    private static int parse(String duration) {
+        String value = duration.trim().toLowerCase(Locale.ROOT);
+        if (NUMBER_ONLY.matcher(value).matches()) {
+            return Integer.parseInt(value);
+        }
+
+        double minutes = 0;
+        boolean matched = false;
+        Matcher hours = HOURS.matcher(value);
+        while (hours.find()) {
+            minutes += Double.parseDouble(hours.group(1)) * 60;
+            matched = true;
+        }
+        Matcher mins = MINUTES.matcher(value);
+        while (mins.find()) {
+            minutes += Integer.parseInt(mins.group(1));
+            matched = true;
+        }
+        return matched ? (int) Math.round(minutes) : UNPARSEABLE;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 회로 차단기
+ * - CLOSED: 정상, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: openDuration 동안 요청을 보내지 않고 즉시 실패
+ * - HALF_OPEN: 시험 요청 하나만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, long openNanos, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    synchronized boolean allowRequest() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+            trialInFlight = false;
+        }
+    }
+
+    // 요청이 실제로 나가지 못한 경우 (대기열 초과 등) 시험 요청 자리를 되돌림
+    synchronized void onRejected() {
+        trialInFlight = false;
+    }
+
+    // 지금 요청하면 바로 거절되는지 (OPEN 이고 openDuration 이 지나지 않음)
+    synchronized boolean isRejecting() {
+        return state == State.OPEN && nanoClock.getAsLong() - openedAt < openNanos;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * 비동기 작업용 동시 실행 제한
+ * 허용 수를 넘는 작업은 스레드를 막지 않고 대기열에 넣어 두었다가, 앞선 작업이 release 할 때 이어서 실행합니다.
+ */
+class ConcurrencyLimiter {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private int active;
+
+    ConcurrencyLimiter(int maxConcurrent, int maxQueued) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueued = Math.max(0, maxQueued);
+    }
+
+    /**
+     * 허용 수 이내면 즉시 실행, 아니면 대기열에 추가합니다.
+     * 실행된 작업은 끝날 때 반드시 release()를 호출해야 합니다.
+     * @return 대기열도 가득 차서 받아들이지 못하면 false
+     */
+    boolean submit(Runnable task) {
+        synchronized (this) {
+            if (active >= maxConcurrent) {
+                if (queue.size() >= maxQueued) {
+                    return false;
+                }
+                queue.add(task);
+                return true;
+            }
+            active++;
+        }
+        task.run();
+        return true;
+    }
+
+    // 끝난 작업의 자리를 대기 중인 다음 작업에 넘겨줌
+    void release() {
+        Runnable next;
+        synchronized (this) {
+            next = queue.poll();
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+        next.run();
+    }
+
+    synchronized int getActiveCount() {
+        return active;
+    }
+
+    synchronized int getQueuedCount() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,164 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ikuzo.tabilog.dto.response.GoogleDirectionsResponse;
+import com.ikuzo.tabilog.global.cache.ExpiringCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Google Directions 결과 2단 캐시
+ * - 1단: 메모리 (크기/TTL 제한)
+ * - 2단: directions_cache 테이블 (재시작 후에도 유지, TTL 경과 시 미스 처리)
+ * 캐시 장애가 경로 조회 자체를 막지 않도록 DB 오류는 로그만 남기고 미스로 처리합니다.
+ * put 은 Maps 응답 콜백 스레드에서 호출되므로 메모리에만 바로 넣고, DB 저장은 전용 스레드에서 순서대로 처리합니다
+ * (대기열이 가득 차면 DB 저장은 건너뜀).
+ */
+@Slf4j
+@Component
+public class DirectionsCache {
+
+    private final DirectionsCacheRepository repository;
+    private final ObjectMapper objectMapper;
+    private final ExpiringCache<DirectionsCacheKey, GoogleDirectionsResponse> memory;
+    private final Duration dbTtl;
+    private final Executor writeExecutor;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder dbHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder droppedWrites = new LongAdder();
+
+    public DirectionsCache(DirectionsCacheRepository repository,
+                           ObjectMapper objectMapper,
+                           @Value("${google.maps.directions-cache.memory-max-size:5000}") int memoryMaxSize,
+                           @Value("${google.maps.directions-cache.memory-ttl-minutes:30}") long memoryTtlMinutes,
+                           @Value("${google.maps.directions-cache.db-ttl-hours:24}") long dbTtlHours,
+                           @Value("${google.maps.directions-cache.write-queue-size:1000}") int writeQueueSize) {
+        this(repository, objectMapper, memoryMaxSize, memoryTtlMinutes, dbTtlHours, newWriteExecutor(writeQueueSize));
+    }
+
+    DirectionsCache(DirectionsCacheRepository repository, ObjectMapper objectMapper,
+                    int memoryMaxSize, long memoryTtlMinutes, long dbTtlHours, Executor writeExecutor) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.memory = new ExpiringCache<>(memoryMaxSize, Duration.ofMinutes(memoryTtlMinutes));
+        this.dbTtl = Duration.ofHours(dbTtlHours);
+        this.writeExecutor = writeExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writeExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    public Optional<GoogleDirectionsResponse> get(DirectionsCacheKey key) {
+        GoogleDirectionsResponse cached = memory.get(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<GoogleDirectionsResponse> stored = readFromDb(key);
+        if (stored.isPresent()) {
+            dbHits.increment();
+            memory.put(key, stored.get());
+        } else {
+            misses.increment();
+        }
+        return stored;
+    }
+
+    public void put(DirectionsCacheKey key, GoogleDirectionsResponse response) {
+        memory.put(key, response);
+        try {
+            writeExecutor.execute(() -> writeToDb(key, response));
+        } catch (RejectedExecutionException e) {
+            droppedWrites.increment();
+            log.debug("경로 캐시 DB 저장 대기열 초과, 메모리에만 저장 (키: {})", key);
+        }
+    }
+
+    public long getMemoryHitCount() {
+        return memoryHits.sum();
+    }
+
+    public long getDbHitCount() {
+        return dbHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getDroppedWriteCount() {
+        return droppedWrites.sum();
+    }
+
+    private Optional<GoogleDirectionsResponse> readFromDb(DirectionsCacheKey key) {
+        try {
+            return repository.findByCacheKey(key.getValue())
+                    .filter(entry -> !entry.isExpired(LocalDateTime.now()))
+                    .map(entry -> deserialize(entry.getResponseJson()));
+        } catch (DataAccessException | IllegalStateException e) {
+            log.warn("경로 캐시 조회 실패 (키: {}): {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeToDb(DirectionsCacheKey key, GoogleDirectionsResponse response) {
+        try {
+            String json = objectMapper.writeValueAsString(response);
+            LocalDateTime expiresAt = LocalDateTime.now().plus(dbTtl);
+
+            DirectionsCacheEntry entry = repository.findByCacheKey(key.getValue())
+                    .map(existing -> {
+                        existing.refresh(json, expiresAt);
+                        return existing;
+                    })
+                    .orElseGet(() -> DirectionsCacheEntry.builder()
+                            .cacheKey(key.getValue())
+                            .responseJson(json)
+                            .expiresAt(expiresAt)
+                            .build());
+            repository.save(entry);
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 동시에 같은 키를 저장한 경우(유니크 제약) 등은 메모리 캐시만으로 충분
+            log.warn("경로 캐시 저장 실패 (키: {}): {}", key, e.getMessage());
+        }
+    }
+
+    private static ExecutorService newWriteExecutor(int queueSize) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueSize)), runnable -> {
+            Thread thread = new Thread(runnable, "directions-cache-writer");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private GoogleDirectionsResponse deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, GoogleDirectionsResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("경로 캐시 역직렬화 실패", e);
+        }
+    }
+}
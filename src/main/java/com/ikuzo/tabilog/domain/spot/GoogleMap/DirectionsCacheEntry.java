@@ -0,0 +1,59 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Google Directions 응답 영속 캐시 (서버 재시작 후에도 재사용)
+ */
+@Entity
+@Table(name = "directions_cache", indexes = {
+    @Index(name = "idx_directions_cache_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DirectionsCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_key", nullable = false, unique = true, length = 191)
+    private String cacheKey;
+
+    @Column(name = "response_json", nullable = false, columnDefinition = "TEXT")
+    private String responseJson; // GoogleDirectionsResponse JSON
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public DirectionsCacheEntry(String cacheKey, String responseJson, LocalDateTime expiresAt) {
+        this.cacheKey = cacheKey;
+        this.responseJson = responseJson;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    // 같은 키의 결과 갱신
+    public void refresh(String responseJson, LocalDateTime expiresAt) {
+        this.responseJson = responseJson;
+        this.expiresAt = expiresAt;
+    }
+}
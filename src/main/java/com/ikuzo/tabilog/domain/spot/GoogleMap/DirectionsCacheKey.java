@@ -0,0 +1,80 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import java.time.LocalTime;
+import java.util.Locale;
+
+/**
+ * 경로 캐시 키
+ * - 좌표는 소수점 4자리(약 10m)로 반올림하여 같은 장소의 미세한 좌표 차이를 같은 키로 묶음
+ * - 출발시간은 교통 상황/배차에 영향을 받는 TRANSIT, DRIVING 에서만 15분 단위 구간으로 포함
+ */
+public final class DirectionsCacheKey {
+
+    private static final int DEPARTURE_BUCKET_MINUTES = 15;
+
+    private final String value;
+
+    private DirectionsCacheKey(String value) {
+        this.value = value;
+    }
+
+    public static DirectionsCacheKey of(double lat1, double lng1, double lat2, double lng2, String travelMode,
+                                        String departureTime, String transitPreferences) {
+        String mode = travelMode == null ? "WALKING" : travelMode.trim().toUpperCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(96)
+                .append(round(lat1)).append(',').append(round(lng1))
+                .append('>')
+                .append(round(lat2)).append(',').append(round(lng2))
+                .append('|').append(mode);
+
+        if ("TRANSIT".equals(mode) || "DRIVING".equals(mode)) {
+            key.append("|t").append(departureBucket(departureTime));
+        }
+        if ("TRANSIT".equals(mode) && transitPreferences != null && !transitPreferences.isBlank()) {
+            key.append('|').append(transitPreferences.trim().toLowerCase(Locale.ROOT));
+        }
+        return new DirectionsCacheKey(key.toString());
+    }
+
+    public static DirectionsCacheKey walking(double lat1, double lng1, double lat2, double lng2) {
+        return of(lat1, lng1, lat2, lng2, "WALKING", null, null);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    private static String round(double coordinate) {
+        return String.format(Locale.ROOT, "%.4f", coordinate);
+    }
+
+    // "HH:mm" → 하루 중 15분 구간 번호, 없거나 형식이 다르면 현재 시각 구간
+    private static String departureBucket(String departureTime) {
+        int minuteOfDay;
+        if (departureTime != null && departureTime.matches("\\d{1,2}:\\d{2}")) {
+            String[] parts = departureTime.split(":");
+            minuteOfDay = Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
+        } else {
+            LocalTime now = LocalTime.now();
+            minuteOfDay = now.getHour() * 60 + now.getMinute();
+        }
+        return String.valueOf(minuteOfDay / DEPARTURE_BUCKET_MINUTES);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return value.equals(((DirectionsCacheKey) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DirectionsCacheRepository extends JpaRepository<DirectionsCacheEntry, Long> {
+
+    Optional<DirectionsCacheEntry> findByCacheKey(String cacheKey);
+
+    // 만료된 캐시 id (afterId 이후, id 순 - 나누어 삭제)
+    @Query("SELECT d.id FROM DirectionsCacheEntry d WHERE d.id > :afterId AND d.expiresAt <= :now ORDER BY d.id")
+    List<Long> findExpiredIdsAfter(@Param("afterId") Long afterId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조회 이후 갱신된 캐시는 제외하고 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DirectionsCacheEntry d WHERE d.id IN :ids AND d.expiresAt <= :now")
+    int deleteExpiredByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
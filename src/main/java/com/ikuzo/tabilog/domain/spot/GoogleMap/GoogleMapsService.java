@@ -3,10 +3,13 @@ package com.ikuzo.tabilog.domain.spot.GoogleMap;
 import com.google.maps.GeoApiContext;
 import com.google.maps.PlacesApi;
 import com.google.maps.DirectionsApi;
+import com.google.maps.DirectionsApiRequest;
 import com.google.maps.GeocodingApi;
 import com.google.maps.model.*;
 import com.ikuzo.tabilog.dto.response.GoogleDirectionsResponse;
 import com.ikuzo.tabilog.dto.response.GooglePlaceResponse;
+import com.ikuzo.tabilog.dto.response.TravelTimeResponse;
+import com.ikuzo.tabilog.global.cache.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,6 +17,13 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,84 +32,150 @@ import java.util.stream.Collectors;
 public class GoogleMapsService {
 
     private final GeoApiContext geoApiContext;
+    private final DirectionsCache directionsCache;
+    private final TravelTimeEstimator travelTimeEstimator;
+    private final MapsApiClient mapsApiClient;
+
+    // 백그라운드로 조회 중인 경로 (같은 구간 중복 요청 방지)
+    private final Set<DirectionsCacheKey> prefetching = ConcurrentHashMap.newKeySet();
+
+    // 진행 중인 동일 조회 합치기 (같은 계획을 여러 멤버가 동시에 열 때 중복 호출 방지)
+    private final SingleFlight<String, List<GooglePlaceResponse>> placeSearches = new SingleFlight<>();
+    private final SingleFlight<String, List<GooglePlaceResponse>> nearbySearches = new SingleFlight<>();
+    private final SingleFlight<String, String> addressLookups = new SingleFlight<>();
 
     public String getTravelTime(double lat1, double lng1, double lat2, double lng2) {
-        try {
-            LatLng origin = new LatLng(lat1, lng1);
-            LatLng destination = new LatLng(lat2, lng2);
-            
-            DirectionsResult result = DirectionsApi.newRequest(geoApiContext)
-                    .origin(origin)
-                    .destination(destination)
-                    .mode(com.google.maps.model.TravelMode.WALKING)
-                    .await();
-            
-            if (result.routes.length > 0) {
-                Duration duration = result.routes[0].legs[0].duration;
-                return duration.humanReadable;
-            }
-        } catch (Exception e) {
-            log.error("이동 시간 조회 실패: {}", e.getMessage());
-        }
-        
-        return "약 13분"; // 기본값
+        return getTravelTimeAsync(lat1, lng1, lat2, lng2).join();
+    }
+
+    public CompletableFuture<String> getTravelTimeAsync(double lat1, double lng1, double lat2, double lng2) {
+        return findWalkingLegAsync(lat1, lng1, lat2, lng2)
+                .handle((leg, error) -> {
+                    if (error != null) {
+                        log.error("이동 시간 조회 실패: {}", rootCause(error).getMessage());
+                    } else if (leg.isPresent()) {
+                        return leg.get().getDuration().getText();
+                    }
+                    // 경로를 받지 못하면 좌표 기반 추정값
+                    return travelTimeEstimator.formatEstimate(
+                            travelTimeEstimator.estimateSeconds(lat1, lng1, lat2, lng2, "WALKING"));
+                });
     }
 
     public int getTravelTimeMinutes(double lat1, double lng1, double lat2, double lng2) {
-        try {
-            LatLng origin = new LatLng(lat1, lng1);
-            LatLng destination = new LatLng(lat2, lng2);
-            
-            DirectionsResult result = DirectionsApi.newRequest(geoApiContext)
-                    .origin(origin)
-                    .destination(destination)
-                    .mode(com.google.maps.model.TravelMode.WALKING)
-                    .await();
-            
-            if (result.routes.length > 0) {
-                Duration duration = result.routes[0].legs[0].duration;
-                return (int) (duration.inSeconds / 60);
-            }
-        } catch (Exception e) {
-            log.error("이동 시간(분) 조회 실패: {}", e.getMessage());
+        return findWalkingLegAsync(lat1, lng1, lat2, lng2)
+                .handle((leg, error) -> {
+                    if (error != null) {
+                        log.error("이동 시간(분) 조회 실패: {}", rootCause(error).getMessage());
+                    } else if (leg.isPresent()) {
+                        return (int) (leg.get().getDuration().getValue() / 60);
+                    }
+                    // 경로를 받지 못하면 좌표 기반 추정값
+                    return travelTimeEstimator.estimateMinutes(lat1, lng1, lat2, lng2, "WALKING");
+                })
+                .join();
+    }
+
+    /**
+     * 즉시 응답용 이동 시간
+     * 캐시에 실제 경로가 있으면 그 값을, 없으면 좌표 기반 추정값(provisional=true)을 바로 반환하고
+     * 실제 경로는 백그라운드로 조회하여 캐시에 채워 둡니다. (다음 조회부터 실제 값 반환)
+     */
+    public TravelTimeResponse getProvisionalTravelTime(double lat1, double lng1, double lat2, double lng2, String travelMode) {
+        String mode = travelMode == null ? "WALKING" : travelMode.trim().toUpperCase(Locale.ROOT);
+        DirectionsCacheKey cacheKey = DirectionsCacheKey.of(lat1, lng1, lat2, lng2, mode, null, null);
+
+        Optional<GoogleDirectionsResponse.Leg> cachedLeg = directionsCache.get(cacheKey).flatMap(GoogleMapsService::firstLeg);
+        if (cachedLeg.isPresent()) {
+            GoogleDirectionsResponse.Leg leg = cachedLeg.get();
+            return TravelTimeResponse.builder()
+                    .travelMode(mode)
+                    .durationSeconds(leg.getDuration().getValue())
+                    .durationText(leg.getDuration().getText())
+                    .distanceMeters(leg.getDistance().getValue())
+                    .provisional(false)
+                    .build();
         }
-        
-        return 13; // 기본값
+
+        prefetchDirections(cacheKey, lat1, lng1, lat2, lng2, mode);
+
+        long seconds = travelTimeEstimator.estimateSeconds(lat1, lng1, lat2, lng2, mode);
+        return TravelTimeResponse.builder()
+                .travelMode(mode)
+                .durationSeconds(seconds)
+                .durationText(travelTimeEstimator.formatEstimate(seconds))
+                .distanceMeters(travelTimeEstimator.estimateMeters(lat1, lng1, lat2, lng2, mode))
+                .provisional(true)
+                .build();
     }
 
-    public List<GooglePlaceResponse> searchPlaces(String query, String location, String language, String region) {
-        try {
-            PlacesSearchResponse response = PlacesApi.textSearchQuery(geoApiContext, query)
-                    .language(language)
-                    .region(region)
-                    .await();
-            
-            return Arrays.stream(response.results)
-                    .map(this::convertToGooglePlaceResponse)
-                    .collect(Collectors.toList());
-                    
-        } catch (Exception e) {
-            log.error("장소 검색 실패: {}", e.getMessage());
-            return getMockPlaces(query);
+    // 경로를 비동기로 조회하여 캐시에 저장 (요청 스레드는 기다리지 않음)
+    private void prefetchDirections(DirectionsCacheKey cacheKey, double lat1, double lng1, double lat2, double lng2,
+                                    String mode) {
+        if (!prefetching.add(cacheKey)) {
+            return;
         }
+        mapsApiClient.execute(MapsEndpoint.DIRECTIONS, () -> {
+                    DirectionsApiRequest request = DirectionsApi.newRequest(geoApiContext)
+                            .origin(new LatLng(lat1, lng1))
+                            .destination(new LatLng(lat2, lng2))
+                            .mode(com.google.maps.model.TravelMode.valueOf(mode));
+                    if ("TRANSIT".equals(mode)) {
+                        request.departureTime(java.time.Instant.now());
+                    }
+                    return request;
+                })
+                .whenComplete((result, error) -> {
+                    try {
+                        if (error != null) {
+                            log.warn("경로 백그라운드 조회 실패 ({}): {}", cacheKey, rootCause(error).getMessage());
+                        } else if (result.routes != null && result.routes.length > 0) {
+                            directionsCache.put(cacheKey, convertToDirectionsResponse(result));
+                        }
+                    } finally {
+                        prefetching.remove(cacheKey);
+                    }
+                });
+    }
+
+    public List<GooglePlaceResponse> searchPlaces(String query, String location, String language, String region) {
+        return searchPlacesAsync(query, location, language, region).join();
+    }
+
+    public CompletableFuture<List<GooglePlaceResponse>> searchPlacesAsync(String query, String location,
+                                                                          String language, String region) {
+        String key = normalizeQuery(query) + "|" + language + "|" + region;
+        return placeSearches.execute(key, () -> mapsApiClient.execute(MapsEndpoint.TEXT_SEARCH,
+                        () -> PlacesApi.textSearchQuery(geoApiContext, query)
+                                .language(language)
+                                .region(region))
+                .thenApply(response -> Arrays.stream(response.results)
+                        .map(this::convertToGooglePlaceResponse)
+                        .collect(Collectors.toList()))
+                .exceptionally(error -> {
+                    log.error("장소 검색 실패: {}", rootCause(error).getMessage());
+                    return getMockPlaces(query);
+                }));
     }
 
     public List<GooglePlaceResponse> getNearbyPlaces(double lat, double lng, String type) {
-        try {
-            LatLng location = new LatLng(lat, lng);
-            PlacesSearchResponse response = PlacesApi.nearbySearchQuery(geoApiContext, location)
-                    .radius(1000) // 1km 반경
-                    .type(PlaceType.valueOf(type.toUpperCase()))
-                    .await();
-            
-            return Arrays.stream(response.results)
-                    .map(this::convertToGooglePlaceResponse)
-                    .collect(Collectors.toList());
-                    
-        } catch (Exception e) {
-            log.error("주변 장소 검색 실패: {}", e.getMessage());
-            return getMockNearbyPlaces(lat, lng);
-        }
+        return getNearbyPlacesAsync(lat, lng, type).join();
+    }
+
+    public CompletableFuture<List<GooglePlaceResponse>> getNearbyPlacesAsync(double lat, double lng, String type) {
+        // 1km 반경 검색이므로 약 10m 단위로 같은 요청으로 취급
+        String key = String.format(Locale.ROOT, "%.4f,%.4f|%s", lat, lng, type.trim().toLowerCase(Locale.ROOT));
+        return nearbySearches.execute(key, () -> mapsApiClient.execute(MapsEndpoint.NEARBY_SEARCH,
+                        () -> PlacesApi.nearbySearchQuery(geoApiContext, new LatLng(lat, lng))
+                                .radius(1000) // 1km 반경
+                                .type(PlaceType.valueOf(type.toUpperCase())))
+                .thenApply(response -> Arrays.stream(response.results)
+                        .map(this::convertToGooglePlaceResponse)
+                        .collect(Collectors.toList()))
+                .exceptionally(error -> {
+                    log.error("주변 장소 검색 실패: {}", rootCause(error).getMessage());
+                    return getMockNearbyPlaces(lat, lng);
+                }));
     }
 
     public GoogleDirectionsResponse getDirections(double lat1, double lng1, double lat2, double lng2, String travelMode) {
@@ -108,150 +184,264 @@ public class GoogleMapsService {
 
     public GoogleDirectionsResponse getDirections(double lat1, double lng1, double lat2, double lng2, String travelMode, 
                                                 String departureTime, String transitPreferences, String dayOfWeek) {
-        try {
-            LatLng origin = new LatLng(lat1, lng1);
-            LatLng destination = new LatLng(lat2, lng2);
-            
-            log.info("경로 조회 요청 - 출발지: ({}, {}), 도착지: ({}, {}), 이동수단: {}, 출발시간: {}, 대중교통설정: {}, 요일: {}", 
-                     lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek);
-            
-            // Directions API 요청 생성
-            var request = DirectionsApi.newRequest(geoApiContext)
-                    .origin(origin)
-                    .destination(destination)
-                    .mode(com.google.maps.model.TravelMode.valueOf(travelMode.toUpperCase()));
-            
-            // 출발시간 설정 (TRANSIT 모드일 때 중요)
-            if (departureTime != null && !departureTime.trim().isEmpty()) {
-                try {
-                    // departureTime 형식: "HH:mm" (예: "14:30")
-                    String[] timeParts = departureTime.split(":");
-                    if (timeParts.length == 2) {
-                        int hour = Integer.parseInt(timeParts[0]);
-                        int minute = Integer.parseInt(timeParts[1]);
-                        
-                        // 현재 날짜에 시간 설정
-                        java.time.LocalDateTime departureDateTime = java.time.LocalDateTime.now()
-                                .withHour(hour)
-                                .withMinute(minute)
-                                .withSecond(0)
-                                .withNano(0);
-                        
-                        // Google Maps API는 Instant를 사용
-                        java.time.Instant departureInstant = departureDateTime.atZone(java.time.ZoneId.systemDefault()).toInstant();
-                        request.departureTime(departureInstant);
-                        
-                        log.info("출발시간 설정: {}", departureDateTime);
+        return getDirectionsAsync(lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek).join();
+    }
+
+    public CompletableFuture<GoogleDirectionsResponse> getDirectionsAsync(double lat1, double lng1, double lat2, double lng2,
+                                                                          String travelMode, String departureTime,
+                                                                          String transitPreferences, String dayOfWeek) {
+        DirectionsCacheKey cacheKey = DirectionsCacheKey.of(lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences);
+        Optional<GoogleDirectionsResponse> cached = directionsCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.debug("경로 캐시 적중: {}", cacheKey);
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return requestDirections(lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek)
+                .thenApply(response -> {
+                    if (isCacheable(response)) {
+                        directionsCache.put(cacheKey, response);
                     }
-                } catch (Exception e) {
-                    log.warn("출발시간 파싱 실패: {}, 기본값 사용", departureTime);
-                }
-            }
-            
-            // 대중교통 설정 (TRANSIT 모드일 때)
-            if ("TRANSIT".equalsIgnoreCase(travelMode) && transitPreferences != null && !transitPreferences.trim().isEmpty()) {
-                // Google Maps API의 TransitPreferences 설정
-                if ("less_walking".equalsIgnoreCase(transitPreferences)) {
-                    // 걷는 시간을 최소화하는 설정은 API에서 직접 지원하지 않으므로
-                    // 대안으로 여러 경로를 요청하고 가장 걷는 시간이 적은 것을 선택
-                    log.info("대중교통 설정: 걷는 시간 최소화");
-                } else if ("fewer_transfers".equalsIgnoreCase(transitPreferences)) {
-                    // 환승 횟수를 최소화하는 설정
-                    log.info("대중교통 설정: 환승 횟수 최소화");
-                }
-            }
-            
-            // TRANSIT 모드에서 출발시간이 없으면 현재 시간 사용
-            if ("TRANSIT".equalsIgnoreCase(travelMode) && (departureTime == null || departureTime.trim().isEmpty())) {
-                java.time.LocalDateTime now = java.time.LocalDateTime.now();
-                java.time.Instant currentTime = now.atZone(java.time.ZoneId.systemDefault()).toInstant();
-                request.departureTime(currentTime);
-                log.info("TRANSIT 모드: 출발시간이 없어 현재 시간 사용 - {}", now);
-            }
-            
-            // 요일 설정 (TRANSIT 모드일 때)
-            if ("TRANSIT".equalsIgnoreCase(travelMode) && dayOfWeek != null && !dayOfWeek.trim().isEmpty()) {
-                log.info("요일 설정: {}", dayOfWeek);
-                // Google Maps API는 자동으로 현재 요일을 고려하므로 별도 설정 불필요
-                // 하지만 로그로 기록하여 디버깅에 활용
-            }
-            
-            DirectionsResult result = request.await();
-            
-            if (result.routes == null || result.routes.length == 0) {
-                log.warn("경로를 찾을 수 없습니다. 출발지: ({}, {}), 도착지: ({}, {})", lat1, lng1, lat2, lng2);
-                return GoogleDirectionsResponse.builder()
-                        .status("ZERO_RESULTS")
-                        .errorMessage("경로를 찾을 수 없습니다.")
-                        .build();
-            }
-            
-            return convertToDirectionsResponse(result);
-                    
+                    return response;
+                });
+    }
+
+    private CompletableFuture<GoogleDirectionsResponse> requestDirections(double lat1, double lng1, double lat2, double lng2,
+                                                                          String travelMode, String departureTime,
+                                                                          String transitPreferences, String dayOfWeek) {
+        log.info("경로 조회 요청 - 출발지: ({}, {}), 도착지: ({}, {}), 이동수단: {}, 출발시간: {}, 대중교통설정: {}, 요일: {}", 
+                 lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek);
+
+        com.google.maps.model.TravelMode mode;
+        try {
+            mode = com.google.maps.model.TravelMode.valueOf(travelMode.toUpperCase());
         } catch (IllegalArgumentException e) {
             log.error("잘못된 이동수단: {}. 지원되는 이동수단: WALKING, DRIVING, BICYCLING, TRANSIT", travelMode);
-            return GoogleDirectionsResponse.builder()
+            return CompletableFuture.completedFuture(GoogleDirectionsResponse.builder()
                     .status("INVALID_REQUEST")
                     .errorMessage("지원되지 않는 이동수단입니다: " + travelMode)
-                    .build();
-        } catch (com.google.maps.errors.ZeroResultsException e) {
-            log.warn("경로를 찾을 수 없습니다. 출발지: ({}, {}), 도착지: ({}, {}), 이동수단: {}", 
-                     lat1, lng1, lat2, lng2, travelMode);
-            
-            // TRANSIT 모드에서 경로를 찾을 수 없으면 WALKING 모드로 fallback 시도
-            if ("TRANSIT".equalsIgnoreCase(travelMode)) {
-                log.info("TRANSIT 모드에서 경로 없음, WALKING 모드로 fallback 시도");
-                try {
-                    LatLng fallbackOrigin = new LatLng(lat1, lng1);
-                    LatLng fallbackDestination = new LatLng(lat2, lng2);
+                    .build());
+        }
+
+        LatLng origin = new LatLng(lat1, lng1);
+        LatLng destination = new LatLng(lat2, lng2);
+        java.time.Instant departureInstant = resolveDepartureTime(travelMode, departureTime);
+        
+        // 대중교통 설정 (TRANSIT 모드일 때)
+        if ("TRANSIT".equalsIgnoreCase(travelMode) && transitPreferences != null && !transitPreferences.trim().isEmpty()) {
+            // Google Maps API의 TransitPreferences 설정
+            if ("less_walking".equalsIgnoreCase(transitPreferences)) {
+                // 걷는 시간을 최소화하는 설정은 API에서 직접 지원하지 않으므로
+                // 대안으로 여러 경로를 요청하고 가장 걷는 시간이 적은 것을 선택
+                log.info("대중교통 설정: 걷는 시간 최소화");
+            } else if ("fewer_transfers".equalsIgnoreCase(transitPreferences)) {
+                // 환승 횟수를 최소화하는 설정
+                log.info("대중교통 설정: 환승 횟수 최소화");
+            }
+        }
+        
+        // 요일 설정 (TRANSIT 모드일 때)
+        if ("TRANSIT".equalsIgnoreCase(travelMode) && dayOfWeek != null && !dayOfWeek.trim().isEmpty()) {
+            log.info("요일 설정: {}", dayOfWeek);
+            // Google Maps API는 자동으로 현재 요일을 고려하므로 별도 설정 불필요
+            // 하지만 로그로 기록하여 디버깅에 활용
+        }
+
+        return mapsApiClient.execute(MapsEndpoint.DIRECTIONS, () -> {
+                    // Directions API 요청 생성 (재시도마다 새 요청)
+                    DirectionsApiRequest request = DirectionsApi.newRequest(geoApiContext)
+                            .origin(origin)
+                            .destination(destination)
+                            .mode(mode);
+                    if (departureInstant != null) {
+                        request.departureTime(departureInstant);
+                    }
+                    return request;
+                })
+                .thenApply(result -> {
+                    if (result.routes == null || result.routes.length == 0) {
+                        log.warn("경로를 찾을 수 없습니다. 출발지: ({}, {}), 도착지: ({}, {})", lat1, lng1, lat2, lng2);
+                        return GoogleDirectionsResponse.builder()
+                                .status("ZERO_RESULTS")
+                                .errorMessage("경로를 찾을 수 없습니다.")
+                                .build();
+                    }
+                    return convertToDirectionsResponse(result);
+                })
+                .exceptionallyCompose(error -> handleDirectionsFailure(rootCause(error), lat1, lng1, lat2, lng2,
+                        travelMode, departureTime, transitPreferences, dayOfWeek));
+    }
+
+    // 출발시간 결정: "HH:mm" 이면 오늘 날짜의 해당 시각, TRANSIT 모드에서 없으면 현재 시각, 그 외 null
+    private java.time.Instant resolveDepartureTime(String travelMode, String departureTime) {
+        if (departureTime != null && !departureTime.trim().isEmpty()) {
+            try {
+                // departureTime 형식: "HH:mm" (예: "14:30")
+                String[] timeParts = departureTime.split(":");
+                if (timeParts.length == 2) {
+                    int hour = Integer.parseInt(timeParts[0]);
+                    int minute = Integer.parseInt(timeParts[1]);
                     
-                    var fallbackRequest = DirectionsApi.newRequest(geoApiContext)
-                            .origin(fallbackOrigin)
-                            .destination(fallbackDestination)
-                            .mode(com.google.maps.model.TravelMode.WALKING);
+                    // 현재 날짜에 시간 설정
+                    java.time.LocalDateTime departureDateTime = java.time.LocalDateTime.now()
+                            .withHour(hour)
+                            .withMinute(minute)
+                            .withSecond(0)
+                            .withNano(0);
                     
-                    DirectionsResult fallbackResult = fallbackRequest.await();
-                    if (fallbackResult.routes != null && fallbackResult.routes.length > 0) {
-                        log.info("WALKING 모드 fallback 성공");
-                        return convertToDirectionsResponse(fallbackResult);
-                    }
-                } catch (Exception fallbackException) {
-                    log.warn("WALKING 모드 fallback도 실패: {}", fallbackException.getMessage());
+                    log.info("출발시간 설정: {}", departureDateTime);
+                    // Google Maps API는 Instant를 사용
+                    return departureDateTime.atZone(java.time.ZoneId.systemDefault()).toInstant();
                 }
+            } catch (Exception e) {
+                log.warn("출발시간 파싱 실패: {}, 기본값 사용", departureTime);
             }
-            
-            return GoogleDirectionsResponse.builder()
+            return null;
+        }
+        
+        // TRANSIT 모드에서 출발시간이 없으면 현재 시간 사용
+        if ("TRANSIT".equalsIgnoreCase(travelMode)) {
+            java.time.LocalDateTime now = java.time.LocalDateTime.now();
+            log.info("TRANSIT 모드: 출발시간이 없어 현재 시간 사용 - {}", now);
+            return now.atZone(java.time.ZoneId.systemDefault()).toInstant();
+        }
+        return null;
+    }
+
+    private CompletableFuture<GoogleDirectionsResponse> handleDirectionsFailure(Throwable error, double lat1, double lng1,
+                                                                                double lat2, double lng2, String travelMode,
+                                                                                String departureTime, String transitPreferences,
+                                                                                String dayOfWeek) {
+        if (error instanceof com.google.maps.errors.ZeroResultsException) {
+            log.warn("경로를 찾을 수 없습니다. 출발지: ({}, {}), 도착지: ({}, {}), 이동수단: {}", 
+                     lat1, lng1, lat2, lng2, travelMode);
+            GoogleDirectionsResponse zeroResults = GoogleDirectionsResponse.builder()
                     .status("ZERO_RESULTS")
                     .errorMessage("해당 경로를 찾을 수 없습니다. 다른 이동수단을 시도해보세요.")
                     .build();
-        } catch (com.google.maps.errors.ApiException e) {
-            log.error("Google Maps API 오류: {} - {}", e.getClass().getSimpleName(), e.getMessage());
-            return GoogleDirectionsResponse.builder()
-                    .status("API_ERROR")
-                    .errorMessage("Google Maps API 오류: " + e.getMessage())
-                    .build();
-        } catch (Exception e) {
-            log.error("경로 조회 실패 - 출발지: ({}, {}), 도착지: ({}, {}), 이동수단: {}, 오류: {}", 
-                     lat1, lng1, lat2, lng2, travelMode, e.getClass().getSimpleName(), e);
             
-            // Mock 데이터를 반환하여 기본적인 경로 정보 제공
-            return getMockDirections(lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek);
+            // TRANSIT 모드에서 경로를 찾을 수 없으면 WALKING 모드로 fallback 시도
+            if (!"TRANSIT".equalsIgnoreCase(travelMode)) {
+                return CompletableFuture.completedFuture(zeroResults);
+            }
+            log.info("TRANSIT 모드에서 경로 없음, WALKING 모드로 fallback 시도");
+            return mapsApiClient.execute(MapsEndpoint.DIRECTIONS, () -> DirectionsApi.newRequest(geoApiContext)
+                            .origin(new LatLng(lat1, lng1))
+                            .destination(new LatLng(lat2, lng2))
+                            .mode(com.google.maps.model.TravelMode.WALKING))
+                    .thenApply(fallbackResult -> {
+                        if (fallbackResult.routes != null && fallbackResult.routes.length > 0) {
+                            log.info("WALKING 모드 fallback 성공");
+                            return convertToDirectionsResponse(fallbackResult);
+                        }
+                        return zeroResults;
+                    })
+                    .exceptionally(fallbackError -> {
+                        log.warn("WALKING 모드 fallback도 실패: {}", rootCause(fallbackError).getMessage());
+                        return zeroResults;
+                    });
+        }
+        
+        if (error instanceof com.google.maps.errors.ApiException) {
+            log.error("Google Maps API 오류: {} - {}", error.getClass().getSimpleName(), error.getMessage());
+            return CompletableFuture.completedFuture(GoogleDirectionsResponse.builder()
+                    .status("API_ERROR")
+                    .errorMessage("Google Maps API 오류: " + error.getMessage())
+                    .build());
         }
+        
+        log.error("경로 조회 실패 - 출발지: ({}, {}), 도착지: ({}, {}), 이동수단: {}, 오류: {}", 
+                 lat1, lng1, lat2, lng2, travelMode, error.getClass().getSimpleName(), error);
+        
+        // Mock 데이터를 반환하여 기본적인 경로 정보 제공
+        return CompletableFuture.completedFuture(
+                getMockDirections(lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek));
     }
 
     public String getFormattedAddress(double lat, double lng) {
-        try {
-            LatLng location = new LatLng(lat, lng);
-            GeocodingResult[] results = GeocodingApi.reverseGeocode(geoApiContext, location).await();
-            
-            if (results.length > 0) {
-                return results[0].formattedAddress;
-            }
-        } catch (Exception e) {
-            log.error("주소 조회 실패: {}", e.getMessage());
+        return getFormattedAddressAsync(lat, lng).join();
+    }
+
+    public CompletableFuture<String> getFormattedAddressAsync(double lat, double lng) {
+        // 약 1m 단위로 같은 요청으로 취급
+        String key = String.format(Locale.ROOT, "%.5f,%.5f", lat, lng);
+        return addressLookups.execute(key, () -> mapsApiClient.execute(MapsEndpoint.GEOCODE,
+                        () -> GeocodingApi.reverseGeocode(geoApiContext, new LatLng(lat, lng)))
+                .thenApply(results -> results.length > 0 ? results[0].formattedAddress : "주소 정보 없음")
+                .exceptionally(error -> {
+                    log.error("주소 조회 실패: {}", rootCause(error).getMessage());
+                    return "주소 정보 없음";
+                }));
+    }
+
+    /**
+     * 진행 중인 동일 요청에 합쳐진 요청 수 (장소 검색/주변 검색/주소 조회만 해당)
+     */
+    public long getCoalescedCount(MapsEndpoint endpoint) {
+        switch (endpoint) {
+            case TEXT_SEARCH:
+                return placeSearches.getCoalescedCount();
+            case NEARBY_SEARCH:
+                return nearbySearches.getCoalescedCount();
+            case GEOCODE:
+                return addressLookups.getCoalescedCount();
+            default:
+                return 0;
         }
-        
-        return "주소 정보 없음";
+    }
+
+    // 도보 경로의 첫 구간 (캐시 → API 순으로 조회, 경로가 없으면 empty)
+    private CompletableFuture<Optional<GoogleDirectionsResponse.Leg>> findWalkingLegAsync(double lat1, double lng1,
+                                                                                         double lat2, double lng2) {
+        DirectionsCacheKey cacheKey = DirectionsCacheKey.walking(lat1, lng1, lat2, lng2);
+        Optional<GoogleDirectionsResponse> cached = directionsCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(firstLeg(cached.get()));
+        }
+
+        return mapsApiClient.execute(MapsEndpoint.DIRECTIONS, () -> DirectionsApi.newRequest(geoApiContext)
+                        .origin(new LatLng(lat1, lng1))
+                        .destination(new LatLng(lat2, lng2))
+                        .mode(com.google.maps.model.TravelMode.WALKING))
+                .thenApply(result -> {
+                    if (result.routes == null || result.routes.length == 0) {
+                        return Optional.empty();
+                    }
+                    GoogleDirectionsResponse response = convertToDirectionsResponse(result);
+                    directionsCache.put(cacheKey, response);
+                    return firstLeg(response);
+                });
+    }
+
+    private static Optional<GoogleDirectionsResponse.Leg> firstLeg(GoogleDirectionsResponse response) {
+        if (response.getRoutes() == null) {
+            return Optional.empty();
+        }
+        return response.getRoutes().stream()
+                .flatMap(route -> route.getLegs().stream())
+                .findFirst();
+    }
+
+    // 검색어 정규화 (앞뒤/연속 공백 제거, 소문자)
+    private static String normalizeQuery(String query) {
+        return query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // CompletableFuture 단계에서 감싼 예외(CompletionException 등)를 벗겨 원래 예외를 반환
+    private static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    // 실제 API 결과만 캐시 (Mock/오류 응답은 제외)
+    private boolean isCacheable(GoogleDirectionsResponse response) {
+        return "OK".equals(response.getStatus())
+                && response.getErrorMessage() == null
+                && response.getRoutes() != null
+                && !response.getRoutes().isEmpty();
     }
 
     private GooglePlaceResponse convertToGooglePlaceResponse(PlacesSearchResult place) {
@@ -382,55 +572,39 @@ public class GoogleMapsService {
         log.info("Mock 경로 데이터를 반환합니다. 출발지: ({}, {}), 도착지: ({}, {}), 이동수단: {}, 출발시간: {}, 대중교통설정: {}, 요일: {}", 
                  lat1, lng1, lat2, lng2, travelMode, departureTime, transitPreferences, dayOfWeek);
         
-        // 거리 계산 (간단한 유클리드 거리)
-        double distance = Math.sqrt(Math.pow(lat2 - lat1, 2) + Math.pow(lng2 - lng1, 2)) * 111000; // 대략적인 미터 변환
+        // 거리/시간 계산 (하버사인 직선 거리 x 우회 계수, 이동수단별 속도 모델)
+        double distance = travelTimeEstimator.estimateMeters(lat1, lng1, lat2, lng2, travelMode);
+        int durationMinutes = travelTimeEstimator.estimateMinutes(lat1, lng1, lat2, lng2, travelMode);
         
-        // 이동수단에 따른 시간 계산
-        int durationMinutes;
-        switch (travelMode.toUpperCase()) {
-            case "WALKING":
-                durationMinutes = (int) (distance / 1000 * 12); // km당 12분 (보행)
-                break;
-            case "DRIVING":
-                durationMinutes = (int) (distance / 1000 * 3); // km당 3분 (자동차)
-                break;
-            case "BICYCLING":
-                durationMinutes = (int) (distance / 1000 * 6); // km당 6분 (자전거)
-                break;
-            case "TRANSIT":
-                // 대중교통은 더 복잡한 계산이 필요하지만 간단히 처리
-                durationMinutes = (int) (distance / 1000 * 8); // km당 8분 (대중교통)
-                
-                // 대중교통 설정에 따른 조정
-                if ("less_walking".equalsIgnoreCase(transitPreferences)) {
-                    durationMinutes += 5; // 걷는 시간 최소화를 위해 약간 더 시간 소요
-                } else if ("fewer_transfers".equalsIgnoreCase(transitPreferences)) {
-                    durationMinutes += 10; // 환승 횟수 최소화를 위해 더 많은 시간 소요
-                }
-                
-                // 요일별 조정 (주말에는 배차 간격이 길 수 있음)
-                if ("weekend".equalsIgnoreCase(dayOfWeek)) {
-                    durationMinutes += 5; // 주말에는 약간 더 시간 소요
-                }
-                
-                // 출발시간이 있는 경우 더 현실적인 계산
-                if (departureTime != null && !departureTime.trim().isEmpty()) {
-                    try {
-                        String[] timeParts = departureTime.split(":");
-                        if (timeParts.length == 2) {
-                            int hour = Integer.parseInt(timeParts[0]);
-                            // 출발시간이 새벽이나 늦은 밤이면 대중교통 이용이 어려울 수 있음
-                            if (hour < 6 || hour > 23) {
-                                durationMinutes += 15; // 대중교통 이용이 어려운 시간대
-                            }
+        // 대중교통은 설정/요일/시간대에 따라 추가 소요
+        if ("TRANSIT".equalsIgnoreCase(travelMode)) {
+            // 대중교통 설정에 따른 조정
+            if ("less_walking".equalsIgnoreCase(transitPreferences)) {
+                durationMinutes += 5; // 걷는 시간 최소화를 위해 약간 더 시간 소요
+            } else if ("fewer_transfers".equalsIgnoreCase(transitPreferences)) {
+                durationMinutes += 10; // 환승 횟수 최소화를 위해 더 많은 시간 소요
+            }
+            
+            // 요일별 조정 (주말에는 배차 간격이 길 수 있음)
+            if ("weekend".equalsIgnoreCase(dayOfWeek)) {
+                durationMinutes += 5; // 주말에는 약간 더 시간 소요
+            }
+            
+            // 출발시간이 있는 경우 더 현실적인 계산
+            if (departureTime != null && !departureTime.trim().isEmpty()) {
+                try {
+                    String[] timeParts = departureTime.split(":");
+                    if (timeParts.length == 2) {
+                        int hour = Integer.parseInt(timeParts[0]);
+                        // 출발시간이 새벽이나 늦은 밤이면 대중교통 이용이 어려울 수 있음
+                        if (hour < 6 || hour > 23) {
+                            durationMinutes += 15; // 대중교통 이용이 어려운 시간대
                         }
-                    } catch (Exception e) {
-                        // 파싱 실패 시 기본값 유지
                     }
+                } catch (Exception e) {
+                    // 파싱 실패 시 기본값 유지
                 }
-                break;
-            default:
-                durationMinutes = (int) (distance / 1000 * 15); // 기본값
+            }
         }
         
         List<GoogleDirectionsResponse.Step> steps = new ArrayList<>();
@@ -0,0 +1,256 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import com.google.maps.PendingResult;
+import com.google.maps.errors.ApiException;
+import com.google.maps.errors.OverQueryLimitException;
+import com.google.maps.errors.UnknownErrorException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Google Maps API 비동기 호출 계층
+ * - PendingResult.setCallback 으로 호출하여 응답을 기다리는 동안 스레드를 점유하지 않음
+ * - 엔드포인트별 동시 요청 제한 (초과분은 대기열, 대기열도 차면 즉시 실패)
+ * - 요청 제한 시간, 엔드포인트별 회로 차단
+ * - 헤지 재시도: 첫 요청이 hedgeDelay 안에 끝나지 않거나 일시적 오류로 실패하면 한 번 더 요청하고 먼저 온 응답 사용
+ * 즉시 실패(MapsApiUnavailableException)를 포함한 모든 실패는 호출 측에서 대체값으로 처리합니다.
+ */
+@Slf4j
+@Component
+public class MapsApiClient {
+
+    private final Map<MapsEndpoint, Lane> lanes = new EnumMap<>(MapsEndpoint.class);
+    private final ScheduledExecutorService scheduler;
+    private final long timeoutMillis;
+    private final long hedgeDelayMillis;
+
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public MapsApiClient(@Value("${google.maps.client.max-concurrency:16}") int maxConcurrency,
+                         @Value("${google.maps.client.max-queued:200}") int maxQueued,
+                         @Value("${google.maps.client.timeout-ms:4000}") long timeoutMillis,
+                         @Value("${google.maps.client.hedge-delay-ms:1500}") long hedgeDelayMillis,
+                         @Value("${google.maps.client.failure-threshold:5}") int failureThreshold,
+                         @Value("${google.maps.client.open-seconds:30}") long openSeconds) {
+        this(maxConcurrency, maxQueued, timeoutMillis, hedgeDelayMillis, failureThreshold,
+                Duration.ofSeconds(openSeconds), System::nanoTime);
+    }
+
+    MapsApiClient(int maxConcurrency, int maxQueued, long timeoutMillis, long hedgeDelayMillis,
+                  int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        for (MapsEndpoint endpoint : MapsEndpoint.values()) {
+            lanes.put(endpoint, new Lane(new ConcurrencyLimiter(maxConcurrency, maxQueued),
+                    new CircuitBreaker(failureThreshold, openDuration.toNanos(), nanoClock)));
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.hedgeDelayMillis = hedgeDelayMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "maps-client-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * @param requestFactory 시도마다 새 요청을 만드는 팩토리 (PendingResult는 한 번만 실행 가능)
+     */
+    public <T> CompletableFuture<T> execute(MapsEndpoint endpoint, Supplier<? extends PendingResult<T>> requestFactory) {
+        Lane lane = lanes.get(endpoint);
+        if (!lane.breaker.allowRequest()) {
+            rejections.increment();
+            return CompletableFuture.failedFuture(new MapsApiUnavailableException(endpoint + " 회로 차단 중"));
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        boolean accepted = lane.limiter.submit(() -> {
+            result.whenComplete((value, error) -> lane.limiter.release());
+            new HedgedCall<>(lane, requestFactory, result).start();
+        });
+        if (!accepted) {
+            rejections.increment();
+            lane.breaker.onRejected();
+            result.completeExceptionally(new MapsApiUnavailableException(endpoint + " 대기 요청 초과"));
+        }
+        return result;
+    }
+
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejections.sum();
+    }
+
+    // 회로가 열려 있으면 요청이 바로 거절됨 (대체 경로를 미리 고를 때 사용)
+    public boolean isCircuitOpen(MapsEndpoint endpoint) {
+        return lanes.get(endpoint).breaker.isRejecting();
+    }
+
+    CircuitBreaker.State getCircuitState(MapsEndpoint endpoint) {
+        return lanes.get(endpoint).breaker.getState();
+    }
+
+    // 일시적 장애(네트워크/시간 초과/쿼터/서버 오류)만 재시도 및 회로 차단 대상, 요청 자체의 오류(ZERO_RESULTS 등)는 제외
+    private static boolean isTransient(Throwable error) {
+        return !(error instanceof ApiException)
+                || error instanceof OverQueryLimitException
+                || error instanceof UnknownErrorException;
+    }
+
+    private static final class Lane {
+        private final ConcurrencyLimiter limiter;
+        private final CircuitBreaker breaker;
+
+        private Lane(ConcurrencyLimiter limiter, CircuitBreaker breaker) {
+            this.limiter = limiter;
+            this.breaker = breaker;
+        }
+    }
+
+    /**
+     * 한 번의 호출 (최초 요청 + 최대 한 번의 헤지 요청)
+     * 동시 요청 제한은 호출 단위로 적용되므로 헤지 요청은 같은 자리를 공유합니다.
+     */
+    private final class HedgedCall<T> {
+        private final Lane lane;
+        private final Supplier<? extends PendingResult<T>> requestFactory;
+        private final CompletableFuture<T> result;
+        private final List<PendingResult<T>> attempts = new ArrayList<>(2);
+        private final List<ScheduledFuture<?>> timers = new ArrayList<>(2);
+        private int failed;
+        private boolean hedged;
+
+        private HedgedCall(Lane lane, Supplier<? extends PendingResult<T>> requestFactory, CompletableFuture<T> result) {
+            this.lane = lane;
+            this.requestFactory = requestFactory;
+            this.result = result;
+        }
+
+        private void start() {
+            synchronized (this) {
+                timers.add(scheduler.schedule(this::onTimeout, timeoutMillis, TimeUnit.MILLISECONDS));
+                timers.add(scheduler.schedule(this::hedge, hedgeDelayMillis, TimeUnit.MILLISECONDS));
+            }
+            result.whenComplete((value, error) -> cleanUp());
+            launch();
+        }
+
+        private void launch() {
+            PendingResult<T> attempt;
+            try {
+                attempt = requestFactory.get();
+            } catch (RuntimeException e) {
+                // 요청 생성 실패(잘못된 파라미터 등)는 재시도해도 같으므로 바로 실패 처리
+                if (result.completeExceptionally(e)) {
+                    lane.breaker.onRejected();
+                }
+                return;
+            }
+            synchronized (this) {
+                attempts.add(attempt);
+            }
+            attempt.setCallback(new PendingResult.Callback<>() {
+                @Override
+                public void onResult(T value) {
+                    if (result.complete(value)) {
+                        lane.breaker.onSuccess();
+                    }
+                }
+
+                @Override
+                public void onFailure(Throwable error) {
+                    onAttemptFailure(error);
+                }
+            });
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (hedged || result.isDone()) {
+                    return;
+                }
+                hedged = true;
+            }
+            hedges.increment();
+            launch();
+        }
+
+        private void onAttemptFailure(Throwable error) {
+            if (!isTransient(error)) {
+                // 요청 자체의 오류는 API가 정상 응답한 것이므로 회로 차단에 반영하지 않음
+                if (result.completeExceptionally(error)) {
+                    lane.breaker.onSuccess();
+                }
+                return;
+            }
+
+            boolean retry;
+            synchronized (this) {
+                failed++;
+                retry = !hedged;
+                if (!retry && failed < attempts.size()) {
+                    return; // 다른 시도가 아직 진행 중
+                }
+            }
+            if (retry) {
+                hedge();
+            } else if (result.completeExceptionally(error)) {
+                lane.breaker.onFailure();
+            }
+        }
+
+        private void onTimeout() {
+            if (result.completeExceptionally(new TimeoutException("Google Maps 응답 시간 초과 (" + timeoutMillis + "ms)"))) {
+                timeouts.increment();
+                lane.breaker.onFailure();
+            }
+        }
+
+        // 끝난 뒤 남은 요청/타이머 정리
+        private void cleanUp() {
+            List<PendingResult<T>> pending;
+            List<ScheduledFuture<?>> scheduled;
+            synchronized (this) {
+                pending = new ArrayList<>(attempts);
+                scheduled = new ArrayList<>(timers);
+            }
+            scheduled.forEach(timer -> timer.cancel(false));
+            for (PendingResult<T> attempt : pending) {
+                try {
+                    attempt.cancel();
+                } catch (RuntimeException e) {
+                    log.debug("Google Maps 요청 취소 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
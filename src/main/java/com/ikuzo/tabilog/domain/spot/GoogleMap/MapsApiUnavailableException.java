@@ -0,0 +1,12 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+/**
+ * Google Maps API 호출을 보내지 않고 즉시 실패한 경우 (회로 차단, 대기열 초과)
+ * 호출 측에서는 다른 실패와 마찬가지로 대체값(추정값/Mock)으로 처리합니다.
+ */
+public class MapsApiUnavailableException extends RuntimeException {
+
+    public MapsApiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+/**
+ * Google Maps API 엔드포인트 구분
+ * 엔드포인트마다 동시 요청 제한과 회로 차단 상태를 따로 관리합니다.
+ */
+public enum MapsEndpoint {
+    DIRECTIONS,
+    DISTANCE_MATRIX,
+    GEOCODE,
+    TEXT_SEARCH,
+    NEARBY_SEARCH
+}
@@ -0,0 +1,43 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import lombok.Getter;
+
+/**
+ * 지점 간 이동 시간/거리 행렬
+ * durationSeconds[i][j] = i번째 지점 → j번째 지점 이동 시간(초), 경로가 없으면 UNREACHABLE
+ */
+@Getter
+public class TravelMatrix {
+
+    public static final long UNREACHABLE = -1L;
+
+    private final long[][] durationSeconds;
+    private final long[][] distanceMeters;
+    private final int cachedElementCount;     // 셀 캐시에서 채운 칸 수
+    private final int matrixElementCount;     // Distance Matrix API로 채운 칸 수
+    private final int directionsCallCount;    // 구간별 Directions 로 채운 칸 수
+    private final int estimatedElementCount;  // Google 결과 없이 직선 거리로 추정한 칸 수
+
+    public TravelMatrix(long[][] durationSeconds, long[][] distanceMeters,
+                        int cachedElementCount, int matrixElementCount, int directionsCallCount,
+                        int estimatedElementCount) {
+        this.durationSeconds = durationSeconds;
+        this.distanceMeters = distanceMeters;
+        this.cachedElementCount = cachedElementCount;
+        this.matrixElementCount = matrixElementCount;
+        this.directionsCallCount = directionsCallCount;
+        this.estimatedElementCount = estimatedElementCount;
+    }
+
+    public int size() {
+        return durationSeconds.length;
+    }
+
+    public long getDurationSeconds(int from, int to) {
+        return durationSeconds[from][to];
+    }
+
+    public long getDistanceMeters(int from, int to) {
+        return distanceMeters[from][to];
+    }
+}
@@ -0,0 +1,285 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import com.google.maps.DistanceMatrixApi;
+import com.google.maps.DistanceMatrixApiRequest;
+import com.google.maps.GeoApiContext;
+import com.google.maps.model.DistanceMatrix;
+import com.google.maps.model.DistanceMatrixElement;
+import com.google.maps.model.DistanceMatrixElementStatus;
+import com.google.maps.model.LatLng;
+import com.ikuzo.tabilog.dto.response.GoogleDirectionsResponse;
+import com.ikuzo.tabilog.global.cache.ExpiringCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 지점 사이의 이동 시간 행렬 계산
+ * 1. 셀 캐시(구간별 초/미터)에 있는 칸은 그대로 사용
+ * 2. 남은 칸은 Distance Matrix API로 한 번에 조회 (요청 제한에 맞춰 블록 단위로 나누어 동시에 요청)
+ * 3. 그래도 비어 있는 칸(API 실패/요소 오류)은 최대 maxDirectionsFallback 칸까지 구간별 Directions 조회(경로 캐시 경유)
+ *    (연속된 지점 쌍 우선, Directions 회로가 열려 있으면 조회하지 않음)
+ * 4. 나머지 칸은 직선 거리 기반 추정값(TravelTimeEstimator)으로 채우고 추정 칸 수를 따로 집계
+ */
+@Slf4j
+@Component
+public class TravelMatrixCalculator {
+
+    // Distance Matrix API 요청당 제한: 출발지/도착지 각 25개, 요소(출발지 x 도착지) 100개
+    private static final int MAX_LOCATIONS_PER_REQUEST = 25;
+    private static final int MAX_ELEMENTS_PER_REQUEST = 100;
+
+    private final GeoApiContext geoApiContext;
+    private final GoogleMapsService googleMapsService;
+    private final MapsApiClient mapsApiClient;
+    private final TravelTimeEstimator travelTimeEstimator;
+    private final int maxDirectionsFallback;
+    private final ExecutorService executor;
+    private final ExpiringCache<DirectionsCacheKey, long[]> cells;
+
+    public TravelMatrixCalculator(GeoApiContext geoApiContext,
+                                  GoogleMapsService googleMapsService,
+                                  MapsApiClient mapsApiClient,
+                                  TravelTimeEstimator travelTimeEstimator,
+                                  @Value("${google.maps.matrix.concurrency:8}") int concurrency,
+                                  @Value("${google.maps.matrix.cell-cache-max-size:20000}") int cellCacheMaxSize,
+                                  @Value("${google.maps.matrix.cell-cache-ttl-minutes:30}") long cellCacheTtlMinutes,
+                                  @Value("${google.maps.matrix.max-directions-fallback:24}") int maxDirectionsFallback) {
+        this.geoApiContext = geoApiContext;
+        this.googleMapsService = googleMapsService;
+        this.mapsApiClient = mapsApiClient;
+        this.travelTimeEstimator = travelTimeEstimator;
+        this.maxDirectionsFallback = Math.max(0, maxDirectionsFallback);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "travel-matrix-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cells = new ExpiringCache<>(cellCacheMaxSize, Duration.ofMinutes(cellCacheTtlMinutes));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param points     지점 좌표 (행렬의 행/열 순서)
+     * @param travelMode Google 이동수단 (WALKING, DRIVING, BICYCLING, TRANSIT)
+     */
+    public TravelMatrix calculate(List<LatLng> points, String travelMode) {
+        String mode = travelMode == null ? "WALKING" : travelMode.trim().toUpperCase(Locale.ROOT);
+        com.google.maps.model.TravelMode apiMode = com.google.maps.model.TravelMode.valueOf(mode);
+
+        int size = points.size();
+        long[][] durations = new long[size][size];
+        long[][] distances = new long[size][size];
+        boolean[][] filled = new boolean[size][size];
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(durations[i], TravelMatrix.UNREACHABLE);
+            Arrays.fill(distances[i], TravelMatrix.UNREACHABLE);
+            durations[i][i] = 0;
+            distances[i][i] = 0;
+            filled[i][i] = true;
+        }
+
+        // 1. 셀 캐시
+        int cached = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (i == j) {
+                    continue;
+                }
+                long[] cell = cells.get(cellKey(points.get(i), points.get(j), mode));
+                if (cell != null) {
+                    setCell(durations, distances, filled, i, j, cell[0], cell[1]);
+                    cached++;
+                }
+            }
+        }
+
+        // 2. Distance Matrix 블록 조회
+        AtomicInteger fromMatrix = new AtomicInteger();
+        int destinationChunk = Math.min(size, MAX_LOCATIONS_PER_REQUEST);
+        int originChunk = destinationChunk == 0 ? 1
+                : Math.max(1, Math.min(MAX_LOCATIONS_PER_REQUEST, MAX_ELEMENTS_PER_REQUEST / destinationChunk));
+        List<CompletableFuture<Void>> blocks = new ArrayList<>();
+        for (int originStart = 0; originStart < size; originStart += originChunk) {
+            for (int destinationStart = 0; destinationStart < size; destinationStart += destinationChunk) {
+                int originEnd = Math.min(size, originStart + originChunk);
+                int destinationEnd = Math.min(size, destinationStart + destinationChunk);
+                if (!hasMissing(filled, originStart, originEnd, destinationStart, destinationEnd)) {
+                    continue;
+                }
+                int from = originStart;
+                int to = destinationStart;
+                blocks.add(CompletableFuture.runAsync(() -> fromMatrix.addAndGet(requestBlock(points, mode, apiMode,
+                        from, originEnd, to, destinationEnd, durations, distances, filled)), executor));
+            }
+        }
+        CompletableFuture.allOf(blocks.toArray(new CompletableFuture[0])).join();
+
+        // 3. 남은 칸 중 일부만 구간별 Directions 조회 (경로 캐시 경유)
+        //    칸마다 동기 호출이 나가므로 개수를 제한하고, 회로가 열려 있으면 호출해도 실패하므로 건너뜀
+        List<int[]> missing = missingCells(filled);
+        int directionsLimit = mapsApiClient.isCircuitOpen(MapsEndpoint.DIRECTIONS) ? 0
+                : Math.min(maxDirectionsFallback, missing.size());
+        AtomicInteger fromDirections = new AtomicInteger();
+        List<CompletableFuture<Void>> pairs = new ArrayList<>();
+        for (int[] cell : missing.subList(0, directionsLimit)) {
+            int from = cell[0];
+            int to = cell[1];
+            pairs.add(CompletableFuture.runAsync(() -> {
+                if (requestPair(points, mode, from, to, durations, distances, filled)) {
+                    fromDirections.incrementAndGet();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(pairs.toArray(new CompletableFuture[0])).join();
+
+        // 4. 나머지 칸은 추정값 (Google 결과가 아니므로 셀 캐시에 남기지 않음)
+        int estimated = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (filled[i][j]) {
+                    continue;
+                }
+                LatLng origin = points.get(i);
+                LatLng destination = points.get(j);
+                setCell(durations, distances, filled, i, j,
+                        travelTimeEstimator.estimateSeconds(origin.lat, origin.lng, destination.lat, destination.lng, mode),
+                        travelTimeEstimator.estimateMeters(origin.lat, origin.lng, destination.lat, destination.lng, mode));
+                estimated++;
+            }
+        }
+
+        log.debug("이동 시간 행렬 계산 완료 - 지점 수: {}, 캐시: {}, Distance Matrix: {}, Directions: {}, 추정: {}",
+                size, cached, fromMatrix.get(), fromDirections.get(), estimated);
+        return new TravelMatrix(durations, distances, cached, fromMatrix.get(), fromDirections.get(), estimated);
+    }
+
+    // 비어 있는 칸 (방문 순서상 연속된 지점 쌍을 먼저)
+    private static List<int[]> missingCells(boolean[][] filled) {
+        List<int[]> consecutive = new ArrayList<>();
+        List<int[]> others = new ArrayList<>();
+        for (int i = 0; i < filled.length; i++) {
+            for (int j = 0; j < filled.length; j++) {
+                if (!filled[i][j]) {
+                    (j == i + 1 ? consecutive : others).add(new int[]{i, j});
+                }
+            }
+        }
+        consecutive.addAll(others);
+        return consecutive;
+    }
+
+    private int requestBlock(List<LatLng> points, String mode, com.google.maps.model.TravelMode apiMode,
+                             int originStart, int originEnd, int destinationStart, int destinationEnd,
+                             long[][] durations, long[][] distances, boolean[][] filled) {
+        try {
+            LatLng[] origins = points.subList(originStart, originEnd).toArray(new LatLng[0]);
+            LatLng[] destinations = points.subList(destinationStart, destinationEnd).toArray(new LatLng[0]);
+            DistanceMatrix matrix = mapsApiClient.execute(MapsEndpoint.DISTANCE_MATRIX, () -> {
+                DistanceMatrixApiRequest request = DistanceMatrixApi.newRequest(geoApiContext)
+                        .origins(origins)
+                        .destinations(destinations)
+                        .mode(apiMode);
+                if (apiMode == com.google.maps.model.TravelMode.TRANSIT) {
+                    request.departureTime(Instant.now());
+                }
+                return request;
+            }).join();
+
+            int count = 0;
+            for (int row = 0; row < matrix.rows.length && originStart + row < originEnd; row++) {
+                DistanceMatrixElement[] elements = matrix.rows[row].elements;
+                for (int column = 0; column < elements.length && destinationStart + column < destinationEnd; column++) {
+                    int i = originStart + row;
+                    int j = destinationStart + column;
+                    DistanceMatrixElement element = elements[column];
+                    if (i == j || filled[i][j] || element.status != DistanceMatrixElementStatus.OK
+                            || element.duration == null || element.distance == null) {
+                        continue;
+                    }
+                    setCell(durations, distances, filled, i, j, element.duration.inSeconds, element.distance.inMeters);
+                    cells.put(cellKey(points.get(i), points.get(j), mode),
+                            new long[]{element.duration.inSeconds, element.distance.inMeters});
+                    count++;
+                }
+            }
+            return count;
+        } catch (Exception e) {
+            log.warn("Distance Matrix 조회 실패 (출발 {}~{}, 도착 {}~{}), 구간별 조회로 대체: {}",
+                    originStart, originEnd - 1, destinationStart, destinationEnd - 1, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * @return Google 경로로 칸을 채웠으면 true
+     * 경로가 없으면(ZERO_RESULTS) UNREACHABLE 로 확정하고, 실패/Mock 응답이면 칸을 비워 두어 추정값으로 채우게 합니다.
+     */
+    private boolean requestPair(List<LatLng> points, String mode, int i, int j,
+                                long[][] durations, long[][] distances, boolean[][] filled) {
+        LatLng origin = points.get(i);
+        LatLng destination = points.get(j);
+        GoogleDirectionsResponse response = googleMapsService.getDirections(
+                origin.lat, origin.lng, destination.lat, destination.lng, mode);
+        if ("ZERO_RESULTS".equals(response.getStatus())) {
+            filled[i][j] = true;
+            return false;
+        }
+        // Mock 응답(errorMessage 포함)은 추정값이므로 Directions 결과로 세지 않음
+        if (!"OK".equals(response.getStatus()) || response.getRoutes() == null || response.getErrorMessage() != null) {
+            return false;
+        }
+
+        return response.getRoutes().stream()
+                .flatMap(route -> route.getLegs().stream())
+                .findFirst()
+                .map(leg -> {
+                    setCell(durations, distances, filled, i, j,
+                            leg.getDuration().getValue(), leg.getDistance().getValue());
+                    cells.put(cellKey(origin, destination, mode),
+                            new long[]{leg.getDuration().getValue(), leg.getDistance().getValue()});
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private static void setCell(long[][] durations, long[][] distances, boolean[][] filled,
+                                int i, int j, long seconds, long meters) {
+        durations[i][j] = seconds;
+        distances[i][j] = meters;
+        filled[i][j] = true;
+    }
+
+    private static boolean hasMissing(boolean[][] filled, int originStart, int originEnd,
+                                      int destinationStart, int destinationEnd) {
+        for (int i = originStart; i < originEnd; i++) {
+            for (int j = destinationStart; j < destinationEnd; j++) {
+                if (!filled[i][j]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static DirectionsCacheKey cellKey(LatLng origin, LatLng destination, String mode) {
+        return DirectionsCacheKey.of(origin.lat, origin.lng, destination.lat, destination.lng, mode, null, null);
+    }
+}
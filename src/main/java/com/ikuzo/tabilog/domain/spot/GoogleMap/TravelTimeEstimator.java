@@ -0,0 +1,128 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 외부 API 없이 좌표만으로 이동 시간을 추정하는 로컬 엔진
+ * - 직선 거리(하버사인) x 우회 계수 = 예상 이동 거리
+ * - 예상 이동 거리 / 이동수단별 평균 속도 + 고정 소요 시간(대기/주차 등) = 예상 이동 시간
+ * Google Maps 장애 시 대체값, 그리고 실제 결과를 받기 전 임시 응답으로 사용합니다.
+ */
+@Component
+public class TravelTimeEstimator {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000d;
+
+    // 이 거리보다 가까우면 대중교통 대신 걷는 것으로 가정
+    private static final double TRANSIT_WALKING_THRESHOLD_METERS = 1_000d;
+
+    /**
+     * 이동수단별 속도 모델
+     * speed: 평균 이동 속도(km/h), detour: 직선 거리 대비 실제 경로 비율, overhead: 대기/환승/주차 등 고정 소요(초)
+     */
+    private enum SpeedModel {
+        WALKING(4.8, 1.3, 0),
+        BICYCLING(14.0, 1.3, 60),
+        DRIVING(25.0, 1.4, 180),
+        TRANSIT(22.0, 1.25, 480);
+
+        private final double metersPerSecond;
+        private final double detourFactor;
+        private final long overheadSeconds;
+
+        SpeedModel(double kilometersPerHour, double detourFactor, long overheadSeconds) {
+            this.metersPerSecond = kilometersPerHour * 1000 / 3600;
+            this.detourFactor = detourFactor;
+            this.overheadSeconds = overheadSeconds;
+        }
+    }
+
+    /** Google 이동수단(WALKING, DRIVING, BICYCLING, TRANSIT) 기준 예상 이동 시간(초) */
+    public long estimateSeconds(double lat1, double lng1, double lat2, double lng2, String travelMode) {
+        return estimateSeconds(haversineMeters(lat1, lng1, lat2, lng2), modelOf(travelMode));
+    }
+
+    /** 일정 이동수단 기준 예상 이동 시간(초) */
+    public long estimateSeconds(double lat1, double lng1, double lat2, double lng2, TravelMode travelMode) {
+        return estimateSeconds(haversineMeters(lat1, lng1, lat2, lng2), modelOf(travelMode));
+    }
+
+    /** 예상 이동 거리(미터) = 직선 거리 x 우회 계수 */
+    public long estimateMeters(double lat1, double lng1, double lat2, double lng2, String travelMode) {
+        return Math.round(haversineMeters(lat1, lng1, lat2, lng2) * modelOf(travelMode).detourFactor);
+    }
+
+    /** 예상 이동 시간(분, 최소 1분) */
+    public int estimateMinutes(double lat1, double lng1, double lat2, double lng2, String travelMode) {
+        return toMinutes(estimateSeconds(lat1, lng1, lat2, lng2, travelMode));
+    }
+
+    /** 사용자 표시용 추정 시간 문구 (예: "약 25분") */
+    public String formatEstimate(long seconds) {
+        return "약 " + toMinutes(seconds) + "분";
+    }
+
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+
+    private long estimateSeconds(double straightMeters, SpeedModel model) {
+        if (straightMeters <= 0) {
+            return 0;
+        }
+        long seconds = travelSeconds(straightMeters, model);
+        if (model == SpeedModel.TRANSIT && straightMeters < TRANSIT_WALKING_THRESHOLD_METERS) {
+            seconds = Math.min(seconds, travelSeconds(straightMeters, SpeedModel.WALKING));
+        }
+        return seconds;
+    }
+
+    private static long travelSeconds(double straightMeters, SpeedModel model) {
+        return Math.round(straightMeters * model.detourFactor / model.metersPerSecond) + model.overheadSeconds;
+    }
+
+    private static int toMinutes(long seconds) {
+        return (int) Math.max(1, Math.round(seconds / 60d));
+    }
+
+    private static SpeedModel modelOf(String travelMode) {
+        if (travelMode == null) {
+            return SpeedModel.WALKING;
+        }
+        switch (travelMode.trim().toUpperCase(Locale.ROOT)) {
+            case "DRIVING":
+                return SpeedModel.DRIVING;
+            case "BICYCLING":
+                return SpeedModel.BICYCLING;
+            case "TRANSIT":
+                return SpeedModel.TRANSIT;
+            default:
+                return SpeedModel.WALKING;
+        }
+    }
+
+    private static SpeedModel modelOf(TravelMode travelMode) {
+        if (travelMode == null) {
+            return SpeedModel.WALKING;
+        }
+        switch (travelMode) {
+            case TRANSIT:
+                return SpeedModel.TRANSIT;
+            case DRIVING:
+            case TAXI:
+                return SpeedModel.DRIVING;
+            case BICYCLE:
+                return SpeedModel.BICYCLING;
+            default:
+                return SpeedModel.WALKING;
+        }
+    }
+}
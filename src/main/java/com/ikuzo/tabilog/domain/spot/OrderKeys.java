@@ -0,0 +1,64 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import java.util.List;
+
+/**
+ * 간격을 둔 정렬 키 (Spot.visitOrder, TravelSegment.segmentOrder)
+ * 키를 GAP 간격으로 매겨 두고, 삽입/이동 시에는 앞뒤 키 사이 값을 골라 해당 행 하나만 갱신합니다.
+ * 사이에 남은 값이 없을 때만 일별 계획 전체를 다시 매깁니다(재배치).
+ * 키는 순서 비교에만 쓰며 0 이상입니다 (연속된 번호가 아님).
+ * 요청으로 받는 visitOrder/segmentOrder 는 키가 아니라 정렬된 목록에서의 위치(0부터)로 해석합니다.
+ */
+public final class OrderKeys {
+
+    // 재배치 후 인접 키 간격 (같은 자리에 약 16번 연속 삽입할 수 있음)
+    public static final int GAP = 1 << 16;
+
+    private OrderKeys() {
+    }
+
+    /** 재배치 시 index 번째(0부터) 항목의 키 */
+    public static int initial(int index) {
+        return Math.toIntExact((long) (index + 1) * GAP);
+    }
+
+    /**
+     * 클라이언트가 보낸 순서(0부터의 위치)를 size 개 목록의 삽입 위치로 변환
+     * 값이 없거나 size 이상이면 맨 뒤, 음수이면 맨 앞입니다.
+     */
+    public static int position(Integer requested, int size) {
+        if (requested == null || requested >= size) {
+            return size;
+        }
+        return Math.max(requested, 0);
+    }
+
+    /**
+     * 정렬된 키 목록의 position 위치에 넣을 키 (앞뒤 키의 중간값, 맨 뒤는 마지막 키 + GAP)
+     * 요청한 키를 그대로 쓰지 않고 중간값을 골라 이후 삽입에 쓸 간격을 최대한 남깁니다.
+     * @return 남은 값이 없으면 null (재배치 필요)
+     */
+    public static Integer keyAt(List<Integer> sortedKeys, int position) {
+        if (position == sortedKeys.size()) {
+            return append(position > 0 ? sortedKeys.get(position - 1) : null);
+        }
+        long before = position > 0 ? sortedKeys.get(position - 1) : -1L;
+        long after = sortedKeys.get(position);
+        if (after - before < 2) {
+            return null;
+        }
+        return (int) (before + (after - before) / 2);
+    }
+
+    /**
+     * 마지막 키(lastKey, 비어 있으면 null) 뒤에 붙일 키
+     * @return 남은 값이 없으면 null (재배치 필요)
+     */
+    public static Integer append(Integer lastKey) {
+        if (lastKey == null) {
+            return initial(0);
+        }
+        long key = Math.min((long) lastKey + GAP, Integer.MAX_VALUE);
+        return key > lastKey ? (int) key : null;
+    }
+}
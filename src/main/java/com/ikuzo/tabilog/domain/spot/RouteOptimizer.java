@@ -0,0 +1,269 @@
+package com.ikuzo.tabilog.domain.spot;
+
+/**
+ * 관광지 방문 순서 최적화 (출발지와 도착지가 다른 열린 경로의 외판원 문제 근사)
+ * 1. 최근접 이웃으로 초기 경로 생성 (출발 고정이 없으면 모든 출발 후보를 시도)
+ * 2. 2-opt(구간 뒤집기)와 Or-opt(1~3개 연속 구간 옮기기)로 더 이상 줄지 않을 때까지 개선
+ * 3. 현재 방문 순서에서 출발한 개선 결과와 비교해 더 짧은 쪽을 선택 (기존 순서보다 나빠지지 않음)
+ * 행렬은 비대칭(왕복 시간이 다를 수 있음)이어도 되며, 30개 지점 기준 수 밀리초 안에 끝납니다.
+ */
+public final class RouteOptimizer {
+
+    public static final int NONE = -1;
+
+    // 경로가 없는 칸(음수)은 매우 긴 이동으로 간주하여 가능한 한 피함
+    private static final long UNREACHABLE_PENALTY = 1_000_000_000L;
+
+    // 개선 반복 상한 (정상적인 입력에서는 훨씬 먼저 수렴)
+    private static final int MAX_PASSES = 1_000;
+
+    private static final int MAX_OR_OPT_LENGTH = 3;
+
+    private RouteOptimizer() {
+    }
+
+    /**
+     * @param durations  durations[i][j] = i → j 이동 비용, 음수는 경로 없음
+     * @param fixedFirst 첫 방문으로 고정할 지점 인덱스 (없으면 NONE)
+     * @param fixedLast  마지막 방문으로 고정할 지점 인덱스 (없으면 NONE)
+     * @return 최적화된 방문 순서 (지점 인덱스 배열)
+     */
+    public static int[] optimize(long[][] durations, int fixedFirst, int fixedLast) {
+        int size = durations.length;
+        if (fixedFirst != NONE && fixedFirst == fixedLast) {
+            throw new IllegalArgumentException("첫 방문과 마지막 방문을 같은 지점으로 고정할 수 없습니다.");
+        }
+        long[][] cost = normalize(durations);
+
+        // 현재 순서 (고정 지점만 양 끝으로 이동)
+        int[] best = improve(cost, currentOrder(size, fixedFirst, fixedLast), fixedFirst, fixedLast);
+        long bestCost = pathCost(cost, best);
+        if (size <= 3) {
+            return best;
+        }
+
+        for (int start = 0; start < size; start++) {
+            if (fixedFirst != NONE && start != fixedFirst || start == fixedLast) {
+                continue;
+            }
+            int[] candidate = improve(cost, nearestNeighbour(cost, start, fixedLast), fixedFirst, fixedLast);
+            long candidateCost = pathCost(cost, candidate);
+            if (candidateCost < bestCost) {
+                best = candidate;
+                bestCost = candidateCost;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 전체 행렬 중 indices 에 해당하는 지점만으로 방문 순서를 최적화 (고정 지점 없음)
+     * @return 최적화된 방문 순서 (전체 행렬 기준 인덱스)
+     */
+    public static int[] optimizeSubset(long[][] durations, int[] indices) {
+        long[][] subset = new long[indices.length][indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            for (int j = 0; j < indices.length; j++) {
+                subset[i][j] = durations[indices[i]][indices[j]];
+            }
+        }
+        int[] order = optimize(subset, NONE, NONE);
+        int[] route = new int[order.length];
+        for (int k = 0; k < order.length; k++) {
+            route[k] = indices[order[k]];
+        }
+        return route;
+    }
+
+    /** 방문 순서대로 이동했을 때의 총 비용 (경로 없는 칸은 벌점 포함) */
+    public static long pathCost(long[][] durations, int[] order) {
+        long total = 0;
+        for (int k = 0; k + 1 < order.length; k++) {
+            total += cost(durations, order[k], order[k + 1]);
+        }
+        return total;
+    }
+
+    private static long[][] normalize(long[][] durations) {
+        int size = durations.length;
+        long[][] cost = new long[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                cost[i][j] = i == j ? 0 : cost(durations, i, j);
+            }
+        }
+        return cost;
+    }
+
+    private static long cost(long[][] durations, int from, int to) {
+        long value = durations[from][to];
+        return value < 0 ? UNREACHABLE_PENALTY : value;
+    }
+
+    private static int[] currentOrder(int size, int fixedFirst, int fixedLast) {
+        int[] order = new int[size];
+        int position = 0;
+        if (fixedFirst != NONE) {
+            order[position++] = fixedFirst;
+        }
+        for (int i = 0; i < size; i++) {
+            if (i != fixedFirst && i != fixedLast) {
+                order[position++] = i;
+            }
+        }
+        if (fixedLast != NONE) {
+            order[position] = fixedLast;
+        }
+        return order;
+    }
+
+    private static int[] nearestNeighbour(long[][] cost, int start, int fixedLast) {
+        int size = cost.length;
+        int[] order = new int[size];
+        boolean[] visited = new boolean[size];
+        order[0] = start;
+        visited[start] = true;
+        if (fixedLast != NONE) {
+            order[size - 1] = fixedLast;
+            visited[fixedLast] = true;
+        }
+        int last = fixedLast == NONE ? size : size - 1;
+        for (int position = 1; position < last; position++) {
+            int from = order[position - 1];
+            int next = NONE;
+            for (int candidate = 0; candidate < size; candidate++) {
+                if (!visited[candidate] && (next == NONE || cost[from][candidate] < cost[from][next])) {
+                    next = candidate;
+                }
+            }
+            order[position] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+
+    private static int[] improve(long[][] cost, int[] order, int fixedFirst, int fixedLast) {
+        // 고정 지점을 제외한 움직일 수 있는 구간 [low, high]
+        int low = fixedFirst == NONE ? 0 : 1;
+        int high = fixedLast == NONE ? order.length - 1 : order.length - 2;
+        for (int pass = 0; pass < MAX_PASSES; pass++) {
+            boolean improved = twoOpt(cost, order, low, high);
+            improved |= orOpt(cost, order, low, high);
+            if (!improved) {
+                break;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * 2-opt: order[i..j] 를 뒤집어 비용이 줄면 적용
+     * 비대칭 행렬이므로 뒤집힌 구간 내부 비용(정방향/역방향 누적)도 함께 비교합니다.
+     */
+    private static boolean twoOpt(long[][] cost, int[] order, int low, int high) {
+        boolean improved = false;
+        for (int i = low; i < high; i++) {
+            long forward = 0;
+            long backward = 0;
+            for (int j = i + 1; j <= high; j++) {
+                forward += cost[order[j - 1]][order[j]];
+                backward += cost[order[j]][order[j - 1]];
+
+                long before = forward;
+                long after = backward;
+                if (i > 0) {
+                    before += cost[order[i - 1]][order[i]];
+                    after += cost[order[i - 1]][order[j]];
+                }
+                if (j + 1 < order.length) {
+                    before += cost[order[j]][order[j + 1]];
+                    after += cost[order[i]][order[j + 1]];
+                }
+                if (after < before) {
+                    reverse(order, i, j);
+                    improved = true;
+                    // 뒤집은 뒤 구간 누적값을 다시 계산
+                    forward = 0;
+                    backward = 0;
+                    for (int k = i + 1; k <= j; k++) {
+                        forward += cost[order[k - 1]][order[k]];
+                        backward += cost[order[k]][order[k - 1]];
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    /** Or-opt: 연속된 1~3개 지점(order[i..i+length-1])을 다른 위치로 옮겨 비용이 줄면 적용 */
+    private static boolean orOpt(long[][] cost, int[] order, int low, int high) {
+        boolean improved = false;
+        for (int length = 1; length <= MAX_OR_OPT_LENGTH; length++) {
+            for (int i = low; i + length - 1 <= high; i++) {
+                int end = i + length - 1;
+                int first = order[i];
+                int last = order[end];
+                int previous = i > 0 ? order[i - 1] : NONE;
+                int next = end + 1 < order.length ? order[end + 1] : NONE;
+
+                // 구간을 떼어낼 때 줄어드는 비용
+                long removeGain = edge(cost, previous, first) + edge(cost, last, next) - edge(cost, previous, next);
+
+                int bestPosition = 0;
+                long bestDelta = 0;
+                // position: 옮기기 전 기준 order[position] 뒤에 끼워 넣음 (-1 이면 맨 앞)
+                for (int position = low - 1; position <= high; position++) {
+                    if (position >= i - 1 && position <= end) {
+                        continue;
+                    }
+                    int before = position >= 0 ? order[position] : NONE;
+                    int after = position + 1 < order.length ? order[position + 1] : NONE;
+                    long insertCost = edge(cost, before, first) + edge(cost, last, after) - edge(cost, before, after);
+                    long delta = insertCost - removeGain;
+                    if (delta < bestDelta) {
+                        bestDelta = delta;
+                        bestPosition = position;
+                    }
+                }
+                if (bestDelta < 0) {
+                    move(order, i, length, bestPosition);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    // 경로 끝(NONE)과 이어지는 가상 간선은 비용 0
+    private static long edge(long[][] cost, int from, int to) {
+        if (from == NONE || to == NONE) {
+            return 0;
+        }
+        return cost[from][to];
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int temp = order[from];
+            order[from++] = order[to];
+            order[to--] = temp;
+        }
+    }
+
+    // order[start..start+length-1] 구간을 order[position] 뒤로 옮김 (position 은 옮기기 전 기준 인덱스)
+    private static void move(int[] order, int start, int length, int position) {
+        int[] segment = new int[length];
+        System.arraycopy(order, start, segment, 0, length);
+        if (position < start) {
+            // 앞쪽으로: order[position+1..start-1] 을 뒤로 밀기
+            int shift = start - position - 1;
+            System.arraycopy(order, position + 1, order, position + 1 + length, shift);
+            System.arraycopy(segment, 0, order, position + 1, length);
+        } else {
+            // 뒤쪽으로: order[start+length..position] 을 앞으로 당기기
+            int shift = position - (start + length) + 1;
+            System.arraycopy(order, start + length, order, start, shift);
+            System.arraycopy(segment, 0, order, start + shift, length);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관광지 방문 순서/소속 일별 계획 일괄 변경
+ * 관광지마다 UPDATE 문을 따로 보내지 않고 JDBC 배치 한 번으로 갱신합니다.
+ */
+public interface SpotBatchRepository {
+
+    // 관광지 id → 새 visit_order 를 한 번의 JDBC 배치로 갱신 (영속성 컨텍스트는 갱신되지 않으므로 필요하면 다시 조회)
+    void batchUpdateVisitOrders(Map<Long, Integer> visitOrders);
+
+    // spotIds 관광지를 dailyPlanId 일별 계획으로 옮기고 목록 순서대로 visit_order 를 GAP 간격 키로 다시 매김
+    void batchMoveSpots(Long dailyPlanId, List<Long> spotIds);
+
+    // 한 번의 CASE UPDATE 로 dailyPlanId 일별 계획 소속 관광지의 visit_order 를 갱신하고 갱신된 행 수를 반환
+    // (다른 일별 계획으로 옮겨졌거나 삭제된 관광지는 갱신되지 않으므로 반환값이 visitOrders 크기보다 작아짐)
+    int updateVisitOrdersInDailyPlan(Long dailyPlanId, Map<Long, Integer> visitOrders);
+}
@@ -0,0 +1,68 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class SpotBatchRepositoryImpl implements SpotBatchRepository {
+
+    private static final String UPDATE_VISIT_ORDER_SQL =
+            "UPDATE spot SET visit_order = ?, updated_at = ? WHERE id = ?";
+
+    private static final String MOVE_SQL =
+            "UPDATE spot SET daily_plan_id = ?, visit_order = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchUpdateVisitOrders(Map<Long, Integer> visitOrders) {
+        if (visitOrders.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(visitOrders.size());
+        visitOrders.forEach((spotId, visitOrder) -> arguments.add(new Object[]{visitOrder, now, spotId}));
+        jdbcTemplate.batchUpdate(UPDATE_VISIT_ORDER_SQL, arguments);
+    }
+
+    @Override
+    public void batchMoveSpots(Long dailyPlanId, List<Long> spotIds) {
+        if (spotIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(spotIds.size());
+        for (int i = 0; i < spotIds.size(); i++) {
+            arguments.add(new Object[]{dailyPlanId, OrderKeys.initial(i), now, spotIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate(MOVE_SQL, arguments);
+    }
+
+    @Override
+    public int updateVisitOrdersInDailyPlan(Long dailyPlanId, Map<Long, Integer> visitOrders) {
+        if (visitOrders.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("UPDATE spot SET visit_order = CASE id");
+        List<Object> arguments = new ArrayList<>(visitOrders.size() * 3 + 2);
+        visitOrders.forEach((spotId, visitOrder) -> {
+            sql.append(" WHEN ? THEN ?");
+            arguments.add(spotId);
+            arguments.add(visitOrder);
+        });
+        sql.append(" END, updated_at = ? WHERE daily_plan_id = ? AND id IN (")
+                .append(String.join(", ", Collections.nCopies(visitOrders.size(), "?")))
+                .append(")");
+        arguments.add(Timestamp.valueOf(LocalDateTime.now()));
+        arguments.add(dailyPlanId);
+        arguments.addAll(visitOrders.keySet());
+        return jdbcTemplate.update(sql.toString(), arguments.toArray());
+    }
+}
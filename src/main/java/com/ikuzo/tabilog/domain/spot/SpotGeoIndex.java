@@ -0,0 +1,180 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelTimeEstimator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관광지 위치 인메모리 격자 색인
+ * 위도/경도를 CELL_DEGREES 단위 칸(약 1.1km)으로 나누어 칸별로 관광지를 모아 두고,
+ * 반경 검색은 반경을 덮는 칸만, k-최근접 검색은 기준 칸에서 바깥 고리 순서로 필요한 칸만 확인합니다.
+ * 쓰기(put/remove)는 직렬화하고, 검색은 락 없이 동시에 수행됩니다.
+ */
+public class SpotGeoIndex {
+
+    static final double CELL_DEGREES = 0.01;
+    private static final double METERS_PER_DEGREE_LAT = 110_574.0;
+    private static final double METERS_PER_DEGREE_LNG_AT_EQUATOR = 111_320.0;
+    private static final int LNG_CELLS = (int) Math.ceil(360 / CELL_DEGREES);
+    private static final int LAT_CELLS = (int) Math.ceil(180 / CELL_DEGREES);
+
+    public record Point(long spotId, long planId, String name, String address, SpotCategory category,
+                        double latitude, double longitude) {
+    }
+
+    public record Hit(Point point, double distanceMeters) {
+    }
+
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Point>> cells = new ConcurrentHashMap<>();
+    // 계획 단위 제거(removePlan)용 planId → spotId 목록 (쓰기 락 안에서만 접근)
+    private final Map<Long, Set<Long>> planSpots = new HashMap<>();
+
+    /** 관광지를 색인 (이미 있으면 교체) */
+    public synchronized void put(Point point) {
+        remove(point.spotId());
+        points.put(point.spotId(), point);
+        cells.computeIfAbsent(cellKey(latCell(point.latitude()), lngCell(point.longitude())),
+                key -> ConcurrentHashMap.newKeySet()).add(point);
+        planSpots.computeIfAbsent(point.planId(), key -> new HashSet<>()).add(point.spotId());
+    }
+
+    public synchronized void remove(long spotId) {
+        Point point = points.remove(spotId);
+        if (point == null) {
+            return;
+        }
+        long key = cellKey(latCell(point.latitude()), lngCell(point.longitude()));
+        Set<Point> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(point);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+        Set<Long> spotIds = planSpots.get(point.planId());
+        if (spotIds != null) {
+            spotIds.remove(spotId);
+            if (spotIds.isEmpty()) {
+                planSpots.remove(point.planId());
+            }
+        }
+    }
+
+    /** 계획에 속한 관광지를 모두 제거 */
+    public synchronized void removePlan(long planId) {
+        Set<Long> spotIds = planSpots.remove(planId);
+        if (spotIds != null) {
+            spotIds.forEach(this::remove);
+        }
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 반경 안의 관광지를 가까운 순으로 반환
+     * @param categories 비어 있으면 전체 카테고리
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusMeters, Set<SpotCategory> categories) {
+        int latRadius = (int) Math.ceil(radiusMeters / (METERS_PER_DEGREE_LAT * CELL_DEGREES));
+        int lngRadius = (int) Math.ceil(radiusMeters / minCellWidthMeters(latitude, latRadius));
+        int centerLat = latCell(latitude);
+        int centerLng = lngCell(longitude);
+
+        List<Hit> hits = new ArrayList<>();
+        for (int lat = centerLat - latRadius; lat <= centerLat + latRadius; lat++) {
+            // 경도 방향 칸 수가 전체를 넘으면 같은 칸을 두 번 보지 않도록 한 바퀴까지만
+            for (int lng = centerLng - Math.min(lngRadius, LNG_CELLS / 2);
+                 lng <= centerLng + Math.min(lngRadius, (LNG_CELLS - 1) / 2); lng++) {
+                collect(lat, lng, latitude, longitude, radiusMeters, categories, hits);
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits;
+    }
+
+    /**
+     * 가까운 관광지 k개를 가까운 순으로 반환 (maxRadiusMeters 밖은 제외)
+     * 기준 칸에서 고리를 한 겹씩 넓히다가, 다음 고리의 최소 거리가 k번째 거리보다 멀어지면 멈춥니다.
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k, double maxRadiusMeters, Set<SpotCategory> categories) {
+        if (k <= 0) {
+            return List.of();
+        }
+        int centerLat = latCell(latitude);
+        int centerLng = lngCell(longitude);
+        int latRing = (int) Math.ceil(maxRadiusMeters / (METERS_PER_DEGREE_LAT * CELL_DEGREES));
+        int maxRing = Math.min(Math.max(latRing, (int) Math.ceil(maxRadiusMeters / minCellWidthMeters(latitude, latRing))),
+                LNG_CELLS / 2);
+
+        List<Hit> hits = new ArrayList<>();
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int lat = centerLat - ring; lat <= centerLat + ring; lat++) {
+                boolean edgeRow = lat == centerLat - ring || lat == centerLat + ring;
+                int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+                for (int lng = centerLng - ring; lng <= centerLng + ring; lng += step) {
+                    collect(lat, lng, latitude, longitude, maxRadiusMeters, categories, hits);
+                }
+            }
+            if (hits.size() >= k) {
+                hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+                // 다음 고리(ring + 1)의 칸은 기준점에서 최소 ring 칸 너비만큼 떨어져 있음
+                double nextRingMinDistance = ring * Math.min(METERS_PER_DEGREE_LAT * CELL_DEGREES,
+                        minCellWidthMeters(latitude, ring + 1));
+                if (hits.get(k - 1).distanceMeters() <= nextRingMinDistance) {
+                    break;
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits.size() > k ? new ArrayList<>(hits.subList(0, k)) : hits;
+    }
+
+    private void collect(int lat, int lng, double latitude, double longitude, double radiusMeters,
+                         Set<SpotCategory> categories, List<Hit> hits) {
+        if (lat < 0 || lat >= LAT_CELLS) {
+            return;
+        }
+        Set<Point> cell = cells.get(cellKey(lat, Math.floorMod(lng, LNG_CELLS)));
+        if (cell == null) {
+            return;
+        }
+        for (Point point : cell) {
+            if (!categories.isEmpty() && !categories.contains(point.category())) {
+                continue;
+            }
+            double distance = TravelTimeEstimator.haversineMeters(latitude, longitude,
+                    point.latitude(), point.longitude());
+            if (distance <= radiusMeters) {
+                hits.add(new Hit(point, distance));
+            }
+        }
+    }
+
+    // 기준 위도에서 rows 칸 떨어진 곳까지 중 경도 한 칸의 가장 좁은 폭 (고위도일수록 좁아짐)
+    private static double minCellWidthMeters(double latitude, int rows) {
+        double farthestLatitude = Math.min(89.9, Math.abs(latitude) + (rows + 1) * CELL_DEGREES);
+        return METERS_PER_DEGREE_LNG_AT_EQUATOR * CELL_DEGREES * Math.cos(Math.toRadians(farthestLatitude));
+    }
+
+    private static int latCell(double latitude) {
+        return Math.min(LAT_CELLS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int lngCell(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LNG_CELLS);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return (long) latCell * LNG_CELLS + lngCell;
+    }
+}
@@ -1,15 +1,18 @@
 package com.ikuzo.tabilog.domain.spot;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SpotRepository extends JpaRepository<Spot, Long> {
+public interface SpotRepository extends JpaRepository<Spot, Long>, SpotBatchRepository {
     
     // 일별 계획의 모든 관광지 조회 (방문 순서대로)
     List<Spot> findAllByDailyPlanIdOrderByVisitOrderAsc(Long dailyPlanId);
@@ -17,10 +20,6 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
     // 특정 일별 계획의 관광지 조회
     Optional<Spot> findByIdAndDailyPlanId(Long id, Long dailyPlanId);
     
-    // 관광지 이름으로 검색
-    @Query("SELECT s FROM Spot s WHERE s.name LIKE %:name% ORDER BY s.name ASC")
-    List<Spot> findByNameContaining(@Param("name") String name);
-    
     // 카테고리별 관광지 조회
     List<Spot> findAllByCategoryOrderByNameAsc(SpotCategory category);
     
@@ -31,4 +30,42 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
     // 일별 계획의 최대 방문 순서 조회
     @Query("SELECT COALESCE(MAX(s.visitOrder), 0) FROM Spot s WHERE s.dailyPlan.id = :dailyPlanId")
     Integer findMaxVisitOrderByDailyPlanId(@Param("dailyPlanId") Long dailyPlanId);
+
+    // 여행 계획 전체의 관광지를 한 번에 조회 (일별 계획, 방문 순서대로)
+    @Query("SELECT s FROM Spot s WHERE s.dailyPlan.plan.id = :planId ORDER BY s.dailyPlan.id ASC, s.visitOrder ASC")
+    List<Spot> findAllByPlanIdOrderByVisitOrder(@Param("planId") Long planId);
+
+    // 검색 색인용 관광지 필드 ([id, planId, name, address, category]) 를 id 순서대로 조회
+    @Query("SELECT s.id, s.dailyPlan.plan.id, s.name, s.address, s.category FROM Spot s " +
+           "WHERE s.id > :afterId ORDER BY s.id ASC")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // since 이후 생성/수정된 관광지의 검색 색인용 필드 ([id, planId, name, address, category])
+    @Query("SELECT s.id, s.dailyPlan.plan.id, s.name, s.address, s.category FROM Spot s " +
+           "WHERE s.updatedAt >= :since ORDER BY s.id ASC")
+    List<Object[]> findSearchFieldsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 위치 색인용 관광지 필드 ([id, planId, name, address, category, latitude, longitude]) 를 id 순서대로 조회
+    // (좌표가 있는 공개 계획의 관광지만)
+    @Query("SELECT s.id, p.id, s.name, s.address, s.category, s.latitude, s.longitude FROM Spot s " +
+           "JOIN s.dailyPlan d JOIN d.plan p " +
+           "WHERE s.id > :afterId AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL " +
+           "AND p.isPublic = true AND p.user.publicAgreement = true ORDER BY s.id ASC")
+    List<Object[]> findGeoFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 계획들의 위치 색인용 관광지 필드 (좌표가 있는 공개 계획의 관광지만)
+    @Query("SELECT s.id, p.id, s.name, s.address, s.category, s.latitude, s.longitude FROM Spot s " +
+           "JOIN s.dailyPlan d JOIN d.plan p " +
+           "WHERE p.id IN :planIds AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL " +
+           "AND p.isPublic = true AND p.user.publicAgreement = true")
+    List<Object[]> findGeoFieldsByPlanIdIn(@Param("planIds") Collection<Long> planIds);
+
+    // since 이후 관광지가 생성/수정된 계획 id
+    @Query("SELECT DISTINCT s.dailyPlan.plan.id FROM Spot s WHERE s.updatedAt >= :since")
+    List<Long> findPlanIdsWithSpotsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // spotIds 중 아직 공개 계획에 남아 있는 관광지 id
+    @Query("SELECT s.id FROM Spot s WHERE s.id IN :spotIds " +
+           "AND s.dailyPlan.plan.isPublic = true AND s.dailyPlan.plan.user.publicAgreement = true")
+    List<Long> findPublicSpotIds(@Param("spotIds") Collection<Long> spotIds);
 }
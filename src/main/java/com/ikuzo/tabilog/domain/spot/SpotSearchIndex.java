@@ -0,0 +1,184 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관광지 검색용 인메모리 n-gram 역색인
+ * 이름/주소/카테고리를 정규화(NFKC, 소문자, 공백 제거)한 뒤 2-gram 으로 나누어 색인합니다.
+ * 띄어쓰기가 없거나 일정하지 않은 한국어/일본어 이름도 부분 문자열로 찾을 수 있습니다.
+ * 쓰기(put/remove)는 직렬화하고, 검색은 락 없이 동시에 수행됩니다.
+ */
+public class SpotSearchIndex {
+
+    private static final int GRAM = 2;
+
+    // 필드별 가중치 (이름 일치가 가장 중요)
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double CATEGORY_WEIGHT = 1.5;
+    private static final double ADDRESS_WEIGHT = 1.0;
+    private static final double NAME_CONTAINS_BONUS = 3.0;
+    private static final double NAME_PREFIX_BONUS = 1.0;
+    private static final double ADDRESS_CONTAINS_BONUS = 1.0;
+
+    public record Hit(long spotId, long planId, double score) {
+    }
+
+    private record Document(long planId, String name, String address, String category,
+                            Set<String> nameGrams, Set<String> addressGrams, Set<String> categoryGrams) {
+
+        Set<String> allGrams() {
+            Set<String> grams = new LinkedHashSet<>(nameGrams);
+            grams.addAll(addressGrams);
+            grams.addAll(categoryGrams);
+            return grams;
+        }
+    }
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /** 관광지를 색인 (이미 있으면 교체) */
+    public synchronized void put(long spotId, long planId, String name, String address, SpotCategory category) {
+        remove(spotId);
+        String normalizedName = normalize(name);
+        String normalizedAddress = normalize(address);
+        String normalizedCategory = category == null ? ""
+                : normalize(category.getDescription()) + "|" + normalize(category.name());
+        Document document = new Document(planId, normalizedName, normalizedAddress, normalizedCategory,
+                grams(normalizedName), grams(normalizedAddress), grams(normalizedCategory));
+        documents.put(spotId, document);
+        for (String gram : document.allGrams()) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(spotId);
+        }
+    }
+
+    public synchronized void remove(long spotId) {
+        Document document = documents.remove(spotId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.allGrams()) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(spotId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 검색어 n-gram 의 절반 이상이 일치하는 관광지를 점수 내림차순(같으면 id 내림차순, 최신 우선)으로 반환
+     */
+    public List<Hit> search(String query) {
+        String normalizedQuery = normalize(query);
+        Set<String> queryGrams = grams(normalizedQuery);
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        // 한 글자 검색어는 2-gram 색인으로 찾을 수 없으므로 전체 문서에서 포함 여부로 찾음
+        if (normalizedQuery.codePointCount(0, normalizedQuery.length()) < GRAM) {
+            List<Hit> hits = new ArrayList<>();
+            documents.forEach((spotId, document) -> {
+                if (document.name().contains(normalizedQuery) || document.address().contains(normalizedQuery)
+                        || document.category().contains(normalizedQuery)) {
+                    hits.add(new Hit(spotId, document.planId(), score(document, normalizedQuery, queryGrams)));
+                }
+            });
+            return sorted(hits);
+        }
+
+        Map<Long, Integer> matchedGrams = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                for (Long id : ids) {
+                    matchedGrams.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+
+        int minimumMatch = (queryGrams.size() + 1) / 2;
+        List<Hit> hits = new ArrayList<>();
+        matchedGrams.forEach((spotId, matched) -> {
+            Document document = documents.get(spotId);
+            if (matched >= minimumMatch && document != null) {
+                hits.add(new Hit(spotId, document.planId(), score(document, normalizedQuery, queryGrams)));
+            }
+        });
+        return sorted(hits);
+    }
+
+    private static List<Hit> sorted(List<Hit> hits) {
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Comparator.comparingLong(Hit::spotId).reversed()));
+        return hits;
+    }
+
+    private static double score(Document document, String query, Set<String> queryGrams) {
+        double score = NAME_WEIGHT * coverage(document.nameGrams(), queryGrams)
+                + CATEGORY_WEIGHT * coverage(document.categoryGrams(), queryGrams)
+                + ADDRESS_WEIGHT * coverage(document.addressGrams(), queryGrams);
+        if (document.name().contains(query)) {
+            score += NAME_CONTAINS_BONUS;
+            if (document.name().startsWith(query)) {
+                score += NAME_PREFIX_BONUS;
+            }
+        }
+        if (document.address().contains(query)) {
+            score += ADDRESS_CONTAINS_BONUS;
+        }
+        return score;
+    }
+
+    private static double coverage(Set<String> fieldGrams, Set<String> queryGrams) {
+        int matched = 0;
+        for (String gram : queryGrams) {
+            if (fieldGrams.contains(gram)) {
+                matched++;
+            }
+        }
+        return (double) matched / queryGrams.size();
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    // 한 글자 문자열은 그 글자 자체를 gram 으로 사용
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        if (codePoints.length > 0 && codePoints.length < GRAM) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + GRAM <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이동 구간 일괄 저장
+ * IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 않으므로 JDBC 배치로 직접 저장합니다.
+ */
+public interface TravelSegmentBatchRepository {
+
+    // 저장되지 않은 이동 구간들을 한 번의 JDBC 배치로 INSERT (id는 채워지지 않으므로 필요하면 다시 조회)
+    void batchInsert(List<TravelSegment> segments);
+
+    // 이동 구간 id → 새 segment_order 를 한 번의 JDBC 배치로 갱신 (영속성 컨텍스트는 갱신되지 않음)
+    void batchUpdateSegmentOrders(Map<Long, Integer> segmentOrders);
+}
@@ -0,0 +1,52 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class TravelSegmentBatchRepositoryImpl implements TravelSegmentBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO travel_segment (from_spot_id, to_spot_id, duration, travel_mode, segment_order, " +
+            "daily_plan_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SEGMENT_ORDER_SQL =
+            "UPDATE travel_segment SET segment_order = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<TravelSegment> segments) {
+        if (segments.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, segments, segments.size(), (ps, segment) -> {
+            ps.setLong(1, segment.getFromSpot().getId());
+            ps.setLong(2, segment.getToSpot().getId());
+            ps.setString(3, segment.getDuration());
+            ps.setString(4, segment.getTravelMode().name());
+            ps.setInt(5, segment.getSegmentOrder());
+            ps.setLong(6, segment.getDailyPlan().getId());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    @Override
+    public void batchUpdateSegmentOrders(Map<Long, Integer> segmentOrders) {
+        if (segmentOrders.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(segmentOrders.size());
+        segmentOrders.forEach((segmentId, segmentOrder) -> arguments.add(new Object[]{segmentOrder, now, segmentId}));
+        jdbcTemplate.batchUpdate(UPDATE_SEGMENT_ORDER_SQL, arguments);
+    }
+}
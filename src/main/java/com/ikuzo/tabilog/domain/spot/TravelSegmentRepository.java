@@ -1,6 +1,7 @@
 package com.ikuzo.tabilog.domain.spot;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -9,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TravelSegmentRepository extends JpaRepository<TravelSegment, Long> {
+public interface TravelSegmentRepository extends JpaRepository<TravelSegment, Long>, TravelSegmentBatchRepository {
     
     // 일별 계획의 모든 이동 구간 조회 (순서대로)
     List<TravelSegment> findAllByDailyPlanIdOrderBySegmentOrderAsc(Long dailyPlanId);
@@ -30,4 +31,19 @@ public interface TravelSegmentRepository extends JpaRepository<TravelSegment, Lo
     // 일별 계획의 최대 이동 구간 순서 조회
     @Query("SELECT COALESCE(MAX(ts.segmentOrder), 0) FROM TravelSegment ts WHERE ts.dailyPlan.id = :dailyPlanId")
     Integer findMaxSegmentOrderByDailyPlanId(@Param("dailyPlanId") Long dailyPlanId);
+
+    // 여행 계획 전체의 이동 구간을 출발/도착 관광지와 함께 한 번에 조회
+    @Query("SELECT ts FROM TravelSegment ts JOIN FETCH ts.fromSpot JOIN FETCH ts.toSpot " +
+           "WHERE ts.dailyPlan.plan.id = :planId ORDER BY ts.dailyPlan.id ASC, ts.segmentOrder ASC")
+    List<TravelSegment> findAllByPlanIdWithSpots(@Param("planId") Long planId);
+
+    // 일별 계획의 이동 구간을 출발/도착 관광지와 함께 조회 (순서대로)
+    @Query("SELECT ts FROM TravelSegment ts JOIN FETCH ts.fromSpot JOIN FETCH ts.toSpot " +
+           "WHERE ts.dailyPlan.id = :dailyPlanId ORDER BY ts.segmentOrder ASC")
+    List<TravelSegment> findAllByDailyPlanIdWithSpots(@Param("dailyPlanId") Long dailyPlanId);
+
+    // 일별 계획의 이동 구간 일괄 삭제 (영속성 컨텍스트는 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TravelSegment ts WHERE ts.dailyPlan.id = :dailyPlanId")
+    int deleteAllByDailyPlanId(@Param("dailyPlanId") Long dailyPlanId);
 }
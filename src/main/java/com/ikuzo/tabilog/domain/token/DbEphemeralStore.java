@@ -0,0 +1,123 @@
+package com.ikuzo.tabilog.domain.token;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB(ephemeral_token) 기반 EphemeralStore (기본값)
+ * 모든 서버가 같은 테이블을 보므로 로드밸런서 뒤의 어느 서버에서 인증/재설정을 해도 됩니다.
+ * 시도 횟수 갱신은 행 잠금으로 직렬화하고, 만료된 행은 EphemeralStoreSweeper 가 나누어 지웁니다.
+ */
+@Component
+@ConditionalOnProperty(name = "ephemeral.store.type", havingValue = "db", matchIfMissing = true)
+@Transactional
+public class DbEphemeralStore implements EphemeralStore {
+
+    private static final int DELETE_CHUNK_SIZE = 500;
+
+    private final EphemeralTokenRepository ephemeralTokenRepository;
+    private final int maxEntriesPerNamespace;
+    private final Clock clock;
+
+    @Autowired
+    public DbEphemeralStore(EphemeralTokenRepository ephemeralTokenRepository,
+                            @Value("${ephemeral.store.max-entries-per-namespace:100000}") int maxEntriesPerNamespace) {
+        this(ephemeralTokenRepository, maxEntriesPerNamespace, Clock.systemDefaultZone());
+    }
+
+    DbEphemeralStore(EphemeralTokenRepository ephemeralTokenRepository, int maxEntriesPerNamespace, Clock clock) {
+        this.ephemeralTokenRepository = ephemeralTokenRepository;
+        this.maxEntriesPerNamespace = maxEntriesPerNamespace;
+        this.clock = clock;
+    }
+
+    @Override
+    public void put(String namespace, String key, String value, Duration ttl) {
+        if (ephemeralTokenRepository.findByNamespaceAndTokenKey(namespace, key).isEmpty()) {
+            long overflow = ephemeralTokenRepository.countByNamespace(namespace) - maxEntriesPerNamespace + 1;
+            if (overflow > 0) {
+                ephemeralTokenRepository.deleteByIdIn(ephemeralTokenRepository.findOldestIds(namespace,
+                        PageRequest.of(0, (int) Math.min(overflow, DELETE_CHUNK_SIZE))));
+            }
+        }
+        ephemeralTokenRepository.upsert(namespace, key, value, now().plus(ttl));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> get(String namespace, String key) {
+        LocalDateTime now = now();
+        return ephemeralTokenRepository.findByNamespaceAndTokenKey(namespace, key)
+                .filter(token -> !token.isExpired(now))
+                .map(EphemeralToken::getTokenValue);
+    }
+
+    @Override
+    public Optional<String> take(String namespace, String key) {
+        Optional<EphemeralToken> token = ephemeralTokenRepository.findByNamespaceAndTokenKey(namespace, key);
+        if (token.isEmpty()) {
+            return Optional.empty();
+        }
+        // 삭제에 성공한 요청만 값을 받음
+        boolean deleted = ephemeralTokenRepository.deleteByKey(namespace, key) == 1;
+        return deleted && !token.get().isExpired(now()) ? Optional.of(token.get().getTokenValue()) : Optional.empty();
+    }
+
+    @Override
+    public void remove(String namespace, String key) {
+        ephemeralTokenRepository.deleteByKey(namespace, key);
+    }
+
+    @Override
+    public VerifyResult verify(String namespace, String key, String candidate, int maxAttempts) {
+        Optional<EphemeralToken> found = ephemeralTokenRepository.findForUpdate(namespace, key);
+        if (found.isEmpty()) {
+            return VerifyResult.NOT_FOUND;
+        }
+        EphemeralToken token = found.get();
+        if (token.isExpired(now())) {
+            ephemeralTokenRepository.delete(token);
+            return VerifyResult.NOT_FOUND;
+        }
+        if (token.getTokenValue().equals(candidate)) {
+            ephemeralTokenRepository.delete(token);
+            return VerifyResult.MATCHED;
+        }
+        if (token.increaseAttempts() >= maxAttempts) {
+            ephemeralTokenRepository.delete(token);
+            return VerifyResult.LOCKED;
+        }
+        return VerifyResult.MISMATCH;
+    }
+
+    /** 만료된 행을 DELETE_CHUNK_SIZE 개씩 각각의 트랜잭션으로 삭제 */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int removeExpired() {
+        LocalDateTime now = now();
+        int removed = 0;
+        List<Long> ids;
+        do {
+            ids = ephemeralTokenRepository.findExpiredIds(now, PageRequest.of(0, DELETE_CHUNK_SIZE));
+            if (!ids.isEmpty()) {
+                removed += ephemeralTokenRepository.deleteByIdIn(ids);
+            }
+        } while (ids.size() == DELETE_CHUNK_SIZE);
+        return removed;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+}
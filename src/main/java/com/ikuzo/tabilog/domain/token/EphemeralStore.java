@@ -0,0 +1,39 @@
+package com.ikuzo.tabilog.domain.token;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 짧게 살아 있는 값 저장소 (이메일 인증코드, 비밀번호 재설정 토큰 등)
+ * 값은 (namespace, key) 로 구분하며 ttl 이 지나면 조회되지 않고 removeExpired 에서 지워집니다.
+ * namespace 마다 최대 개수가 있어 넘치면 가장 먼저 저장된 값부터 밀려납니다.
+ * 여러 서버에서 같은 값을 보려면 DB 구현(DbEphemeralStore, 기본값)을 사용합니다.
+ */
+public interface EphemeralStore {
+
+    enum VerifyResult {
+        MATCHED,    // 일치 (값은 삭제됨)
+        MISMATCH,   // 불일치 (시도 횟수 증가)
+        LOCKED,     // 시도 횟수 초과 (값은 삭제됨)
+        NOT_FOUND   // 없거나 만료됨
+    }
+
+    /** 값 저장 (같은 key 의 기존 값과 시도 횟수는 대체됨) */
+    void put(String namespace, String key, String value, Duration ttl);
+
+    Optional<String> get(String namespace, String key);
+
+    /** 값을 꺼내면서 삭제 (동시에 여러 요청이 와도 한 요청만 값을 받음) */
+    Optional<String> take(String namespace, String key);
+
+    void remove(String namespace, String key);
+
+    /**
+     * 저장된 값과 candidate 비교
+     * 일치하면 삭제하고, 틀리면 시도 횟수를 올려 maxAttempts 번 틀린 값은 삭제합니다.
+     */
+    VerifyResult verify(String namespace, String key, String candidate, int maxAttempts);
+
+    /** @return 지운 값 수 */
+    int removeExpired();
+}
@@ -0,0 +1,29 @@
+package com.ikuzo.tabilog.domain.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * EphemeralStore 의 만료된 값 정리 (조회되지 않은 값도 쌓이지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EphemeralStoreSweeper {
+
+    private final EphemeralStore ephemeralStore;
+
+    @Scheduled(fixedDelayString = "${ephemeral.store.sweep-interval-ms:30000}")
+    public void sweep() {
+        try {
+            int removed = ephemeralStore.removeExpired();
+            if (removed > 0) {
+                log.debug("만료된 임시 값 {}개 삭제", removed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료된 임시 값 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ikuzo.tabilog.domain.token;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DbEphemeralStore 의 저장 행 (namespace, key 당 하나)
+ */
+@Entity
+@Table(name = "ephemeral_token", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_ephemeral_token", columnNames = {"namespace", "token_key"})
+}, indexes = {
+    @Index(name = "idx_ephemeral_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EphemeralToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String namespace;
+
+    @Column(name = "token_key", nullable = false, length = 191)
+    private String tokenKey;
+
+    @Column(name = "token_value", nullable = false)
+    private String tokenValue;
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public EphemeralToken(String namespace, String tokenKey, String tokenValue, LocalDateTime expiresAt) {
+        this.namespace = namespace;
+        this.tokenKey = tokenKey;
+        this.tokenValue = tokenValue;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /** @return 증가한 시도 횟수 */
+    public int increaseAttempts() {
+        return ++attempts;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ikuzo.tabilog.domain.token;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EphemeralTokenRepository extends JpaRepository<EphemeralToken, Long> {
+
+    Optional<EphemeralToken> findByNamespaceAndTokenKey(String namespace, String tokenKey);
+
+    // 시도 횟수 갱신/일회성 사용을 위해 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM EphemeralToken t WHERE t.namespace = :namespace AND t.tokenKey = :tokenKey")
+    Optional<EphemeralToken> findForUpdate(@Param("namespace") String namespace, @Param("tokenKey") String tokenKey);
+
+    // 값 저장 (같은 key 가 있으면 값/만료 시각을 바꾸고 시도 횟수를 초기화)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO ephemeral_token (namespace, token_key, token_value, attempts, expires_at) " +
+                   "VALUES (:namespace, :tokenKey, :tokenValue, 0, :expiresAt) " +
+                   "ON DUPLICATE KEY UPDATE token_value = :tokenValue, attempts = 0, expires_at = :expiresAt",
+           nativeQuery = true)
+    int upsert(@Param("namespace") String namespace, @Param("tokenKey") String tokenKey,
+               @Param("tokenValue") String tokenValue, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM EphemeralToken t WHERE t.namespace = :namespace AND t.tokenKey = :tokenKey")
+    int deleteByKey(@Param("namespace") String namespace, @Param("tokenKey") String tokenKey);
+
+    long countByNamespace(String namespace);
+
+    // 개수 초과 시 밀어낼 행 (먼저 저장된 순)
+    @Query("SELECT t.id FROM EphemeralToken t WHERE t.namespace = :namespace ORDER BY t.id")
+    List<Long> findOldestIds(@Param("namespace") String namespace, Pageable pageable);
+
+    // 만료된 행 (id 순, 나누어 삭제)
+    @Query("SELECT t.id FROM EphemeralToken t WHERE t.expiresAt <= :now ORDER BY t.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EphemeralToken t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
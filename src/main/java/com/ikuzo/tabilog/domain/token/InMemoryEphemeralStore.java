@@ -0,0 +1,180 @@
+package com.ikuzo.tabilog.domain.token;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 메모리 기반 EphemeralStore (서버 한 대, 로컬 개발용: ephemeral.store.type=memory)
+ * namespace 별로 저장 순서를 유지하는 맵에 담아 최대 개수를 넘으면 가장 먼저 저장된 값을 밀어내고,
+ * 만료는 타이머 휠(WHEEL_SIZE 칸, 칸당 tickMillis)로 처리합니다.
+ * 값은 만료 시각이 속한 칸에 들어가고, removeExpired 는 지난번 이후 지나간 칸만 확인하므로 전체를 훑지 않습니다.
+ * (휠 한 바퀴보다 긴 ttl 의 값은 칸을 지날 때 만료 전이면 그대로 남아 다음 바퀴에 다시 확인됩니다.)
+ */
+@Component
+@ConditionalOnProperty(name = "ephemeral.store.type", havingValue = "memory")
+public class InMemoryEphemeralStore implements EphemeralStore {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final Map<String, LinkedHashMap<String, Entry>> namespaces = new HashMap<>();
+    private final List<Set<Entry>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final int maxEntriesPerNamespace;
+    private final long tickMillis;
+    private final Clock clock;
+    private long lastTick;
+
+    @Autowired
+    public InMemoryEphemeralStore(@Value("${ephemeral.store.max-entries-per-namespace:100000}") int maxEntriesPerNamespace) {
+        this(maxEntriesPerNamespace, 1000L, Clock.systemUTC());
+    }
+
+    InMemoryEphemeralStore(int maxEntriesPerNamespace, long tickMillis, Clock clock) {
+        this.maxEntriesPerNamespace = maxEntriesPerNamespace;
+        this.tickMillis = tickMillis;
+        this.clock = clock;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new HashSet<>());
+        }
+        this.lastTick = clock.millis() / tickMillis;
+    }
+
+    private static final class Entry {
+        final String namespace;
+        final String key;
+        final String value;
+        final long expiresAtMillis;
+        int attempts;
+
+        Entry(String namespace, String key, String value, long expiresAtMillis) {
+            this.namespace = namespace;
+            this.key = key;
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    @Override
+    public synchronized void put(String namespace, String key, String value, Duration ttl) {
+        LinkedHashMap<String, Entry> entries = namespaces.computeIfAbsent(namespace, ns -> new LinkedHashMap<>());
+        unlink(entries.remove(key));
+        Iterator<Entry> oldest = entries.values().iterator();
+        while (entries.size() >= maxEntriesPerNamespace && oldest.hasNext()) {
+            Entry evicted = oldest.next();
+            oldest.remove();
+            slot(evicted).remove(evicted);
+        }
+        Entry entry = new Entry(namespace, key, value, clock.millis() + ttl.toMillis());
+        entries.put(key, entry);
+        slot(entry).add(entry);
+    }
+
+    @Override
+    public synchronized Optional<String> get(String namespace, String key) {
+        return Optional.ofNullable(live(namespace, key)).map(entry -> entry.value);
+    }
+
+    @Override
+    public synchronized Optional<String> take(String namespace, String key) {
+        Entry entry = live(namespace, key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        delete(entry);
+        return Optional.of(entry.value);
+    }
+
+    @Override
+    public synchronized void remove(String namespace, String key) {
+        LinkedHashMap<String, Entry> entries = namespaces.get(namespace);
+        if (entries != null) {
+            unlink(entries.remove(key));
+        }
+    }
+
+    @Override
+    public synchronized VerifyResult verify(String namespace, String key, String candidate, int maxAttempts) {
+        Entry entry = live(namespace, key);
+        if (entry == null) {
+            return VerifyResult.NOT_FOUND;
+        }
+        if (entry.value.equals(candidate)) {
+            delete(entry);
+            return VerifyResult.MATCHED;
+        }
+        if (++entry.attempts >= maxAttempts) {
+            delete(entry);
+            return VerifyResult.LOCKED;
+        }
+        return VerifyResult.MISMATCH;
+    }
+
+    /** 지난 호출 이후 지나간 칸(최대 한 바퀴)의 만료된 값 삭제 */
+    @Override
+    public synchronized int removeExpired() {
+        long now = clock.millis();
+        long currentTick = now / tickMillis;
+        long ticks = Math.min(currentTick - lastTick + 1, WHEEL_SIZE);
+        int removed = 0;
+        for (long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+            Iterator<Entry> iterator = wheel.get(Math.floorMod(tick, WHEEL_SIZE)).iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.expiresAtMillis <= now) {
+                    iterator.remove();
+                    LinkedHashMap<String, Entry> entries = namespaces.get(entry.namespace);
+                    if (entries != null && entries.get(entry.key) == entry) {
+                        entries.remove(entry.key);
+                    }
+                    removed++;
+                }
+            }
+        }
+        lastTick = currentTick;
+        return removed;
+    }
+
+    synchronized int size(String namespace) {
+        LinkedHashMap<String, Entry> entries = namespaces.get(namespace);
+        return entries == null ? 0 : entries.size();
+    }
+
+    /** 만료되지 않은 값 (만료됐으면 바로 삭제) */
+    private Entry live(String namespace, String key) {
+        LinkedHashMap<String, Entry> entries = namespaces.get(namespace);
+        Entry entry = entries == null ? null : entries.get(key);
+        if (entry != null && entry.expiresAtMillis <= clock.millis()) {
+            delete(entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private void delete(Entry entry) {
+        namespaces.get(entry.namespace).remove(entry.key);
+        slot(entry).remove(entry);
+    }
+
+    private void unlink(Entry entry) {
+        if (entry != null) {
+            slot(entry).remove(entry);
+        }
+    }
+
+    private Set<Entry> slot(Entry entry) {
+        return wheel.get((int) Math.floorMod(entry.expiresAtMillis / tickMillis, (long) WHEEL_SIZE));
+    }
+}
@@ -1,9 +1,17 @@
 package com.ikuzo.tabilog.domain.token;
 
 import com.ikuzo.tabilog.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +19,14 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByToken(String token);
     Optional<RefreshToken> findByUser(User user);
     int deleteByUser(User user);
+
+    // 만료된 토큰 id (afterId 이후, id 순 - 나누어 삭제)
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.id > :afterId AND t.expiryDate < :now ORDER BY t.id")
+    List<Long> findExpiredIdsAfter(@Param("afterId") Long afterId, @Param("now") Instant now, Pageable pageable);
+
+    // 조회 이후 재발급된 토큰은 제외하고 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.id IN :ids AND t.expiryDate < :now")
+    int deleteExpiredByIdIn(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
 }
@@ -7,7 +7,9 @@ import com.ikuzo.tabilog.dto.request.PasswordResetConfirmRequest;
 import com.ikuzo.tabilog.dto.response.MyPageResponse;
 import com.ikuzo.tabilog.exception.DuplicateResourceException;
 import com.ikuzo.tabilog.exception.UserNotFoundException;
+import com.ikuzo.tabilog.domain.token.EphemeralStore;
 import com.ikuzo.tabilog.domain.token.RefreshTokenService;
+import com.ikuzo.tabilog.security.services.UserPrincipalCache;
 import com.ikuzo.tabilog.service.PlanInvitationService;
 import com.ikuzo.tabilog.service.EmailService;
 import lombok.RequiredArgsConstructor;
@@ -16,10 +18,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.time.Duration;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Transactional(readOnly = true) // 기본적으로 모든 메소드는 읽기 전용 트랜잭션으로 설정합니다.
@@ -30,20 +30,28 @@ public class UserService {
     private final PlanInvitationService planInvitationService;
     private final EmailService emailService;
     private final RefreshTokenService refreshTokenService;
+    private final UserPrincipalCache userPrincipalCache;
 
-    // 비밀번호 재설정 토큰 저장 (메모리 기반, 실제 운영에서는 Redis 등 사용 권장)
-    private final Map<String, PasswordResetToken> passwordResetTokens = new ConcurrentHashMap<>();
+    // 비밀번호 재설정 토큰 (토큰 → 사용자 ID, 사용자 ID → 토큰), 여러 서버가 함께 보는 EphemeralStore 에 저장
+    private static final String RESET_TOKEN_NAMESPACE = "password-reset";
+    private static final String RESET_TOKEN_BY_USER_NAMESPACE = "password-reset-user";
+    private static final Duration RESET_TOKEN_TTL = Duration.ofMinutes(30);
+    private final EphemeralStore ephemeralStore;
 
     public UserService(UserRepository userRepository, 
                       PasswordEncoder passwordEncoder,
                       @Lazy PlanInvitationService planInvitationService,
                       EmailService emailService,
-                      RefreshTokenService refreshTokenService) {
+                      RefreshTokenService refreshTokenService,
+                      UserPrincipalCache userPrincipalCache,
+                      EphemeralStore ephemeralStore) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.planInvitationService = planInvitationService;
         this.emailService = emailService;
         this.refreshTokenService = refreshTokenService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.ephemeralStore = ephemeralStore;
     }
 
     /**
@@ -167,6 +175,7 @@ public class UserService {
 
         // Entity의 update 메소드를 호출하여 변경 (Dirty Checking 활용)
         user.updateProfile(user.getFirstName(), user.getLastName(), request.getNickname(), request.getPhoneNumber());
+        userPrincipalCache.evict(userId);
 
         return user;
         // @Transactional 어노테이션 덕분에 user 객체가 변경되면,
@@ -193,6 +202,7 @@ public class UserService {
 
         // 새 비밀번호로 업데이트
         user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
+        userPrincipalCache.evict(userId);
     }
 
     /**
@@ -206,13 +216,14 @@ public class UserService {
         // 1. Refresh Token 삭제 (로그아웃 처리)
         refreshTokenService.deleteByUserId(userId);
         
-        // 2. 비밀번호 재설정 토큰 삭제 (메모리에서)
-        passwordResetTokens.entrySet().removeIf(entry -> entry.getValue().getUserId().equals(userId));
+        // 2. 비밀번호 재설정 토큰 삭제
+        removeResetToken(userId);
         
         // 3. 사용자 삭제 (Cascade로 관련 데이터 자동 삭제)
         // - PlanMember (cascade = CascadeType.ALL, orphanRemoval = true)
         // - 관련된 모든 플랜 멤버십이 자동으로 삭제됨
         userRepository.deleteById(userId);
+        userPrincipalCache.evict(userId);
         
         // 4. 로그 출력
         System.out.println("회원탈퇴 완료 - 사용자 ID: " + userId + ", 이메일: " + user.getEmail());
@@ -251,16 +262,10 @@ public class UserService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("해당 이메일로 등록된 사용자를 찾을 수 없습니다."));
         
-        // 기존 토큰 제거
-        passwordResetTokens.entrySet().removeIf(entry -> entry.getValue().getUserId().equals(user.getId()));
-        
-        // 새 토큰 생성
-        String token = UUID.randomUUID().toString();
+        // 새 토큰 생성 및 저장 (기존 토큰은 폐기, 30분 유효)
+        String token = issueResetToken(user.getId());
         String resetUrl = "http://localhost:5173/reset-password?token=" + token;
         
-        // 토큰 저장 (30분 유효)
-        passwordResetTokens.put(token, new PasswordResetToken(user.getId(), user.getEmail(), LocalDateTime.now().plusMinutes(30)));
-        
         // 이메일 전송
         emailService.sendPasswordResetEmail(user.getEmail(), user.getNickname(), resetUrl);
     }
@@ -273,16 +278,12 @@ public class UserService {
     }
 
     // 비밀번호 재설정: 인증코드 검증 성공 시 토큰 발급
+    @Transactional
     public String createResetTokenAfterCodeVerified(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("해당 이메일로 등록된 사용자를 찾을 수 없습니다."));
         
-        // 기존 토큰 제거
-        passwordResetTokens.entrySet().removeIf(entry -> entry.getValue().getUserId().equals(user.getId()));
-        
-        String token = UUID.randomUUID().toString();
-        passwordResetTokens.put(token, new PasswordResetToken(user.getId(), user.getEmail(), LocalDateTime.now().plusMinutes(30)));
-        return token;
+        return issueResetToken(user.getId());
     }
 
     /**
@@ -295,24 +296,17 @@ public class UserService {
             throw new IllegalArgumentException("새 비밀번호가 일치하지 않습니다.");
         }
         
-        // 토큰 검증
-        PasswordResetToken tokenInfo = passwordResetTokens.get(request.getToken());
-        if (tokenInfo == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-        
-        if (LocalDateTime.now().isAfter(tokenInfo.getExpiresAt())) {
-            passwordResetTokens.remove(request.getToken());
-            throw new IllegalArgumentException("만료된 토큰입니다.");
-        }
+        // 토큰 검증 및 제거 (일회성 사용, 이후 실패하면 트랜잭션과 함께 되돌아감)
+        Long userId = ephemeralStore.take(RESET_TOKEN_NAMESPACE, request.getToken())
+                .map(Long::valueOf)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않거나 만료된 토큰입니다."));
+        ephemeralStore.remove(RESET_TOKEN_BY_USER_NAMESPACE, userId.toString());
         
         // 사용자 조회 및 비밀번호 업데이트 (명시적 저장)
-        User user = getUserById(tokenInfo.getUserId());
+        User user = getUserById(userId);
         user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
-
-        // 토큰 제거 (일회성 사용)
-        passwordResetTokens.remove(request.getToken());
+        userPrincipalCache.evict(user.getId());
     }
 
     /**
@@ -338,29 +332,18 @@ public class UserService {
     }
 
     /**
-     * 비밀번호 재설정 토큰 정보를 담는 내부 클래스
+     * 비밀번호 재설정 토큰 발급 (사용자의 기존 토큰은 폐기)
      */
-    private static class PasswordResetToken {
-        private final Long userId;
-        private final String email;
-        private final LocalDateTime expiresAt;
-
-        public PasswordResetToken(Long userId, String email, LocalDateTime expiresAt) {
-            this.userId = userId;
-            this.email = email;
-            this.expiresAt = expiresAt;
-        }
-
-        public Long getUserId() {
-            return userId;
-        }
-
-        public String getEmail() {
-            return email;
-        }
+    private String issueResetToken(Long userId) {
+        removeResetToken(userId);
+        String token = UUID.randomUUID().toString();
+        ephemeralStore.put(RESET_TOKEN_NAMESPACE, token, userId.toString(), RESET_TOKEN_TTL);
+        ephemeralStore.put(RESET_TOKEN_BY_USER_NAMESPACE, userId.toString(), token, RESET_TOKEN_TTL);
+        return token;
+    }
 
-        public LocalDateTime getExpiresAt() {
-            return expiresAt;
-        }
+    private void removeResetToken(Long userId) {
+        ephemeralStore.take(RESET_TOKEN_BY_USER_NAMESPACE, userId.toString())
+                .ifPresent(token -> ephemeralStore.remove(RESET_TOKEN_NAMESPACE, token));
     }
-}
\ No newline at end of file
+}
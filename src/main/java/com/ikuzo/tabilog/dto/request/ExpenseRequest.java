@@ -21,6 +21,8 @@ public class ExpenseRequest {
     private Long planId;
     
     private Long spotId; // Optional
+
+    private Long paidByUserId; // Optional (결제한 플랜 멤버, 없으면 플랜 작성자)
     
     @NotBlank(message = "지출 항목은 필수입니다")
     private String item;
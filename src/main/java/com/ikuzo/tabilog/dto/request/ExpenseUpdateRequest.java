@@ -29,4 +29,6 @@ public class ExpenseUpdateRequest {
     
     @NotNull(message = "지출 날짜는 필수입니다")
     private LocalDate expenseDate;
+    
+    private Long paidByUserId; // Optional (없으면 결제자를 바꾸지 않음)
 }
@@ -0,0 +1,38 @@
+package com.ikuzo.tabilog.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 날 일정 재배치 확정 요청
+ * 미리보기에서 받은 날별 관광지 목록을 그대로(또는 수정해서) 보내면 그 배치대로 저장합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItineraryBalanceRequest {
+
+    @NotEmpty(message = "일별 배치는 필수입니다")
+    @Valid
+    private List<DayAssignment> days;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DayAssignment {
+        @NotNull(message = "일별 계획 ID는 필수입니다")
+        private Long dailyPlanId;
+
+        @NotNull(message = "관광지 목록은 필수입니다")
+        private List<Long> spotIds; // 방문 순서대로
+    }
+}
@@ -0,0 +1,35 @@
+package com.ikuzo.tabilog.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementRequest {
+
+    // 멤버별 분담 가중치 (지정하지 않은 멤버는 1, 0이면 분담하지 않음)
+    @Valid
+    private List<MemberWeight> weights;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MemberWeight {
+        @NotNull(message = "사용자 ID는 필수입니다")
+        private Long userId;
+
+        @NotNull(message = "가중치는 필수입니다")
+        @PositiveOrZero(message = "가중치는 0 이상이어야 합니다")
+        private Integer weight;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ikuzo.tabilog.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일별 계획 관광지 순서 일괄 변경 요청
+ * 일별 계획의 모든 관광지 id를 새 방문 순서대로 보내고, 조회 때 받은 spotOrderVersion 을 함께 보냅니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpotOrderRequest {
+
+    @NotNull(message = "관광지 목록은 필수입니다")
+    private List<Long> spotIds;
+
+    @NotNull(message = "관광지 순서 버전은 필수입니다")
+    private Long spotOrderVersion;
+}
@@ -24,7 +24,7 @@ public class SpotRequest {
 
     @NotNull(message = "방문 순서는 필수입니다")
     @PositiveOrZero(message = "방문 순서는 0 이상이어야 합니다")
-    private Integer visitOrder;
+    private Integer visitOrder; // 목록 위치 (0부터, 목록 크기 이상이면 맨 뒤. 수정 시 현재 위치와 다르면 그 위치로 이동, 추가 시에는 맨 뒤)
 
     @NotBlank(message = "체류 시간은 필수입니다")
     private String duration;
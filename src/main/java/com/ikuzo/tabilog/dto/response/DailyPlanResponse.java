@@ -18,8 +18,10 @@ public class DailyPlanResponse {
     private Long id;
     private LocalDate visitDate;
     private LocalTime departureTime;
+    private Long spotOrderVersion; // 관광지 순서 일괄 변경 시 함께 보내는 버전
     private List<SpotResponse> spots;
     private List<TravelSegmentResponse> travelSegments;
+    private DailyScheduleResponse schedule; // 관광지별 도착/출발 시각
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
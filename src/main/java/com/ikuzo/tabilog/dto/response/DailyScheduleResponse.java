@@ -0,0 +1,37 @@
+package com.ikuzo.tabilog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 하루 일정 시간표 (출발 시각 + 관광지 체류 시간 + 이동 구간 시간)
+ * 이동 구간이 없는 관광지 사이는 이동 시간 0분으로 계산합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyScheduleResponse {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;       // 마지막 관광지 출발 시각
+    private long totalStayMinutes;
+    private long totalTravelMinutes;
+    private List<SpotSchedule> spots;    // 방문 순서대로
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SpotSchedule {
+        private Long spotId;
+        private int travelMinutes;       // 이전 관광지에서 오는 이동 시간
+        private LocalDateTime arrivalTime;
+        private int stayMinutes;
+        private LocalDateTime departureTime;
+    }
+}
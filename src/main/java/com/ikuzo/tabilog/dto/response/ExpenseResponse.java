@@ -18,6 +18,7 @@ public class ExpenseResponse {
     private Long id;
     private Long planId;
     private Long spotId;
+    private Long paidByUserId;
     private String item;
     private Integer amount;
     private ExpenseCategory category;
@@ -31,6 +32,7 @@ public class ExpenseResponse {
                 .id(expense.getId())
                 .planId(expense.getPlan().getId())
                 .spotId(expense.getSpot() != null ? expense.getSpot().getId() : null)
+                .paidByUserId(expense.getPaidBy() != null ? expense.getPaidBy().getId() : null)
                 .item(expense.getItem())
                 .amount(expense.getAmount())
                 .category(expense.getCategory())
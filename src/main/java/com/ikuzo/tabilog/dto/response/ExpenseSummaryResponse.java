@@ -1,28 +1,71 @@
 package com.ikuzo.tabilog.dto.response;
 
 import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
+import com.ikuzo.tabilog.domain.expense.ExpenseSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ExpenseSummaryResponse {
-    
+
     private Long planId;
     private Long spotId;
     private Integer totalAmount;
+    private Integer expenseCount;
     private Map<ExpenseCategory, Integer> amountByCategory;
+    private List<CategoryAmount> categoryAmounts;
+    private List<DailyAmount> dailyAmounts;
+    private List<SpotAmount> spotAmounts;
+    private Integer unassignedAmount; // 관광지가 없는 지출 합계
     private List<ExpenseResponse> expenses;
     private LocalDate summaryDate;
-    
+
+    public static ExpenseSummaryResponse from(ExpenseSummary summary, List<ExpenseResponse> expenses) {
+        Map<ExpenseCategory, Integer> amountByCategory = new EnumMap<>(ExpenseCategory.class);
+        summary.getAmountByCategory().forEach((category, amount) -> amountByCategory.put(category, Math.toIntExact(amount)));
+
+        return ExpenseSummaryResponse.builder()
+                .totalAmount(Math.toIntExact(summary.getTotal()))
+                .expenseCount(summary.getCount())
+                .amountByCategory(amountByCategory)
+                .categoryAmounts(amountByCategory.entrySet().stream()
+                        .map(entry -> CategoryAmount.builder()
+                                .category(entry.getKey())
+                                .categoryDisplayName(entry.getKey().getDisplayName())
+                                .amount(entry.getValue())
+                                .build())
+                        .collect(Collectors.toList()))
+                .dailyAmounts(summary.getDailyTotals().stream()
+                        .map(daily -> DailyAmount.builder()
+                                .date(daily.date())
+                                .amount(Math.toIntExact(daily.amount()))
+                                .count(daily.count())
+                                .build())
+                        .collect(Collectors.toList()))
+                .spotAmounts(summary.getSpotTotals().stream()
+                        .map(spot -> SpotAmount.builder()
+                                .spotId(spot.spotId())
+                                .spotName(spot.spotName())
+                                .amount(Math.toIntExact(spot.amount()))
+                                .count(spot.count())
+                                .build())
+                        .collect(Collectors.toList()))
+                .unassignedAmount(Math.toIntExact(summary.getUnassignedAmount()))
+                .expenses(expenses)
+                .build();
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -32,4 +75,25 @@ public class ExpenseSummaryResponse {
         private String categoryDisplayName;
         private Integer amount;
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyAmount {
+        private LocalDate date;
+        private Integer amount;
+        private Integer count;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SpotAmount {
+        private Long spotId;
+        private String spotName;
+        private Integer amount;
+        private Integer count;
+    }
 }
@@ -0,0 +1,43 @@
+package com.ikuzo.tabilog.dto.response;
+
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 여러 날 일정 재배치 결과 (미리보기 또는 확정 후 상태)
+ * 이동 시간은 좌표 기반 예상값입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItineraryBalanceResponse {
+    private Long planId;
+    private TravelMode travelMode;
+    private boolean committed;   // false 면 미리보기 (저장되지 않음)
+    private int movedSpotCount;  // 다른 날로 옮겨지는 관광지 수
+    private List<DayPlan> days;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DayPlan {
+        private Long dailyPlanId;
+        private LocalDate visitDate;
+        private LocalTime departureTime;
+        private long budgetMinutes;   // 출발 시각부터 하루 종료 시각까지
+        private long stayMinutes;     // 체류 시간 합계
+        private long travelMinutes;   // 예상 이동 시간 합계
+        private long totalMinutes;
+        private boolean overBudget;
+        private List<Long> spotIds;   // 방문 순서대로
+    }
+}
@@ -0,0 +1,37 @@
+package com.ikuzo.tabilog.dto.response;
+
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.spot.SpotGeoIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbySpotResponse {
+    private Long spotId;
+    private Long planId;
+    private String name;
+    private String address;
+    private SpotCategory category;
+    private Double latitude;
+    private Double longitude;
+    private Long distanceMeters;
+
+    public static NearbySpotResponse from(SpotGeoIndex.Hit hit) {
+        SpotGeoIndex.Point point = hit.point();
+        return NearbySpotResponse.builder()
+                .spotId(point.spotId())
+                .planId(point.planId())
+                .name(point.name())
+                .address(point.address())
+                .category(point.category())
+                .latitude(point.latitude())
+                .longitude(point.longitude())
+                .distanceMeters(Math.round(hit.distanceMeters()))
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ikuzo.tabilog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공개 여행 계획 피드 페이지
+ * 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 넘겨 조회합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanFeedResponse {
+
+    private List<PlanSummaryResponse> plans;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+}
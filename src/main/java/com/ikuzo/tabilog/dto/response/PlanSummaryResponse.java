@@ -0,0 +1,39 @@
+package com.ikuzo.tabilog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여행 계획 목록(카드)용 경량 응답
+ * 일별 계획/관광지/이동 구간/지출 상세 없이 일수와 지출 합계만 포함합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanSummaryResponse {
+
+    private Long id;
+    private String title;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String region;
+    private String prefecture;
+    private String prefectureImageUrl;
+    private Long participant_count;
+    private Long totalBudget;
+    private String status;
+    private Long userId;
+    private Integer dayCount; // 일별 계획 수
+    private List<PlanMemberResponse> members;
+    private Long totalExpenseAmount; // 총 지출 금액
+    private boolean isPublic;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.ikuzo.tabilog.dto.response;
+
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일별 계획 방문 순서 최적화 결과
+ * 이동 시간 합계는 좌표가 있는 관광지 사이의 이동만 포함합니다 (경로 없는 구간은 큰 벌점으로 계산).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RouteOptimizationResponse {
+    private Long dailyPlanId;
+    private TravelMode travelMode;
+    private List<Long> spotIds;                         // 새 방문 순서 (좌표 없는 관광지는 원래 자리 유지)
+    private Long fixedFirstSpotId;                      // 첫 방문으로 고정된 관광지 (없으면 null)
+    private Long fixedLastSpotId;                       // 마지막 방문으로 고정된 관광지 (없으면 null)
+    private long previousDurationSeconds;               // 최적화 전 이동 시간 합계(초)
+    private long optimizedDurationSeconds;              // 최적화 후 이동 시간 합계(초)
+    private List<TravelSegmentResponse> travelSegments; // 새 방문 순서로 다시 만든 이동 구간
+}
@@ -0,0 +1,46 @@
+package com.ikuzo.tabilog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementResponse {
+
+    private Long planId;
+    private Long totalAmount;
+    private List<MemberBalance> members;
+    private List<Transfer> transfers;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MemberBalance {
+        private Long userId;
+        private String memberName;
+        private String profileImageUrl;
+        private Integer weight;
+        private Long paidAmount;    // 결제한 금액
+        private Long shareAmount;   // 부담할 금액
+        private Long balance;       // 양수: 받을 금액, 음수: 낼 금액
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Transfer {
+        private Long fromUserId;
+        private String fromMemberName;
+        private Long toUserId;
+        private String toMemberName;
+        private Long amount;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ikuzo.tabilog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일별 계획 관광지 순서 일괄 변경 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpotOrderResponse {
+    private Long dailyPlanId;
+    private Long spotOrderVersion;                      // 다음 변경 요청에 보낼 버전
+    private List<Long> spotIds;                         // 새 방문 순서
+    private List<TravelSegmentResponse> travelSegments; // 새 순서에서도 이어지는 이동 구간 (순서대로)
+    private int removedSegmentCount;                    // 더 이상 이어지지 않아 삭제된 이동 구간 수
+}
@@ -1,5 +1,6 @@
 package com.ikuzo.tabilog.dto.response;
 
+import com.ikuzo.tabilog.domain.spot.Spot;
 import com.ikuzo.tabilog.domain.spot.SpotCategory;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,4 +25,20 @@ public class SpotResponse {
     private Double longitude;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static SpotResponse from(Spot spot) {
+        return SpotResponse.builder()
+                .id(spot.getId())
+                .name(spot.getName())
+                .address(spot.getAddress())
+                .category(spot.getCategory())
+                .visitOrder(spot.getVisitOrder())
+                .duration(spot.getDuration())
+                .cost(spot.getCost())
+                .latitude(spot.getLatitude())
+                .longitude(spot.getLongitude())
+                .createdAt(spot.getCreatedAt())
+                .updatedAt(spot.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,31 @@
+package com.ikuzo.tabilog.dto.response;
+
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일별 계획의 관광지 간 이동 시간 행렬 응답
+ * durationSeconds[i][j] 는 spotIds[i] → spotIds[j] 이동 시간(초), 경로가 없으면 -1
+ * 좌표가 없는 관광지는 행렬과 이동 구간 생성에서 제외됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TravelMatrixResponse {
+    private Long dailyPlanId;
+    private TravelMode travelMode;
+    private List<Long> spotIds;
+    private long[][] durationSeconds;
+    private long[][] distanceMeters;
+    private List<TravelSegmentResponse> travelSegments; // 방문 순서상 연속된 관광지 간 이동 구간 (새로 저장된 값)
+    private int cachedElementCount;
+    private int matrixElementCount;
+    private int directionsCallCount;
+    private int estimatedElementCount; // Google 결과 없이 직선 거리로 추정한 칸 수 (이동 구간에도 추정값이 저장됨)
+}
@@ -1,6 +1,7 @@
 package com.ikuzo.tabilog.dto.response;
 
 import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.domain.spot.TravelSegment;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class TravelSegmentResponse {
     private Long id;
     private Long fromSpotId;
@@ -23,4 +24,19 @@ public class TravelSegmentResponse {
     private Integer segmentOrder;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static TravelSegmentResponse from(TravelSegment segment) {
+        return TravelSegmentResponse.builder()
+                .id(segment.getId())
+                .fromSpotId(segment.getFromSpot().getId())
+                .fromSpotName(segment.getFromSpot().getName())
+                .toSpotId(segment.getToSpot().getId())
+                .toSpotName(segment.getToSpot().getName())
+                .duration(segment.getDuration())
+                .travelMode(segment.getTravelMode())
+                .segmentOrder(segment.getSegmentOrder())
+                .createdAt(segment.getCreatedAt())
+                .updatedAt(segment.getUpdatedAt())
+                .build();
+    }
 }
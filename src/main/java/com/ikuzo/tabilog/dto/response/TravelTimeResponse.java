@@ -0,0 +1,22 @@
+package com.ikuzo.tabilog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이동 시간 응답
+ * provisional=true 이면 좌표 기반 추정값이며, 실제 경로는 백그라운드로 조회 중입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TravelTimeResponse {
+    private String travelMode;
+    private long durationSeconds;
+    private String durationText;
+    private long distanceMeters;
+    private boolean provisional;
+}
@@ -0,0 +1,7 @@
+package com.ikuzo.tabilog.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("유효하지 않은 커서입니다: " + cursor);
+    }
+}
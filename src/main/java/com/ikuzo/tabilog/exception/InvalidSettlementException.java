@@ -0,0 +1,7 @@
+package com.ikuzo.tabilog.exception;
+
+public class InvalidSettlementException extends RuntimeException {
+    public InvalidSettlementException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ikuzo.tabilog.exception;
+
+public class SpotOrderConflictException extends RuntimeException {
+    public SpotOrderConflictException(Long dailyPlanId) {
+        super("다른 사용자가 먼저 관광지 순서를 변경했습니다. 다시 불러온 뒤 시도해주세요: " + dailyPlanId);
+    }
+}
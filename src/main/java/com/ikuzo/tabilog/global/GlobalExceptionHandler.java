@@ -1,6 +1,10 @@
 package com.ikuzo.tabilog.global;
 
 import com.ikuzo.tabilog.exception.DuplicateResourceException;
+import com.ikuzo.tabilog.exception.InvalidCursorException;
+import com.ikuzo.tabilog.exception.InvalidSettlementException;
+import com.ikuzo.tabilog.exception.InvalidSpotOrderException;
+import com.ikuzo.tabilog.exception.SpotOrderConflictException;
 import com.ikuzo.tabilog.exception.TokenRefreshException;
 import com.ikuzo.tabilog.exception.UserNotFoundException;
 import io.jsonwebtoken.ExpiredJwtException;   // ⬅ JWT 만료 예외
@@ -58,6 +62,50 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_CURSOR",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidSpotOrderException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSpotOrderException(InvalidSpotOrderException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_SPOT_ORDER",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidSettlementException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSettlementException(InvalidSettlementException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_SETTLEMENT",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(SpotOrderConflictException.class)
+    public ResponseEntity<ErrorResponse> handleSpotOrderConflictException(SpotOrderConflictException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "SPOT_ORDER_CONFLICT",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentialsException(BadCredentialsException ex) {
         ErrorResponse error = new ErrorResponse(
@@ -0,0 +1,58 @@
+package com.ikuzo.tabilog.global.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 합치기 (single-flight)
+ * 같은 키의 요청이 진행 중이면 새로 호출하지 않고 진행 중인 결과를 함께 기다립니다.
+ * 결과는 저장하지 않으므로 완료 후 들어온 요청은 다시 호출합니다. (캐시가 필요하면 ExpiringCache와 함께 사용)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public CompletableFuture<V> execute(K key, Supplier<? extends CompletableFuture<V>> call) {
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy(); // 한 호출자의 취소가 다른 호출자에게 전파되지 않도록 복사본 반환
+        }
+
+        executions.increment();
+        try {
+            call.get().whenComplete((value, error) -> {
+                inFlight.remove(key, promise);
+                if (error != null) {
+                    promise.completeExceptionally(error);
+                } else {
+                    promise.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, promise);
+            promise.completeExceptionally(e);
+        }
+        return promise.copy();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // 실제로 호출한 횟수
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    // 진행 중인 호출에 합쳐진 요청 수
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+}
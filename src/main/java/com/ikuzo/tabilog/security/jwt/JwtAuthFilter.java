@@ -5,6 +5,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import com.ikuzo.tabilog.security.services.UserDetailsImpl;
+import com.ikuzo.tabilog.security.services.UserDetailsServiceImpl;
+import com.ikuzo.tabilog.security.services.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 
@@ -13,8 +17,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -25,7 +27,7 @@ import java.io.IOException;
 /**
  * JWT 인증 필터
  * - Authorization: Bearer <token> 헤더에서 토큰 추출
- * - 토큰 유효성 검사 후 SecurityContext에 Authentication 설정
+ * - 토큰을 한 번만 파싱해 검증하고, uid 클레임으로 캐시된 사용자 정보를 찾아 SecurityContext에 Authentication 설정
  * - 예외(만료/무효)는 응답을 끝내지 않고 request attribute만 남김 → EntryPoint(AuthEntryPointJwt)가 JSON 401 생성
  * - /api/auth/**, /h2-console/**, OPTIONS 등은 필터 제외
  */
@@ -35,11 +37,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
 
     private final JwtUtils jwtUtils;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final UserPrincipalCache principalCache;
 
-    public JwtAuthFilter(JwtUtils jwtUtils, UserDetailsService userDetailsService) {
+    public JwtAuthFilter(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService, UserPrincipalCache principalCache) {
         this.jwtUtils = jwtUtils;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -63,24 +67,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
             // 이미 인증 안 되었고 토큰이 있으면 처리
             if (StringUtils.hasText(token) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtils.validateJwtToken(token)) {
-                    // 서버 규격: subject = userId (현재 코드 주석 기준)
-                    String username = jwtUtils.getUserNameFromJwtToken(token);
-                    if (StringUtils.hasText(username)) {
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                        UsernamePasswordAuthenticationToken authentication =
-                                new UsernamePasswordAuthenticationToken(
-                                        userDetails, null, userDetails.getAuthorities());
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    }
-                } else {
-                    // 서명 불일치/형식 오류 등으로 false를 리턴한 경우 → 무효 처리 힌트만 남김
-                    request.setAttribute("auth_error", "TOKEN_INVALID");
-                    SecurityContextHolder.clearContext();
-                    log.debug("JWT 토큰 유효성 검증 실패");
+                // 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리 (실패 시 아래 catch에서 처리)
+                Claims claims = jwtUtils.parseClaims(token);
+                UserDetailsImpl userDetails = resolvePrincipal(claims);
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             }
 
@@ -107,6 +103,23 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * uid 클레임이 있으면 캐시에서 사용자 정보를 가져오고 (미스일 때만 PK 조회),
+     * uid 가 없는 이전 형식 토큰은 subject(email/userId)로 조회한다.
+     */
+    private UserDetailsImpl resolvePrincipal(Claims claims) {
+        Long userId = jwtUtils.getUserId(claims);
+        if (userId != null) {
+            return principalCache.get(userId, userDetailsService::loadUserById);
+        }
+
+        String username = claims.getSubject();
+        if (!StringUtils.hasText(username)) {
+            return null;
+        }
+        return (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
         if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
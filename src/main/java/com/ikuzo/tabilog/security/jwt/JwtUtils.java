@@ -1,30 +1,40 @@
 package com.ikuzo.tabilog.security.jwt;
 
 import com.ikuzo.tabilog.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * HS256 서명 방식의 JWT 유틸.
  * - access token 에 exp(만료) 포함
  * - 만료/서명 오류 검증
- * - subject 에 username 저장
+ * - subject 에 username 저장, uid(사용자 PK)/roles 클레임 포함
+ * - 서명 키와 파서는 기동 시 한 번만 생성해 재사용
  */
 @Component
 public class JwtUtils {
     private static final Logger log = LoggerFactory.getLogger(JwtUtils.class);
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+
     /**
      * application-*.properties(yml) 에 설정해 둘 Base64 인코딩된 256bit 시크릿
      * 예) tabilog.app.jwtSecret=YOUR_BASE64_SECRET_256BIT==
@@ -36,39 +46,64 @@ public class JwtUtils {
     @Value("${tabilog.app.jwtAccessExpirationMs}")
     private long jwtAccessExpirationMs;
 
-    /** Base64 디코딩 후 HMAC-SHA256 키 객체 생성 */
-    private SecretKey getSigningKey() {
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    /** Base64 디코딩 후 HMAC-SHA256 키 객체와 파서를 한 번만 생성 (요청마다 재생성하지 않음) */
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtSecretBase64);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)  // 서명 키로 검증
+                .build();
     }
 
     /**
      * 인증 객체로부터 JWT 생성
      * - subject: username
+     * - uid, roles 클레임 포함 (필터에서 DB 조회 없이 사용자 식별)
      * - iat(발급시각), exp(만료시각) 포함
      * - HS256 서명
      */
     public String generateJwtToken(Authentication authentication) {
-        UserDetailsImpl principal = (UserDetailsImpl) authentication.getPrincipal();
+        return generateJwtToken((UserDetailsImpl) authentication.getPrincipal());
+    }
+
+    public String generateJwtToken(UserDetailsImpl principal) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + jwtAccessExpirationMs);
+        List<String> roles = principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
 
         return Jwts.builder()
                 .subject(principal.getUsername())
+                .claim(CLAIM_USER_ID, principal.getId())
+                .claim(CLAIM_ROLES, roles)
                 .issuedAt(now)
                 .expiration(exp)
-                .signWith(getSigningKey(), Jwts.SIG.HS256) // HS256 서명
+                .signWith(signingKey, Jwts.SIG.HS256) // HS256 서명
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명/만료 검증과 클레임 추출을 함께 수행
+     * - 만료 시 ExpiredJwtException, 서명/형식 오류 시 JwtException 을 그대로 던진다
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /** 클레임에서 사용자 PK 추출 (uid 클레임이 없는 이전 토큰이면 null) */
+    public Long getUserId(Claims claims) {
+        Number uid = claims.get(CLAIM_USER_ID, Number.class);
+        return uid != null ? uid.longValue() : null;
+    }
+
     /** 토큰에서 subject(username) 추출 */
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())  // 서명 키로 검증
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /**
@@ -78,10 +113,7 @@ public class JwtUtils {
      */
     public boolean validateJwtToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             log.warn("[JWT] expired: {}", e.getMessage());
@@ -114,7 +146,7 @@ public class JwtUtils {
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(exp)
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
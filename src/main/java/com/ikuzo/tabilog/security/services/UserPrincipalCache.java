@@ -0,0 +1,47 @@
+package com.ikuzo.tabilog.security.services;
+
+import com.ikuzo.tabilog.global.cache.ExpiringCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 경로용 사용자 정보 캐시 (사용자 PK → UserDetailsImpl)
+ * 자주 요청하는 사용자는 매 요청마다 DB를 조회하지 않도록 합니다.
+ * 프로필/비밀번호 변경, 탈퇴 시 evict로 무효화해야 합니다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final ExpiringCache<Long, UserDetailsImpl> cache;
+
+    public UserPrincipalCache(@Value("${tabilog.auth.principal-cache.max-size:10000}") int maxSize,
+                              @Value("${tabilog.auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new ExpiringCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public UserDetailsImpl get(Long userId, Function<Long, UserDetailsImpl> loader) {
+        return cache.getOrLoad(userId, loader);
+    }
+
+    /**
+     * 캐시에서 사용자 정보를 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거하여,
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막습니다.
+     */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.DaySchedule;
+import com.ikuzo.tabilog.domain.spot.DurationParser;
+import com.ikuzo.tabilog.dto.response.DailyScheduleResponse;
+import com.ikuzo.tabilog.dto.response.SpotResponse;
+import com.ikuzo.tabilog.dto.response.TravelSegmentResponse;
+import com.ikuzo.tabilog.global.cache.ExpiringCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일별 계획 시간표 계산
+ * 일별 계획마다 마지막으로 계산한 시간표(DaySchedule)를 캐시해 두고, 다음 조회 때 관광지 구성이 같으면
+ * 바뀐 체류/이동 시간 이후 구간만 다시 계산합니다. 관광지가 추가/삭제/재정렬되면 새로 계산합니다.
+ */
+@Service
+public class DailyScheduleService {
+
+    private final ExpiringCache<Long, DaySchedule> schedules;
+
+    public DailyScheduleService(@Value("${plan.schedule.cache-max-size:2000}") int cacheMaxSize,
+                                @Value("${plan.schedule.cache-ttl-minutes:60}") long cacheTtlMinutes) {
+        this.schedules = new ExpiringCache<>(cacheMaxSize, Duration.ofMinutes(cacheTtlMinutes));
+    }
+
+    /**
+     * @param spots          방문 순서대로 정렬된 관광지
+     * @param travelSegments 일별 계획의 이동 구간 (출발/도착 관광지 쌍으로 연결)
+     */
+    public DailyScheduleResponse getSchedule(DailyPlan dailyPlan, List<SpotResponse> spots,
+                                             List<TravelSegmentResponse> travelSegments) {
+        Map<String, Integer> travelBySpotPair = new HashMap<>();
+        for (TravelSegmentResponse segment : travelSegments) {
+            // 경로 없음 등 해석할 수 없는 이동 시간은 0분
+            travelBySpotPair.put(pairKey(segment.getFromSpotId(), segment.getToSpotId()),
+                    DurationParser.parseMinutes(segment.getDuration(), 0));
+        }
+
+        int size = spots.size();
+        long[] spotIds = new long[size];
+        int[] stayMinutes = new int[size];
+        int[] travelMinutes = new int[size];
+        for (int i = 0; i < size; i++) {
+            SpotResponse spot = spots.get(i);
+            spotIds[i] = spot.getId();
+            stayMinutes[i] = DurationParser.parseMinutes(spot.getDuration());
+            travelMinutes[i] = i == 0 ? 0
+                    : travelBySpotPair.getOrDefault(pairKey(spots.get(i - 1).getId(), spot.getId()), 0);
+        }
+        int startMinute = dailyPlan.getDepartureTime().toSecondOfDay() / 60;
+
+        DaySchedule schedule = schedules.get(dailyPlan.getId());
+        if (schedule == null || !schedule.hasSpots(spotIds)) {
+            schedule = new DaySchedule(spotIds, startMinute, stayMinutes, travelMinutes);
+            schedules.put(dailyPlan.getId(), schedule);
+        }
+
+        synchronized (schedule) {
+            schedule.update(startMinute, stayMinutes, travelMinutes);
+            return toResponse(dailyPlan, schedule, spotIds);
+        }
+    }
+
+    private DailyScheduleResponse toResponse(DailyPlan dailyPlan, DaySchedule schedule, long[] spotIds) {
+        LocalDateTime midnight = dailyPlan.getVisitDate().atStartOfDay();
+        List<DailyScheduleResponse.SpotSchedule> items = new ArrayList<>(spotIds.length);
+        long totalStay = 0;
+        long totalTravel = 0;
+        for (int i = 0; i < spotIds.length; i++) {
+            items.add(DailyScheduleResponse.SpotSchedule.builder()
+                    .spotId(spotIds[i])
+                    .travelMinutes(schedule.getTravelMinutes(i))
+                    .arrivalTime(midnight.plusMinutes(schedule.getArrival(i)))
+                    .stayMinutes(schedule.getStayMinutes(i))
+                    .departureTime(midnight.plusMinutes(schedule.getDeparture(i)))
+                    .build());
+            totalStay += schedule.getStayMinutes(i);
+            totalTravel += schedule.getTravelMinutes(i);
+        }
+
+        return DailyScheduleResponse.builder()
+                .startTime(midnight.plusMinutes(schedule.getStartMinute()))
+                .endTime(midnight.plusMinutes(schedule.getEndMinute()))
+                .totalStayMinutes(totalStay)
+                .totalTravelMinutes(totalTravel)
+                .spots(items)
+                .build();
+    }
+
+    private static String pairKey(Long fromSpotId, Long toSpotId) {
+        return fromSpotId + ":" + toSpotId;
+    }
+}
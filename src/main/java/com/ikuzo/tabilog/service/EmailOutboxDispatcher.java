@@ -0,0 +1,185 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.email.EmailOutbox;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이메일 발신함 전송
+ * 메일이 저장된 트랜잭션이 커밋되면 별도 스레드에서 깨어나고, 놓친 메일과 재시도 대상은 주기적으로 확인합니다.
+ * 한 배치는 JavaMailSender.send(MimeMessage...) 한 번으로 보내 SMTP 연결 하나를 재사용하며,
+ * 실패한 메일만 골라 EmailOutboxService.markFailed 로 재시도 시각을 늦춥니다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender mailSender;
+    private final String fromEmail;
+    private final int batchSize;
+
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "email-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmailOutboxDispatcher(EmailOutboxService emailOutboxService,
+                                 JavaMailSender mailSender,
+                                 @Value("${spring.mail.username}") String fromEmail,
+                                 @Value("${email.outbox.batch-size:50}") int batchSize) {
+        this.emailOutboxService = emailOutboxService;
+        this.mailSender = mailSender;
+        this.fromEmail = fromEmail;
+        this.batchSize = batchSize;
+    }
+
+    /** 메일을 저장한 트랜잭션 커밋 후 호출 (같은 트랜잭션의 여러 메일은 한 번의 전송으로 합침) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmailQueued(EmailOutboxService.EmailQueuedEvent event) {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpScheduled.set(false);
+                dispatch();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:10000}")
+    public void poll() {
+        dispatch();
+    }
+
+    /**
+     * 전송 시각이 된 메일을 배치 단위로 모두 전송
+     * 이미 다른 스레드가 전송 중이면 그 스레드가 끝난 뒤 한 번 더 돌도록 표시만 합니다.
+     * @return 전송한 메일 수
+     */
+    public int dispatch() {
+        int sent = 0;
+        do {
+            if (!dispatchLock.tryLock()) {
+                rerunRequested.set(true);
+                return sent;
+            }
+            try {
+                rerunRequested.set(false);
+                sent += drain();
+            } finally {
+                dispatchLock.unlock();
+            }
+        } while (rerunRequested.get());
+        return sent;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private int drain() {
+        int sent = 0;
+        List<EmailOutbox> batch;
+        do {
+            batch = emailOutboxService.claimDue(batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            int batchSent = sendBatch(batch);
+            sent += batchSent;
+            if (batchSent == 0) {
+                // 배치 전체가 실패하면 (SMTP 장애 등) 나머지는 다음 주기에 시도
+                break;
+            }
+        } while (batch.size() == batchSize);
+        return sent;
+    }
+
+    private int sendBatch(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox outbox : batch) {
+            try {
+                messages.put(toMimeMessage(outbox), outbox);
+            } catch (MessagingException | MailException e) {
+                emailOutboxService.markFailed(outbox, e.getMessage(), true);
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            messages.values().forEach(outbox -> sentIds.add(outbox.getId()));
+        } catch (MailSendException e) {
+            // 메시지별 실패만 골라 기록 (연결 실패면 모든 메시지가 실패 목록에 들어 있음)
+            Map<Object, Exception> failed = e.getFailedMessages();
+            messages.forEach((message, outbox) -> {
+                Exception cause = failed.get(message);
+                if (cause == null && !failed.isEmpty()) {
+                    sentIds.add(outbox.getId());
+                } else {
+                    Exception error = cause != null ? cause : e;
+                    emailOutboxService.markFailed(outbox, error.getMessage(), isPermanent(error));
+                }
+            });
+        } catch (MailException e) {
+            // 인증 실패 등 배치 전체 실패
+            log.warn("이메일 배치 전송 실패: {}건, {}", messages.size(), e.getMessage());
+            messages.values().forEach(outbox -> emailOutboxService.markFailed(outbox, e.getMessage(), false));
+        }
+
+        emailOutboxService.markSent(sentIds);
+        if (!sentIds.isEmpty()) {
+            log.info("✅ 이메일 {}건 전송 완료 (배치 {}건)", sentIds.size(), batch.size());
+        }
+        return sentIds.size();
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getBody(), true);
+        return message;
+    }
+
+    /** 다시 보내도 실패할 오류 (주소 형식 오류, 서버가 거부한 주소) */
+    private static boolean isPermanent(Exception error) {
+        if (error instanceof MailParseException || error instanceof AddressException) {
+            return true;
+        }
+        return error instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null && sendFailed.getInvalidAddresses().length > 0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.email.EmailOutbox;
+import com.ikuzo.tabilog.domain.email.EmailOutboxRepository;
+import com.ikuzo.tabilog.domain.email.EmailOutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이메일 발신함(email_outbox) 관리
+ * enqueue 는 호출한 트랜잭션에 참여하므로 메일은 요청이 커밋될 때 함께 저장되고, 롤백되면 보내지지 않습니다.
+ * 커밋 후 EmailOutboxDispatcher 가 깨어나 전송하며, 실패한 메일은 지수 백오프로 다시 시도합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class EmailOutboxService {
+
+    /** 메일이 발신함에 저장됨 (커밋 후 EmailOutboxDispatcher 가 받음) */
+    public record EmailQueuedEvent(Long outboxId) {
+    }
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration claimLease;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+                              @Value("${email.outbox.retry-backoff-seconds:30}") long retryBackoffSeconds,
+                              @Value("${email.outbox.max-retry-backoff-seconds:3600}") long maxRetryBackoffSeconds,
+                              @Value("${email.outbox.claim-lease-seconds:300}") long claimLeaseSeconds) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+        this.maxRetryBackoff = Duration.ofSeconds(maxRetryBackoffSeconds);
+        this.claimLease = Duration.ofSeconds(claimLeaseSeconds);
+    }
+
+    /**
+     * 받는 사람 주소 형식 확인
+     * enqueue 에서 던진 예외는 트랜잭션 경계를 지나면서 호출한 트랜잭션을 롤백 전용으로 만들므로,
+     * 메일 실패를 무시하고 계속 진행하려는 호출자는 enqueue 전에 이 메서드로 먼저 확인해야 합니다.
+     */
+    public static boolean isValidRecipient(String toEmail) {
+        return toEmail != null && !toEmail.trim().isEmpty() && toEmail.contains("@");
+    }
+
+    /** 전송할 메일 저장 (호출한 트랜잭션과 함께 커밋) */
+    @Transactional
+    public EmailOutbox enqueue(String toEmail, String subject, String htmlBody) {
+        if (!isValidRecipient(toEmail)) {
+            throw new IllegalArgumentException("유효하지 않은 이메일 주소입니다: " + toEmail);
+        }
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(toEmail.trim())
+                .subject(subject)
+                .body(htmlBody)
+                .build());
+        eventPublisher.publishEvent(new EmailQueuedEvent(outbox.getId()));
+        return outbox;
+    }
+
+    /**
+     * 전송 시각이 된 메일을 최대 limit 건 선점
+     * 선점한 메일은 claimLease 동안 다른 디스패처가 가져가지 않으며, 결과 기록 전에 서버가 내려가면 그 뒤에 다시 전송됩니다.
+     */
+    @Transactional
+    public List<EmailOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(claimLease);
+        List<EmailOutbox> claimed = new ArrayList<>();
+        for (EmailOutbox outbox : emailOutboxRepository.findDue(now, PageRequest.of(0, limit))) {
+            if (emailOutboxRepository.claim(outbox.getId(), now, leaseUntil) == 1) {
+                claimed.add(outbox);
+            }
+        }
+        return claimed;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> outboxIds) {
+        if (!outboxIds.isEmpty()) {
+            emailOutboxRepository.markSent(outboxIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 전송 실패 기록
+     * @param permanent 주소 오류 등 다시 보내도 실패할 경우 (바로 FAILED)
+     */
+    @Transactional
+    public void markFailed(EmailOutbox outbox, String error, boolean permanent) {
+        int attempts = outbox.getAttempts() + 1;
+        boolean giveUp = permanent || attempts >= maxAttempts;
+        LocalDateTime nextAttemptAt = giveUp ? outbox.getNextAttemptAt() : LocalDateTime.now().plus(backoff(attempts));
+        emailOutboxRepository.markFailed(outbox.getId(),
+                giveUp ? EmailOutboxStatus.FAILED : EmailOutboxStatus.PENDING,
+                nextAttemptAt, truncate(error));
+        if (giveUp) {
+            log.warn("이메일 전송 포기: outboxId={}, to={}, attempts={}, error={}",
+                    outbox.getId(), outbox.getRecipient(), attempts, error);
+        }
+    }
+
+    /** attempts 번째 실패 후 대기 시간 (retryBackoff * 2^(attempts-1), 최대 maxRetryBackoff) */
+    Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
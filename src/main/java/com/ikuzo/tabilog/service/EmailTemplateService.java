@@ -0,0 +1,82 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.email.EmailTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 이메일 템플릿 (classpath:email/{이름}.{언어}.html)
+ * 시작할 때 모든 템플릿을 한 번 읽어 EmailTemplate 으로 컴파일해 두고, 보낼 때는 값만 채웁니다.
+ * 언어는 요청의 Accept-Language(LocaleContextHolder)로 고르며, 지원하지 않는 언어는 기본 언어로 보냅니다.
+ */
+@Slf4j
+@Service
+public class EmailTemplateService {
+
+    public static final String INVITATION = "invitation";
+    public static final String WARIKAN = "warikan";
+    public static final String VERIFICATION = "verification";
+    public static final String PASSWORD_RESET = "password-reset";
+
+    static final List<String> TEMPLATE_NAMES = List.of(INVITATION, WARIKAN, VERIFICATION, PASSWORD_RESET);
+    static final List<String> LANGUAGES = List.of("ja", "ko");
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+    private final String defaultLanguage;
+
+    public EmailTemplateService(@Value("${email.template.default-language:ja}") String defaultLanguage) {
+        if (!LANGUAGES.contains(defaultLanguage)) {
+            throw new IllegalArgumentException("지원하지 않는 이메일 기본 언어입니다: " + defaultLanguage);
+        }
+        this.defaultLanguage = defaultLanguage;
+        for (String name : TEMPLATE_NAMES) {
+            for (String language : LANGUAGES) {
+                String path = "email/" + name + "." + language + ".html";
+                templates.put(key(name, language), EmailTemplate.compile(path, load(path)));
+            }
+        }
+        log.info("이메일 템플릿 {}개 컴파일 완료 (기본 언어: {})", templates.size(), defaultLanguage);
+    }
+
+    /** 현재 요청의 언어로 렌더링 */
+    public EmailTemplate.Rendered render(String name, Map<String, ?> values) {
+        return render(name, LocaleContextHolder.getLocale(), values);
+    }
+
+    public EmailTemplate.Rendered render(String name, Locale locale, Map<String, ?> values) {
+        return getTemplate(name, locale).render(values);
+    }
+
+    EmailTemplate getTemplate(String name, Locale locale) {
+        String language = locale != null && LANGUAGES.contains(locale.getLanguage()) ? locale.getLanguage() : defaultLanguage;
+        EmailTemplate template = templates.get(key(name, language));
+        if (template == null) {
+            throw new IllegalArgumentException("이메일 템플릿이 없습니다: " + name);
+        }
+        return template;
+    }
+
+    private static String key(String name, String language) {
+        return name + "." + language;
+    }
+
+    private static String load(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이메일 템플릿을 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregateRepository;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지출 집계 정합성 검사
+ * 전체 플랜을 id 순서로 나누어 집계 테이블과 원본 지출을 비교하고, 어긋난 플랜만 원본으로 다시 만듭니다.
+ * 집계 테이블이 비어 있으면(최초 배포) 시작 시 한 번 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpenseAggregateJob {
+
+    private static final int PLAN_CHUNK_SIZE = 500;
+
+    private final ExpenseAggregateService expenseAggregateService;
+    private final PlanExpenseAggregateRepository aggregateRepository;
+    private final ExpenseRepository expenseRepository;
+    private final PlanRepository planRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIfEmpty() {
+        if (aggregateRepository.count() == 0 && expenseRepository.count() > 0) {
+            verifyAll();
+        }
+    }
+
+    /** @return 다시 만든 플랜 수 */
+    @Scheduled(cron = "${expense.aggregate.verify-cron:0 30 4 * * *}")
+    public int verifyAll() {
+        int rebuilt = 0;
+        long afterId = 0L;
+        List<Long> planIds;
+        do {
+            planIds = planRepository.findIdsAfter(afterId, PageRequest.of(0, PLAN_CHUNK_SIZE));
+            if (planIds.isEmpty()) {
+                break;
+            }
+            Set<Long> mismatched = expenseAggregateService.findMismatchedPlanIds(planIds);
+            for (Long planId : mismatched) {
+                // 플랜마다 별도 트랜잭션 (일부 실패해도 나머지는 진행, 다음 검사에서 다시 확인)
+                try {
+                    expenseAggregateService.rebuild(planId);
+                    rebuilt++;
+                } catch (RuntimeException e) {
+                    log.warn("지출 집계 재생성 실패: planId={}, {}", planId, e.getMessage());
+                }
+            }
+            afterId = planIds.get(planIds.size() - 1);
+        } while (planIds.size() == PLAN_CHUNK_SIZE);
+
+        if (rebuilt > 0) {
+            log.info("지출 집계 정합성 검사: {}개 플랜 재생성", rebuilt);
+        }
+        return rebuilt;
+    }
+}
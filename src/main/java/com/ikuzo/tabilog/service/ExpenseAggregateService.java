@@ -0,0 +1,132 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.Expense;
+import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregate;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 플랜별 지출 집계 테이블(plan_expense_aggregate) 유지
+ * 지출이 생성/수정/삭제되는 트랜잭션 안에서 호출되어 (플랜, 카테고리, 날짜) 집계를 증감합니다.
+ * 원본(expenses)과 어긋난 플랜은 findMismatchedPlanIds 로 찾아 rebuild 로 다시 만듭니다 (ExpenseAggregateJob).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExpenseAggregateService {
+
+    private final PlanExpenseAggregateRepository aggregateRepository;
+    private final ExpenseRepository expenseRepository;
+
+    /** 지출 생성 후 호출 */
+    @Transactional
+    public void added(Expense expense) {
+        apply(expense.getPlan().getId(), expense.getCategory(), expense.getExpenseDate(), expense.getAmount(), 1);
+    }
+
+    /** 지출 삭제 전, 또는 수정 전 값으로 호출 */
+    @Transactional
+    public void removed(Long planId, ExpenseCategory category, LocalDate expenseDate, Integer amount) {
+        apply(planId, category, expenseDate, -(amount == null ? 0 : amount), -1);
+    }
+
+    /** 관광지 지출의 날짜를 일괄 변경 (집계도 이전 날짜에서 새 날짜로 옮김) */
+    @Transactional
+    public void moveExpenseDates(Collection<Long> spotIds, LocalDate expenseDate) {
+        for (Object[] row : expenseRepository.getAggregatesBySpotIdIn(spotIds)) {
+            Long planId = (Long) row[0];
+            ExpenseCategory category = (ExpenseCategory) row[1];
+            long amount = ((Number) row[3]).longValue();
+            int count = ((Number) row[4]).intValue();
+            apply(planId, category, (LocalDate) row[2], -amount, -count);
+            apply(planId, category, expenseDate, amount, count);
+        }
+        expenseRepository.updateExpenseDateBySpotIdIn(spotIds, expenseDate);
+    }
+
+    /** 관광지 삭제 전 호출 (관광지 지출은 FK ON DELETE CASCADE 로 함께 삭제됨) */
+    @Transactional
+    public void spotsDeleted(Collection<Long> spotIds) {
+        for (Object[] row : expenseRepository.getAggregatesBySpotIdIn(spotIds)) {
+            apply((Long) row[0], (ExpenseCategory) row[1], (LocalDate) row[2],
+                    -((Number) row[3]).longValue(), -((Number) row[4]).intValue());
+        }
+    }
+
+    /** 플랜 삭제 시 호출 */
+    @Transactional
+    public void deletePlan(Long planId) {
+        aggregateRepository.deleteAllByPlanId(planId);
+    }
+
+    /** 원본 지출로 플랜의 집계를 다시 생성 */
+    @Transactional
+    public void rebuild(Long planId) {
+        aggregateRepository.deleteAllByPlanId(planId);
+        aggregateRepository.insertFromExpenses(planId);
+    }
+
+    /** 플랜의 총 지출 금액 */
+    public long getTotalAmount(Long planId) {
+        return aggregateRepository.getTotalAmountByPlanId(planId);
+    }
+
+    /** 플랜의 특정 날짜 총 지출 금액 */
+    public long getTotalAmount(Long planId, LocalDate expenseDate) {
+        return aggregateRepository.getTotalAmountByPlanIdAndDate(planId, expenseDate);
+    }
+
+    /** planIds 중 집계 테이블과 원본 지출의 (카테고리, 날짜)별 합계/건수가 다른 플랜 (금액/건수가 0인 집계는 없는 것으로 봄) */
+    public Set<Long> findMismatchedPlanIds(Collection<Long> planIds) {
+        Map<AggregateKey, long[]> expected = new HashMap<>();
+        for (Object[] row : expenseRepository.getAggregatesByPlanIdIn(planIds)) {
+            long[] totals = expected.computeIfAbsent(
+                    new AggregateKey((Long) row[0], categoryOf((ExpenseCategory) row[1]), (LocalDate) row[2]),
+                    key -> new long[2]);
+            totals[0] += ((Number) row[3]).longValue();
+            totals[1] += ((Number) row[4]).longValue();
+        }
+
+        Set<Long> mismatched = new TreeSet<>();
+        Map<AggregateKey, long[]> actual = new HashMap<>();
+        List<PlanExpenseAggregate> aggregates = aggregateRepository.findAllByPlanIdIn(planIds);
+        for (PlanExpenseAggregate aggregate : aggregates) {
+            if (aggregate.getTotalAmount() == 0 && aggregate.getExpenseCount() == 0) {
+                continue;
+            }
+            actual.put(new AggregateKey(aggregate.getPlanId(), aggregate.getCategory(), aggregate.getExpenseDate()),
+                    new long[]{aggregate.getTotalAmount(), aggregate.getExpenseCount()});
+        }
+        expected.forEach((key, totals) -> {
+            long[] stored = actual.remove(key);
+            if (stored == null || stored[0] != totals[0] || stored[1] != totals[1]) {
+                mismatched.add(key.planId());
+            }
+        });
+        actual.keySet().forEach(key -> mismatched.add(key.planId()));
+        return mismatched;
+    }
+
+    private void apply(Long planId, ExpenseCategory category, LocalDate expenseDate, long amount, int count) {
+        aggregateRepository.addAmount(planId, categoryOf(category).name(), expenseDate, amount, count);
+    }
+
+    private static ExpenseCategory categoryOf(ExpenseCategory category) {
+        return category == null ? ExpenseCategory.OTHER : category;
+    }
+
+    private record AggregateKey(Long planId, ExpenseCategory category, LocalDate expenseDate) {
+    }
+}
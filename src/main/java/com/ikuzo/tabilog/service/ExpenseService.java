@@ -1,16 +1,20 @@
 package com.ikuzo.tabilog.service;
 
 import com.ikuzo.tabilog.domain.expense.Expense;
-import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
 import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.ExpenseSummary;
 import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
 import com.ikuzo.tabilog.domain.plan.PlanRepository;
 import com.ikuzo.tabilog.domain.spot.Spot;
 import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.domain.user.UserRepository;
 import com.ikuzo.tabilog.dto.request.ExpenseRequest;
 import com.ikuzo.tabilog.dto.request.ExpenseUpdateRequest;
 import com.ikuzo.tabilog.dto.response.ExpenseResponse;
 import com.ikuzo.tabilog.dto.response.ExpenseSummaryResponse;
+import com.ikuzo.tabilog.exception.InvalidSettlementException;
 import com.ikuzo.tabilog.exception.PlanNotFoundException;
 import com.ikuzo.tabilog.exception.SpotNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +23,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +33,9 @@ public class ExpenseService {
     private final ExpenseRepository expenseRepository;
     private final PlanRepository planRepository;
     private final SpotRepository spotRepository;
+    private final ExpenseAggregateService expenseAggregateService;
+    private final PlanMemberRepository planMemberRepository;
+    private final UserRepository userRepository;
     
     @Transactional
     public ExpenseResponse createExpense(ExpenseRequest request) {
@@ -50,6 +56,7 @@ public class ExpenseService {
         Expense expense = Expense.builder()
                 .plan(plan)
                 .spot(spot)
+                .paidBy(resolvePayer(plan.getId(), request.getPaidByUserId()))
                 .item(request.getItem())
                 .amount(request.getAmount())
                 .category(request.getCategory())
@@ -57,6 +64,7 @@ public class ExpenseService {
                 .build();
         
         Expense savedExpense = expenseRepository.save(expense);
+        expenseAggregateService.added(savedExpense);
         return ExpenseResponse.from(savedExpense);
     }
     
@@ -65,21 +73,30 @@ public class ExpenseService {
         Expense expense = expenseRepository.findById(expenseId)
                 .orElseThrow(() -> new RuntimeException("지출을 찾을 수 없습니다: " + expenseId));
         
+        // 집계는 이전 값을 빼고 새 값을 더함
+        expenseAggregateService.removed(expense.getPlan().getId(), expense.getCategory(),
+                expense.getExpenseDate(), expense.getAmount());
         expense.setItem(request.getItem());
         expense.setAmount(request.getAmount());
         expense.setCategory(request.getCategory());
         expense.setExpenseDate(request.getExpenseDate());
+        if (request.getPaidByUserId() != null) {
+            expense.setPaidBy(resolvePayer(expense.getPlan().getId(), request.getPaidByUserId()));
+        }
         
         Expense updatedExpense = expenseRepository.save(expense);
+        expenseAggregateService.added(updatedExpense);
         return ExpenseResponse.from(updatedExpense);
     }
     
     @Transactional
     public void deleteExpense(Long expenseId) {
-        if (!expenseRepository.existsById(expenseId)) {
-            throw new RuntimeException("지출을 찾을 수 없습니다: " + expenseId);
-        }
-        expenseRepository.deleteById(expenseId);
+        Expense expense = expenseRepository.findById(expenseId)
+                .orElseThrow(() -> new RuntimeException("지출을 찾을 수 없습니다: " + expenseId));
+        
+        expenseAggregateService.removed(expense.getPlan().getId(), expense.getCategory(),
+                expense.getExpenseDate(), expense.getAmount());
+        expenseRepository.delete(expense);
     }
     
     public ExpenseResponse getExpense(Long expenseId) {
@@ -121,55 +138,37 @@ public class ExpenseService {
                 .collect(Collectors.toList());
     }
     
+    // 지출을 한 번만 조회하여 총액/카테고리별/날짜별/관광지별 합계를 함께 계산
     public ExpenseSummaryResponse getExpenseSummaryByPlan(Long planId) {
-        Plan plan = planRepository.findById(planId)
-                .orElseThrow(() -> new PlanNotFoundException("플랜을 찾을 수 없습니다: " + planId));
-        
-        Integer totalAmount = expenseRepository.getTotalAmountByPlan(plan);
-        List<Object[]> categoryAmounts = expenseRepository.getAmountByCategoryAndPlan(plan);
-        List<ExpenseResponse> expenses = getExpensesByPlan(planId);
-        
-        Map<ExpenseCategory, Integer> amountByCategory = categoryAmounts.stream()
-                .collect(Collectors.toMap(
-                        row -> (ExpenseCategory) row[0],
-                        row -> (Integer) row[1]
-                ));
-        
-        return ExpenseSummaryResponse.builder()
-                .planId(planId)
-                .totalAmount(totalAmount)
-                .amountByCategory(amountByCategory)
-                .expenses(expenses)
-                .build();
+        List<Expense> expenses = expenseRepository.findAllWithSpotByPlanId(planId);
+        // 지출이 없을 때만 플랜 존재 여부 확인
+        if (expenses.isEmpty() && !planRepository.existsById(planId)) {
+            throw new PlanNotFoundException("플랜을 찾을 수 없습니다: " + planId);
+        }
+
+        ExpenseSummaryResponse response = ExpenseSummaryResponse.from(ExpenseSummary.of(expenses), toResponses(expenses));
+        response.setPlanId(planId);
+        return response;
     }
     
     public ExpenseSummaryResponse getExpenseSummaryBySpot(Long spotId) {
-        Spot spot = spotRepository.findById(spotId)
-                .orElseThrow(() -> new SpotNotFoundException("스팟을 찾을 수 없습니다: " + spotId));
-        
-        Integer totalAmount = expenseRepository.getTotalAmountBySpot(spot);
-        List<Object[]> categoryAmounts = expenseRepository.getAmountByCategoryAndSpot(spot);
-        List<ExpenseResponse> expenses = getExpensesBySpot(spotId);
-        
-        Map<ExpenseCategory, Integer> amountByCategory = categoryAmounts.stream()
-                .collect(Collectors.toMap(
-                        row -> (ExpenseCategory) row[0],
-                        row -> (Integer) row[1]
-                ));
-        
-        return ExpenseSummaryResponse.builder()
-                .spotId(spotId)
-                .totalAmount(totalAmount)
-                .amountByCategory(amountByCategory)
-                .expenses(expenses)
-                .build();
+        List<Expense> expenses = expenseRepository.findAllWithSpotBySpotId(spotId);
+        if (expenses.isEmpty() && !spotRepository.existsById(spotId)) {
+            throw new SpotNotFoundException("스팟을 찾을 수 없습니다: " + spotId);
+        }
+
+        ExpenseSummaryResponse response = ExpenseSummaryResponse.from(ExpenseSummary.of(expenses), toResponses(expenses));
+        response.setSpotId(spotId);
+        return response;
     }
     
+    // 지출 집계 테이블에서 조회 (expenses 전체 SUM 없음)
     public Integer getTotalAmountByPlan(Long planId) {
-        Plan plan = planRepository.findById(planId)
-                .orElseThrow(() -> new PlanNotFoundException("플랜을 찾을 수 없습니다: " + planId));
+        if (!planRepository.existsById(planId)) {
+            throw new PlanNotFoundException("플랜을 찾을 수 없습니다: " + planId);
+        }
         
-        return expenseRepository.getTotalAmountByPlan(plan);
+        return Math.toIntExact(expenseAggregateService.getTotalAmount(planId));
     }
     
     public Integer getTotalAmountBySpot(Long spotId) {
@@ -180,9 +179,27 @@ public class ExpenseService {
     }
     
     public Integer getTotalAmountByPlanAndDate(Long planId, LocalDate date) {
-        Plan plan = planRepository.findById(planId)
-                .orElseThrow(() -> new PlanNotFoundException("플랜을 찾을 수 없습니다: " + planId));
+        if (!planRepository.existsById(planId)) {
+            throw new PlanNotFoundException("플랜을 찾을 수 없습니다: " + planId);
+        }
         
-        return expenseRepository.getTotalAmountByPlanAndDate(plan, date);
+        return Math.toIntExact(expenseAggregateService.getTotalAmount(planId, date));
+    }
+
+    // 결제자는 플랜 멤버만 지정 가능 (지정하지 않으면 null)
+    private User resolvePayer(Long planId, Long paidByUserId) {
+        if (paidByUserId == null) {
+            return null;
+        }
+        if (!planMemberRepository.existsByPlanIdAndUserId(planId, paidByUserId)) {
+            throw new InvalidSettlementException("결제한 사용자가 플랜 멤버가 아닙니다: " + paidByUserId);
+        }
+        return userRepository.getReferenceById(paidByUserId);
+    }
+
+    private List<ExpenseResponse> toResponses(List<Expense> expenses) {
+        return expenses.stream()
+                .map(ExpenseResponse::from)
+                .collect(Collectors.toList());
     }
 }
@@ -1,61 +1,77 @@
 package com.ikuzo.tabilog.service;
 
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
 
+/**
+ * Google Cloud Storage 이미지 저장소 (기본값)
+ * 재개 가능 업로드(WriteChannel)로 256KB 청크씩 전송하므로 업로드 크기만큼 힙을 쓰지 않습니다.
+ * 전송 중 실패하면 채널을 닫지 않아 객체가 만들어지지 않습니다 (업로드 세션은 GCS 에서 만료됨).
+ */
 @Service
-public class GoogleCloudStorageService {
+@ConditionalOnProperty(name = "storage.type", havingValue = "gcs", matchIfMissing = true)
+public class GoogleCloudStorageService implements ImageStorage {
 
     private static final Logger logger = LoggerFactory.getLogger(GoogleCloudStorageService.class);
-    
+
     private final Storage storage;
-    
-    @Value("${gcs.bucket-name:tabilog-images}")
-    private String bucketName;
+    private final String bucketName;
+
+    @Autowired
+    public GoogleCloudStorageService(@Value("${gcs.bucket-name:tabilog-images}") String bucketName) {
+        this(StorageOptions.getDefaultInstance().getService(), bucketName);
+    }
 
-    public GoogleCloudStorageService() {
-        this.storage = StorageOptions.getDefaultInstance().getService();
+    GoogleCloudStorageService(Storage storage, String bucketName) {
+        this.storage = storage;
+        this.bucketName = bucketName;
     }
 
+    @Override
     public String uploadImage(MultipartFile file) throws IOException {
         try {
-            // 파일명 생성 (UUID + 원본 파일명)
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename != null ? 
-                originalFilename.substring(originalFilename.lastIndexOf(".")) : ".jpg";
-            String fileName = UUID.randomUUID().toString() + extension;
-            
+            // 파일명 생성 (UUID + 이미지 확장자)
+            String fileName = UploadStreams.newObjectName(file.getOriginalFilename(), file.getContentType());
+
             logger.info("GCS 버킷에 이미지 업로드 시작: {}", bucketName);
-            
+
             // Blob 정보 생성
             BlobId blobId = BlobId.of(bucketName, fileName);
             BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                    .setContentType(file.getContentType())
+                    .setContentType(UploadStreams.contentTypeOf(fileName))
                     .build();
-            
-            // 파일 업로드
-            storage.create(blobInfo, file.getBytes());
-            
+
+            // 파일 업로드 (close 에서 마지막 청크를 보내고 객체가 생성됨)
+            WriteChannel writer = storage.writer(blobInfo);
+            writer.setChunkSize(UploadStreams.BUFFER_SIZE);
+            try (InputStream in = file.getInputStream()) {
+                UploadStreams.copy(in, writer);
+            }
+            writer.close();
+
             // 공개 URL 생성
             String publicUrl = String.format("https://storage.googleapis.com/%s/%s", bucketName, fileName);
-            
+
             logger.info("이미지 업로드 성공: {}", publicUrl);
-            
+
             return publicUrl;
-            
+
         } catch (Exception e) {
             logger.error("GCS 이미지 업로드 실패: {}", e.getMessage(), e);
             throw new IOException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
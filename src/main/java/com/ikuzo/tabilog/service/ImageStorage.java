@@ -0,0 +1,16 @@
+package com.ikuzo.tabilog.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * 업로드 이미지 저장소
+ * storage.type=gcs(기본값)이면 GoogleCloudStorageService, local 이면 LocalImageStorageService 가 사용됩니다.
+ * 구현체는 업로드 본문을 힙에 한 번에 올리지 않고 UploadStreams.copy 로 고정 크기 버퍼 단위로 옮겨 씁니다.
+ */
+public interface ImageStorage {
+
+    /** 이미지를 저장하고 공개 URL 반환 */
+    String uploadImage(MultipartFile file) throws IOException;
+}
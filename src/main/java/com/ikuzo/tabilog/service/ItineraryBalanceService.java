@@ -0,0 +1,255 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
+import com.ikuzo.tabilog.domain.plan.ItineraryBalancer;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelTimeEstimator;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.spot.DurationParser;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
+import com.ikuzo.tabilog.dto.request.ItineraryBalanceRequest;
+import com.ikuzo.tabilog.dto.response.ItineraryBalanceResponse;
+import com.ikuzo.tabilog.exception.InvalidSpotOrderException;
+import com.ikuzo.tabilog.exception.PlanNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 여행 계획 전체 관광지를 여러 날에 고르게 재배치
+ * 미리보기(preview)는 저장하지 않고 제안만 반환하고, 확정(commit)은 받은 배치대로 저장합니다.
+ * 이동 시간은 외부 API 호출 없이 좌표 기반 예상값(TravelTimeEstimator)으로 계산합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ItineraryBalanceService {
+
+    private final PlanRepository planRepository;
+    private final PlanMemberRepository planMemberRepository;
+    private final DailyPlanRepository dailyPlanRepository;
+    private final SpotRepository spotRepository;
+    private final TravelSegmentRepository travelSegmentRepository;
+    private final ExpenseAggregateService expenseAggregateService;
+    private final TravelTimeEstimator travelTimeEstimator;
+    private final LocalTime dayEnd;
+
+    public ItineraryBalanceService(PlanRepository planRepository,
+                                   PlanMemberRepository planMemberRepository,
+                                   DailyPlanRepository dailyPlanRepository,
+                                   SpotRepository spotRepository,
+                                   TravelSegmentRepository travelSegmentRepository,
+                                   ExpenseAggregateService expenseAggregateService,
+                                   TravelTimeEstimator travelTimeEstimator,
+                                   @Value("${plan.balance.day-end:21:00}") String dayEnd) {
+        this.planRepository = planRepository;
+        this.planMemberRepository = planMemberRepository;
+        this.dailyPlanRepository = dailyPlanRepository;
+        this.spotRepository = spotRepository;
+        this.travelSegmentRepository = travelSegmentRepository;
+        this.expenseAggregateService = expenseAggregateService;
+        this.travelTimeEstimator = travelTimeEstimator;
+        this.dayEnd = LocalTime.parse(dayEnd);
+    }
+
+    /** 재배치 제안 (저장하지 않음) */
+    public ItineraryBalanceResponse preview(Long planId, TravelMode travelMode, Long userId) {
+        Plan plan = findAccessiblePlan(planId, userId);
+        List<DailyPlan> dailyPlans = dailyPlanRepository.findAllByPlanIdOrderByVisitDateAsc(plan.getId());
+        List<Spot> spots = spotRepository.findAllByPlanIdOrderByVisitOrder(plan.getId());
+
+        List<ItineraryBalancer.Stop> stops = toStops(spots, dailyPlans);
+        ItineraryBalancer.Result result = ItineraryBalancer.balance(stops, budgets(dailyPlans),
+                travelSeconds(spots, travelMode));
+
+        return toResponse(plan, travelMode, dailyPlans, spots, stops, result, false);
+    }
+
+    /**
+     * 날별 관광지 배치 확정
+     * 요청에는 계획의 모든 관광지가 정확히 한 번씩 있어야 하며, 배치나 순서가 바뀐 날의 이동 구간은 삭제됩니다.
+     * 다른 날로 옮겨진 관광지의 지출 날짜도 새 날짜로 바뀝니다.
+     */
+    @Transactional
+    public ItineraryBalanceResponse commit(Long planId, TravelMode travelMode,
+                                           ItineraryBalanceRequest request, Long userId) {
+        Plan plan = findAccessiblePlan(planId, userId);
+        List<DailyPlan> dailyPlans = dailyPlanRepository.findAllByPlanIdOrderByVisitDateAsc(plan.getId());
+        List<Spot> spots = spotRepository.findAllByPlanIdOrderByVisitOrder(plan.getId());
+
+        Map<Long, Integer> dayIndex = new HashMap<>();
+        for (int day = 0; day < dailyPlans.size(); day++) {
+            dayIndex.put(dailyPlans.get(day).getId(), day);
+        }
+        Map<Long, Integer> spotIndex = new HashMap<>();
+        for (int i = 0; i < spots.size(); i++) {
+            spotIndex.put(spots.get(i).getId(), i);
+        }
+
+        // 요청 검증: 계획의 일별 계획/관광지만, 관광지는 정확히 한 번씩
+        int[][] orders = new int[dailyPlans.size()][0];
+        boolean[] assigned = new boolean[dailyPlans.size()];
+        Set<Long> seen = new HashSet<>();
+        for (ItineraryBalanceRequest.DayAssignment assignment : request.getDays()) {
+            Integer day = dayIndex.get(assignment.getDailyPlanId());
+            if (day == null || assigned[day]) {
+                throw new InvalidSpotOrderException("이 계획의 일별 계획이 아니거나 중복된 일별 계획입니다: "
+                        + assignment.getDailyPlanId());
+            }
+            int[] order = new int[assignment.getSpotIds().size()];
+            for (int k = 0; k < order.length; k++) {
+                Long spotId = assignment.getSpotIds().get(k);
+                if (!spotIndex.containsKey(spotId) || !seen.add(spotId)) {
+                    throw new InvalidSpotOrderException("이 계획의 관광지가 아니거나 중복된 관광지입니다: " + spotId);
+                }
+                order[k] = spotIndex.get(spotId);
+            }
+            orders[day] = order;
+            assigned[day] = true;
+        }
+        if (seen.size() != spots.size()) {
+            throw new InvalidSpotOrderException("계획의 모든 관광지를 배치해야 합니다.");
+        }
+
+        List<ItineraryBalancer.Stop> stops = toStops(spots, dailyPlans);
+        for (int day = 0; day < dailyPlans.size(); day++) {
+            DailyPlan dailyPlan = dailyPlans.get(day);
+            List<Long> newIds = idsOf(spots, orders[day]);
+            int currentDay = day;
+            List<Long> currentIds = IntStream.range(0, spots.size())
+                    .filter(i -> stops.get(i).currentDay() == currentDay)
+                    .mapToObj(i -> spots.get(i).getId())
+                    .collect(Collectors.toList());
+            if (newIds.equals(currentIds)) {
+                continue;
+            }
+
+            spotRepository.batchMoveSpots(dailyPlan.getId(), newIds);
+            dailyPlanRepository.incrementSpotOrderVersion(dailyPlan.getId());
+            travelSegmentRepository.deleteAllByDailyPlanId(dailyPlan.getId());
+            List<Long> movedIn = newIds.stream()
+                    .filter(id -> !currentIds.contains(id))
+                    .collect(Collectors.toList());
+            if (!movedIn.isEmpty()) {
+                expenseAggregateService.moveExpenseDates(movedIn, dailyPlan.getVisitDate());
+            }
+        }
+
+        ItineraryBalancer.Result result = ItineraryBalancer.measure(stops, orders, travelSeconds(spots, travelMode));
+        return toResponse(plan, travelMode, dailyPlans, spots, stops, result, true);
+    }
+
+    private List<ItineraryBalancer.Stop> toStops(List<Spot> spots, List<DailyPlan> dailyPlans) {
+        Map<Long, Integer> dayIndex = new HashMap<>();
+        for (int day = 0; day < dailyPlans.size(); day++) {
+            dayIndex.put(dailyPlans.get(day).getId(), day);
+        }
+        return spots.stream()
+                .map(spot -> new ItineraryBalancer.Stop(
+                        spot.getLatitude(),
+                        spot.getLongitude(),
+                        DurationParser.parseMinutes(spot.getDuration()),
+                        dayIndex.get(spot.getDailyPlan().getId()),
+                        spot.getCategory() == SpotCategory.HOTEL))
+                .collect(Collectors.toList());
+    }
+
+    // 날마다 출발 시각부터 하루 종료 시각까지 쓸 수 있는 시간(분)
+    private int[] budgets(List<DailyPlan> dailyPlans) {
+        return dailyPlans.stream()
+                .mapToInt(dailyPlan -> (int) Math.max(0,
+                        Duration.between(dailyPlan.getDepartureTime(), dayEnd).toMinutes()))
+                .toArray();
+    }
+
+    // 좌표가 있는 관광지 쌍의 예상 이동 시간(초) 행렬
+    private long[][] travelSeconds(List<Spot> spots, TravelMode travelMode) {
+        int size = spots.size();
+        long[][] seconds = new long[size][size];
+        for (int i = 0; i < size; i++) {
+            Spot from = spots.get(i);
+            if (from.getLatitude() == null || from.getLongitude() == null) {
+                continue;
+            }
+            for (int j = 0; j < size; j++) {
+                Spot to = spots.get(j);
+                if (i != j && to.getLatitude() != null && to.getLongitude() != null) {
+                    seconds[i][j] = travelTimeEstimator.estimateSeconds(from.getLatitude(), from.getLongitude(),
+                            to.getLatitude(), to.getLongitude(), travelMode);
+                }
+            }
+        }
+        return seconds;
+    }
+
+    private ItineraryBalanceResponse toResponse(Plan plan, TravelMode travelMode, List<DailyPlan> dailyPlans,
+                                                List<Spot> spots, List<ItineraryBalancer.Stop> stops,
+                                                ItineraryBalancer.Result result, boolean committed) {
+        int[] budgets = budgets(dailyPlans);
+        int moved = 0;
+        List<ItineraryBalanceResponse.DayPlan> days = new ArrayList<>();
+        for (int day = 0; day < dailyPlans.size(); day++) {
+            DailyPlan dailyPlan = dailyPlans.get(day);
+            for (int i : result.dayOrders()[day]) {
+                if (stops.get(i).currentDay() != day) {
+                    moved++;
+                }
+            }
+            days.add(ItineraryBalanceResponse.DayPlan.builder()
+                    .dailyPlanId(dailyPlan.getId())
+                    .visitDate(dailyPlan.getVisitDate())
+                    .departureTime(dailyPlan.getDepartureTime())
+                    .budgetMinutes(budgets[day])
+                    .stayMinutes(result.stayMinutes()[day])
+                    .travelMinutes((result.travelSeconds()[day] + 59) / 60)
+                    .totalMinutes(result.totalMinutes(day))
+                    .overBudget(result.totalMinutes(day) > budgets[day])
+                    .spotIds(idsOf(spots, result.dayOrders()[day]))
+                    .build());
+        }
+
+        return ItineraryBalanceResponse.builder()
+                .planId(plan.getId())
+                .travelMode(travelMode)
+                .committed(committed)
+                .movedSpotCount(moved)
+                .days(days)
+                .build();
+    }
+
+    private List<Long> idsOf(List<Spot> spots, int[] order) {
+        List<Long> ids = new ArrayList<>(order.length);
+        for (int i : order) {
+            ids.add(spots.get(i).getId());
+        }
+        return ids;
+    }
+
+    private Plan findAccessiblePlan(Long planId, Long userId) {
+        Plan plan = planRepository.findById(planId)
+                .orElseThrow(() -> new PlanNotFoundException(planId));
+
+        // Plan 접근 권한 확인 (소유자 또는 plan_member)
+        boolean owner = userId != null && plan.getUser().getId().equals(userId);
+        if (!owner && (userId == null || !planMemberRepository.existsByPlanIdAndUserId(planId, userId))) {
+            throw new RuntimeException("이 계획에 접근할 권한이 없습니다.");
+        }
+        return plan;
+    }
+}
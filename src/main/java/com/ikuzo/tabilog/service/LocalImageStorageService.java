@@ -0,0 +1,59 @@
+package com.ikuzo.tabilog.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 파일 시스템 이미지 저장소 (storage.type=local, 개발/테스트용)
+ * 임시 파일에 FileChannel 로 나누어 쓴 뒤 최종 이름으로 옮기므로, 실패한 업로드가 반쯤 쓰인 파일로 남지 않습니다.
+ * 저장한 파일은 WebConfig 가 {storage.local.public-url}/** 로 제공합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalImageStorageService implements ImageStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalImageStorageService.class);
+
+    private final Path directory;
+    private final String publicUrl;
+
+    public LocalImageStorageService(@Value("${storage.local.directory:uploads}") String directory,
+                                    @Value("${storage.local.public-url:/uploads}") String publicUrl) throws IOException {
+        this.directory = Files.createDirectories(Paths.get(directory).toAbsolutePath());
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+    }
+
+    @Override
+    public String uploadImage(MultipartFile file) throws IOException {
+        String fileName = UploadStreams.newObjectName(file.getOriginalFilename(), file.getContentType());
+        Path temp = Files.createTempFile(directory, ".upload-", ".tmp");
+        try {
+            try (InputStream in = file.getInputStream();
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                UploadStreams.copy(in, channel);
+            }
+            Files.move(temp, directory.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            logger.error("로컬 이미지 저장 실패: {}", e.getMessage(), e);
+            throw new IOException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        String url = publicUrl + "/" + fileName;
+        logger.info("이미지 업로드 성공: {}", url);
+        return url;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.email.EmailOutboxRepository;
+import com.ikuzo.tabilog.domain.invitation.PlanInvitationRepository;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.DirectionsCacheRepository;
+import com.ikuzo.tabilog.domain.token.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 만료 데이터 정리 작업
+ * 만료된 초대를 EXPIRED 로 바꾸고, 만료된 리프레시 토큰/경로 캐시와 보관 기간이 지난 전송 완료 메일을 삭제합니다.
+ * 대상 id 를 id 순서로 batchSize 개씩 조회하고, 묶음마다 별도의 짧은 트랜잭션으로 UPDATE/DELETE 하여
+ * 자주 쓰이는 테이블에 긴 잠금을 잡지 않습니다. 실행마다 작업별 처리 건수와 소요 시간을 기록합니다.
+ */
+@Slf4j
+@Component
+public class MaintenanceSweeper {
+
+    private final PlanInvitationRepository planInvitationRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final DirectionsCacheRepository directionsCacheRepository;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final int batchSize;
+    private final int emailOutboxRetentionDays;
+
+    public MaintenanceSweeper(PlanInvitationRepository planInvitationRepository,
+                              RefreshTokenRepository refreshTokenRepository,
+                              DirectionsCacheRepository directionsCacheRepository,
+                              EmailOutboxRepository emailOutboxRepository,
+                              @Value("${maintenance.sweep.batch-size:500}") int batchSize,
+                              @Value("${maintenance.email-outbox-retention-days:7}") int emailOutboxRetentionDays) {
+        this.planInvitationRepository = planInvitationRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.directionsCacheRepository = directionsCacheRepository;
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.batchSize = batchSize;
+        this.emailOutboxRetentionDays = emailOutboxRetentionDays;
+    }
+
+    /** 작업별 실행 결과 (rows: 변경/삭제된 행 수, batches: 실행한 UPDATE/DELETE 수) */
+    public record SweepReport(String task, int rows, int batches, long elapsedMillis) {
+    }
+
+    @Scheduled(cron = "${maintenance.sweep-cron:0 */15 * * * *}")
+    public List<SweepReport> runAll() {
+        long started = System.nanoTime();
+        List<SweepReport> reports = new ArrayList<>(4);
+        // 작업마다 따로 실행 (하나가 실패해도 나머지는 진행, 다음 실행에서 다시 처리)
+        reports.add(run("plan-invitation", this::expireInvitations));
+        reports.add(run("refresh-token", this::purgeRefreshTokens));
+        reports.add(run("directions-cache", this::purgeDirectionsCache));
+        reports.add(run("email-outbox", this::purgeSentEmails));
+
+        int rows = reports.stream().mapToInt(SweepReport::rows).sum();
+        log.info("만료 데이터 정리: 총 {}건, {}ms", rows, (System.nanoTime() - started) / 1_000_000);
+        return reports;
+    }
+
+    /** 만료된 대기 초대를 EXPIRED 로 변경 */
+    public SweepReport expireInvitations() {
+        LocalDateTime now = LocalDateTime.now();
+        return sweep("plan-invitation",
+                (afterId, page) -> planInvitationRepository.findExpiredIdsAfter(afterId, now, page),
+                ids -> planInvitationRepository.expireByIdIn(ids, now));
+    }
+
+    /** 만료된 리프레시 토큰 삭제 */
+    public SweepReport purgeRefreshTokens() {
+        Instant now = Instant.now();
+        return sweep("refresh-token",
+                (afterId, page) -> refreshTokenRepository.findExpiredIdsAfter(afterId, now, page),
+                ids -> refreshTokenRepository.deleteExpiredByIdIn(ids, now));
+    }
+
+    /** 만료된 경로 캐시 삭제 */
+    public SweepReport purgeDirectionsCache() {
+        LocalDateTime now = LocalDateTime.now();
+        return sweep("directions-cache",
+                (afterId, page) -> directionsCacheRepository.findExpiredIdsAfter(afterId, now, page),
+                ids -> directionsCacheRepository.deleteExpiredByIdIn(ids, now));
+    }
+
+    /** 보관 기간이 지난 전송 완료 메일 삭제 */
+    public SweepReport purgeSentEmails() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(emailOutboxRetentionDays);
+        return sweep("email-outbox",
+                (afterId, page) -> emailOutboxRepository.findSentIdsAfter(afterId, cutoff, page),
+                emailOutboxRepository::deleteByIdIn);
+    }
+
+    private SweepReport run(String task, Supplier<SweepReport> sweep) {
+        try {
+            SweepReport report = sweep.get();
+            if (report.rows() > 0) {
+                log.info("만료 데이터 정리: task={}, rows={}, batches={}, {}ms",
+                        report.task(), report.rows(), report.batches(), report.elapsedMillis());
+            }
+            return report;
+        } catch (RuntimeException e) {
+            log.warn("만료 데이터 정리 실패: task={}, {}", task, e.getMessage());
+            return new SweepReport(task, 0, 0, 0L);
+        }
+    }
+
+    /**
+     * afterId 이후 대상 id 를 batchSize 개씩 조회해 apply 로 처리 (id 순 keyset 반복)
+     * apply 는 묶음마다 자체 트랜잭션으로 실행되는 저장소 메서드입니다.
+     */
+    private SweepReport sweep(String task, BiFunction<Long, Pageable, List<Long>> findIdsAfter,
+                              Function<List<Long>, Integer> apply) {
+        long started = System.nanoTime();
+        Pageable page = PageRequest.of(0, batchSize);
+        int rows = 0;
+        int batches = 0;
+        long afterId = 0L;
+        List<Long> ids;
+        do {
+            ids = findIdsAfter.apply(afterId, page);
+            if (ids.isEmpty()) {
+                break;
+            }
+            rows += apply.apply(ids);
+            batches++;
+            afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == batchSize);
+        return new SweepReport(task, rows, batches, (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,270 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.GoogleMapsService;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.spot.SpotGeoIndex;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.dto.response.GooglePlaceResponse;
+import com.ikuzo.tabilog.dto.response.NearbySpotResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 주변 관광지 검색
+ * 공개 계획에 저장된 관광지의 좌표를 인메모리 격자 색인(SpotGeoIndex)에 올려 두고 반경/최근접 검색을 처리합니다.
+ * - 시작 시 좌표가 있는 공개 계획의 관광지를 id 순서로 나누어 읽어 색인하고, 관광지 추가/수정/삭제는 커밋 후 색인에 반영합니다.
+ * - 다른 인스턴스나 공개 여부 변경은 스케줄러가 refresh-seconds 간격으로 바뀐 계획을 다시 읽어 반영하며 (검색 요청은 기다리지 않음),
+ *   삭제되었거나 비공개가 된 관광지는 결과를 반환하기 전에 확인하여 색인에서 제거합니다.
+ * - Google 주변 검색(/api/spots/nearby)은 저장된 관광지만으로 충분하면 외부 API를 호출하지 않습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class NearbySpotService {
+
+    // Google 주변 검색과 같은 1km 반경
+    static final int DEFAULT_RADIUS_METERS = 1000;
+    static final int MAX_RADIUS_METERS = 50_000;
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 50;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    // 삭제/비공개로 제외될 관광지를 감안해 limit 보다 더 읽는 배수
+    private static final int OVERFETCH_FACTOR = 2;
+    // 변경분 조회 시 시계 오차/늦게 커밋된 트랜잭션을 감안해 겹쳐 읽는 구간
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+    // 저장된 관광지 결과의 placeId 접두어 (Google place id 와 구분)
+    static final String PLACE_ID_PREFIX = "spot:";
+
+    // Google place type → 관광지 카테고리 (없는 타입은 저장된 관광지로 응답하지 않음)
+    private static final Map<String, Set<SpotCategory>> CATEGORIES_BY_PLACE_TYPE = Map.ofEntries(
+            Map.entry("tourist_attraction", EnumSet.of(SpotCategory.LANDMARK, SpotCategory.TEMPLE, SpotCategory.MUSEUM,
+                    SpotCategory.PARK, SpotCategory.STREET, SpotCategory.BEACH, SpotCategory.MOUNTAIN)),
+            Map.entry("lodging", EnumSet.of(SpotCategory.HOTEL)),
+            Map.entry("restaurant", EnumSet.of(SpotCategory.RESTAURANT)),
+            Map.entry("cafe", EnumSet.of(SpotCategory.RESTAURANT)),
+            Map.entry("food", EnumSet.of(SpotCategory.RESTAURANT)),
+            Map.entry("museum", EnumSet.of(SpotCategory.MUSEUM)),
+            Map.entry("park", EnumSet.of(SpotCategory.PARK)),
+            Map.entry("shopping_mall", EnumSet.of(SpotCategory.SHOPPING)),
+            Map.entry("department_store", EnumSet.of(SpotCategory.SHOPPING)),
+            Map.entry("store", EnumSet.of(SpotCategory.SHOPPING)),
+            Map.entry("place_of_worship", EnumSet.of(SpotCategory.TEMPLE)),
+            Map.entry("hindu_temple", EnumSet.of(SpotCategory.TEMPLE)));
+
+    private final SpotRepository spotRepository;
+    private final PlanRepository planRepository;
+    private final GoogleMapsService googleMapsService;
+    private final SpotGeoIndex index = new SpotGeoIndex();
+    private final int minLocalResults;
+
+    private volatile LocalDateTime refreshedAt;
+
+    public NearbySpotService(SpotRepository spotRepository,
+                             PlanRepository planRepository,
+                             GoogleMapsService googleMapsService,
+                             @Value("${spot.nearby.min-local-results:5}") int minLocalResults) {
+        this.spotRepository = spotRepository;
+        this.planRepository = planRepository;
+        this.googleMapsService = googleMapsService;
+        this.minLocalResults = minLocalResults;
+    }
+
+    /** 좌표가 있는 공개 계획의 관광지 색인 (애플리케이션 시작 시) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long afterId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = spotRepository.findGeoFieldsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Object[] row : rows) {
+                put(row);
+                afterId = (Long) row[0];
+            }
+        } while (rows.size() == LOAD_CHUNK_SIZE);
+        refreshedAt = startedAt;
+        log.info("관광지 위치 색인 완료: {}건", index.size());
+    }
+
+    /** 관광지 추가/수정 후 호출 (트랜잭션 안이면 커밋 후 반영, 좌표가 없거나 비공개 계획이면 색인에서 제거) */
+    public void index(Spot spot) {
+        long spotId = spot.getId();
+        Plan plan = spot.getDailyPlan().getPlan();
+        if (spot.getLatitude() == null || spot.getLongitude() == null || !isPublic(plan)) {
+            afterCommit(() -> index.remove(spotId));
+            return;
+        }
+        SpotGeoIndex.Point point = new SpotGeoIndex.Point(spotId, plan.getId(), spot.getName(), spot.getAddress(),
+                spot.getCategory(), spot.getLatitude(), spot.getLongitude());
+        afterCommit(() -> index.put(point));
+    }
+
+    /** 관광지 삭제 후 호출 (트랜잭션 안이면 커밋 후 반영) */
+    public void remove(Long spotId) {
+        afterCommit(() -> index.remove(spotId));
+    }
+
+    /**
+     * 저장된 관광지 중 반경 안에서 가까운 순으로 limit 개
+     * @param categories 비어 있거나 null 이면 전체 카테고리
+     */
+    public List<NearbySpotResponse> findNearbySpots(double lat, double lng, Integer radiusMeters, Integer limit,
+                                                    Collection<SpotCategory> categories) {
+        Set<SpotCategory> categoryFilter = categories == null || categories.isEmpty()
+                ? Set.of() : EnumSet.copyOf(categories);
+        return nearest(lat, lng, resolveRadius(radiusMeters), resolveLimit(limit), categoryFilter).stream()
+                .map(NearbySpotResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 주변 장소 (Google place type 기준)
+     * 1km 안에 저장된 관광지가 min-local-results 개 이상이면 그대로 응답하고,
+     * 모자라면 Google 주변 검색 결과를 뒤에 붙입니다 (이름이 같은 장소는 제외).
+     */
+    public CompletableFuture<List<GooglePlaceResponse>> getNearbyPlacesAsync(double lat, double lng, String type) {
+        Set<SpotCategory> categories = CATEGORIES_BY_PLACE_TYPE.get(type.trim().toLowerCase(Locale.ROOT));
+        if (categories == null) {
+            return googleMapsService.getNearbyPlacesAsync(lat, lng, type);
+        }
+
+        List<GooglePlaceResponse> local = nearest(lat, lng, DEFAULT_RADIUS_METERS, DEFAULT_LIMIT, categories).stream()
+                .map(hit -> toPlaceResponse(hit, type))
+                .collect(Collectors.toList());
+        if (local.size() >= minLocalResults) {
+            return CompletableFuture.completedFuture(local);
+        }
+
+        Set<String> localNames = local.stream().map(GooglePlaceResponse::getName).collect(Collectors.toSet());
+        return googleMapsService.getNearbyPlacesAsync(lat, lng, type)
+                .thenApply(places -> {
+                    List<GooglePlaceResponse> merged = new ArrayList<>(local);
+                    places.stream()
+                            .filter(place -> !localNames.contains(place.getName()))
+                            .forEach(merged::add);
+                    return merged;
+                });
+    }
+
+    /**
+     * 색인에서 가까운 순으로 limit 개 (삭제되었거나 비공개가 된 관광지는 색인에서 빼고 다음 후보로 채움)
+     * 제외될 몫을 감안해 limit 의 두 배씩 읽고, 확인된 관광지가 limit 개가 되거나 후보가 바닥날 때까지 반복합니다.
+     */
+    private List<SpotGeoIndex.Hit> nearest(double lat, double lng, int radiusMeters, int limit, Set<SpotCategory> categories) {
+        int fetchSize = limit * OVERFETCH_FACTOR;
+        Set<Long> confirmedSpotIds = new HashSet<>();
+        while (true) {
+            List<SpotGeoIndex.Hit> hits = index.nearest(lat, lng, fetchSize, radiusMeters, categories);
+            List<Long> uncheckedSpotIds = hits.stream()
+                    .map(hit -> hit.point().spotId())
+                    .filter(spotId -> !confirmedSpotIds.contains(spotId))
+                    .collect(Collectors.toList());
+            if (!uncheckedSpotIds.isEmpty()) {
+                // 다른 경로(계획 삭제, 다른 인스턴스)로 삭제되었거나 비공개가 된 관광지 제외
+                confirmedSpotIds.addAll(spotRepository.findPublicSpotIds(uncheckedSpotIds));
+            }
+            List<SpotGeoIndex.Hit> visible = new ArrayList<>(hits.size());
+            for (SpotGeoIndex.Hit hit : hits) {
+                if (confirmedSpotIds.contains(hit.point().spotId())) {
+                    visible.add(hit);
+                } else {
+                    index.remove(hit.point().spotId());
+                }
+            }
+            // 제외한 관광지는 색인에서 빠졌으므로 다시 읽으면 다음 후보가 올라옴
+            if (visible.size() >= limit || hits.size() < fetchSize) {
+                return visible.size() > limit ? visible.subList(0, limit) : visible;
+            }
+        }
+    }
+
+    /** 마지막 반영 이후 계획/관광지가 바뀐 계획을 다시 색인 (시작 시 색인이 끝나기 전에는 건너뜀) */
+    @Scheduled(fixedDelayString = "${spot.nearby.refresh-seconds:30}",
+               initialDelayString = "${spot.nearby.refresh-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public synchronized void refresh() {
+        if (refreshedAt == null) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime since = refreshedAt.minus(REFRESH_OVERLAP);
+            Set<Long> planIds = new HashSet<>(planRepository.findIdsUpdatedSince(since));
+            planIds.addAll(spotRepository.findPlanIdsWithSpotsUpdatedSince(since));
+            if (!planIds.isEmpty()) {
+                planIds.forEach(index::removePlan);
+                spotRepository.findGeoFieldsByPlanIdIn(planIds).forEach(this::put);
+            }
+            refreshedAt = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("관광지 위치 색인 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void put(Object[] row) {
+        index.put(new SpotGeoIndex.Point((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                (SpotCategory) row[4], (Double) row[5], (Double) row[6]));
+    }
+
+    private static GooglePlaceResponse toPlaceResponse(SpotGeoIndex.Hit hit, String type) {
+        SpotGeoIndex.Point point = hit.point();
+        return GooglePlaceResponse.builder()
+                .placeId(PLACE_ID_PREFIX + point.spotId())
+                .name(point.name())
+                .formattedAddress(point.address())
+                .vicinity(point.address())
+                .latitude(point.latitude())
+                .longitude(point.longitude())
+                .types(new String[]{type, point.category().name().toLowerCase(Locale.ROOT)})
+                .build();
+    }
+
+    private static boolean isPublic(Plan plan) {
+        return plan.isPublic() && Boolean.TRUE.equals(plan.getUser().getPublicAgreement());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static int resolveRadius(Integer radiusMeters) {
+        return radiusMeters == null ? DEFAULT_RADIUS_METERS : Math.max(1, Math.min(radiusMeters, MAX_RADIUS_METERS));
+    }
+
+    private static int resolveLimit(Integer limit) {
+        return limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,49 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.exception.InvalidCursorException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 공개 피드 키셋 페이지네이션 커서 (createdAt, id)
+ * 클라이언트에는 Base64 URL 문자열로만 노출되며 내부 형식에 의존하지 않도록 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+class PlanFeedCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    static PlanFeedCursor of(Plan plan) {
+        return new PlanFeedCursor(plan.getCreatedAt(), plan.getId());
+    }
+
+    String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PlanFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new PlanFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.Expense;
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregateRepository;
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMember;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRole;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.response.DailyPlanResponse;
+import com.ikuzo.tabilog.dto.response.ExpenseResponse;
+import com.ikuzo.tabilog.dto.response.PlanMemberResponse;
+import com.ikuzo.tabilog.dto.response.PlanResponse;
+import com.ikuzo.tabilog.dto.response.PlanSummaryResponse;
+import com.ikuzo.tabilog.dto.response.SpotResponse;
+import com.ikuzo.tabilog.dto.response.TravelSegmentResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여행 계획 전체 트리(일별 계획 → 관광지/이동 구간, 멤버, 지출)를 PlanResponse로 조립합니다.
+ * 일수와 관계없이 planId 기준 배치 쿼리 몇 개로만 로딩하므로 일별 N+1 조회가 발생하지 않습니다.
+ * 목록 화면용 PlanSummaryResponse는 계획 수와 관계없이 IN 조건 집계 쿼리로 한 번에 조립합니다.
+ * 접근 권한 확인은 호출하는 쪽(PlanService)에서 Plan을 조회할 때 이미 끝난 것으로 봅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanGraphLoader {
+
+    private final SpotRepository spotRepository;
+    private final TravelSegmentRepository travelSegmentRepository;
+    private final PlanMemberRepository planMemberRepository;
+    private final ExpenseRepository expenseRepository;
+    private final PlanExpenseAggregateRepository planExpenseAggregateRepository;
+    private final DailyPlanRepository dailyPlanRepository;
+    private final DailyScheduleService dailyScheduleService;
+
+    public PlanResponse load(Plan plan) {
+        Long planId = plan.getId();
+
+        // 관광지와 이동 구간은 계획 단위로 한 번씩만 조회한 뒤 일별 계획 ID로 묶는다
+        Map<Long, List<SpotResponse>> spotsByDailyPlan = spotRepository.findAllByPlanIdOrderByVisitOrder(planId).stream()
+                .collect(Collectors.groupingBy(spot -> spot.getDailyPlan().getId(),
+                        Collectors.mapping(SpotResponse::from, Collectors.toList())));
+
+        Map<Long, List<TravelSegmentResponse>> segmentsByDailyPlan = travelSegmentRepository.findAllByPlanIdWithSpots(planId).stream()
+                .collect(Collectors.groupingBy(segment -> segment.getDailyPlan().getId(),
+                        Collectors.mapping(TravelSegmentResponse::from, Collectors.toList())));
+
+        List<DailyPlanResponse> dailyPlanResponses = plan.getDailyPlans().stream()
+                .map(dailyPlan -> toDailyPlanResponse(dailyPlan,
+                        spotsByDailyPlan.getOrDefault(dailyPlan.getId(), new ArrayList<>()),
+                        segmentsByDailyPlan.getOrDefault(dailyPlan.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+
+        List<PlanMemberResponse> memberResponses = toMemberResponses(plan, planMemberRepository.findAllByPlanIdWithUser(planId));
+
+        // 지출 목록을 한 번 읽어 합계까지 계산 (별도 SUM 쿼리 없음)
+        List<Expense> expenses = expenseRepository.findAllByPlanIdOrderByExpenseDateAsc(planId);
+        List<ExpenseResponse> expenseResponses = expenses.stream()
+                .map(ExpenseResponse::from)
+                .collect(Collectors.toList());
+        long totalExpenseAmount = expenses.stream()
+                .mapToLong(expense -> expense.getAmount().longValue())
+                .sum();
+
+        return PlanResponse.builder()
+                .id(plan.getId())
+                .title(plan.getTitle())
+                .startDate(plan.getStartDate())
+                .endDate(plan.getEndDate())
+                .region(plan.getRegion())
+                .prefecture(plan.getPrefecture())
+                .prefectureImageUrl(getPrefectureImageUrl(plan.getPrefectureImageUrl()))
+                .participant_count(plan.getParticipant_count())
+                .totalBudget(plan.getTotalBudget())
+                .status(plan.getStatus())
+                .userId(plan.getUser().getId())
+                .dailyPlans(dailyPlanResponses)
+                .members(memberResponses)
+                .expenses(expenseResponses)
+                .totalExpenseAmount(totalExpenseAmount)
+                .isPublic(plan.isPublic())
+                .createdAt(plan.getCreatedAt())
+                .updatedAt(plan.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 여러 계획을 목록용 요약 응답으로 변환합니다.
+     * 멤버, 지출 합계(지출 집계 테이블), 일수를 각각 IN 조건 쿼리 한 번으로 가져오므로 계획 수만큼 쿼리가 늘지 않습니다.
+     * plans의 작성자(user)는 미리 fetch join 되어 있어야 합니다.
+     */
+    public List<PlanSummaryResponse> loadSummaries(List<Plan> plans) {
+        if (plans.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> planIds = plans.stream()
+                .map(Plan::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<PlanMember>> membersByPlan = planMemberRepository.findAllByPlanIdInWithUser(planIds).stream()
+                .collect(Collectors.groupingBy(member -> member.getPlan().getId()));
+        Map<Long, Long> totalExpenseByPlan = toCountMap(planExpenseAggregateRepository.getTotalAmountByPlanIdIn(planIds));
+        Map<Long, Long> dayCountByPlan = toCountMap(dailyPlanRepository.countByPlanIdIn(planIds));
+
+        return plans.stream()
+                .map(plan -> PlanSummaryResponse.builder()
+                        .id(plan.getId())
+                        .title(plan.getTitle())
+                        .startDate(plan.getStartDate())
+                        .endDate(plan.getEndDate())
+                        .region(plan.getRegion())
+                        .prefecture(plan.getPrefecture())
+                        .prefectureImageUrl(getPrefectureImageUrl(plan.getPrefectureImageUrl()))
+                        .participant_count(plan.getParticipant_count())
+                        .totalBudget(plan.getTotalBudget())
+                        .status(plan.getStatus())
+                        .userId(plan.getUser().getId())
+                        .dayCount(getDayCount(plan, dayCountByPlan.get(plan.getId())))
+                        .members(toMemberResponses(plan, membersByPlan.getOrDefault(plan.getId(), new ArrayList<>())))
+                        .totalExpenseAmount(totalExpenseByPlan.getOrDefault(plan.getId(), 0L))
+                        .isPublic(plan.isPublic())
+                        .createdAt(plan.getCreatedAt())
+                        .updatedAt(plan.getUpdatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 멤버 목록을 응답으로 변환합니다.
+     * 계획 작성자가 plan_member에 없으면 OWNER로 맨 앞에 추가합니다 (기존 데이터 호환성).
+     */
+    List<PlanMemberResponse> toMemberResponses(Plan plan, List<PlanMember> members) {
+        List<PlanMemberResponse> memberResponses = members.stream()
+                .map(this::toMemberResponse)
+                .collect(Collectors.toList());
+
+        User owner = plan.getUser();
+        boolean ownerExists = memberResponses.stream()
+                .anyMatch(member -> member.getUserId().equals(owner.getId()));
+
+        if (!ownerExists) {
+            PlanMemberResponse ownerResponse = PlanMemberResponse.builder()
+                    .id(null) // 실제 PlanMember 엔티티가 없는 경우
+                    .userId(owner.getId())
+                    .userIdString(owner.getUserId())
+                    .userNickname(owner.getNickname())
+                    .userEmail(owner.getEmail())
+                    .profileImageUrl(owner.getProfileImageUrl())
+                    .role(PlanMemberRole.OWNER)
+                    .build();
+            memberResponses.add(0, ownerResponse);
+        }
+        return memberResponses;
+    }
+
+    String getPrefectureImageUrl(String customImageUrl) {
+        // 커스텀 이미지가 있으면 우선 사용, 없으면 null
+        if (customImageUrl != null && !customImageUrl.trim().isEmpty()) {
+            return customImageUrl;
+        }
+        return null;
+    }
+
+    private Integer getDayCount(Plan plan, Long storedDayCount) {
+        if (storedDayCount != null && storedDayCount > 0) {
+            return storedDayCount.intValue();
+        }
+        // 일별 계획이 아직 생성되지 않은 계획은 상세 조회 시 날짜 범위대로 생성되므로 동일하게 계산
+        return (int) ChronoUnit.DAYS.between(plan.getStartDate(), plan.getEndDate()) + 1;
+    }
+
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+
+    private DailyPlanResponse toDailyPlanResponse(DailyPlan dailyPlan, List<SpotResponse> spots,
+                                                  List<TravelSegmentResponse> travelSegments) {
+        return DailyPlanResponse.builder()
+                .id(dailyPlan.getId())
+                .visitDate(dailyPlan.getVisitDate())
+                .departureTime(dailyPlan.getDepartureTime())
+                .spotOrderVersion(dailyPlan.getSpotOrderVersion())
+                .spots(spots)
+                .travelSegments(travelSegments)
+                .schedule(dailyScheduleService.getSchedule(dailyPlan, spots, travelSegments))
+                .createdAt(dailyPlan.getCreatedAt())
+                .updatedAt(dailyPlan.getUpdatedAt())
+                .build();
+    }
+
+    private PlanMemberResponse toMemberResponse(PlanMember planMember) {
+        return PlanMemberResponse.builder()
+                .id(planMember.getId())
+                .userId(planMember.getUser().getId())
+                .userIdString(planMember.getUser().getUserId())
+                .userNickname(planMember.getUser().getNickname())
+                .userEmail(planMember.getUser().getEmail())
+                .profileImageUrl(planMember.getUser().getProfileImageUrl()) // user 테이블의 프로필 이미지 URL
+                .role(planMember.getRole())
+                .build();
+    }
+}
@@ -73,16 +73,16 @@ public class PlanInvitationService {
 
         PlanInvitation savedInvitation = planInvitationRepository.save(invitation);
 
-        // 이메일 전송
+        // 이메일 전송 예약 (초대와 함께 커밋된 뒤 발송)
         try {
-            emailService.sendPlanInvitationEmail(
+            emailService.queuePlanInvitationEmail(
                     request.getInviteeEmail(),
                     inviter.getNickname(),
                     plan.getTitle(),
                     token
             );
         } catch (Exception e) {
-            log.error("초대 이메일 전송 실패: {}", e.getMessage());
+            log.error("초대 이메일 전송 예약 실패: {}", e.getMessage());
             // 이메일 전송 실패 시에도 초대는 생성되도록 함
         }
 
@@ -7,6 +7,7 @@ import com.ikuzo.tabilog.domain.plan.PlanMember;
 import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
 import com.ikuzo.tabilog.domain.plan.PlanMemberRole;
 import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.plan.PlanSpecifications;
 import com.ikuzo.tabilog.domain.user.User;
 import com.ikuzo.tabilog.domain.user.UserRepository;
 import com.ikuzo.tabilog.domain.invitation.PlanInvitationRepository;
@@ -14,24 +15,22 @@ import com.ikuzo.tabilog.domain.spot.SpotRepository;
 import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
 import com.ikuzo.tabilog.dto.request.DailyPlanRequest;
 import com.ikuzo.tabilog.dto.request.PlanRequest;
-import com.ikuzo.tabilog.dto.response.DailyPlanResponse;
-import com.ikuzo.tabilog.dto.response.ExpenseResponse;
-import com.ikuzo.tabilog.dto.response.PlanMemberResponse;
+import com.ikuzo.tabilog.dto.response.PageResponse;
+import com.ikuzo.tabilog.dto.response.PlanFeedResponse;
 import com.ikuzo.tabilog.dto.response.PlanResponse;
-import com.ikuzo.tabilog.dto.response.SpotResponse;
-import com.ikuzo.tabilog.dto.response.TravelSegmentResponse;
+import com.ikuzo.tabilog.dto.response.PlanSummaryResponse;
 import com.ikuzo.tabilog.exception.PlanNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,16 +38,18 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PlanService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final PlanRepository planRepository;
     private final DailyPlanRepository dailyPlanRepository;
     private final PlanMemberRepository planMemberRepository;
     private final UserRepository userRepository;
-    private final SpotService spotService;
-    private final TravelSegmentService travelSegmentService;
-    private final ExpenseService expenseService;
+    private final PlanGraphLoader planGraphLoader;
     private final SpotRepository spotRepository;
     private final TravelSegmentRepository travelSegmentRepository;
     private final PlanInvitationRepository planInvitationRepository;
+    private final ExpenseAggregateService expenseAggregateService;
 
     @Transactional
     public PlanResponse createPlan(PlanRequest request, Long userId) {
@@ -132,23 +133,8 @@ public class PlanService {
             }
         }
 
-        // DailyPlan의 spots와 travelSegments를 별도로 로드
-        List<DailyPlan> dailyPlansWithSpots = dailyPlanRepository.findAllByPlanIdWithSpots(planId);
-        List<DailyPlan> dailyPlansWithTravelSegments = dailyPlanRepository.findAllByPlanIdWithTravelSegments(planId);
-
-        // Plan의 dailyPlans를 업데이트
-        plan.getDailyPlans().clear();
-        plan.getDailyPlans().addAll(dailyPlansWithSpots);
-
-        // travelSegments를 각 DailyPlan에 설정
-        for (DailyPlan dailyPlan : plan.getDailyPlans()) {
-            dailyPlansWithTravelSegments.stream()
-                    .filter(dp -> dp.getId().equals(dailyPlan.getId()))
-                    .findFirst()
-                    .ifPresent(dp -> dailyPlan.getTravelSegments().addAll(dp.getTravelSegments()));
-        }
-
-        return convertToResponse(plan);
+        // 관광지/이동 구간/멤버/지출은 일수와 무관하게 배치 쿼리로 한 번에 로드
+        return planGraphLoader.load(plan);
     }
 
     public List<PlanResponse> getUserPlans(Long userId) {
@@ -179,6 +165,23 @@ public class PlanService {
                 .collect(Collectors.toList());
     }
 
+    // 목록 화면용 요약 조회 (상세 트리 없이 멤버/일수/지출 합계만 배치 조회)
+    public List<PlanSummaryResponse> getUserPlanSummaries(Long userId) {
+        return planGraphLoader.loadSummaries(planRepository.findAllByMemberUserIdOrderByStartDateDesc(userId));
+    }
+
+    public List<PlanSummaryResponse> getActivePlanSummaries(Long userId) {
+        return planGraphLoader.loadSummaries(planRepository.findActivePlansByMemberUserId(userId));
+    }
+
+    public List<PlanSummaryResponse> getUpcomingPlanSummaries(Long userId) {
+        return planGraphLoader.loadSummaries(planRepository.findUpcomingPlansByMemberUserId(userId));
+    }
+
+    public List<PlanSummaryResponse> getCompletedPlanSummaries(Long userId) {
+        return planGraphLoader.loadSummaries(planRepository.findCompletedPlansByMemberUserId(userId));
+    }
+
     @Transactional
     public PlanResponse updatePlan(Long planId, PlanRequest request, Long userId) {
         Plan plan = planRepository.findByIdAndUserId(planId, userId)
@@ -232,7 +235,8 @@ public class PlanService {
                 }
             }
             
-            // 4. Expenses는 Plan 삭제 시 CASCADE로 자동 삭제됨
+            // 4. Expenses는 Plan 삭제 시 CASCADE로 자동 삭제됨 (지출 집계는 직접 삭제)
+            expenseAggregateService.deletePlan(planId);
             // 5. 마지막에 Plan 삭제
             planRepository.delete(plan);
             
@@ -244,156 +248,81 @@ public class PlanService {
         }
     }
 
-    // 사용자의 여행 계획을 prefecture와 status로 필터링하여 조회
-    public List<PlanResponse> getUserPlansWithFilters(Long userId, String prefecture, String status) {
-        return getUserPlansWithFilters(userId, prefecture, null, status);
-    }
-    
-    // 사용자의 여행 계획을 prefecture(단일 또는 복수)와 status로 필터링하여 조회
-    public List<PlanResponse> getUserPlansWithFilters(Long userId, String prefecture, List<String> prefectures, String status) {
-        List<Plan> plans = planRepository.findAllByMemberUserIdOrderByStartDateDesc(userId);
-        
-        // prefecture 필터링 (단일 prefecture 또는 복수 prefectures 중 하나만 적용)
-        if (!isEmptyOrNull(prefecture)) {
-            // 단일 prefecture 필터링
-            plans = plans.stream()
-                    .filter(plan -> plan.getPrefecture().equals(prefecture))
-                    .collect(Collectors.toList());
-        } else if (prefectures != null && !prefectures.isEmpty()) {
-            // 복수 prefectures 필터링 (IN 조건)
-            plans = plans.stream()
-                    .filter(plan -> prefectures.contains(plan.getPrefecture()))
-                    .collect(Collectors.toList());
-        }
-        
-        // status 필터링
-        if (!isEmptyOrNull(status)) {
-            plans = plans.stream()
-                    .filter(plan -> plan.getStatus().equals(status))
-                    .collect(Collectors.toList());
-        }
-        
-        return plans.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    // 사용자의 여행 계획 검색 (prefecture(s)/status/기간 필터와 페이지네이션을 모두 DB에서 처리)
+    public PageResponse<PlanSummaryResponse> searchUserPlanSummaries(Long userId, String prefecture, List<String> prefectures,
+                                                                     String status, LocalDate from, LocalDate to,
+                                                                     int page, Integer size) {
+        Page<Plan> plans = findUserPlans(userId, prefecture, prefectures, status, from, to, page, size);
+        return PageResponse.of(plans, planGraphLoader.loadSummaries(plans.getContent()));
     }
 
-   
-    // 공개된 여행 계획 조회 (필터링 지원)
-    public List<PlanResponse> getPublicPlans(String region, String prefecture, String status) {
-        List<Plan> plans;
-        
-        // 모든 필터가 null이거나 빈 문자열인 경우 전체 조회
-        if (isEmptyOrNull(region) && isEmptyOrNull(prefecture) && isEmptyOrNull(status)) {
-            plans = planRepository.findAll();
-        } else {
-            // null이나 빈 문자열을 null로 변환
-            String regionFilter = isEmptyOrNull(region) ? null : region;
-            String prefectureFilter = isEmptyOrNull(prefecture) ? null : prefecture;
-            String statusFilter = isEmptyOrNull(status) ? null : status;
-            
-            plans = planRepository.findPublicPlansWithFilters(regionFilter, prefectureFilter, statusFilter);
-        }
-        
-        return plans.stream()
+    public PageResponse<PlanResponse> searchUserPlans(Long userId, String prefecture, List<String> prefectures,
+                                                      String status, LocalDate from, LocalDate to,
+                                                      int page, Integer size) {
+        Page<Plan> plans = findUserPlans(userId, prefecture, prefectures, status, from, to, page, size);
+        return PageResponse.of(plans, plans.getContent().stream()
                 .map(this::convertToResponse)
-                .collect(Collectors.toList());
-    }
-    
-    private boolean isEmptyOrNull(String value) {
-        return value == null || value.trim().isEmpty() || value.equals("전체");
+                .collect(Collectors.toList()));
     }
 
-    private String getPrefectureImageUrl(String prefecture, String customImageUrl) {
-        // 커스텀 이미지가 있으면 우선 사용
-        if (customImageUrl != null && !customImageUrl.trim().isEmpty()) {
-            return customImageUrl;
-        }
-        
-        // 유효한 커스텀 이미지가 없으면 null 반환
-        return null;
+    private Page<Plan> findUserPlans(Long userId, String prefecture, List<String> prefectures,
+                                     String status, LocalDate from, LocalDate to,
+                                     int page, Integer size) {
+        // 단일 prefecture가 있으면 우선 적용, 없으면 복수 prefectures (IN 조건)
+        List<String> prefectureFilter = !isEmptyOrNull(prefecture) ? List.of(prefecture) : prefectures;
+
+        Specification<Plan> spec = Specification.where(PlanSpecifications.fetchUser())
+                .and(PlanSpecifications.accessibleBy(userId))
+                .and(PlanSpecifications.prefectureIn(prefectureFilter))
+                .and(PlanSpecifications.statusEquals(isEmptyOrNull(status) ? null : status))
+                .and(PlanSpecifications.overlaps(from, to));
+
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), resolvePageSize(size),
+                Sort.by(Sort.Order.desc("startDate"), Sort.Order.desc("id")));
+        return planRepository.findAll(spec, pageable);
     }
 
-    private PlanResponse convertToResponse(Plan plan) {
-        List<DailyPlanResponse> dailyPlanResponses = plan.getDailyPlans().stream()
-                .map(dailyPlan -> convertToResponse(dailyPlan, plan.getUser().getId()))
-                .collect(Collectors.toList());
+    // 공개된 여행 계획 피드 조회 (필터링 + 키셋 페이지네이션)
+    public PlanFeedResponse getPublicPlanFeed(String region, String prefecture, String status, String cursor, Integer size) {
+        // null이나 빈 문자열을 null로 변환
+        String regionFilter = isEmptyOrNull(region) ? null : region;
+        String prefectureFilter = isEmptyOrNull(prefecture) ? null : prefecture;
+        String statusFilter = isEmptyOrNull(status) ? null : status;
 
-        List<PlanMemberResponse> memberResponses = plan.getPlanMembers().stream()
-                .map(this::convertToMemberResponse)
-                .collect(Collectors.toList());
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-        // 계획 작성자가 members에 없으면 OWNER로 추가 (기존 데이터 호환성)
-        boolean ownerExists = memberResponses.stream()
-                .anyMatch(member -> member.getUserId().equals(plan.getUser().getId()));
-        
-        if (!ownerExists) {
-            PlanMemberResponse ownerResponse = PlanMemberResponse.builder()
-                    .id(null) // 실제 PlanMember 엔티티가 없는 경우
-                    .userId(plan.getUser().getId())
-                    .userIdString(plan.getUser().getUserId())
-                    .userNickname(plan.getUser().getNickname())
-                    .userEmail(plan.getUser().getEmail())
-                    .profileImageUrl(plan.getUser().getProfileImageUrl()) // 프로필 이미지 URL
-                    .role(PlanMemberRole.OWNER)
-                    .build();
-            memberResponses.add(0, ownerResponse); // 첫 번째에 추가
+        List<Plan> plans;
+        if (cursor == null || cursor.isBlank()) {
+            plans = planRepository.findPublicFeed(regionFilter, prefectureFilter, statusFilter, limit);
+        } else {
+            PlanFeedCursor after = PlanFeedCursor.decode(cursor);
+            plans = planRepository.findPublicFeedAfter(after.getCreatedAt(), after.getId(),
+                    regionFilter, prefectureFilter, statusFilter, limit);
         }
 
-        // Expense 데이터 가져오기
-        List<ExpenseResponse> expenseResponses = expenseService.getExpensesByPlan(plan.getId());
-        
-        // 총 지출 금액 계산 (ExpenseService를 통해 정확한 계산)
-        Integer expenseTotal = expenseService.getTotalAmountByPlan(plan.getId());
-        Long totalExpenseAmount = expenseTotal != null ? expenseTotal.longValue() : 0L;
-
-        return PlanResponse.builder()
-                .id(plan.getId())
-                .title(plan.getTitle())
-                .startDate(plan.getStartDate())
-                .endDate(plan.getEndDate())
-                .region(plan.getRegion())
-                .prefecture(plan.getPrefecture())
-                .prefectureImageUrl(getPrefectureImageUrl(plan.getPrefecture(), plan.getPrefectureImageUrl()))
-                .participant_count(plan.getParticipant_count())
-                .totalBudget(plan.getTotalBudget())
-                .status(plan.getStatus())
-                .userId(plan.getUser().getId())
-                .dailyPlans(dailyPlanResponses)
-                .members(memberResponses)
-                .expenses(expenseResponses)
-                .totalExpenseAmount(totalExpenseAmount)
-                .isPublic(plan.isPublic())
-                .createdAt(plan.getCreatedAt())
-                .updatedAt(plan.getUpdatedAt())
+        boolean hasNext = plans.size() > pageSize;
+        if (hasNext) {
+            plans = plans.subList(0, pageSize);
+        }
+
+        return PlanFeedResponse.builder()
+                .plans(planGraphLoader.loadSummaries(plans))
+                .nextCursor(hasNext ? PlanFeedCursor.of(plans.get(plans.size() - 1)).encode() : null)
+                .hasNext(hasNext)
                 .build();
     }
+    
+    private int resolvePageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 
-    private DailyPlanResponse convertToResponse(DailyPlan dailyPlan, Long userId) {
-        // 실제 Spot과 TravelSegment 데이터를 가져옴
-        List<SpotResponse> spots = spotService.getSpotsByDailyPlan(dailyPlan.getId(), userId);
-        List<TravelSegmentResponse> travelSegments = travelSegmentService.getTravelSegmentsByDailyPlan(dailyPlan.getId());
-        
-        return DailyPlanResponse.builder()
-                .id(dailyPlan.getId())
-                .visitDate(dailyPlan.getVisitDate())
-                .departureTime(dailyPlan.getDepartureTime())
-                .spots(spots)
-                .travelSegments(travelSegments)
-                .createdAt(dailyPlan.getCreatedAt())
-                .updatedAt(dailyPlan.getUpdatedAt())
-                .build();
+    private boolean isEmptyOrNull(String value) {
+        return value == null || value.trim().isEmpty() || value.equals("전체");
     }
 
-    private PlanMemberResponse convertToMemberResponse(PlanMember planMember) {
-        return PlanMemberResponse.builder()
-                .id(planMember.getId())
-                .userId(planMember.getUser().getId())
-                .userIdString(planMember.getUser().getUserId())
-                .userNickname(planMember.getUser().getNickname())
-                .userEmail(planMember.getUser().getEmail())
-                .profileImageUrl(planMember.getUser().getProfileImageUrl()) // user 테이블의 프로필 이미지 URL
-                .role(planMember.getRole())
-                .build();
+    private PlanResponse convertToResponse(Plan plan) {
+        return planGraphLoader.load(plan);
     }
 }
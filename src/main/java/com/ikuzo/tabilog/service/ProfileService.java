@@ -6,6 +6,7 @@ import com.ikuzo.tabilog.dto.request.ProfileImageUpdateRequest;
 import com.ikuzo.tabilog.dto.request.ProfileUpdateRequest;
 import com.ikuzo.tabilog.dto.response.ProfileResponse;
 import com.ikuzo.tabilog.exception.UserNotFoundException;
+import com.ikuzo.tabilog.security.services.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProfileService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 사용자 프로필 조회
@@ -64,6 +66,8 @@ public class ProfileService {
 
 
         User savedUser = userRepository.save(user);
+        // 인증 캐시의 이메일/닉네임 갱신
+        userPrincipalCache.evict(userId);
         log.info("사용자 프로필 업데이트 완료: userId={}", userId);
         
         return convertToResponse(savedUser);
@@ -0,0 +1,172 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.SpotSearchIndex;
+import com.ikuzo.tabilog.dto.response.PageResponse;
+import com.ikuzo.tabilog.dto.response.SpotResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관광지 검색
+ * 전체 spot 테이블을 LIKE '%검색어%' 로 훑는 대신 인메모리 n-gram 색인(SpotSearchIndex)에서 후보를 찾아 점수순으로 정렬하고,
+ * 사용자가 볼 수 있는 계획(공개 계획, 작성/참여 계획)의 관광지만 페이지 단위로 반환합니다.
+ * - 시작 시 전체 관광지를 id 순서로 나누어 읽어 색인하고, 관광지 추가/수정/삭제는 커밋 후 색인에 반영합니다.
+ * - 다른 인스턴스에서 바뀐 관광지는 검색 시 refresh-seconds 간격으로 updated_at 기준 변경분을 읽어 반영하며,
+ *   삭제된 관광지는 결과를 불러올 때 발견되면 색인에서 제거합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SpotSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    // 변경분 조회 시 시계 오차/늦게 커밋된 트랜잭션을 감안해 겹쳐 읽는 구간
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+
+    private final SpotRepository spotRepository;
+    private final PlanRepository planRepository;
+    private final SpotSearchIndex index = new SpotSearchIndex();
+    private final long refreshIntervalNanos;
+
+    private volatile LocalDateTime refreshedAt;
+    private volatile long lastRefreshNanos;
+
+    public SpotSearchService(SpotRepository spotRepository,
+                             PlanRepository planRepository,
+                             @Value("${spot.search.refresh-seconds:30}") long refreshSeconds) {
+        this.spotRepository = spotRepository;
+        this.planRepository = planRepository;
+        this.refreshIntervalNanos = Duration.ofSeconds(refreshSeconds).toNanos();
+    }
+
+    /** 전체 관광지 색인 (애플리케이션 시작 시) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long afterId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = spotRepository.findSearchFieldsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Object[] row : rows) {
+                put(row);
+                afterId = (Long) row[0];
+            }
+        } while (rows.size() == LOAD_CHUNK_SIZE);
+        refreshedAt = startedAt;
+        lastRefreshNanos = System.nanoTime();
+        log.info("관광지 검색 색인 완료: {}건", index.size());
+    }
+
+    /** 관광지 추가/수정 후 호출 (트랜잭션 안이면 커밋 후 반영) */
+    public void index(Spot spot) {
+        long spotId = spot.getId();
+        long planId = spot.getDailyPlan().getPlan().getId();
+        String name = spot.getName();
+        String address = spot.getAddress();
+        SpotCategory category = spot.getCategory();
+        afterCommit(() -> index.put(spotId, planId, name, address, category));
+    }
+
+    /** 관광지 삭제 후 호출 (트랜잭션 안이면 커밋 후 반영) */
+    public void remove(Long spotId) {
+        afterCommit(() -> index.remove(spotId));
+    }
+
+    /**
+     * 이름/주소/카테고리로 관광지 검색 (점수 내림차순)
+     * @param userId 로그인하지 않았으면 null (공개 계획의 관광지만)
+     */
+    public PageResponse<SpotResponse> search(String query, Long userId, int page, Integer size) {
+        refreshIfStale();
+
+        List<SpotSearchIndex.Hit> hits = index.search(query);
+        Set<Long> planIds = hits.stream().map(SpotSearchIndex.Hit::planId).collect(Collectors.toSet());
+        Set<Long> accessiblePlanIds = planIds.isEmpty() ? Set.of()
+                : new HashSet<>(planRepository.findAccessiblePlanIds(planIds, userId));
+        List<SpotSearchIndex.Hit> visible = hits.stream()
+                .filter(hit -> accessiblePlanIds.contains(hit.planId()))
+                .collect(Collectors.toList());
+
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), resolvePageSize(size));
+        int from = (int) Math.min(pageable.getOffset(), visible.size());
+        int to = Math.min(from + pageable.getPageSize(), visible.size());
+        List<Long> pageIds = visible.subList(from, to).stream()
+                .map(SpotSearchIndex.Hit::spotId)
+                .collect(Collectors.toList());
+
+        Map<Long, Spot> spots = spotRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Spot::getId, Function.identity()));
+        List<SpotResponse> content = new ArrayList<>(pageIds.size());
+        for (Long spotId : pageIds) {
+            Spot spot = spots.get(spotId);
+            if (spot == null) {
+                // 다른 경로(계획/일별 계획 삭제, 다른 인스턴스)로 삭제된 관광지
+                index.remove(spotId);
+                continue;
+            }
+            content.add(SpotResponse.from(spot));
+        }
+
+        return PageResponse.of(new PageImpl<>(content, pageable, visible.size()), content);
+    }
+
+    private void refreshIfStale() {
+        if (refreshedAt == null || System.nanoTime() - lastRefreshNanos < refreshIntervalNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (System.nanoTime() - lastRefreshNanos < refreshIntervalNanos) {
+                return;
+            }
+            LocalDateTime startedAt = LocalDateTime.now();
+            spotRepository.findSearchFieldsUpdatedSince(refreshedAt.minus(REFRESH_OVERLAP)).forEach(this::put);
+            refreshedAt = startedAt;
+            lastRefreshNanos = System.nanoTime();
+        }
+    }
+
+    private void put(Object[] row) {
+        index.put((Long) row[0], (Long) row[1], (String) row[2], (String) row[3], (SpotCategory) row[4]);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private int resolvePageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
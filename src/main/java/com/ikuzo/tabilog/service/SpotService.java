@@ -3,21 +3,34 @@ package com.ikuzo.tabilog.service;
 import com.ikuzo.tabilog.domain.plan.DailyPlan;
 import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
 import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.spot.OrderKeys;
 import com.ikuzo.tabilog.domain.spot.Spot;
 import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.TravelSegment;
 import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
 import com.ikuzo.tabilog.domain.expense.Expense;
 import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
 import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.dto.request.SpotOrderRequest;
 import com.ikuzo.tabilog.dto.request.SpotRequest;
+import com.ikuzo.tabilog.dto.response.SpotOrderResponse;
 import com.ikuzo.tabilog.dto.response.SpotResponse;
+import com.ikuzo.tabilog.dto.response.TravelSegmentResponse;
 import com.ikuzo.tabilog.exception.DailyPlanNotFoundException;
+import com.ikuzo.tabilog.exception.InvalidSpotOrderException;
 import com.ikuzo.tabilog.exception.SpotNotFoundException;
+import com.ikuzo.tabilog.exception.SpotOrderConflictException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +43,9 @@ public class SpotService {
     private final PlanMemberRepository planMemberRepository;
     private final TravelSegmentRepository travelSegmentRepository;
     private final ExpenseRepository expenseRepository;
+    private final SpotSearchService spotSearchService;
+    private final NearbySpotService nearbySpotService;
+    private final ExpenseAggregateService expenseAggregateService;
 
     @Transactional
     public SpotResponse addSpotToDailyPlan(Long dailyPlanId, SpotRequest request, Long userId) {
@@ -41,8 +57,8 @@ public class SpotService {
             throw new RuntimeException("이 DailyPlan에 접근할 권한이 없습니다.");
         }
 
-        // 방문 순서가 중복되지 않도록 조정
-        Integer adjustedOrder = adjustVisitOrder(dailyPlanId, request.getVisitOrder());
+        // 새 관광지는 맨 뒤 키로 추가 (기존 관광지는 갱신하지 않음)
+        Integer adjustedOrder = appendVisitOrder(dailyPlanId);
 
         Spot spot = Spot.builder()
                 .name(request.getName())
@@ -58,6 +74,9 @@ public class SpotService {
 
         Spot savedSpot = spotRepository.save(spot);
         dailyPlan.addSpot(savedSpot);
+        dailyPlanRepository.incrementSpotOrderVersion(dailyPlanId);
+        spotSearchService.index(savedSpot);
+        nearbySpotService.index(savedSpot);
 
         // Spot cost가 0보다 크면 자동으로 Expense 생성
         if (request.getCost() > 0) {
@@ -70,6 +89,7 @@ public class SpotService {
                     .expenseDate(dailyPlan.getVisitDate())
                     .build();
             expenseRepository.save(expense);
+            expenseAggregateService.added(expense);
         }
 
         return convertToResponse(savedSpot);
@@ -106,27 +126,24 @@ public class SpotService {
                 .collect(Collectors.toList());
     }
 
-    public List<SpotResponse> searchSpots(String name) {
-        List<Spot> spots = spotRepository.findByNameContaining(name);
-        return spots.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-    }
-
     @Transactional
     public SpotResponse updateSpot(Long spotId, SpotRequest request) {
         Spot spot = spotRepository.findById(spotId)
                 .orElseThrow(() -> new SpotNotFoundException(spotId));
 
+        // 방문 순서(위치)가 변경된 경우 이 관광지의 키만 앞뒤 관광지 사이 값으로 변경
+        // (조회 시 flush 되므로 다른 필드보다 먼저 처리해야 UPDATE 가 한 번만 나감)
+        boolean moved = moveSpot(spot, request.getVisitOrder());
+
         spot.updateSpot(request.getName(), request.getAddress(), request.getCategory(),
                        request.getDuration(), request.getCost(), 
                        request.getLatitude(), request.getLongitude());
 
-        // 방문 순서가 변경된 경우 재정렬
-        if (!spot.getVisitOrder().equals(request.getVisitOrder())) {
-            spot.updateVisitOrder(request.getVisitOrder());
-            reorderSpots(spot.getDailyPlan().getId());
+        if (moved) {
+            dailyPlanRepository.incrementSpotOrderVersion(spot.getDailyPlan().getId());
         }
+        spotSearchService.index(spot);
+        nearbySpotService.index(spot);
 
         return convertToResponse(spot);
     }
@@ -142,24 +159,155 @@ public class SpotService {
         }
 
         Long dailyPlanId = spot.getDailyPlan().getId();
+        expenseAggregateService.spotsDeleted(List.of(spotId));
         spotRepository.delete(spot);
         
-        // 삭제 후 순서 재정렬
-        reorderSpots(dailyPlanId);
+        // 키 사이 간격만 생기므로 나머지 관광지는 다시 매기지 않음
+        dailyPlanRepository.incrementSpotOrderVersion(dailyPlanId);
+        spotSearchService.remove(spotId);
+        nearbySpotService.remove(spotId);
     }
 
+    // 방문 순서 키를 GAP 간격으로 다시 매김
     @Transactional
     public void reorderSpots(Long dailyPlanId) {
+        rebalance(spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(dailyPlanId));
+        dailyPlanRepository.incrementSpotOrderVersion(dailyPlanId);
+    }
+
+    /**
+     * 일별 계획의 관광지 순서를 한 번에 변경
+     * 바뀐 관광지의 visit_order 는 CASE UPDATE 한 번으로 갱신하고(GAP 간격으로 다시 매김), 새 순서에서도 이어지는 이동 구간은
+     * segment_order 만 JDBC 배치로 갱신하며, 더 이상 이어지지 않는 이동 구간은 삭제합니다.
+     * 요청의 spotOrderVersion 이 현재 버전과 다르면 SpotOrderConflictException 이 발생합니다.
+     */
+    @Transactional
+    public SpotOrderResponse updateSpotOrder(Long dailyPlanId, SpotOrderRequest request, Long userId) {
+        DailyPlan dailyPlan = dailyPlanRepository.findById(dailyPlanId)
+                .orElseThrow(() -> new DailyPlanNotFoundException(dailyPlanId));
+
+        // DailyPlan 접근 권한 확인 (소유자 또는 plan_member)
+        if (!hasAccessToDailyPlan(dailyPlan, userId)) {
+            throw new RuntimeException("이 DailyPlan에 접근할 권한이 없습니다.");
+        }
+
+        List<Long> spotIds = request.getSpotIds();
         List<Spot> spots = spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(dailyPlanId);
-        
-        for (int i = 0; i < spots.size(); i++) {
-            spots.get(i).updateVisitOrder(i);
+        Map<Long, Integer> currentOrders = new HashMap<>();
+        for (Spot spot : spots) {
+            currentOrders.put(spot.getId(), spot.getVisitOrder());
+        }
+        Set<Long> distinctIds = new HashSet<>(spotIds);
+        if (spotIds.size() != spots.size() || distinctIds.size() != spotIds.size()
+                || !currentOrders.keySet().containsAll(distinctIds)) {
+            throw new InvalidSpotOrderException("일별 계획의 모든 관광지를 한 번씩 보내야 합니다.");
+        }
+        // 조건부 버전 증가로 다른 요청이 그사이 순서를 바꿨는지 확인 (같은 일별 계획의 동시 변경은 순서대로 처리됨)
+        if (dailyPlanRepository.incrementSpotOrderVersion(dailyPlanId, request.getSpotOrderVersion()) == 0) {
+            throw new SpotOrderConflictException(dailyPlanId);
+        }
+
+        Map<Long, Integer> changedOrders = new LinkedHashMap<>();
+        for (int i = 0; i < spotIds.size(); i++) {
+            if (!currentOrders.get(spotIds.get(i)).equals(OrderKeys.initial(i))) {
+                changedOrders.put(spotIds.get(i), OrderKeys.initial(i));
+            }
+        }
+        if (spotRepository.updateVisitOrdersInDailyPlan(dailyPlanId, changedOrders) != changedOrders.size()) {
+            throw new SpotOrderConflictException(dailyPlanId);
+        }
+
+        // 새 순서에서 연속된 관광지 쌍 → 이동 구간 순서
+        Map<String, Integer> segmentOrderByPair = new HashMap<>();
+        for (int k = 0; k + 1 < spotIds.size(); k++) {
+            segmentOrderByPair.put(pairKey(spotIds.get(k), spotIds.get(k + 1)), k);
+        }
+        TravelSegment[] kept = new TravelSegment[Math.max(spotIds.size() - 1, 0)];
+        Map<Long, Integer> changedSegmentOrders = new LinkedHashMap<>();
+        List<Long> removedSegmentIds = new ArrayList<>();
+        for (TravelSegment segment : travelSegmentRepository.findAllByDailyPlanIdWithSpots(dailyPlanId)) {
+            Integer k = segmentOrderByPair.get(pairKey(segment.getFromSpot().getId(), segment.getToSpot().getId()));
+            if (k == null || kept[k] != null) {
+                removedSegmentIds.add(segment.getId());
+                continue;
+            }
+            kept[k] = segment;
+            if (!segment.getSegmentOrder().equals(OrderKeys.initial(k))) {
+                changedSegmentOrders.put(segment.getId(), OrderKeys.initial(k));
+            }
         }
+        travelSegmentRepository.batchUpdateSegmentOrders(changedSegmentOrders);
+        if (!removedSegmentIds.isEmpty()) {
+            travelSegmentRepository.deleteAllByIdInBatch(removedSegmentIds);
+        }
+
+        // JDBC로 갱신했으므로 영속성 컨텍스트의 엔티티 대신 새 순서로 응답 구성
+        List<TravelSegmentResponse> travelSegments = new ArrayList<>();
+        for (int k = 0; k < kept.length; k++) {
+            if (kept[k] != null) {
+                travelSegments.add(TravelSegmentResponse.from(kept[k]).toBuilder().segmentOrder(OrderKeys.initial(k)).build());
+            }
+        }
+
+        return SpotOrderResponse.builder()
+                .dailyPlanId(dailyPlanId)
+                .spotOrderVersion(request.getSpotOrderVersion() + 1)
+                .spotIds(List.copyOf(spotIds))
+                .travelSegments(travelSegments)
+                .removedSegmentCount(removedSegmentIds.size())
+                .build();
     }
 
-    private Integer adjustVisitOrder(Long dailyPlanId, Integer requestedOrder) {
+    private static String pairKey(Long fromSpotId, Long toSpotId) {
+        return fromSpotId + ":" + toSpotId;
+    }
+
+    private Integer appendVisitOrder(Long dailyPlanId) {
         Integer maxOrder = spotRepository.findMaxVisitOrderByDailyPlanId(dailyPlanId);
-        return Math.max(requestedOrder, maxOrder + 1);
+        Integer key = OrderKeys.append(maxOrder);
+        if (key != null) {
+            return key;
+        }
+        // 뒤쪽 키가 모두 쓰였으면 재배치 후 맨 뒤
+        List<Spot> spots = spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(dailyPlanId);
+        rebalance(spots);
+        return OrderKeys.initial(spots.size());
+    }
+
+    /**
+     * 관광지를 정렬된 목록의 requestedOrder 위치(0부터, 목록 크기 이상이면 맨 뒤)로 이동
+     * 현재 위치와 같으면 이동하지 않습니다.
+     * @return 이동했으면 true
+     */
+    private boolean moveSpot(Spot spot, Integer requestedOrder) {
+        if (requestedOrder == null) {
+            return false;
+        }
+        List<Spot> others = spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(spot.getDailyPlan().getId());
+        int current = others.indexOf(spot);
+        others.remove(spot);
+        int position = OrderKeys.position(requestedOrder, others.size());
+        if (position == current) {
+            return false;
+        }
+        List<Integer> keys = others.stream().map(Spot::getVisitOrder).collect(Collectors.toList());
+
+        Integer key = OrderKeys.keyAt(keys, position);
+        if (key != null) {
+            spot.updateVisitOrder(key);
+            return true;
+        }
+        // 앞뒤 키 사이에 남은 값이 없으면 일별 계획 전체 재배치
+        others.add(position, spot);
+        rebalance(others);
+        return true;
+    }
+
+    // 키가 바뀌는 관광지만 변경됨 (변경 감지)
+    private void rebalance(List<Spot> spots) {
+        for (int i = 0; i < spots.size(); i++) {
+            spots.get(i).updateVisitOrder(OrderKeys.initial(i));
+        }
     }
 
     private boolean hasAccessToDailyPlan(DailyPlan dailyPlan, Long userId) {
@@ -177,18 +325,6 @@ public class SpotService {
     }
 
     private SpotResponse convertToResponse(Spot spot) {
-        return SpotResponse.builder()
-                .id(spot.getId())
-                .name(spot.getName())
-                .address(spot.getAddress())
-                .category(spot.getCategory())
-                .visitOrder(spot.getVisitOrder())
-                .duration(spot.getDuration())
-                .cost(spot.getCost())
-                .latitude(spot.getLatitude())
-                .longitude(spot.getLongitude())
-                .createdAt(spot.getCreatedAt())
-                .updatedAt(spot.getUpdatedAt())
-                .build();
+        return SpotResponse.from(spot);
     }
 }
@@ -0,0 +1,277 @@
+package com.ikuzo.tabilog.service;
+
+import com.google.maps.model.LatLng;
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelMatrix;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelMatrixCalculator;
+import com.ikuzo.tabilog.domain.spot.OrderKeys;
+import com.ikuzo.tabilog.domain.spot.RouteOptimizer;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.domain.spot.TravelSegment;
+import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
+import com.ikuzo.tabilog.dto.response.RouteOptimizationResponse;
+import com.ikuzo.tabilog.dto.response.TravelMatrixResponse;
+import com.ikuzo.tabilog.dto.response.TravelSegmentResponse;
+import com.ikuzo.tabilog.exception.DailyPlanNotFoundException;
+import com.ikuzo.tabilog.exception.InvalidSpotOrderException;
+import com.ikuzo.tabilog.exception.SpotNotFoundException;
+import com.ikuzo.tabilog.exception.SpotOrderConflictException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
+
+/**
+ * 일별 계획 전체의 이동 시간 일괄 계산
+ * 관광지 쌍마다 경로를 조회하고 구간을 하나씩 저장하던 흐름을
+ * 행렬 계산 한 번 + 이동 구간 일괄 저장으로 대체합니다.
+ * 행렬 계산은 Google Maps 응답을 기다리므로 트랜잭션 밖에서 하고,
+ * 관광지 조회(읽기)와 순서/구간 저장(쓰기)만 각각 짧은 트랜잭션으로 실행합니다.
+ * 저장 시 일별 계획 행을 잠그고 관광지 순서 버전을 다시 확인하여, 계산 중에 순서가 바뀌었으면 SpotOrderConflictException 이 발생합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TravelMatrixService {
+
+    private final DailyPlanRepository dailyPlanRepository;
+    private final PlanMemberRepository planMemberRepository;
+    private final SpotRepository spotRepository;
+    private final TravelSegmentRepository travelSegmentRepository;
+    private final TravelMatrixCalculator travelMatrixCalculator;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 관광지 간 이동 시간 행렬을 계산하고, 방문 순서상 연속된 관광지 사이의 이동 구간을 새로 저장합니다.
+     * 기존 이동 구간은 모두 교체됩니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TravelMatrixResponse rebuildTravelSegments(Long dailyPlanId, TravelMode travelMode, Long userId) {
+        SpotSnapshot snapshot = loadSpots(dailyPlanId, userId);
+        List<Spot> spots = locatedSpots(snapshot.spots());
+
+        // 트랜잭션 밖에서 계산 (DB 연결/잠금을 잡은 채 외부 API 를 기다리지 않음)
+        TravelMatrix matrix = travelMatrixCalculator.calculate(toPoints(spots), toGoogleTravelMode(travelMode));
+
+        List<TravelSegmentResponse> saved = inTransaction(() -> {
+            DailyPlan dailyPlan = lockUnchanged(dailyPlanId, snapshot.spotOrderVersion());
+            return replaceTravelSegments(dailyPlan, spots, IntStream.range(0, spots.size()).toArray(), matrix, travelMode);
+        });
+
+        return TravelMatrixResponse.builder()
+                .dailyPlanId(dailyPlanId)
+                .travelMode(travelMode)
+                .spotIds(spots.stream().map(Spot::getId).collect(Collectors.toList()))
+                .durationSeconds(matrix.getDurationSeconds())
+                .distanceMeters(matrix.getDistanceMeters())
+                .travelSegments(saved)
+                .cachedElementCount(matrix.getCachedElementCount())
+                .matrixElementCount(matrix.getMatrixElementCount())
+                .directionsCallCount(matrix.getDirectionsCallCount())
+                .estimatedElementCount(matrix.getEstimatedElementCount())
+                .build();
+    }
+
+    /**
+     * 이동 시간 행렬을 기준으로 방문 순서를 최적화하고, 새 순서로 visit_order 와 이동 구간을 다시 저장합니다.
+     * startSpotId/endSpotId 를 지정하지 않으면 현재 첫/마지막 관광지가 숙소(HOTEL)일 때 그 자리에 고정합니다.
+     * 좌표가 없는 관광지는 원래 자리를 유지하고, 나머지 자리에 최적화된 순서로 배치됩니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RouteOptimizationResponse optimizeVisitOrder(Long dailyPlanId, TravelMode travelMode,
+                                                        Long startSpotId, Long endSpotId, Long userId) {
+        SpotSnapshot snapshot = loadSpots(dailyPlanId, userId);
+        List<Spot> allSpots = snapshot.spots();
+        List<Spot> spots = locatedSpots(allSpots);
+        int fixedFirst = resolveFixedSpot(spots, startSpotId, 0);
+        int fixedLast = resolveFixedSpot(spots, endSpotId, spots.size() - 1);
+        if (fixedFirst != RouteOptimizer.NONE && fixedFirst == fixedLast) {
+            if (startSpotId != null && endSpotId != null) {
+                throw new InvalidSpotOrderException("첫 방문과 마지막 방문을 같은 관광지로 고정할 수 없습니다.");
+            }
+            // 자동 감지된 숙소 하나가 양 끝을 모두 차지하는 경우 (관광지가 1개뿐일 때)
+            fixedLast = RouteOptimizer.NONE;
+        }
+
+        // 트랜잭션 밖에서 계산 (DB 연결/잠금을 잡은 채 외부 API 를 기다리지 않음)
+        TravelMatrix matrix = travelMatrixCalculator.calculate(toPoints(spots), toGoogleTravelMode(travelMode));
+        int[] order = RouteOptimizer.optimize(matrix.getDurationSeconds(), fixedFirst, fixedLast);
+
+        // 좌표가 있는 관광지 자리에 최적화된 순서대로 배치하고, 기존 visit_order 값들을 그대로 재사용
+        Iterator<Spot> optimized = IntStream.of(order).mapToObj(spots::get).iterator();
+        List<Long> spotIds = new ArrayList<>();
+        Map<Long, Integer> changedOrders = new LinkedHashMap<>();
+        for (Spot slot : allSpots) {
+            Spot spot = slot.getLatitude() != null && slot.getLongitude() != null ? optimized.next() : slot;
+            spotIds.add(spot.getId());
+            if (!spot.getVisitOrder().equals(slot.getVisitOrder())) {
+                changedOrders.put(spot.getId(), slot.getVisitOrder());
+            }
+        }
+
+        List<TravelSegmentResponse> saved = inTransaction(() -> {
+            DailyPlan dailyPlan = lockUnchanged(dailyPlanId, snapshot.spotOrderVersion());
+            spotRepository.batchUpdateVisitOrders(changedOrders);
+            if (!changedOrders.isEmpty()) {
+                dailyPlanRepository.incrementSpotOrderVersion(dailyPlanId);
+            }
+            return replaceTravelSegments(dailyPlan, spots, order, matrix, travelMode);
+        });
+
+        return RouteOptimizationResponse.builder()
+                .dailyPlanId(dailyPlanId)
+                .travelMode(travelMode)
+                .spotIds(spotIds)
+                .fixedFirstSpotId(fixedFirst == RouteOptimizer.NONE ? null : spots.get(fixedFirst).getId())
+                .fixedLastSpotId(fixedLast == RouteOptimizer.NONE ? null : spots.get(fixedLast).getId())
+                .previousDurationSeconds(RouteOptimizer.pathCost(matrix.getDurationSeconds(),
+                        IntStream.range(0, spots.size()).toArray()))
+                .optimizedDurationSeconds(RouteOptimizer.pathCost(matrix.getDurationSeconds(), order))
+                .travelSegments(saved)
+                .build();
+    }
+
+    // 읽기 트랜잭션: 접근 권한 확인 후 방문 순서대로 관광지와 현재 관광지 순서 버전을 조회
+    private SpotSnapshot loadSpots(Long dailyPlanId, Long userId) {
+        return inTransaction(true, () -> {
+            DailyPlan dailyPlan = dailyPlanRepository.findById(dailyPlanId)
+                    .orElseThrow(() -> new DailyPlanNotFoundException(dailyPlanId));
+
+            // DailyPlan 접근 권한 확인 (소유자 또는 plan_member)
+            if (!hasAccessToDailyPlan(dailyPlan, userId)) {
+                throw new RuntimeException("이 DailyPlan에 접근할 권한이 없습니다.");
+            }
+            return new SpotSnapshot(dailyPlan.getSpotOrderVersion(),
+                    spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(dailyPlanId));
+        });
+    }
+
+    // 쓰기 트랜잭션 안에서 일별 계획 행을 잠그고, 조회 이후 관광지 구성/순서가 바뀌지 않았는지 확인
+    private DailyPlan lockUnchanged(Long dailyPlanId, Long spotOrderVersion) {
+        DailyPlan dailyPlan = dailyPlanRepository.findForUpdate(dailyPlanId)
+                .orElseThrow(() -> new DailyPlanNotFoundException(dailyPlanId));
+        if (!dailyPlan.getSpotOrderVersion().equals(spotOrderVersion)) {
+            throw new SpotOrderConflictException(dailyPlanId);
+        }
+        return dailyPlan;
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return inTransaction(false, work);
+    }
+
+    private <T> T inTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> work.get());
+    }
+
+    // 읽기 트랜잭션에서 조회한 관광지 (트랜잭션 종료 후에는 기본 필드만 사용)
+    private record SpotSnapshot(Long spotOrderVersion, List<Spot> spots) {
+    }
+
+    // 방문 순서(order)상 연속된 관광지 사이의 이동 구간으로 기존 구간을 모두 교체하고, 저장된 구간을 다시 조회
+    private List<TravelSegmentResponse> replaceTravelSegments(DailyPlan dailyPlan, List<Spot> spots, int[] order,
+                                                              TravelMatrix matrix, TravelMode travelMode) {
+        List<TravelSegment> segments = new ArrayList<>();
+        for (int k = 0; k + 1 < order.length; k++) {
+            segments.add(TravelSegment.builder()
+                    .fromSpot(spots.get(order[k]))
+                    .toSpot(spots.get(order[k + 1]))
+                    .duration(formatDuration(matrix.getDurationSeconds(order[k], order[k + 1])))
+                    .travelMode(travelMode)
+                    .segmentOrder(OrderKeys.initial(k))
+                    .dailyPlan(dailyPlan)
+                    .build());
+        }
+
+        travelSegmentRepository.deleteAllByDailyPlanId(dailyPlan.getId());
+        travelSegmentRepository.batchInsert(segments);
+
+        return travelSegmentRepository.findAllByDailyPlanIdWithSpots(dailyPlan.getId()).stream()
+                .map(TravelSegmentResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    // 지정된 관광지가 있으면 그 위치, 없으면 기본 위치(defaultIndex)의 관광지가 숙소일 때 그 위치를 고정
+    private int resolveFixedSpot(List<Spot> spots, Long spotId, int defaultIndex) {
+        if (spotId != null) {
+            for (int i = 0; i < spots.size(); i++) {
+                if (spots.get(i).getId().equals(spotId)) {
+                    return i;
+                }
+            }
+            throw new SpotNotFoundException(spotId);
+        }
+        if (defaultIndex >= 0 && defaultIndex < spots.size()
+                && spots.get(defaultIndex).getCategory() == SpotCategory.HOTEL) {
+            return defaultIndex;
+        }
+        return RouteOptimizer.NONE;
+    }
+
+    private List<Spot> locatedSpots(List<Spot> spots) {
+        return spots.stream()
+                .filter(spot -> spot.getLatitude() != null && spot.getLongitude() != null)
+                .collect(Collectors.toList());
+    }
+
+    private List<LatLng> toPoints(List<Spot> spots) {
+        return spots.stream()
+                .map(spot -> new LatLng(spot.getLatitude(), spot.getLongitude()))
+                .collect(Collectors.toList());
+    }
+
+    // 일정의 이동수단 → Google 이동수단 (택시는 자동차, 기타는 도보 기준)
+    private String toGoogleTravelMode(TravelMode travelMode) {
+        switch (travelMode) {
+            case TRANSIT:
+                return "TRANSIT";
+            case DRIVING:
+            case TAXI:
+                return "DRIVING";
+            case BICYCLE:
+                return "BICYCLING";
+            default:
+                return "WALKING";
+        }
+    }
+
+    // 초 → "N분" (올림), 경로가 없으면 "경로 없음"
+    private String formatDuration(long seconds) {
+        if (seconds == TravelMatrix.UNREACHABLE) {
+            return "경로 없음";
+        }
+        return String.format("%d분", (seconds + 59) / 60);
+    }
+
+    private boolean hasAccessToDailyPlan(DailyPlan dailyPlan, Long userId) {
+        if (userId == null) {
+            return false;
+        }
+
+        // 소유자인지 확인
+        if (dailyPlan.getPlan().getUser().getId().equals(userId)) {
+            return true;
+        }
+
+        // plan_member인지 확인
+        return planMemberRepository.existsByPlanIdAndUserId(dailyPlan.getPlan().getId(), userId);
+    }
+}
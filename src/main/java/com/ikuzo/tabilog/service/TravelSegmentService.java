@@ -2,6 +2,7 @@ package com.ikuzo.tabilog.service;
 
 import com.ikuzo.tabilog.domain.plan.DailyPlan;
 import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
+import com.ikuzo.tabilog.domain.spot.OrderKeys;
 import com.ikuzo.tabilog.domain.spot.Spot;
 import com.ikuzo.tabilog.domain.spot.SpotRepository;
 import com.ikuzo.tabilog.domain.spot.TravelSegment;
@@ -36,12 +37,16 @@ public class TravelSegmentService {
 
         DailyPlan dailyPlan = fromSpot.getDailyPlan();
 
+        // 요청한 위치에 추가 (목록 크기 이상이면 맨 뒤, 기존 구간은 키가 모자랄 때만 갱신)
+        List<TravelSegment> segments = travelSegmentRepository.findAllByDailyPlanIdOrderBySegmentOrderAsc(dailyPlan.getId());
+        Integer segmentOrder = segmentOrderAt(segments, request.getSegmentOrder());
+
         TravelSegment travelSegment = TravelSegment.builder()
                 .fromSpot(fromSpot)
                 .toSpot(toSpot)
                 .duration(request.getDuration())
                 .travelMode(request.getTravelMode())
-                .segmentOrder(request.getSegmentOrder())
+                .segmentOrder(segmentOrder)
                 .dailyPlan(dailyPlan)
                 .build();
 
@@ -69,14 +74,21 @@ public class TravelSegmentService {
         TravelSegment segment = travelSegmentRepository.findById(segmentId)
                 .orElseThrow(() -> new RuntimeException("이동 구간을 찾을 수 없습니다: " + segmentId));
 
-        segment.updateTravelSegment(request.getDuration(), request.getTravelMode());
-
-        // 구간 순서가 변경된 경우 재정렬
-        if (!segment.getSegmentOrder().equals(request.getSegmentOrder())) {
-            segment.updateSegmentOrder(request.getSegmentOrder());
-            reorderTravelSegments(segment.getDailyPlan().getId());
+        // 구간 순서(위치)가 변경된 경우 이 구간의 키만 앞뒤 구간 사이 값으로 변경
+        // (조회 시 flush 되므로 다른 필드보다 먼저 처리해야 UPDATE 가 한 번만 나감)
+        Integer requested = request.getSegmentOrder();
+        if (requested != null) {
+            List<TravelSegment> others = travelSegmentRepository
+                    .findAllByDailyPlanIdOrderBySegmentOrderAsc(segment.getDailyPlan().getId());
+            int current = others.indexOf(segment);
+            others.remove(segment);
+            if (OrderKeys.position(requested, others.size()) != current) {
+                segment.updateSegmentOrder(segmentOrderAt(others, requested));
+            }
         }
 
+        segment.updateTravelSegment(request.getDuration(), request.getTravelMode());
+
         return convertToResponse(segment);
     }
 
@@ -85,34 +97,38 @@ public class TravelSegmentService {
         TravelSegment segment = travelSegmentRepository.findById(segmentId)
                 .orElseThrow(() -> new RuntimeException("이동 구간을 찾을 수 없습니다: " + segmentId));
 
-        Long dailyPlanId = segment.getDailyPlan().getId();
+        // 키 사이 간격만 생기므로 나머지 구간은 다시 매기지 않음
         travelSegmentRepository.delete(segment);
-        
-        // 삭제 후 순서 재정렬
-        reorderTravelSegments(dailyPlanId);
     }
 
+    // 구간 순서 키를 GAP 간격으로 다시 매김
     @Transactional
     public void reorderTravelSegments(Long dailyPlanId) {
         List<TravelSegment> segments = travelSegmentRepository.findAllByDailyPlanIdOrderBySegmentOrderAsc(dailyPlanId);
         
         for (int i = 0; i < segments.size(); i++) {
-            segments.get(i).updateSegmentOrder(i);
+            segments.get(i).updateSegmentOrder(OrderKeys.initial(i));
         }
     }
 
+    /**
+     * 정렬된 구간 목록(segments)의 requested 위치(0부터, 목록 크기 이상이면 맨 뒤)에 들어갈 키
+     * 앞뒤 키 사이에 남은 값이 없으면 그 자리를 비워 두고 목록 전체를 다시 매깁니다.
+     */
+    private Integer segmentOrderAt(List<TravelSegment> segments, Integer requested) {
+        List<Integer> keys = segments.stream().map(TravelSegment::getSegmentOrder).collect(Collectors.toList());
+        int position = OrderKeys.position(requested, keys.size());
+        Integer key = OrderKeys.keyAt(keys, position);
+        if (key != null) {
+            return key;
+        }
+        for (int i = 0; i < segments.size(); i++) {
+            segments.get(i).updateSegmentOrder(OrderKeys.initial(i < position ? i : i + 1));
+        }
+        return OrderKeys.initial(position);
+    }
+
     private TravelSegmentResponse convertToResponse(TravelSegment segment) {
-        return TravelSegmentResponse.builder()
-                .id(segment.getId())
-                .fromSpotId(segment.getFromSpot().getId())
-                .fromSpotName(segment.getFromSpot().getName())
-                .toSpotId(segment.getToSpot().getId())
-                .toSpotName(segment.getToSpot().getName())
-                .duration(segment.getDuration())
-                .travelMode(segment.getTravelMode())
-                .segmentOrder(segment.getSegmentOrder())
-                .createdAt(segment.getCreatedAt())
-                .updatedAt(segment.getUpdatedAt())
-                .build();
+        return TravelSegmentResponse.from(segment);
     }
 }
@@ -0,0 +1,97 @@
+package com.ikuzo.tabilog.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 업로드 스트림 복사 유틸리티
+ * 멀티파트 InputStream 을 256KB 다이렉트 버퍼에 채워 가며 채널에 씁니다 (GCS 재개 가능 업로드의 청크 단위와 같음).
+ * 버퍼는 최대 POOL_SIZE 개까지 재사용하고, 모두 사용 중이면 새로 만들어 쓰고 버립니다.
+ */
+final class UploadStreams {
+
+    static final int BUFFER_SIZE = 256 * 1024;
+    private static final int POOL_SIZE = 16;
+    private static final BlockingQueue<ByteBuffer> BUFFERS = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final Map<String, String> CONTENT_TYPES_BY_EXTENSION = Map.of(
+            ".jpg", "image/jpeg",
+            ".png", "image/png",
+            ".gif", "image/gif",
+            ".webp", "image/webp");
+    private static final Map<String, String> EXTENSIONS_BY_CONTENT_TYPE = Map.of(
+            "image/jpeg", ".jpg",
+            "image/jpg", ".jpg",
+            "image/pjpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+
+    private UploadStreams() {
+    }
+
+    /**
+     * UUID + 이미지 확장자
+     * 확장자는 허용된 이미지 형식(jpg, png, gif, webp)만 쓰며, 콘텐츠 타입 → 원본 확장자 순으로 정하고 둘 다 아니면 .jpg 입니다.
+     * (html, svg 등 클라이언트가 보낸 확장자 그대로 저장하면 업로드 경로에서 스크립트로 실행될 수 있음)
+     */
+    static String newObjectName(String originalFilename, String contentType) {
+        String extension = contentType == null ? null
+                : EXTENSIONS_BY_CONTENT_TYPE.get(contentType.trim().toLowerCase(Locale.ROOT));
+        if (extension == null && originalFilename != null) {
+            int dot = originalFilename.lastIndexOf('.');
+            String original = dot >= 0 ? originalFilename.substring(dot).toLowerCase(Locale.ROOT) : "";
+            extension = ".jpeg".equals(original) ? ".jpg" : CONTENT_TYPES_BY_EXTENSION.containsKey(original) ? original : null;
+        }
+        return UUID.randomUUID() + (extension == null ? ".jpg" : extension);
+    }
+
+    /** newObjectName 으로 만든 이름의 콘텐츠 타입 (저장소가 클라이언트가 보낸 타입 대신 사용) */
+    static String contentTypeOf(String objectName) {
+        return CONTENT_TYPES_BY_EXTENSION.getOrDefault(
+                objectName.substring(objectName.lastIndexOf('.')).toLowerCase(Locale.ROOT), "image/jpeg");
+    }
+
+    /**
+     * in 을 끝까지 읽어 out 에 씀 (in/out 은 닫지 않음)
+     * @return 복사한 바이트 수
+     */
+    static long copy(InputStream in, WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = BUFFERS.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        try {
+            ReadableByteChannel source = Channels.newChannel(in);
+            long total = 0;
+            boolean eof = false;
+            while (!eof) {
+                buffer.clear();
+                // 버퍼를 가득 채운 뒤에 씀 (마지막 조각만 BUFFER_SIZE 보다 작음)
+                while (buffer.hasRemaining()) {
+                    if (source.read(buffer) < 0) {
+                        eof = true;
+                        break;
+                    }
+                }
+                buffer.flip();
+                total += buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+            return total;
+        } finally {
+            buffer.clear();
+            BUFFERS.offer(buffer);
+        }
+    }
+}
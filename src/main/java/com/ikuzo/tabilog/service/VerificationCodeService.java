@@ -1,12 +1,11 @@
 package com.ikuzo.tabilog.service;
 
+import com.ikuzo.tabilog.domain.token.EphemeralStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 
 @Slf4j
 @Service
@@ -14,23 +13,24 @@ import java.util.concurrent.ConcurrentHashMap;
 public class VerificationCodeService {
 
     private final EmailService emailService;
+    private final EphemeralStore ephemeralStore;
 
+    private static final String NAMESPACE = "email-verification";
     private static final int EXPIRATION_MINUTES = 10;
-
-    private final Map<String, VerificationCodeInfo> verificationCodes = new ConcurrentHashMap<>();
+    private static final int MAX_ATTEMPTS = 5; // 틀린 코드를 이만큼 입력하면 코드 폐기
 
     public void sendVerificationCode(String email) {
         String normalizedEmail = normalizeEmail(email);
         log.info("이메일 인증코드 생성 및 전송 시작: {}", normalizedEmail);
 
         // 기존 코드 제거
-        verificationCodes.remove(normalizedEmail);
+        ephemeralStore.remove(NAMESPACE, normalizedEmail);
 
         // 이메일 서비스 통해 전송하며 코드 생성
         String code = emailService.sendVerificationCode(normalizedEmail);
 
         // 저장 (정규화된 이메일 키로 저장)
-        verificationCodes.put(normalizedEmail, new VerificationCodeInfo(code, LocalDateTime.now().plusMinutes(EXPIRATION_MINUTES)));
+        ephemeralStore.put(NAMESPACE, normalizedEmail, code, Duration.ofMinutes(EXPIRATION_MINUTES));
         log.info("인증코드 저장 완료: {} -> {} ({}분 유효)", normalizedEmail, code, EXPIRATION_MINUTES);
     }
 
@@ -38,22 +38,14 @@ public class VerificationCodeService {
         String normalizedEmail = normalizeEmail(email);
         String normalizedCode = normalizeCode(inputCode);
 
-        VerificationCodeInfo info = verificationCodes.get(normalizedEmail);
-        if (info == null) {
-            log.warn("인증코드 없음: {}", normalizedEmail);
-            return false;
-        }
-        if (LocalDateTime.now().isAfter(info.expiresAt)) {
-            log.warn("인증코드 만료: {}", normalizedEmail);
-            verificationCodes.remove(normalizedEmail);
-            return false;
+        // 일치하면 일회성 사용 후 제거, MAX_ATTEMPTS 번 틀리면 폐기
+        EphemeralStore.VerifyResult result = ephemeralStore.verify(NAMESPACE, normalizedEmail, normalizedCode, MAX_ATTEMPTS);
+        switch (result) {
+            case NOT_FOUND -> log.warn("인증코드 없음 또는 만료: {}", normalizedEmail);
+            case LOCKED -> log.warn("인증코드 시도 횟수 초과로 폐기: {}", normalizedEmail);
+            default -> { }
         }
-        boolean match = info.code.equals(normalizedCode);
-        if (match) {
-            // 일회성 사용 후 제거
-            verificationCodes.remove(normalizedEmail);
-        }
-        return match;
+        return result == EphemeralStore.VerifyResult.MATCHED;
     }
 
     private String normalizeEmail(String email) {
@@ -67,8 +59,6 @@ public class VerificationCodeService {
         String digitsOnly = trimmed.replaceAll("[^0-9]", "");
         return digitsOnly;
     }
-
-    private record VerificationCodeInfo(String code, LocalDateTime expiresAt) {}
 }
 
 
@@ -1,13 +1,18 @@
 package com.ikuzo.tabilog.service;
 
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.SettlementCalculator;
 import com.ikuzo.tabilog.domain.plan.Plan;
 import com.ikuzo.tabilog.domain.plan.PlanMember;
 import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
 import com.ikuzo.tabilog.domain.plan.PlanRepository;
 import com.ikuzo.tabilog.domain.user.User;
 import com.ikuzo.tabilog.domain.user.UserRepository;
+import com.ikuzo.tabilog.dto.request.SettlementRequest;
 import com.ikuzo.tabilog.dto.request.WarikanRequest;
+import com.ikuzo.tabilog.dto.response.SettlementResponse;
 import com.ikuzo.tabilog.dto.response.WarikanResponse;
+import com.ikuzo.tabilog.exception.InvalidSettlementException;
 import com.ikuzo.tabilog.exception.PlanNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +21,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,6 +39,7 @@ public class WarikanService {
     private final PlanMemberRepository planMemberRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final ExpenseRepository expenseRepository;
 
     @Value("${app.frontend.url:http://localhost:3000}")
     private String frontendUrl;
@@ -61,7 +72,7 @@ public class WarikanService {
                 .collect(Collectors.toList());
         log.info("요청된 사용자 ID들: {}", requestedUserIds);
         
-        // 각 멤버에게 개별 이메일 전송
+        // 각 멤버에게 개별 이메일 전송 예약 (커밋 후 한 번에 발송)
         for (WarikanRequest.MemberShare memberShare : request.getMemberShares()) {
             log.info("사용자 ID {} 찾는 중...", memberShare.getUserId());
             
@@ -76,7 +87,7 @@ public class WarikanService {
                     });
 
             try {
-                emailService.sendWarikanEmail(
+                emailService.queueWarikanEmail(
                         member.getUser().getEmail(),
                         sender.getNickname(),
                         plan.getTitle(),
@@ -87,9 +98,9 @@ public class WarikanService {
                         member.getUser().getNickname(),
                         plan.getId()
                 );
-                log.info("와리깡 이메일 전송 완료: {} -> {}", sender.getNickname(), member.getUser().getEmail());
+                log.info("와리깡 이메일 전송 예약: {} -> {}", sender.getNickname(), member.getUser().getEmail());
             } catch (Exception e) {
-                log.error("와리깡 이메일 전송 실패: {} -> {}, error: {}", 
+                log.error("와리깡 이메일 전송 예약 실패: {} -> {}, error: {}", 
                         sender.getNickname(), member.getUser().getEmail(), e.getMessage());
                 // 개별 이메일 실패해도 전체 프로세스는 계속 진행
             }
@@ -127,6 +138,86 @@ public class WarikanService {
                 .build();
     }
 
+    /**
+     * 기록된 지출과 결제자로 정산 계산 (저장하지 않음)
+     * 결제자가 없는 지출은 플랜 작성자가 결제한 것으로 보고, 탈퇴 등으로 멤버가 아닌 결제자는 가중치 0으로 포함합니다.
+     */
+    public SettlementResponse calculateSettlement(Long planId, SettlementRequest request, Long userId) {
+        Plan plan = planRepository.findById(planId)
+                .orElseThrow(() -> new PlanNotFoundException(planId));
+        validatePlanMember(planId, userId);
+
+        // 정산 대상: 플랜 멤버(가입 순) + 멤버가 아닌 결제자
+        Map<Long, User> participants = new LinkedHashMap<>();
+        for (PlanMember member : planMemberRepository.findAllByPlanIdWithUser(planId)) {
+            participants.put(member.getUser().getId(), member.getUser());
+        }
+        Map<Long, Long> paidByUser = new HashMap<>();
+        for (Object[] row : expenseRepository.getTotalAmountByPayer(planId)) {
+            Long payerId = row[0] != null ? (Long) row[0] : plan.getUser().getId();
+            paidByUser.merge(payerId, ((Number) row[1]).longValue(), Long::sum);
+        }
+        List<Long> formerMemberIds = paidByUser.keySet().stream()
+                .filter(payerId -> !participants.containsKey(payerId))
+                .sorted()
+                .collect(Collectors.toList());
+        userRepository.findAllById(formerMemberIds).forEach(user -> participants.put(user.getId(), user));
+
+        Map<Long, Integer> requestedWeights = new HashMap<>();
+        if (request != null && request.getWeights() != null) {
+            for (SettlementRequest.MemberWeight weight : request.getWeights()) {
+                if (!participants.containsKey(weight.getUserId()) || formerMemberIds.contains(weight.getUserId())) {
+                    throw new InvalidSettlementException("플랜 멤버가 아닙니다: " + weight.getUserId());
+                }
+                requestedWeights.put(weight.getUserId(), weight.getWeight());
+            }
+        }
+
+        List<User> users = new ArrayList<>(participants.values());
+        long[] paid = new long[users.size()];
+        int[] weights = new int[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            Long memberId = users.get(i).getId();
+            paid[i] = paidByUser.getOrDefault(memberId, 0L);
+            weights[i] = formerMemberIds.contains(memberId) ? 0 : requestedWeights.getOrDefault(memberId, 1);
+        }
+        if (users.isEmpty() || Arrays.stream(weights).allMatch(weight -> weight == 0)) {
+            throw new InvalidSettlementException("분담할 멤버가 없습니다.");
+        }
+
+        SettlementCalculator.Result result = SettlementCalculator.settle(paid, weights);
+
+        List<SettlementResponse.MemberBalance> balances = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            balances.add(SettlementResponse.MemberBalance.builder()
+                    .userId(user.getId())
+                    .memberName(user.getNickname())
+                    .profileImageUrl(user.getProfileImageUrl())
+                    .weight(weights[i])
+                    .paidAmount(paid[i])
+                    .shareAmount(result.shares()[i])
+                    .balance(result.balances()[i])
+                    .build());
+        }
+        List<SettlementResponse.Transfer> transfers = result.transfers().stream()
+                .map(transfer -> SettlementResponse.Transfer.builder()
+                        .fromUserId(users.get(transfer.from()).getId())
+                        .fromMemberName(users.get(transfer.from()).getNickname())
+                        .toUserId(users.get(transfer.to()).getId())
+                        .toMemberName(users.get(transfer.to()).getNickname())
+                        .amount(transfer.amount())
+                        .build())
+                .collect(Collectors.toList());
+
+        return SettlementResponse.builder()
+                .planId(planId)
+                .totalAmount(result.total())
+                .members(balances)
+                .transfers(transfers)
+                .build();
+    }
+
     /**
      * 플랜 멤버 권한 확인
      */
@@ -0,0 +1,4 @@
+-- 지출 결제자 (와리깡 정산용, 비어 있으면 플랜 작성자가 결제한 것으로 계산)
+ALTER TABLE expenses ADD COLUMN paid_by_user_id BIGINT NULL AFTER spot_id;
+ALTER TABLE expenses ADD CONSTRAINT fk_expenses_paid_by_user
+    FOREIGN KEY (paid_by_user_id) REFERENCES user(id) ON DELETE SET NULL;
@@ -0,0 +1,15 @@
+-- 이메일 발신함 (요청 트랜잭션에서 저장, EmailOutboxDispatcher 가 배치로 전송/재시도)
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body MEDIUMTEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
+    sent_at DATETIME(6)
+);
+
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox(status, next_attempt_at);
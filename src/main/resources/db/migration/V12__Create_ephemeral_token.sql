@@ -0,0 +1,12 @@
+-- 짧게 살아 있는 값 (이메일 인증코드, 비밀번호 재설정 토큰), 여러 서버가 함께 사용
+CREATE TABLE IF NOT EXISTS ephemeral_token (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    namespace VARCHAR(50) NOT NULL,
+    token_key VARCHAR(191) NOT NULL,
+    token_value VARCHAR(255) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    expires_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_ephemeral_token UNIQUE (namespace, token_key)
+);
+
+CREATE INDEX idx_ephemeral_token_expires_at ON ephemeral_token(expires_at);
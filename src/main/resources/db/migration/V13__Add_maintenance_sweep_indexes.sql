@@ -0,0 +1,5 @@
+-- 만료 데이터 정리(MaintenanceSweeper)용 인덱스
+-- 만료된 리프레시 토큰 조회
+CREATE INDEX idx_refresh_token_expiry_date ON refresh_token(expiry_date);
+-- 보관 기간이 지난 전송 완료 메일 조회
+CREATE INDEX idx_email_outbox_status_sent_at ON email_outbox(status, sent_at);
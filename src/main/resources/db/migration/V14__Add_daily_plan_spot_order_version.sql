@@ -0,0 +1,2 @@
+-- 일별 계획의 관광지 순서 버전 (관광지 순서 일괄 변경 시 낙관적 검사용, DailyPlan.spotOrderVersion)
+ALTER TABLE daily_plan ADD COLUMN spot_order_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- 관광지/이동 구간 순서 키를 일별 계획마다 GAP(65536) 간격으로 다시 매김 (OrderKeys.initial)
+-- 기존 0..n-1 키와 간격 키가 섞이지 않도록, 현재 순서(키, id 순)를 유지한 채 (순위 + 1) * 65536 으로 변경
+UPDATE spot s
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY daily_plan_id ORDER BY visit_order, id) AS order_rank
+      FROM spot) ranked ON ranked.id = s.id
+SET s.visit_order = ranked.order_rank * 65536;
+
+UPDATE travel_segment t
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY daily_plan_id ORDER BY segment_order, id) AS order_rank
+      FROM travel_segment) ranked ON ranked.id = t.id
+SET t.segment_order = ranked.order_rank * 65536;
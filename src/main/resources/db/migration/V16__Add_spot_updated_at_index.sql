@@ -0,0 +1,3 @@
+-- 관광지 검색 색인(SpotSearchService) 증분 갱신용 인덱스
+-- since 이후 생성/수정된 관광지 조회
+CREATE INDEX idx_spot_updated_at ON spot(updated_at);
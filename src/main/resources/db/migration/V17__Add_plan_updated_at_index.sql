@@ -0,0 +1,3 @@
+-- 주변 관광지 색인(NearbySpotService) 주기적 갱신용 인덱스
+-- since 이후 수정된 계획 조회 (공개 여부 변경 반영)
+CREATE INDEX idx_plan_updated_at ON plan(updated_at);
@@ -0,0 +1,2 @@
+-- 공개 피드 키셋 페이지네이션용 복합 인덱스 (is_public 필터 + created_at, id 내림차순 정렬)
+CREATE INDEX idx_plan_public_feed ON plan(is_public, created_at, id);
@@ -0,0 +1,6 @@
+-- 내 여행 계획 검색용 인덱스
+-- prefecture IN + status 필터 후 start_date 정렬
+CREATE INDEX idx_plan_search ON plan(prefecture, status, start_date);
+
+-- 멤버 EXISTS 조건 (user_id로 찾고 plan_id로 매칭)
+CREATE INDEX idx_plan_member_user_plan ON plan_member(user_id, plan_id);
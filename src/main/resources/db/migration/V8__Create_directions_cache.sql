@@ -0,0 +1,11 @@
+-- Google Directions 결과 캐시 (좌표/이동수단/출발시간 구간 키)
+CREATE TABLE IF NOT EXISTS directions_cache (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_key VARCHAR(191) NOT NULL UNIQUE,
+    response_json TEXT NOT NULL,
+    expires_at DATETIME NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_directions_cache_expires_at ON directions_cache(expires_at);
@@ -0,0 +1,12 @@
+-- 플랜별 지출 집계 (플랜, 카테고리, 날짜 → 합계, 건수)
+-- 지출 생성/수정/삭제 시 같은 트랜잭션에서 증감되며, 비어 있으면 애플리케이션 시작 시 expenses 로 다시 만듭니다.
+CREATE TABLE IF NOT EXISTS plan_expense_aggregate (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    plan_id BIGINT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    expense_date DATE NOT NULL,
+    total_amount BIGINT NOT NULL DEFAULT 0,
+    expense_count INT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_plan_expense_aggregate UNIQUE (plan_id, category, expense_date),
+    FOREIGN KEY (plan_id) REFERENCES plan(id) ON DELETE CASCADE
+);
@@ -63,6 +63,7 @@ CREATE TABLE IF NOT EXISTS daily_plan (
     plan_id BIGINT NOT NULL,
     visit_date DATE NOT NULL,
     departure_time TIME NOT NULL DEFAULT '09:00:00',
+    spot_order_version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (plan_id) REFERENCES plan(id) ON DELETE CASCADE,
@@ -121,6 +122,7 @@ CREATE TABLE IF NOT EXISTS expenses (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     plan_id BIGINT NOT NULL,
     spot_id BIGINT,
+    paid_by_user_id BIGINT,
     item VARCHAR(100) NOT NULL,
     amount INT NOT NULL DEFAULT 0,
     category VARCHAR(50) NOT NULL,
@@ -128,7 +130,55 @@ CREATE TABLE IF NOT EXISTS expenses (
     created_at DATE DEFAULT (CURRENT_DATE),
     updated_at DATE DEFAULT (CURRENT_DATE),
     FOREIGN KEY (plan_id) REFERENCES plan(id) ON DELETE CASCADE,
-    FOREIGN KEY (spot_id) REFERENCES spot(id) ON DELETE CASCADE
+    FOREIGN KEY (spot_id) REFERENCES spot(id) ON DELETE CASCADE,
+    FOREIGN KEY (paid_by_user_id) REFERENCES user(id) ON DELETE SET NULL
+);
+
+-- Google Directions 결과 캐시 테이블
+CREATE TABLE IF NOT EXISTS directions_cache (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_key VARCHAR(191) NOT NULL UNIQUE,
+    response_json TEXT NOT NULL,
+    expires_at DATETIME NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 플랜별 지출 집계 테이블 (플랜, 카테고리, 날짜 → 합계, 건수)
+CREATE TABLE IF NOT EXISTS plan_expense_aggregate (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    plan_id BIGINT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    expense_date DATE NOT NULL,
+    total_amount BIGINT NOT NULL DEFAULT 0,
+    expense_count INT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_plan_expense_aggregate UNIQUE (plan_id, category, expense_date),
+    FOREIGN KEY (plan_id) REFERENCES plan(id) ON DELETE CASCADE
+);
+
+-- 이메일 발신함 테이블
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body MEDIUMTEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
+    sent_at DATETIME(6)
+);
+
+-- 임시 값 테이블 (이메일 인증코드, 비밀번호 재설정 토큰)
+CREATE TABLE IF NOT EXISTS ephemeral_token (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    namespace VARCHAR(50) NOT NULL,
+    token_key VARCHAR(191) NOT NULL,
+    token_value VARCHAR(255) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    expires_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_ephemeral_token UNIQUE (namespace, token_key)
 );
 
 -- 인덱스 생성
@@ -139,14 +189,19 @@ CREATE INDEX IF NOT EXISTS idx_plan_dates ON plan(start_date, end_date);
 CREATE INDEX IF NOT EXISTS idx_plan_region_enum ON plan(region_enum);
 CREATE INDEX IF NOT EXISTS idx_plan_status ON plan(status);
 CREATE INDEX IF NOT EXISTS idx_plan_is_public ON plan(is_public);
+CREATE INDEX IF NOT EXISTS idx_plan_public_feed ON plan(is_public, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_plan_search ON plan(prefecture, status, start_date);
+CREATE INDEX IF NOT EXISTS idx_plan_updated_at ON plan(updated_at);
 CREATE INDEX IF NOT EXISTS idx_plan_member_plan_id ON plan_member(plan_id);
 CREATE INDEX IF NOT EXISTS idx_plan_member_user_id ON plan_member(user_id);
+CREATE INDEX IF NOT EXISTS idx_plan_member_user_plan ON plan_member(user_id, plan_id);
 CREATE INDEX IF NOT EXISTS idx_plan_member_role ON plan_member(role);
 CREATE INDEX IF NOT EXISTS idx_daily_plan_plan_id ON daily_plan(plan_id);
 CREATE INDEX IF NOT EXISTS idx_daily_plan_visit_date ON daily_plan(visit_date);
 CREATE INDEX IF NOT EXISTS idx_spot_daily_plan_id ON spot(daily_plan_id);
 CREATE INDEX IF NOT EXISTS idx_spot_visit_order ON spot(visit_order);
 CREATE INDEX IF NOT EXISTS idx_spot_category ON spot(category);
+CREATE INDEX IF NOT EXISTS idx_spot_updated_at ON spot(updated_at);
 CREATE INDEX IF NOT EXISTS idx_travel_segment_daily_plan_id ON travel_segment(daily_plan_id);
 CREATE INDEX IF NOT EXISTS idx_travel_segment_from_spot ON travel_segment(from_spot_id);
 CREATE INDEX IF NOT EXISTS idx_travel_segment_to_spot ON travel_segment(to_spot_id);
@@ -159,3 +214,8 @@ CREATE INDEX IF NOT EXISTS idx_expenses_plan_id ON expenses(plan_id);
 CREATE INDEX IF NOT EXISTS idx_expenses_spot_id ON expenses(spot_id);
 CREATE INDEX IF NOT EXISTS idx_expenses_category ON expenses(category);
 CREATE INDEX IF NOT EXISTS idx_expenses_date ON expenses(expense_date);
+CREATE INDEX IF NOT EXISTS idx_directions_cache_expires_at ON directions_cache(expires_at);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt ON email_outbox(status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_ephemeral_token_expires_at ON ephemeral_token(expires_at);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expiry_date ON refresh_token(expiry_date);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_sent_at ON email_outbox(status, sent_at);
@@ -0,0 +1,153 @@
+package com.ikuzo.tabilog.benchmark;
+
+import com.ikuzo.tabilog.domain.email.EmailTemplate;
+import com.ikuzo.tabilog.service.EmailTemplateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 와리깡 이메일 렌더링 벤치마크 (JMH)
+ * 컴파일된 템플릿 렌더링과 이전의 문자열 연결 방식(legacyConcat)의 메일 한 통당 시간을 비교합니다.
+ * main 으로 실행하면 GC 프로파일러가 함께 켜져 메일 한 통당 할당량(gc.alloc.rate.norm)도 출력됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private EmailTemplateService emailTemplateService;
+    private String senderName;
+    private String planTitle;
+    private String warikanTitle;
+    private Long totalAmount;
+    private Long memberAmount;
+    private String planUrl;
+    private String memberName;
+
+    @Setup
+    public void setUp() {
+        emailTemplateService = new EmailTemplateService("ja");
+        senderName = "山田太郎";
+        planTitle = "京都・大阪 3泊4日の旅";
+        warikanTitle = "1日目 夕食";
+        totalAmount = 48_600L;
+        memberAmount = 12_150L;
+        planUrl = "http://localhost:3000#/plans/1024";
+        memberName = "佐藤花子";
+    }
+
+    @Benchmark
+    public EmailTemplate.Rendered compiledTemplate() {
+        return emailTemplateService.render(EmailTemplateService.WARIKAN, Locale.JAPANESE, Map.of(
+                "senderName", senderName,
+                "planTitle", planTitle,
+                "warikanTitle", warikanTitle,
+                "totalAmount", String.format("%,d", totalAmount),
+                "memberAmount", String.format("%,d", memberAmount),
+                "planUrl", planUrl,
+                "memberName", memberName));
+    }
+
+    @Benchmark
+    public String legacyConcat() {
+        return "[TabiLog] " + senderName + "さんから割り勘のお知らせです" + legacyWarikanTemplate(
+                senderName, planTitle, warikanTitle, totalAmount, memberAmount, planUrl, memberName);
+    }
+
+    /** 템플릿 도입 전 EmailService.createWarikanEmailTemplate 과 같은 코드 */
+    private static String legacyWarikanTemplate(String senderName, String planTitle, String warikanTitle,
+                                                Long totalAmount, Long memberAmount, String planUrl,
+                                                String memberName) {
+        return "<!DOCTYPE html>" +
+                "<html>" +
+                "<head>" +
+                "<meta charset=\"UTF-8\">" +
+                "<title>TabiLog 割り勘のお知らせ</title>" +
+                "<style>" +
+                "body { font-family: 'Hiragino Sans', 'Yu Gothic', 'Meiryo', sans-serif; margin: 0; padding: 20px; background-color: #f5f5f5; }" +
+                ".container { max-width: 600px; margin: 0 auto; background-color: white; border-radius: 10px; overflow: hidden; box-shadow: 0 2px 10px rgba(0,0,0,0.1); }" +
+                ".header { background: linear-gradient(135deg, #ff6b6b 0%, #ffa500 100%); color: white; padding: 30px; text-align: center; }" +
+                ".content { padding: 30px; }" +
+                ".title { font-size: 24px; font-weight: bold; margin-bottom: 10px; }" +
+                ".subtitle { font-size: 16px; opacity: 0.9; }" +
+                ".warikan-info { background-color: #fff8f0; padding: 20px; border-radius: 8px; margin: 20px 0; border-left: 4px solid #ff6b6b; }" +
+                ".warikan-title { font-size: 20px; font-weight: bold; color: #333; margin-bottom: 15px; }" +
+                ".amount-section { background-color: #f8f9fa; padding: 15px; border-radius: 8px; margin: 15px 0; }" +
+                ".total-amount { font-size: 18px; font-weight: bold; color: #333; margin-bottom: 10px; }" +
+                ".member-amount { font-size: 16px; color: #666; }" +
+                ".description { background-color: #e8f4fd; padding: 15px; border-radius: 5px; margin: 15px 0; color: #333; }" +
+                ".btn-container { text-align: center; margin: 30px 0; }" +
+                ".btn { display: inline-block; padding: 15px 30px; background: linear-gradient(135deg, #ff6b6b 0%, #ffa500 100%); color: white; text-decoration: none; border-radius: 25px; font-weight: bold; transition: transform 0.2s; }" +
+                ".btn:hover { transform: translateY(-2px); }" +
+                ".footer { background-color: #f8f9fa; padding: 20px; text-align: center; color: #666; font-size: 14px; }" +
+                ".note { background-color: #fff3cd; border: 1px solid #ffeaa7; padding: 15px; border-radius: 5px; margin: 20px 0; color: #856404; }" +
+                ".sender-info { color: #666; font-size: 14px; margin-bottom: 10px; }" +
+                ".member-profile { background-color: #f8f9fa; padding: 15px; border-radius: 8px; margin: 15px 0; }" +
+                ".member-name { font-weight: bold; color: #333; margin-bottom: 5px; }" +
+                "</style>" +
+                "</head>" +
+                "<body>" +
+                "<div class=\"container\">" +
+                "<div class=\"header\">" +
+                "<div class=\"title\">💰 TabiLog</div>" +
+                "<div class=\"subtitle\">割り勘のお知らせ</div>" +
+                "</div>" +
+                "<div class=\"content\">" +
+                "<div class=\"sender-info\">👤 " + senderName + "さんから</div>" +
+                "<div class=\"warikan-info\">" +
+                "<div class=\"warikan-title\">📋 " + warikanTitle + "</div>" +
+                "<div style=\"color: #666; margin-bottom: 15px;\">プラン: " + planTitle + "</div>" +
+                "</div>" +
+                "<div class=\"member-profile\">" +
+                "<div class=\"member-name\">👤 " + memberName + "さん</div>" +
+                "<div style=\"color: #666; font-size: 14px;\">この割り勘の対象者です</div>" +
+                "</div>" +
+                "<div class=\"amount-section\">" +
+                "<div class=\"total-amount\">💰 トータル費用: " + String.format("%,d", totalAmount) + "円</div>" +
+                "<div class=\"member-amount\">💳 あなたの負担額: " + String.format("%,d", memberAmount) + "円</div>" +
+                "</div>" +
+                "<div class=\"btn-container\">" +
+                "<a href=\"" + planUrl + "\" class=\"btn\">プランを確認する</a>" +
+                "</div>" +
+                "<div class=\"note\">" +
+                "<strong>📝 ご案内:</strong><br>" +
+                "• この割り勘はTabiLogのプランに関連しています<br>" +
+                "• 上記の金額をご確認の上、精算をお願いします<br>" +
+                "• ご不明な点がございましたら、プラン作成者にお問い合わせください" +
+                "</div>" +
+                "</div>" +
+                "<div class=\"footer\">" +
+                "<p>このメールはTabiLogから自動送信されました。</p>" +
+                "<p>ご質問がございましたら、お気軽にお問い合わせください。</p>" +
+                "</div>" +
+                "</div>" +
+                "</body>" +
+                "</html>";
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
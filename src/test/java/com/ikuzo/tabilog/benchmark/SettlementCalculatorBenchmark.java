@@ -0,0 +1,67 @@
+package com.ikuzo.tabilog.benchmark;
+
+import com.ikuzo.tabilog.domain.expense.SettlementCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 와리깡 정산 계산 벤치마크 (JMH)
+ * 수백 건의 지출을 수십 명의 결제자로 합산한 뒤 부담액/송금 목록을 계산하는 시간을 잽니다.
+ * 실행: mvn test-compile 후 테스트 클래스패스로 main 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettlementCalculatorBenchmark {
+
+    @Param({"10", "50"})
+    private int members;
+
+    @Param({"200", "1000"})
+    private int expenses;
+
+    private long[] paid;
+    private int[] weights;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        paid = new long[members];
+        weights = new int[members];
+        for (int i = 0; i < expenses; i++) {
+            paid[random.nextInt(members)] += 500 + random.nextInt(30000);
+        }
+        for (int i = 0; i < members; i++) {
+            weights[i] = 1 + random.nextInt(3);
+        }
+    }
+
+    @Benchmark
+    public SettlementCalculator.Result settle() {
+        return SettlementCalculator.settle(paid, weights);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SettlementCalculatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
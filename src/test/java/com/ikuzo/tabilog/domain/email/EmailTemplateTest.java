@@ -0,0 +1,63 @@
+package com.ikuzo.tabilog.domain.email;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이메일 템플릿 컴파일/렌더링 테스트
+ * 제목과 본문의 슬롯이 값으로 채워지고, 값은 HTML 이스케이프되며, 버퍼를 재사용해도 이전 결과가 섞이지 않아야 합니다.
+ */
+class EmailTemplateTest {
+
+    private static final String SOURCE = "Subject: [TabiLog] {{name}}さんから\n\n<p>{{ name }}: <a href=\"{{url}}\">{{title}}</a></p>\n";
+
+    @Test
+    void rendersSubjectAndBody() {
+        EmailTemplate template = EmailTemplate.compile("test", SOURCE);
+
+        EmailTemplate.Rendered rendered = template.render(Map.of("name", "太郎", "url", "https://x/#/plans/1", "title", "大阪"));
+
+        assertThat(template.getSlotNames()).containsExactly("name", "url", "title");
+        assertThat(rendered.subject()).isEqualTo("[TabiLog] 太郎さんから");
+        assertThat(rendered.html()).isEqualTo("<p>太郎: <a href=\"https://x/#/plans/1\">大阪</a></p>\n");
+
+        // 같은 스레드에서 다시 렌더링해도 앞 결과가 남지 않음
+        assertThat(template.render(Map.of("name", "A", "url", "u", "title", "t")).html())
+                .isEqualTo("<p>A: <a href=\"u\">t</a></p>\n");
+    }
+
+    @Test
+    void escapesValues() {
+        EmailTemplate template = EmailTemplate.compile("test", SOURCE);
+
+        String html = template.render(Map.of("name", "<b>", "url", "a?x=1&y=\"2\"", "title", "Tom's")).html();
+
+        assertThat(html).isEqualTo("<p>&lt;b&gt;: <a href=\"a?x=1&amp;y=&quot;2&quot;\">Tom&#39;s</a></p>\n");
+    }
+
+    @Test
+    void keepsSubjectValuesRawWithoutLineBreaks() {
+        EmailTemplate template = EmailTemplate.compile("test", SOURCE);
+
+        EmailTemplate.Rendered rendered = template.render(Map.of("name", "A&B\r\nBcc: x@example.com", "url", "u", "title", "t"));
+
+        // 제목은 평문 헤더이므로 이스케이프하지 않고, 줄바꿈만 공백으로 바꿈
+        assertThat(rendered.subject()).isEqualTo("[TabiLog] A&B  Bcc: x@example.comさんから");
+        assertThat(rendered.html()).startsWith("<p>A&amp;B\r\nBcc: x@example.com: ");
+    }
+
+    @Test
+    void rejectsMalformedTemplatesAndMissingValues() {
+        assertThatThrownBy(() -> EmailTemplate.compile("test", "<p>no subject</p>"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmailTemplate.compile("test", "Subject: x\n\n<p>{{name</p>"))
+                .isInstanceOf(IllegalArgumentException.class);
+        EmailTemplate template = EmailTemplate.compile("test", SOURCE);
+        assertThatThrownBy(() -> template.render(Map.of("name", "x")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ikuzo.tabilog.domain.expense;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 와리깡 정산 계산 테스트
+ * 부담액 합계가 총액과 정확히 같고, 송금 후 모든 멤버의 잔액이 0이 되며, 송금 건수가 (멤버 수 - 1)을 넘지 않는지 확인합니다.
+ */
+class SettlementCalculatorTest {
+
+    @Test
+    void splitsRemainderWithoutLosingYen() {
+        // 10000엔을 3명이 나누면 3334 / 3333 / 3333
+        assertThat(SettlementCalculator.split(10000, new int[]{1, 1, 1})).containsExactly(3334, 3333, 3333);
+        // 가중치 2:1:0 → 6667 / 3333 / 0
+        assertThat(SettlementCalculator.split(10000, new int[]{2, 1, 0})).containsExactly(6667, 3333, 0);
+    }
+
+    @Test
+    void settlesWithMinimalTransfers() {
+        // A가 9000엔, B가 3000엔 결제, C는 결제 없음 → 각자 4000엔 부담
+        SettlementCalculator.Result result = SettlementCalculator.settle(new long[]{9000, 3000, 0}, new int[]{1, 1, 1});
+
+        assertThat(result.total()).isEqualTo(12000);
+        assertThat(result.balances()).containsExactly(5000, -1000, -4000);
+        assertThat(result.transfers()).containsExactly(
+                new SettlementCalculator.Transfer(2, 0, 4000),
+                new SettlementCalculator.Transfer(1, 0, 1000));
+    }
+
+    @Test
+    void transfersClearAllBalances() {
+        Random random = new Random(20);
+        for (int round = 0; round < 200; round++) {
+            int members = 2 + random.nextInt(30);
+            long[] paid = new long[members];
+            int[] weights = new int[members];
+            for (int i = 0; i < members; i++) {
+                paid[i] = random.nextInt(4) == 0 ? 0 : random.nextInt(50000);
+                weights[i] = random.nextInt(4);
+            }
+            weights[0] = Math.max(weights[0], 1);
+
+            SettlementCalculator.Result result = SettlementCalculator.settle(paid, weights);
+
+            assertThat(Arrays.stream(result.shares()).sum()).isEqualTo(result.total());
+            long[] remaining = result.balances().clone();
+            List<SettlementCalculator.Transfer> transfers = result.transfers();
+            for (SettlementCalculator.Transfer transfer : transfers) {
+                assertThat(transfer.amount()).isPositive();
+                remaining[transfer.from()] += transfer.amount();
+                remaining[transfer.to()] -= transfer.amount();
+            }
+            assertThat(remaining).containsOnly(0L);
+            long nonZero = Arrays.stream(result.balances()).filter(balance -> balance != 0).count();
+            assertThat((long) transfers.size()).isLessThanOrEqualTo(Math.max(0, nonZero - 1));
+        }
+    }
+
+    @Test
+    void rejectsWeightsWithoutSharer() {
+        assertThatThrownBy(() -> SettlementCalculator.settle(new long[]{1000, 0}, new int[]{0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SettlementCalculator.settle(new long[]{1000, 0}, new int[]{1, -1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
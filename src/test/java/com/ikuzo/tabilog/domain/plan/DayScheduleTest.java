@@ -0,0 +1,55 @@
+package com.ikuzo.tabilog.domain.plan;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayScheduleTest {
+
+    private static final long[] SPOTS = {1L, 2L, 3L, 4L};
+    private static final int NINE = 9 * 60;
+
+    @Test
+    void computesArrivalAndDepartureTimes() {
+        DaySchedule schedule = new DaySchedule(SPOTS, NINE, new int[]{60, 30, 90, 45}, new int[]{0, 20, 15, 10});
+
+        assertThat(schedule.getArrival(0)).isEqualTo(NINE);
+        assertThat(schedule.getDeparture(0)).isEqualTo(NINE + 60);
+        assertThat(schedule.getArrival(1)).isEqualTo(NINE + 80);
+        assertThat(schedule.getDeparture(1)).isEqualTo(NINE + 110);
+        assertThat(schedule.getArrival(3)).isEqualTo(NINE + 225);
+        assertThat(schedule.getEndMinute()).isEqualTo(NINE + 270);
+    }
+
+    @Test
+    void recomputesOnlyFromChangedSpot() {
+        DaySchedule schedule = new DaySchedule(SPOTS, NINE, new int[]{60, 30, 90, 45}, new int[]{0, 20, 15, 10});
+
+        assertThat(schedule.update(NINE, new int[]{60, 30, 90, 45}, new int[]{0, 20, 15, 10})).isZero();
+        assertThat(schedule.update(NINE, new int[]{60, 30, 120, 45}, new int[]{0, 20, 15, 10})).isEqualTo(2);
+        assertThat(schedule.getDeparture(1)).isEqualTo(NINE + 110);
+        assertThat(schedule.getEndMinute()).isEqualTo(NINE + 300);
+    }
+
+    @Test
+    void departureTimeChangeShiftsWholeDay() {
+        DaySchedule schedule = new DaySchedule(SPOTS, NINE, new int[]{60, 30, 90, 45}, new int[]{0, 20, 15, 10});
+
+        assertThat(schedule.update(NINE + 60, new int[]{60, 30, 90, 45}, new int[]{0, 20, 15, 10})).isEqualTo(4);
+        assertThat(schedule.getArrival(0)).isEqualTo(NINE + 60);
+        assertThat(schedule.getEndMinute()).isEqualTo(NINE + 330);
+    }
+
+    @Test
+    void stopsWhenDownstreamTimesAreUnchanged() {
+        DaySchedule schedule = new DaySchedule(SPOTS, NINE, new int[]{60, 30, 90, 45}, new int[]{0, 20, 15, 10});
+
+        // 1번 체류 +10분, 다음 이동 -10분 → 2번 도착 시각부터 그대로
+        int recomputed = schedule.update(NINE, new int[]{60, 40, 90, 45}, new int[]{0, 20, 5, 10});
+
+        assertThat(recomputed).isEqualTo(2);
+        assertThat(schedule.getDeparture(1)).isEqualTo(NINE + 120);
+        assertThat(schedule.getArrival(2)).isEqualTo(NINE + 125);
+        assertThat(schedule.getEndMinute()).isEqualTo(NINE + 270);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ikuzo.tabilog.domain.plan;
+
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelTimeEstimator;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 날 일정 재배치 테스트
+ * 한 날에 몰린 관광지를 지역별로 나누고, 가용 시간을 넘는 날의 관광지를 옮기며, 고정 관광지는 그대로 두는지 확인합니다.
+ */
+class ItineraryBalancerTest {
+
+    private final TravelTimeEstimator estimator = new TravelTimeEstimator();
+
+    @Test
+    void splitsCrowdedDayByArea() {
+        List<ItineraryBalancer.Stop> stops = new ArrayList<>();
+        // 아사쿠사 주변 3곳, 시부야 주변 3곳이 모두 첫째 날에 몰려 있음
+        stops.add(stop(35.7148, 139.7967, 0, false));
+        stops.add(stop(35.6586, 139.7016, 0, false));
+        stops.add(stop(35.7101, 139.8107, 0, false));
+        stops.add(stop(35.6618, 139.7041, 0, false));
+        stops.add(stop(35.7126, 139.7800, 0, false));
+        stops.add(stop(35.6702, 139.7027, 0, false));
+
+        ItineraryBalancer.Result result = ItineraryBalancer.balance(stops, new int[]{720, 720}, travelSeconds(stops));
+
+        // 어느 지역이 어느 날이 되는지는 상관없이 지역별로 나뉘어야 함
+        List<Set<Integer>> days = List.of(toSet(result.dayOrders()[0]), toSet(result.dayOrders()[1]));
+        assertThat(days).containsExactlyInAnyOrder(Set.of(0, 2, 4), Set.of(1, 3, 5));
+    }
+
+    @Test
+    void movesStopsOutOfOverloadedDay() {
+        List<ItineraryBalancer.Stop> stops = new ArrayList<>();
+        // 같은 지역 4곳 (각 3시간) → 하루 가용 시간 8시간으로는 모두 넣을 수 없음
+        for (int i = 0; i < 4; i++) {
+            stops.add(new ItineraryBalancer.Stop(35.71 + i * 0.001, 139.79, 180, 0, false));
+        }
+
+        ItineraryBalancer.Result result = ItineraryBalancer.balance(stops, new int[]{480, 480}, travelSeconds(stops));
+
+        assertThat(result.totalMinutes(0)).isLessThanOrEqualTo(480);
+        assertThat(result.totalMinutes(1)).isLessThanOrEqualTo(480);
+        assertThat(IntStream.concat(IntStream.of(result.dayOrders()[0]), IntStream.of(result.dayOrders()[1])))
+                .containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    void keepsPinnedAndUnlocatedStopsOnTheirDay() {
+        List<ItineraryBalancer.Stop> stops = new ArrayList<>();
+        stops.add(stop(35.6586, 139.7016, 0, true));  // 시부야 숙소 (첫째 날 고정)
+        stops.add(stop(35.7148, 139.7967, 0, false));
+        stops.add(new ItineraryBalancer.Stop(null, null, 60, 1, false)); // 좌표 없음
+        stops.add(stop(35.6618, 139.7041, 1, false));
+
+        ItineraryBalancer.Result result = ItineraryBalancer.balance(stops, new int[]{720, 720}, travelSeconds(stops));
+
+        assertThat(result.dayOrders()[0]).contains(0);
+        assertThat(result.dayOrders()[1]).contains(2);
+        // 좌표 없는 관광지는 그날 경로 뒤에 붙음
+        assertThat(result.dayOrders()[1][result.dayOrders()[1].length - 1]).isEqualTo(2);
+    }
+
+    private static ItineraryBalancer.Stop stop(double latitude, double longitude, int day, boolean pinned) {
+        return new ItineraryBalancer.Stop(latitude, longitude, 90, day, pinned);
+    }
+
+    private static Set<Integer> toSet(int[] order) {
+        return IntStream.of(order).boxed().collect(Collectors.toSet());
+    }
+
+    private long[][] travelSeconds(List<ItineraryBalancer.Stop> stops) {
+        long[][] seconds = new long[stops.size()][stops.size()];
+        for (int i = 0; i < stops.size(); i++) {
+            for (int j = 0; j < stops.size(); j++) {
+                ItineraryBalancer.Stop from = stops.get(i);
+                ItineraryBalancer.Stop to = stops.get(j);
+                if (i != j && from.latitude() != null && to.latitude() != null) {
+                    seconds[i][j] = estimator.estimateSeconds(from.latitude(), from.longitude(),
+                            to.latitude(), to.longitude(), TravelMode.TRANSIT);
+                }
+            }
+        }
+        return seconds;
+    }
+}
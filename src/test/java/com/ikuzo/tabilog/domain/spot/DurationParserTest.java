@@ -0,0 +1,38 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DurationParserTest {
+
+    @Test
+    void parsesKoreanJapaneseAndShortForms() {
+        assertThat(DurationParser.parseMinutes("30분")).isEqualTo(30);
+        assertThat(DurationParser.parseMinutes("2시간")).isEqualTo(120);
+        assertThat(DurationParser.parseMinutes("1시간 30분")).isEqualTo(90);
+        assertThat(DurationParser.parseMinutes("1.5시간")).isEqualTo(90);
+        assertThat(DurationParser.parseMinutes("2時間")).isEqualTo(120);
+        assertThat(DurationParser.parseMinutes("45分")).isEqualTo(45);
+        assertThat(DurationParser.parseMinutes("1h30m")).isEqualTo(90);
+        assertThat(DurationParser.parseMinutes("90")).isEqualTo(90);
+        assertThat(DurationParser.parseMinutes("약 25분")).isEqualTo(25);
+    }
+
+    @Test
+    void fallsBackToDefaultForUnknownText() {
+        assertThat(DurationParser.parseMinutes("반나절")).isEqualTo(DurationParser.DEFAULT_MINUTES);
+        assertThat(DurationParser.parseMinutes(null)).isEqualTo(DurationParser.DEFAULT_MINUTES);
+        assertThat(DurationParser.parseMinutes("경로 없음", 0)).isZero();
+        // 캐시된 결과도 호출마다 지정한 기본값을 따름
+        assertThat(DurationParser.parseMinutes("경로 없음")).isEqualTo(DurationParser.DEFAULT_MINUTES);
+    }
+
+    @Test
+    void fallsBackToDefaultForOverlongNumbers() {
+        assertThat(DurationParser.parseMinutes("99999999999")).isEqualTo(DurationParser.DEFAULT_MINUTES);
+        assertThat(DurationParser.parseMinutes("99999999999분")).isEqualTo(DurationParser.DEFAULT_MINUTES);
+        assertThat(DurationParser.parseMinutes("12345시간")).isEqualTo(DurationParser.DEFAULT_MINUTES);
+        assertThat(DurationParser.parseMinutes("1시간 99999999999분")).isEqualTo(60);
+    }
+}
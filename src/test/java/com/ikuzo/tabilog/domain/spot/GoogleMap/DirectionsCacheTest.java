@@ -0,0 +1,176 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ikuzo.tabilog.dto.response.GoogleDirectionsResponse;
+import com.ikuzo.tabilog.dto.response.TravelTimeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경로 캐시 테스트 (스텁 GeoApiContext + H2)
+ * 같은 조회는 메모리/DB 캐시에서 응답하고, Mock/오류 응답은 캐시하지 않아야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:directions-cache;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DirectionsCacheTest {
+
+    private static final double TOKYO_STATION_LAT = 35.681236;
+    private static final double TOKYO_STATION_LNG = 139.767125;
+    private static final double TOKYO_TOWER_LAT = 35.658581;
+    private static final double TOKYO_TOWER_LNG = 139.745433;
+
+    @Autowired
+    private DirectionsCacheRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MapsApiClient mapsApiClient = new MapsApiClient(16, 100, 2000L, 1000L, 5, 30L);
+    private StubGeoApiContext stub;
+
+    @BeforeEach
+    void setUp() {
+        stub = new StubGeoApiContext()
+                .respond(StubGeoApiContext.DIRECTIONS, url -> StubGeoApiContext.directions(1500, 3000));
+    }
+
+    @Test
+    void servesRepeatedLookupFromMemory() {
+        DirectionsCache cache = newCache();
+        GoogleMapsService service = new GoogleMapsService(stub.context(), cache, new TravelTimeEstimator(), mapsApiClient);
+
+        GoogleDirectionsResponse first = directions(service, "WALKING");
+        // 약 1m 차이 좌표도 같은 키로 묶여야 함
+        GoogleDirectionsResponse second = service.getDirections(TOKYO_STATION_LAT + 0.00001, TOKYO_STATION_LNG,
+                TOKYO_TOWER_LAT, TOKYO_TOWER_LNG, "walking");
+
+        assertThat(second.getRoutes().get(0).getLegs().get(0).getDuration().getValue()).isEqualTo(1500L);
+        assertThat(first.getStatus()).isEqualTo("OK");
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(1);
+        assertThat(cache.getMemoryHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void survivesRestartThroughDatabaseTier() {
+        directions(new GoogleMapsService(stub.context(), newCache(), new TravelTimeEstimator(), mapsApiClient), "DRIVING");
+
+        // 새 인스턴스 = 메모리 캐시가 비어 있는 재시작 상황
+        DirectionsCache restarted = newCache();
+        GoogleDirectionsResponse response = directions(new GoogleMapsService(stub.context(), restarted, new TravelTimeEstimator(), mapsApiClient), "DRIVING");
+
+        assertThat(response.getRoutes()).hasSize(1);
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(1);
+        assertThat(restarted.getDbHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sharesWalkingEntryWithTravelTimeLookup() {
+        GoogleMapsService service = new GoogleMapsService(stub.context(), newCache(), new TravelTimeEstimator(), mapsApiClient);
+
+        directions(service, "WALKING");
+        int minutes = service.getTravelTimeMinutes(TOKYO_STATION_LAT, TOKYO_STATION_LNG, TOKYO_TOWER_LAT, TOKYO_TOWER_LNG);
+
+        assertThat(minutes).isEqualTo(25);
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheFallbackResponses() {
+        stub.respond(StubGeoApiContext.DIRECTIONS, url -> {
+            throw new UncheckedIOException(new IOException("offline"));
+        });
+        GoogleMapsService service = new GoogleMapsService(stub.context(), newCache(), new TravelTimeEstimator(), mapsApiClient);
+
+        directions(service, "WALKING");
+        directions(service, "WALKING");
+
+        // 일시적 오류는 한 번씩 재시도됨 (조회당 2회)
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(4);
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void answersWithEstimateThenServesFetchedRoute() {
+        GoogleMapsService service = new GoogleMapsService(stub.context(), newCache(), new TravelTimeEstimator(), mapsApiClient);
+
+        TravelTimeResponse provisional = service.getProvisionalTravelTime(TOKYO_STATION_LAT, TOKYO_STATION_LNG,
+                TOKYO_TOWER_LAT, TOKYO_TOWER_LNG, "WALKING");
+        // 스텁은 콜백을 즉시 호출하므로 백그라운드 조회 결과가 바로 캐시에 들어감
+        TravelTimeResponse confirmed = service.getProvisionalTravelTime(TOKYO_STATION_LAT, TOKYO_STATION_LNG,
+                TOKYO_TOWER_LAT, TOKYO_TOWER_LNG, "WALKING");
+
+        assertThat(provisional.isProvisional()).isTrue();
+        assertThat(provisional.getDurationText()).startsWith("약 ");
+        assertThat(confirmed.isProvisional()).isFalse();
+        assertThat(confirmed.getDurationSeconds()).isEqualTo(1500L);
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(1);
+    }
+
+    @Test
+    void estimatesTravelTimeWhenApiFails() {
+        stub.respond(StubGeoApiContext.DIRECTIONS, url -> {
+            throw new UncheckedIOException(new IOException("offline"));
+        });
+        GoogleMapsService service = new GoogleMapsService(stub.context(), newCache(), new TravelTimeEstimator(), mapsApiClient);
+
+        int minutes = service.getTravelTimeMinutes(TOKYO_STATION_LAT, TOKYO_STATION_LNG, TOKYO_TOWER_LAT, TOKYO_TOWER_LNG);
+
+        assertThat(minutes).isEqualTo(new TravelTimeEstimator().estimateMinutes(TOKYO_STATION_LAT, TOKYO_STATION_LNG,
+                TOKYO_TOWER_LAT, TOKYO_TOWER_LNG, "WALKING"));
+    }
+
+    @Test
+    void writesThroughToDatabaseOffCallerThread() {
+        List<Runnable> pendingWrites = new ArrayList<>();
+        DirectionsCache cache = new DirectionsCache(repository, objectMapper, 100, 30, 24, pendingWrites::add);
+        GoogleMapsService service = new GoogleMapsService(stub.context(), cache, new TravelTimeEstimator(), mapsApiClient);
+
+        directions(service, "BICYCLING");
+
+        // 응답 콜백에서는 메모리에만 저장하고 DB 저장은 쓰기 스레드로 넘김
+        assertThat(repository.count()).isZero();
+        assertThat(pendingWrites).hasSize(1);
+        assertThat(directions(service, "BICYCLING").getStatus()).isEqualTo("OK");
+        assertThat(cache.getMemoryHitCount()).isEqualTo(1);
+
+        pendingWrites.forEach(Runnable::run);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsDatabaseWriteWhenQueueIsFull() {
+        DirectionsCache cache = new DirectionsCache(repository, objectMapper, 100, 30, 24, runnable -> {
+            throw new RejectedExecutionException("full");
+        });
+        GoogleMapsService service = new GoogleMapsService(stub.context(), cache, new TravelTimeEstimator(), mapsApiClient);
+
+        directions(service, "BICYCLING");
+        directions(service, "BICYCLING");
+
+        assertThat(cache.getDroppedWriteCount()).isEqualTo(1);
+        assertThat(cache.getMemoryHitCount()).isEqualTo(1);
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(1);
+    }
+
+    // DB 저장을 호출한 스레드에서 바로 실행 (저장 결과를 바로 확인하기 위함)
+    private DirectionsCache newCache() {
+        return new DirectionsCache(repository, objectMapper, 100, 30, 24, Runnable::run);
+    }
+
+    private GoogleDirectionsResponse directions(GoogleMapsService service, String mode) {
+        return service.getDirections(TOKYO_STATION_LAT, TOKYO_STATION_LNG, TOKYO_TOWER_LAT, TOKYO_TOWER_LNG, mode);
+    }
+}
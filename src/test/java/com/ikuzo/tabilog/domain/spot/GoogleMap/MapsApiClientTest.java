@@ -0,0 +1,163 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import com.google.maps.PendingResult;
+import com.google.maps.errors.ZeroResultsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 비동기 Google Maps 호출 계층 테스트
+ * 직접 완료시키는 가짜 PendingResult로 동시 요청 제한, 제한 시간, 회로 차단, 헤지 재시도를 확인합니다.
+ */
+class MapsApiClientTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<ManualResult> started = new CopyOnWriteArrayList<>();
+    private MapsApiClient client;
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    void queuesRequestsBeyondConcurrencyLimit() {
+        client = newClient(2, 60_000, 60_000, 5);
+
+        CompletableFuture<String> first = execute();
+        execute();
+        CompletableFuture<String> third = execute();
+
+        assertThat(started).hasSize(2);
+        started.get(0).succeed("first");
+
+        assertThat(first).isCompletedWithValue("first");
+        assertThat(started).hasSize(3);
+        started.get(2).succeed("third");
+        assertThat(third).isCompletedWithValue("third");
+    }
+
+    @Test
+    void failsSlowRequestAfterTimeout() {
+        client = newClient(4, 100, 60_000, 5);
+
+        CompletableFuture<String> result = execute();
+
+        await().atMost(2, TimeUnit.SECONDS).until(result::isDone);
+        assertThat(result).isCompletedExceptionally();
+        assertThat(result.handle((value, error) -> error).join()).isInstanceOf(TimeoutException.class);
+        assertThat(started.get(0).cancelled).isTrue();
+        assertThat(client.getTimeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveFailures() {
+        client = newClient(4, 60_000, 60_000, 2);
+
+        for (int i = 0; i < 2; i++) {
+            execute();
+            // 최초 요청 실패 → 즉시 재시도 → 재시도도 실패
+            started.get(started.size() - 1).fail(new IOException("offline"));
+            started.get(started.size() - 1).fail(new IOException("offline"));
+        }
+        int attempts = started.size();
+        CompletableFuture<String> shortCircuited = execute();
+
+        assertThat(shortCircuited).isCompletedExceptionally();
+        assertThat(started).hasSize(attempts);
+        assertThat(client.getCircuitState(MapsEndpoint.DIRECTIONS)).isEqualTo(CircuitBreaker.State.OPEN);
+        // 다른 엔드포인트는 영향 없음
+        assertThat(client.getCircuitState(MapsEndpoint.GEOCODE)).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // 차단 시간이 지나면 시험 요청 하나를 허용하고, 성공하면 닫힘
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        CompletableFuture<String> trial = execute();
+        started.get(started.size() - 1).succeed("ok");
+        assertThat(trial).isCompletedWithValue("ok");
+        assertThat(client.getCircuitState(MapsEndpoint.DIRECTIONS)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void hedgesSlowRequestAndUsesFirstResponse() {
+        client = newClient(4, 60_000, 50, 5);
+
+        CompletableFuture<String> result = execute();
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> started.size() == 2);
+        started.get(1).succeed("hedged");
+
+        assertThat(result.join()).isEqualTo("hedged");
+        assertThat(started.get(0).cancelled).isTrue();
+        assertThat(client.getHedgeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryRequestErrors() {
+        client = newClient(4, 60_000, 60_000, 1);
+
+        CompletableFuture<String> result = execute();
+        started.get(0).fail(new ZeroResultsException("no route"));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(started).hasSize(1);
+        assertThat(client.getCircuitState(MapsEndpoint.DIRECTIONS)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private MapsApiClient newClient(int maxConcurrency, long timeoutMillis, long hedgeDelayMillis, int failureThreshold) {
+        return new MapsApiClient(maxConcurrency, 10, timeoutMillis, hedgeDelayMillis, failureThreshold,
+                Duration.ofSeconds(30), clock::get);
+    }
+
+    private CompletableFuture<String> execute() {
+        return client.execute(MapsEndpoint.DIRECTIONS, () -> {
+            ManualResult result = new ManualResult();
+            started.add(result);
+            return result;
+        });
+    }
+
+    private static class ManualResult implements PendingResult<String> {
+        private volatile Callback<String> callback;
+        private volatile boolean cancelled;
+
+        void succeed(String value) {
+            callback.onResult(value);
+        }
+
+        void fail(Throwable error) {
+            callback.onFailure(error);
+        }
+
+        @Override
+        public void setCallback(Callback<String> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public String await() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String awaitIgnoreError() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
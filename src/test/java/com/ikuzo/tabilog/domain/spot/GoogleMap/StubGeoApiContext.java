@@ -0,0 +1,254 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.maps.GeoApiContext;
+import com.google.maps.PendingResult;
+import com.google.maps.internal.ApiResponse;
+import com.google.maps.internal.ExceptionsAllowedToRetry;
+import com.google.maps.metrics.RequestMetrics;
+import com.google.maps.model.DirectionsLeg;
+import com.google.maps.model.DirectionsResult;
+import com.google.maps.model.DirectionsRoute;
+import com.google.maps.model.DirectionsStep;
+import com.google.maps.model.Distance;
+import com.google.maps.model.DistanceMatrix;
+import com.google.maps.model.DistanceMatrixElement;
+import com.google.maps.model.DistanceMatrixElementStatus;
+import com.google.maps.model.DistanceMatrixRow;
+import com.google.maps.model.Duration;
+import com.google.maps.model.EncodedPolyline;
+
+import java.net.Proxy;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 네트워크 없이 Google Maps 연동 코드를 테스트하기 위한 GeoApiContext 스텁
+ * API 경로(예: "/maps/api/directions/json")별로 응답을 등록하고 호출 횟수를 셉니다.
+ */
+public class StubGeoApiContext {
+
+    public static final String DIRECTIONS = "/maps/api/directions/json";
+    public static final String GEOCODE = "/maps/api/geocode/json";
+    public static final String TEXT_SEARCH = "/maps/api/place/textsearch/json";
+    public static final String NEARBY_SEARCH = "/maps/api/place/nearbysearch/json";
+    public static final String DISTANCE_MATRIX = "/maps/api/distancematrix/json";
+
+    private final Map<String, Function<String, Object>> responders = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final GeoApiContext context;
+
+    public StubGeoApiContext() {
+        this.context = new GeoApiContext.Builder(new StubHandlerBuilder(new StubHandler()))
+                .apiKey("AIzaStubKeyForOfflineTests")
+                .build();
+    }
+
+    public GeoApiContext context() {
+        return context;
+    }
+
+    /** 요청 URL(쿼리 포함)을 받아 결과 객체를 반환하거나, 예외를 던져 실패를 흉내냅니다. */
+    public StubGeoApiContext respond(String path, Function<String, Object> responder) {
+        responders.put(path, responder);
+        return this;
+    }
+
+    public int callCount(String path) {
+        AtomicInteger count = calls.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    /** 도보/이동 시간 초 단위 한 구간짜리 Directions 결과 */
+    public static DirectionsResult directions(long seconds, long meters) {
+        Duration duration = new Duration();
+        duration.inSeconds = seconds;
+        duration.humanReadable = (seconds / 60) + " mins";
+        Distance distance = new Distance();
+        distance.inMeters = meters;
+        distance.humanReadable = (meters / 1000.0) + " km";
+
+        DirectionsStep step = new DirectionsStep();
+        step.duration = duration;
+        step.distance = distance;
+        step.htmlInstructions = "stub";
+        step.travelMode = com.google.maps.model.TravelMode.WALKING;
+
+        DirectionsLeg leg = new DirectionsLeg();
+        leg.duration = duration;
+        leg.distance = distance;
+        leg.startAddress = "start";
+        leg.endAddress = "end";
+        leg.steps = new DirectionsStep[]{step};
+
+        DirectionsRoute route = new DirectionsRoute();
+        route.summary = "stub route";
+        route.legs = new DirectionsLeg[]{leg};
+        route.overviewPolyline = new EncodedPolyline("stub");
+
+        DirectionsResult result = new DirectionsResult();
+        result.routes = new DirectionsRoute[]{route};
+        return result;
+    }
+
+    /** 모든 요소가 같은 초/미터 값인 rows x columns Distance Matrix 결과 */
+    public static DistanceMatrix distanceMatrix(int rows, int columns, long seconds, long meters) {
+        DistanceMatrixRow[] matrixRows = new DistanceMatrixRow[rows];
+        for (int i = 0; i < rows; i++) {
+            matrixRows[i] = new DistanceMatrixRow();
+            matrixRows[i].elements = new DistanceMatrixElement[columns];
+            for (int j = 0; j < columns; j++) {
+                DistanceMatrixElement element = new DistanceMatrixElement();
+                element.status = DistanceMatrixElementStatus.OK;
+                element.duration = new Duration();
+                element.duration.inSeconds = seconds;
+                element.distance = new Distance();
+                element.distance.inMeters = meters;
+                matrixRows[i].elements[j] = element;
+            }
+        }
+        return new DistanceMatrix(new String[rows], new String[columns], matrixRows);
+    }
+
+    /** 요청 URL 쿼리에서 '|'로 구분된 값(origins, destinations 등)의 개수 */
+    public static int countLocations(String url, String parameter) {
+        String value = parameter(url, parameter);
+        return value == null ? 0 : value.split("\\|").length;
+    }
+
+    /** 요청 URL 쿼리의 파라미터 값 (디코딩된 문자열, 없으면 null) */
+    public static String parameter(String url, String parameter) {
+        String decoded = URLDecoder.decode(url, StandardCharsets.UTF_8);
+        int start = decoded.indexOf(parameter + "=");
+        if (start < 0) {
+            return null;
+        }
+        int end = decoded.indexOf('&', start);
+        return decoded.substring(start + parameter.length() + 1, end < 0 ? decoded.length() : end);
+    }
+
+    private class StubHandler implements GeoApiContext.RequestHandler {
+
+        @Override
+        public <T, R extends ApiResponse<T>> PendingResult<T> handle(String hostName, String url,
+                                                                     Map<String, String> headers, Class<R> clazz,
+                                                                     FieldNamingPolicy fieldNamingPolicy,
+                                                                     long errorTimeout, Integer maxRetries,
+                                                                     ExceptionsAllowedToRetry exceptionsAllowedToRetry,
+                                                                     RequestMetrics metrics) {
+            String path = url.contains("?") ? url.substring(0, url.indexOf('?')) : url;
+            calls.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+
+            Function<String, Object> responder = responders.get(path);
+            if (responder == null) {
+                return new StubResult<>(null, new IllegalStateException("등록되지 않은 스텁 경로: " + path));
+            }
+            try {
+                @SuppressWarnings("unchecked")
+                T result = (T) responder.apply(url);
+                return new StubResult<>(result, null);
+            } catch (RuntimeException e) {
+                return new StubResult<>(null, e);
+            }
+        }
+
+        @Override
+        public <T, R extends ApiResponse<T>> PendingResult<T> handlePost(String hostName, String url, String payload,
+                                                                         Map<String, String> headers, Class<R> clazz,
+                                                                         FieldNamingPolicy fieldNamingPolicy,
+                                                                         long errorTimeout, Integer maxRetries,
+                                                                         ExceptionsAllowedToRetry exceptionsAllowedToRetry,
+                                                                         RequestMetrics metrics) {
+            return handle(hostName, url, headers, clazz, fieldNamingPolicy, errorTimeout, maxRetries,
+                    exceptionsAllowedToRetry, metrics);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    private static class StubResult<T> implements PendingResult<T> {
+        private final T result;
+        private final RuntimeException failure;
+
+        private StubResult(T result, RuntimeException failure) {
+            this.result = result;
+            this.failure = failure;
+        }
+
+        @Override
+        public void setCallback(Callback<T> callback) {
+            if (failure != null) {
+                callback.onFailure(failure);
+            } else {
+                callback.onResult(result);
+            }
+        }
+
+        @Override
+        public T await() {
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+
+        @Override
+        public T awaitIgnoreError() {
+            return result;
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private static class StubHandlerBuilder implements GeoApiContext.RequestHandler.Builder {
+        private final GeoApiContext.RequestHandler handler;
+
+        private StubHandlerBuilder(GeoApiContext.RequestHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public GeoApiContext.RequestHandler.Builder connectTimeout(long timeout, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public GeoApiContext.RequestHandler.Builder readTimeout(long timeout, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public GeoApiContext.RequestHandler.Builder writeTimeout(long timeout, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public GeoApiContext.RequestHandler.Builder queriesPerSecond(int maxQps) {
+            return this;
+        }
+
+        @Override
+        public GeoApiContext.RequestHandler.Builder proxy(Proxy proxy) {
+            return this;
+        }
+
+        @Override
+        public GeoApiContext.RequestHandler.Builder proxyAuthentication(String proxyUserName, String proxyUserPassword) {
+            return this;
+        }
+
+        @Override
+        public GeoApiContext.RequestHandler build() {
+            return handler;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ikuzo.tabilog.domain.spot.GoogleMap;
+
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 좌표 기반 이동 시간 추정 테스트
+ * 도쿄역 → 도쿄타워 (직선 약 3.2km) 기준으로 이동수단별 속도 모델이 적용되는지 확인합니다.
+ */
+class TravelTimeEstimatorTest {
+
+    private static final double TOKYO_STATION_LAT = 35.681236;
+    private static final double TOKYO_STATION_LNG = 139.767125;
+    private static final double TOKYO_TOWER_LAT = 35.658581;
+    private static final double TOKYO_TOWER_LNG = 139.745433;
+
+    private final TravelTimeEstimator estimator = new TravelTimeEstimator();
+
+    @Test
+    void computesGreatCircleDistance() {
+        double meters = TravelTimeEstimator.haversineMeters(TOKYO_STATION_LAT, TOKYO_STATION_LNG,
+                TOKYO_TOWER_LAT, TOKYO_TOWER_LNG);
+
+        assertThat(meters).isCloseTo(3170, within(50d));
+    }
+
+    @Test
+    void appliesPerModeSpeedAndDetour() {
+        int walking = minutes("WALKING");
+        int bicycling = minutes("BICYCLING");
+        int driving = minutes("DRIVING");
+
+        // 3.17km x 1.3 / 4.8km/h ≈ 52분
+        assertThat(walking).isBetween(48, 55);
+        assertThat(walking).isGreaterThan(bicycling);
+        assertThat(bicycling).isGreaterThan(driving);
+        assertThat(estimator.estimateSeconds(TOKYO_STATION_LAT, TOKYO_STATION_LNG, TOKYO_TOWER_LAT, TOKYO_TOWER_LNG,
+                TravelMode.TAXI))
+                .isEqualTo(estimator.estimateSeconds(TOKYO_STATION_LAT, TOKYO_STATION_LNG, TOKYO_TOWER_LAT,
+                        TOKYO_TOWER_LNG, "DRIVING"));
+    }
+
+    @Test
+    void walksShortTransitHops() {
+        double nearbyLat = TOKYO_STATION_LAT + 0.003; // 약 330m
+
+        assertThat(estimator.estimateSeconds(TOKYO_STATION_LAT, TOKYO_STATION_LNG, nearbyLat, TOKYO_STATION_LNG, "TRANSIT"))
+                .isEqualTo(estimator.estimateSeconds(TOKYO_STATION_LAT, TOKYO_STATION_LNG, nearbyLat, TOKYO_STATION_LNG,
+                        "WALKING"));
+        assertThat(estimator.estimateSeconds(TOKYO_STATION_LAT, TOKYO_STATION_LNG, TOKYO_STATION_LAT, TOKYO_STATION_LNG,
+                "WALKING")).isZero();
+    }
+
+    private int minutes(String mode) {
+        return estimator.estimateMinutes(TOKYO_STATION_LAT, TOKYO_STATION_LNG, TOKYO_TOWER_LAT, TOKYO_TOWER_LNG, mode);
+    }
+}
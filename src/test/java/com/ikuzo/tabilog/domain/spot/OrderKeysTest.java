@@ -0,0 +1,47 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderKeysTest {
+
+    @Test
+    void picksMiddleKeyBetweenNeighbours() {
+        List<Integer> keys = List.of(OrderKeys.initial(0), OrderKeys.initial(1));
+
+        assertThat(OrderKeys.keyAt(keys, 1)).isEqualTo(OrderKeys.initial(0) + OrderKeys.GAP / 2);
+        assertThat(OrderKeys.keyAt(keys, 0)).isBetween(0, OrderKeys.initial(0) - 1);
+        assertThat(OrderKeys.keyAt(keys, 2)).isEqualTo(OrderKeys.initial(2));
+        assertThat(OrderKeys.append(null)).isEqualTo(OrderKeys.initial(0));
+    }
+
+    @Test
+    void requestedOrderIsClampedPosition() {
+        assertThat(OrderKeys.position(1, 3)).isEqualTo(1);
+        assertThat(OrderKeys.position(3, 3)).isEqualTo(3);
+        assertThat(OrderKeys.position(OrderKeys.initial(0), 3)).isEqualTo(3);
+        assertThat(OrderKeys.position(-1, 3)).isZero();
+        assertThat(OrderKeys.position(null, 3)).isEqualTo(3);
+    }
+
+    @Test
+    void returnsNullWhenGapIsExhausted() {
+        assertThat(OrderKeys.keyAt(List.of(4, 5), 1)).isNull();
+        assertThat(OrderKeys.keyAt(List.of(0), 0)).isNull();
+        assertThat(OrderKeys.append(Integer.MAX_VALUE)).isNull();
+
+        // 같은 자리에 반복 삽입해도 재배치 전까지 여러 번 들어감
+        int before = OrderKeys.initial(0);
+        int after = OrderKeys.initial(1);
+        int inserts = 0;
+        Integer key;
+        while ((key = OrderKeys.keyAt(List.of(before, after), 1)) != null) {
+            after = key;
+            inserts++;
+        }
+        assertThat(inserts).isEqualTo(16);
+    }
+}
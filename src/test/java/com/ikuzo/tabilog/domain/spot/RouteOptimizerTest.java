@@ -0,0 +1,112 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방문 순서 최적화 테스트
+ * 최적 경로를 아는 배치(원 위의 지점)에서 최적에 도달하는지, 고정 지점을 지키는지,
+ * 30개 지점을 수 밀리초 안에 처리하는지 확인합니다.
+ */
+class RouteOptimizerTest {
+
+    @Test
+    void findsOptimalPathForPointsOnCircle() {
+        // 원 위 30개 지점을 섞어 둠 → 최적 열린 경로는 원둘레에서 가장 긴 간격 하나를 뺀 값
+        int size = 30;
+        List<Integer> shuffled = IntStream.range(0, size).boxed().collect(ArrayList::new, List::add, List::addAll);
+        Collections.shuffle(shuffled, new Random(7));
+        double[][] points = new double[size][];
+        for (int i = 0; i < size; i++) {
+            double angle = 2 * Math.PI * shuffled.get(i) / size;
+            points[i] = new double[]{1000 * Math.cos(angle), 1000 * Math.sin(angle)};
+        }
+        long[][] durations = euclidean(points);
+        long optimal = RouteOptimizer.pathCost(durations, circleOrder(shuffled));
+
+        int[] order = RouteOptimizer.optimize(durations, RouteOptimizer.NONE, RouteOptimizer.NONE);
+
+        assertThat(order).containsExactlyInAnyOrder(IntStream.range(0, size).toArray());
+        assertThat(RouteOptimizer.pathCost(durations, order)).isLessThanOrEqualTo(optimal);
+    }
+
+    @Test
+    void keepsFixedFirstAndLastAndNeverWorsensCurrentOrder() {
+        long[][] durations = euclidean(randomPoints(12, new Random(3)));
+        int[] order = RouteOptimizer.optimize(durations, 5, 2);
+
+        assertThat(order[0]).isEqualTo(5);
+        assertThat(order[11]).isEqualTo(2);
+        assertThat(order).containsExactlyInAnyOrder(IntStream.range(0, 12).toArray());
+        // 고정 지점을 양 끝으로 옮긴 현재 순서보다 나빠지지 않음
+        int[] anchoredCurrent = IntStream.concat(IntStream.of(5),
+                IntStream.concat(IntStream.range(0, 12).filter(i -> i != 5 && i != 2), IntStream.of(2))).toArray();
+        assertThat(RouteOptimizer.pathCost(durations, order))
+                .isLessThanOrEqualTo(RouteOptimizer.pathCost(durations, anchoredCurrent));
+    }
+
+    @Test
+    void avoidsUnreachableLegs() {
+        long[][] durations = {
+                {0, 10, 10},
+                {10, 0, -1},
+                {10, -1, 0},
+        };
+
+        int[] order = RouteOptimizer.optimize(durations, RouteOptimizer.NONE, RouteOptimizer.NONE);
+
+        // 1 ↔ 2 는 경로가 없으므로 0 을 가운데에 둠
+        assertThat(order[1]).isEqualTo(0);
+    }
+
+    @Test
+    void optimizesThirtySpotsWithinFewMilliseconds() {
+        long[][] durations = euclidean(randomPoints(30, new Random(11)));
+        for (int i = 0; i < 20; i++) {
+            RouteOptimizer.optimize(durations, 0, RouteOptimizer.NONE);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            long started = System.nanoTime();
+            RouteOptimizer.optimize(durations, 0, RouteOptimizer.NONE);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+
+        assertThat(best).isLessThan(10_000_000L);
+    }
+
+    private static int[] circleOrder(List<Integer> shuffled) {
+        // 원 위 각도 순서대로 방문하는 경로 (인덱스 기준)
+        int[] order = new int[shuffled.size()];
+        for (int i = 0; i < shuffled.size(); i++) {
+            order[shuffled.get(i)] = i;
+        }
+        return order;
+    }
+
+    private static double[][] randomPoints(int size, Random random) {
+        double[][] points = new double[size][];
+        for (int i = 0; i < size; i++) {
+            points[i] = new double[]{random.nextDouble() * 5000, random.nextDouble() * 5000};
+        }
+        return points;
+    }
+
+    private static long[][] euclidean(double[][] points) {
+        long[][] durations = new long[points.length][points.length];
+        for (int i = 0; i < points.length; i++) {
+            for (int j = 0; j < points.length; j++) {
+                durations[i][j] = Math.round(Math.hypot(points[i][0] - points[j][0], points[i][1] - points[j][1]));
+            }
+        }
+        return durations;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelTimeEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpotGeoIndexTest {
+
+    // 도쿄역
+    private static final double LAT = 35.6812;
+    private static final double LNG = 139.7671;
+
+    @Test
+    void findsSpotsWithinRadiusNearestFirst() {
+        SpotGeoIndex index = new SpotGeoIndex();
+        index.put(point(1L, SpotCategory.LANDMARK, 35.6852, 139.7528));   // 황거, 약 1.4km
+        index.put(point(2L, SpotCategory.SHOPPING, 35.6717, 139.7650));   // 긴자, 약 1.1km
+        index.put(point(3L, SpotCategory.LANDMARK, 35.6586, 139.7454));   // 도쿄 타워, 약 3.2km
+        index.put(point(4L, SpotCategory.TEMPLE, 35.7148, 139.7967));     // 센소지, 약 4.6km
+
+        assertThat(index.withinRadius(LAT, LNG, 2000, Set.of()))
+                .extracting(hit -> hit.point().spotId()).containsExactly(2L, 1L);
+        assertThat(index.withinRadius(LAT, LNG, 5000, EnumSet.of(SpotCategory.LANDMARK)))
+                .extracting(hit -> hit.point().spotId()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void nearestMatchesBruteForceAndRespectsUpdates() {
+        SpotGeoIndex index = new SpotGeoIndex();
+        Random random = new Random(17);
+        List<SpotGeoIndex.Point> points = random.ints(500, 0, Integer.MAX_VALUE).boxed()
+                .map(seed -> point(seed.longValue(), SpotCategory.values()[seed % SpotCategory.values().length],
+                        LAT + (random.nextDouble() - 0.5) * 0.4, LNG + (random.nextDouble() - 0.5) * 0.4))
+                .collect(Collectors.toList());
+        points.forEach(index::put);
+
+        List<Long> expected = points.stream()
+                .sorted(Comparator.comparingDouble(SpotGeoIndexTest::distance))
+                .limit(7)
+                .map(SpotGeoIndex.Point::spotId)
+                .collect(Collectors.toList());
+        assertThat(index.nearest(LAT, LNG, 7, 50_000, Set.of()))
+                .extracting(hit -> hit.point().spotId()).containsExactlyElementsOf(expected);
+
+        // 이동/삭제하면 이전 위치에서는 찾지 않음
+        index.put(point(expected.get(0), SpotCategory.OTHER, 34.6937, 135.5023));
+        index.remove(expected.get(1));
+        assertThat(index.nearest(LAT, LNG, 5, 50_000, Set.of()))
+                .extracting(hit -> hit.point().spotId()).doesNotContain(expected.get(0), expected.get(1));
+        assertThat(index.size()).isEqualTo(499);
+    }
+
+    @Test
+    void nearestStopsAtMaxRadius() {
+        SpotGeoIndex index = new SpotGeoIndex();
+        index.put(point(1L, SpotCategory.PARK, 35.6852, 139.7528));
+
+        assertThat(index.nearest(LAT, LNG, 3, 1000, Set.of())).isEmpty();
+        assertThat(index.nearest(LAT, LNG, 3, 2000, Set.of())).hasSize(1);
+    }
+
+    @Test
+    void removePlanRemovesOnlyThatPlansSpots() {
+        SpotGeoIndex index = new SpotGeoIndex();
+        index.put(point(1L, 10L, SpotCategory.PARK, 35.6852, 139.7528));
+        index.put(point(2L, 10L, SpotCategory.PARK, 35.6717, 139.7650));
+        index.put(point(3L, 20L, SpotCategory.PARK, 35.6717, 139.7650));
+        // 다른 계획으로 옮겨진 관광지는 새 계획을 따라감
+        index.put(point(2L, 20L, SpotCategory.PARK, 35.6717, 139.7650));
+
+        index.removePlan(10L);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.withinRadius(LAT, LNG, 5000, Set.of()))
+                .extracting(hit -> hit.point().spotId())
+                .containsExactlyInAnyOrder(2L, 3L);
+
+        index.removePlan(20L);
+        assertThat(index.size()).isZero();
+    }
+
+    private static SpotGeoIndex.Point point(long spotId, SpotCategory category, double latitude, double longitude) {
+        return point(spotId, 10L, category, latitude, longitude);
+    }
+
+    private static SpotGeoIndex.Point point(long spotId, long planId, SpotCategory category, double latitude, double longitude) {
+        return new SpotGeoIndex.Point(spotId, planId, "spot-" + spotId, "address", category, latitude, longitude);
+    }
+
+    private static double distance(SpotGeoIndex.Point point) {
+        return TravelTimeEstimator.haversineMeters(LAT, LNG, point.latitude(), point.longitude());
+    }
+}
@@ -0,0 +1,53 @@
+package com.ikuzo.tabilog.domain.spot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpotSearchIndexTest {
+
+    @Test
+    void findsJapaneseAndKoreanSubstringsWithoutSpaces() {
+        SpotSearchIndex index = new SpotSearchIndex();
+        index.put(1L, 10L, "東京タワー", "東京都港区芝公園4-2-8", SpotCategory.LANDMARK);
+        index.put(2L, 10L, "경복궁", "서울 종로구 사직로 161", SpotCategory.TEMPLE);
+        index.put(3L, 10L, "ＴＯＫＹＯ Ｓｋｙｔｒｅｅ", "東京都墨田区押上1-1-2", SpotCategory.LANDMARK);
+
+        assertThat(index.search("タワー")).extracting(SpotSearchIndex.Hit::spotId).containsExactly(1L);
+        assertThat(index.search("경복 궁")).extracting(SpotSearchIndex.Hit::spotId).containsExactly(2L);
+        assertThat(index.search("tokyo sky")).extracting(SpotSearchIndex.Hit::spotId).containsExactly(3L);
+        assertThat(index.search("사원")).extracting(SpotSearchIndex.Hit::spotId).containsExactly(2L);
+    }
+
+    @Test
+    void ranksNameMatchesAboveAddressMatches() {
+        SpotSearchIndex index = new SpotSearchIndex();
+        index.put(1L, 10L, "浅草寺", "東京都台東区浅草2-3-1", SpotCategory.TEMPLE);
+        index.put(2L, 10L, "雷門 天丼", "東京都台東区浅草1-2-3", SpotCategory.RESTAURANT);
+
+        assertThat(index.search("浅草")).extracting(SpotSearchIndex.Hit::spotId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void reindexingReplacesOldTermsAndRemoveDropsSpot() {
+        SpotSearchIndex index = new SpotSearchIndex();
+        index.put(1L, 10L, "오사카성", "주오구", SpotCategory.LANDMARK);
+        index.put(1L, 10L, "도톤보리", "주오구", SpotCategory.STREET);
+
+        assertThat(index.search("오사카성")).isEmpty();
+        assertThat(index.search("도톤보리")).extracting(SpotSearchIndex.Hit::spotId).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("도톤보리")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void singleCharacterQueryScansDocuments() {
+        SpotSearchIndex index = new SpotSearchIndex();
+        index.put(1L, 10L, "후지산", "시즈오카", SpotCategory.MOUNTAIN);
+        index.put(2L, 10L, "가마쿠라", "가나가와", SpotCategory.TEMPLE);
+
+        assertThat(index.search("산")).extracting(SpotSearchIndex.Hit::spotId).containsExactly(1L);
+    }
+}
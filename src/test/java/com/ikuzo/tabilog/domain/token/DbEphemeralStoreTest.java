@@ -0,0 +1,76 @@
+package com.ikuzo.tabilog.domain.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB EphemeralStore 테스트 (H2)
+ * 다른 서버(다른 인스턴스)에서 저장한 값을 읽을 수 있고, 시도 횟수/개수 제한/만료 정리가 테이블 기준으로 동작해야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ephemeral-store;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DbEphemeralStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+
+    @Autowired
+    private EphemeralTokenRepository ephemeralTokenRepository;
+
+    private DbEphemeralStore nodeA;
+    private DbEphemeralStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        nodeA = new DbEphemeralStore(ephemeralTokenRepository, 2, clock);
+        nodeB = new DbEphemeralStore(ephemeralTokenRepository, 2, clock);
+    }
+
+    @Test
+    void sharesValuesAcrossInstances() {
+        nodeA.put("password-reset", "token-1", "42", Duration.ofMinutes(30));
+
+        assertThat(nodeB.get("password-reset", "token-1")).contains("42");
+        assertThat(nodeB.take("password-reset", "token-1")).contains("42");
+        assertThat(nodeA.take("password-reset", "token-1")).isEmpty();
+    }
+
+    @Test
+    void countsAttemptsAndCapsNamespace() {
+        nodeA.put("code", "a@example.com", "123456", Duration.ofMinutes(10));
+
+        assertThat(nodeB.verify("code", "a@example.com", "000000", 2)).isEqualTo(EphemeralStore.VerifyResult.MISMATCH);
+        assertThat(nodeA.verify("code", "a@example.com", "111111", 2)).isEqualTo(EphemeralStore.VerifyResult.LOCKED);
+        assertThat(nodeA.verify("code", "a@example.com", "123456", 2)).isEqualTo(EphemeralStore.VerifyResult.NOT_FOUND);
+
+        nodeA.put("code", "b@example.com", "1", Duration.ofMinutes(10));
+        nodeA.put("code", "c@example.com", "2", Duration.ofMinutes(10));
+        nodeA.put("code", "d@example.com", "3", Duration.ofMinutes(10));
+        assertThat(ephemeralTokenRepository.countByNamespace("code")).isEqualTo(2);
+        assertThat(nodeA.get("code", "b@example.com")).isEmpty();
+        assertThat(nodeA.verify("code", "d@example.com", "3", 5)).isEqualTo(EphemeralStore.VerifyResult.MATCHED);
+    }
+
+    @Test
+    void removesExpiredRows() {
+        nodeA.put("code", "expired", "1", Duration.ofMinutes(-1));
+        nodeA.put("code", "alive", "2", Duration.ofMinutes(10));
+
+        assertThat(nodeA.get("code", "expired")).isEmpty();
+        assertThat(nodeA.removeExpired()).isEqualTo(1);
+        assertThat(ephemeralTokenRepository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ikuzo.tabilog.domain.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 EphemeralStore 테스트
+ * 최대 개수를 넘으면 먼저 저장된 값이 밀려나고, 타이머 휠이 만료된 값만 지우며, 틀린 시도가 쌓이면 값이 폐기되어야 합니다.
+ */
+class InMemoryEphemeralStoreTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final InMemoryEphemeralStore store = new InMemoryEphemeralStore(3, 1000L, clock);
+
+    @Test
+    void evictsOldestWhenFull() {
+        for (int i = 0; i < 5; i++) {
+            store.put("code", "user" + i, "v" + i, Duration.ofMinutes(10));
+        }
+        store.put("other", "user0", "x", Duration.ofMinutes(10));
+
+        assertThat(store.size("code")).isEqualTo(3);
+        assertThat(store.get("code", "user0")).isEmpty();
+        assertThat(store.get("code", "user1")).isEmpty();
+        assertThat(store.get("code", "user4")).contains("v4");
+        assertThat(store.get("other", "user0")).contains("x");
+    }
+
+    @Test
+    void sweepsOnlyExpiredEntries() {
+        store.put("code", "short", "a", Duration.ofSeconds(5));
+        store.put("code", "long", "b", Duration.ofMinutes(30)); // 휠 한 바퀴(512초)보다 긺
+
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(store.removeExpired()).isEqualTo(1);
+        assertThat(store.size("code")).isEqualTo(1);
+
+        // 휠을 여러 바퀴 돌아도 만료 전에는 남아 있음
+        clock.advance(Duration.ofMinutes(20));
+        assertThat(store.removeExpired()).isZero();
+        assertThat(store.get("code", "long")).contains("b");
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(store.removeExpired()).isEqualTo(1);
+        assertThat(store.size("code")).isZero();
+    }
+
+    @Test
+    void locksAfterTooManyAttempts() {
+        store.put("code", "user", "123456", Duration.ofMinutes(10));
+
+        assertThat(store.verify("code", "user", "000000", 3)).isEqualTo(EphemeralStore.VerifyResult.MISMATCH);
+        assertThat(store.verify("code", "user", "111111", 3)).isEqualTo(EphemeralStore.VerifyResult.MISMATCH);
+        assertThat(store.verify("code", "user", "222222", 3)).isEqualTo(EphemeralStore.VerifyResult.LOCKED);
+        assertThat(store.verify("code", "user", "123456", 3)).isEqualTo(EphemeralStore.VerifyResult.NOT_FOUND);
+
+        store.put("code", "user", "654321", Duration.ofMinutes(10));
+        assertThat(store.verify("code", "user", "654321", 3)).isEqualTo(EphemeralStore.VerifyResult.MATCHED);
+        assertThat(store.take("code", "user")).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-06-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ikuzo.tabilog.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Duration.ofSeconds(5), now::get);
+        cache.put("a", "A");
+
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThat(cache.get("a")).isEqualTo("A");
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenFull() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2, Duration.ofMinutes(1), now::get);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("c")).isEqualTo("C");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loadsOnlyOnMiss() {
+        ExpiringCache<Long, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1), now::get);
+        AtomicLong loads = new AtomicLong();
+
+        cache.getOrLoad(1L, key -> "user-" + loads.incrementAndGet());
+        String second = cache.getOrLoad(1L, key -> "user-" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("user-1");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ikuzo.tabilog.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneCall() throws Exception {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+        int callers = 8;
+        CountDownLatch ready = new CountDownLatch(callers);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        List<CompletableFuture<CompletableFuture<String>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                ready.countDown();
+                return singleFlight.execute("tokyo", () -> {
+                    calls.incrementAndGet();
+                    return upstream;
+                });
+            }, pool));
+        }
+        ready.await(2, TimeUnit.SECONDS);
+        List<CompletableFuture<String>> shared = new ArrayList<>();
+        for (CompletableFuture<CompletableFuture<String>> result : results) {
+            shared.add(result.get(2, TimeUnit.SECONDS));
+        }
+        upstream.complete("東京");
+        pool.shutdown();
+
+        assertThat(calls).hasValue(1);
+        assertThat(shared).allSatisfy(future -> assertThat(future).isCompletedWithValue("東京"));
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(callers - 1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void callsAgainAfterCompletionAndShareFailures() {
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("osaka", () -> failing);
+        CompletableFuture<String> second = singleFlight.execute("osaka", () -> CompletableFuture.completedFuture("unused"));
+        failing.completeExceptionally(new IllegalStateException("offline"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+
+        CompletableFuture<String> retry = singleFlight.execute("osaka", () -> CompletableFuture.completedFuture("大阪"));
+        assertThat(retry).isCompletedWithValue("大阪");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotAffectOthers() {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("kyoto", () -> upstream);
+        CompletableFuture<String> second = singleFlight.execute("kyoto", () -> upstream);
+
+        first.cancel(true);
+        upstream.complete("京都");
+
+        assertThat(second).isCompletedWithValue("京都");
+    }
+}
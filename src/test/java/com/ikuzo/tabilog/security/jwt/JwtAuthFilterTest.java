@@ -0,0 +1,101 @@
+package com.ikuzo.tabilog.security.jwt;
+
+import com.ikuzo.tabilog.security.services.UserDetailsImpl;
+import com.ikuzo.tabilog.security.services.UserDetailsServiceImpl;
+import com.ikuzo.tabilog.security.services.UserPrincipalCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 필터 인증 경로 테스트
+ * uid 클레임이 있는 토큰은 같은 사용자에 대해 최초 1회만 사용자 조회가 일어나야 합니다.
+ */
+class JwtAuthFilterTest {
+
+    private final UserDetailsServiceImpl userDetailsService = mock(UserDetailsServiceImpl.class);
+    private final UserPrincipalCache principalCache = new UserPrincipalCache(100, 300);
+    private final UserDetailsImpl user = new UserDetailsImpl(7L, "user@example.com", "user", "password", "nick");
+
+    private JwtUtils jwtUtils;
+    private JwtAuthFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecretBase64", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtils, "jwtAccessExpirationMs", 60_000L);
+        jwtUtils.init();
+        filter = new JwtAuthFilter(jwtUtils, userDetailsService, principalCache);
+        when(userDetailsService.loadUserById(7L)).thenReturn(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesFromCacheAfterFirstRequest() throws Exception {
+        String token = jwtUtils.generateJwtToken(user);
+
+        Authentication first = authenticate(token);
+        Authentication second = authenticate(token);
+
+        assertThat(first.getPrincipal()).isEqualTo(user);
+        assertThat(((UserDetailsImpl) second.getPrincipal()).getEmail()).isEqualTo("user@example.com");
+        verify(userDetailsService, times(1)).loadUserById(7L);
+    }
+
+    @Test
+    void reloadsAfterEviction() throws Exception {
+        String token = jwtUtils.generateJwtToken(user);
+
+        authenticate(token);
+        principalCache.evict(7L);
+        authenticate(token);
+
+        verify(userDetailsService, times(2)).loadUserById(7L);
+    }
+
+    @Test
+    void rejectsTamperedTokenWithoutLookup() throws Exception {
+        String token = jwtUtils.generateJwtToken(user);
+        MockHttpServletRequest request = requestWith(token.substring(0, token.length() - 2) + "xx");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(request.getAttribute("auth_error")).isEqualTo("TOKEN_INVALID");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(requestWith(token), new MockHttpServletResponse(), chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private MockHttpServletRequest requestWith(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/plans");
+        request.setServletPath("/api/plans");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
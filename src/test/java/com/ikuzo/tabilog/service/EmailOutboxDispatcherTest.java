@@ -0,0 +1,114 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.email.EmailOutbox;
+import com.ikuzo.tabilog.domain.email.EmailOutboxRepository;
+import com.ikuzo.tabilog.domain.email.EmailOutboxStatus;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이메일 발신함 전송 테스트 (H2)
+ * 대기 메일을 한 번의 SMTP 전송으로 보내고, 실패한 메일만 백오프 후 재시도하도록 남겨야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:email-outbox;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EmailOutboxDispatcherTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private EmailOutboxService emailOutboxService;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxService = new EmailOutboxService(emailOutboxRepository, event -> { }, 3, 30, 3600, 300);
+        dispatcher = new EmailOutboxDispatcher(emailOutboxService, mailSender, "noreply@tabilog.com", 50);
+        JavaMailSenderImpl factory = new JavaMailSenderImpl();
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> factory.createMimeMessage());
+    }
+
+    @Test
+    void sendsQueuedEmailsInOneBatch() {
+        Long first = emailOutboxService.enqueue("a@example.com", "초대", "<p>a</p>").getId();
+        Long second = emailOutboxService.enqueue("b@example.com", "초대", "<p>b</p>").getId();
+        em.flush();
+
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+
+        ArgumentCaptor<MimeMessage[]> sent = ArgumentCaptor.forClass(MimeMessage[].class);
+        verify(mailSender, times(1)).send(sent.capture());
+        assertThat(sent.getValue()).hasSize(2);
+        assertThat(find(first).getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(find(second).getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        // 전송된 메일은 다시 보내지 않음
+        assertThat(dispatcher.dispatch()).isZero();
+    }
+
+    @Test
+    void retriesOnlyFailedMessagesWithBackoff() throws Exception {
+        Long ok = emailOutboxService.enqueue("ok@example.com", "와리깡", "<p>ok</p>").getId();
+        Long bounced = emailOutboxService.enqueue("bounce@example.com", "와리깡", "<p>ng</p>").getId();
+        em.flush();
+
+        doAnswer(invocation -> {
+            for (Object argument : invocation.getArguments()) {
+                MimeMessage message = (MimeMessage) argument;
+                if (message.getAllRecipients()[0].toString().startsWith("bounce")) {
+                    throw new MailSendException(Map.of(message, new RuntimeException("451 temporary failure")));
+                }
+            }
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        assertThat(dispatcher.dispatch()).isEqualTo(1);
+
+        assertThat(find(ok).getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        EmailOutbox retry = find(bounced);
+        assertThat(retry.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getLastError()).contains("451");
+        assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+        // 재시도 시각 전에는 다시 가져가지 않음
+        assertThat(emailOutboxService.claimDue(50)).isEmpty();
+    }
+
+    @Test
+    void backoffDoublesUpToLimit() {
+        assertThat(emailOutboxService.backoff(1)).hasSeconds(30);
+        assertThat(emailOutboxService.backoff(3)).hasSeconds(120);
+        assertThat(emailOutboxService.backoff(20)).hasSeconds(3600);
+    }
+
+    private EmailOutbox find(Long id) {
+        em.clear();
+        return em.find(EmailOutbox.class, id);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ikuzo.tabilog.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 이메일 전송 예약 테스트
+ * 잘못된 주소는 발신함(트랜잭션 경계)에 들어가기 전에 거절되어, 호출한 트랜잭션을 롤백 전용으로 만들지 않아야 합니다.
+ */
+class EmailServiceTest {
+
+    private final EmailOutboxService emailOutboxService = mock(EmailOutboxService.class);
+    private final EmailTemplateService emailTemplateService = mock(EmailTemplateService.class);
+    private final EmailService emailService =
+            new EmailService(mock(JavaMailSender.class), emailOutboxService, emailTemplateService);
+
+    @Test
+    void rejectsInvalidRecipientBeforeEnqueue() {
+        assertThatThrownBy(() -> emailService.queuePlanInvitationEmail("not-an-address", "A&B", "오사카", "token"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> emailService.queueWarikanEmail(null, "A&B", "오사카", "식비",
+                3000L, 1000L, "http://localhost:3000", "friend", 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(emailTemplateService, never()).render(anyString(), any());
+        verify(emailOutboxService, never()).enqueue(any(), any(), any());
+    }
+}
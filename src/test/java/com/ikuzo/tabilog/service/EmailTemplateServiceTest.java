@@ -0,0 +1,39 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.email.EmailTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이메일 템플릿 로딩 테스트
+ * 모든 템플릿의 언어별 파일이 같은 슬롯을 가지고, 요청 언어에 맞는 파일(없으면 기본 언어)로 렌더링되어야 합니다.
+ */
+class EmailTemplateServiceTest {
+
+    private final EmailTemplateService emailTemplateService = new EmailTemplateService("ja");
+
+    @Test
+    void languageVariantsShareSlots() {
+        for (String name : EmailTemplateService.TEMPLATE_NAMES) {
+            EmailTemplate ja = emailTemplateService.getTemplate(name, Locale.JAPANESE);
+            EmailTemplate ko = emailTemplateService.getTemplate(name, Locale.KOREAN);
+            assertThat(ko.getSlotNames()).as(name).containsExactlyInAnyOrderElementsOf(ja.getSlotNames());
+        }
+    }
+
+    @Test
+    void picksLanguageFromLocale() {
+        Map<String, String> values = Map.of("code", "012345");
+
+        EmailTemplate.Rendered ko = emailTemplateService.render(EmailTemplateService.VERIFICATION, Locale.KOREA, values);
+        EmailTemplate.Rendered fallback = emailTemplateService.render(EmailTemplateService.VERIFICATION, Locale.ENGLISH, values);
+
+        assertThat(ko.subject()).isEqualTo("[TabiLog] 이메일 인증코드");
+        assertThat(ko.html()).contains("<div class=\"code\">012345</div>");
+        assertThat(fallback.subject()).isEqualTo("[TabiLog] メール認証コード");
+    }
+}
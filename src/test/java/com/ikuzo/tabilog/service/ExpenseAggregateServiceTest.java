@@ -0,0 +1,127 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregateRepository;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.domain.user.UserRepository;
+import com.ikuzo.tabilog.dto.request.ExpenseRequest;
+import com.ikuzo.tabilog.dto.request.ExpenseUpdateRequest;
+import com.ikuzo.tabilog.dto.response.ExpenseResponse;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지출 집계 테이블 테스트 (H2)
+ * 지출 생성/수정/삭제와 함께 집계가 증감되고, 어긋난 집계는 정합성 검사에서 원본으로 다시 만들어져야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:expense-aggregate;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ExpenseAggregateServiceTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2026, 6, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2026, 6, 2);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private PlanExpenseAggregateRepository aggregateRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private PlanMemberRepository planMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ExpenseAggregateService expenseAggregateService;
+    private ExpenseService expenseService;
+    private Plan plan;
+
+    @BeforeEach
+    void setUp() {
+        expenseAggregateService = new ExpenseAggregateService(aggregateRepository, expenseRepository);
+        expenseService = new ExpenseService(expenseRepository, planRepository, spotRepository, expenseAggregateService,
+                planMemberRepository, userRepository);
+
+        User owner = em.persist(TestFixtures.user("owner").build());
+        plan = em.persist(TestFixtures.plan(owner).startDate(DAY1).endDate(DAY2).build());
+        em.flush();
+    }
+
+    @Test
+    void tracksCreateUpdateAndDelete() {
+        ExpenseResponse lunch = create("점심", 1200, ExpenseCategory.FOOD, DAY1);
+        create("저녁", 2000, ExpenseCategory.FOOD, DAY1);
+        ExpenseResponse bus = create("버스", 230, ExpenseCategory.TRANSPORT, DAY2);
+
+        assertThat(expenseService.getTotalAmountByPlan(plan.getId())).isEqualTo(3430);
+        assertThat(expenseService.getTotalAmountByPlanAndDate(plan.getId(), DAY1)).isEqualTo(3200);
+
+        // 카테고리/날짜/금액을 바꾸면 이전 집계에서 빼고 새 집계에 더함
+        ExpenseUpdateRequest update = new ExpenseUpdateRequest();
+        update.setItem("점심 (기념품)");
+        update.setAmount(1500);
+        update.setCategory(ExpenseCategory.SHOPPING);
+        update.setExpenseDate(DAY2);
+        expenseService.updateExpense(lunch.getId(), update);
+        expenseService.deleteExpense(bus.getId());
+
+        assertThat(expenseService.getTotalAmountByPlan(plan.getId())).isEqualTo(3500);
+        assertThat(expenseService.getTotalAmountByPlanAndDate(plan.getId(), DAY1)).isEqualTo(2000);
+        assertThat(expenseService.getTotalAmountByPlanAndDate(plan.getId(), DAY2)).isEqualTo(1500);
+        assertThat(expenseAggregateService.findMismatchedPlanIds(List.of(plan.getId()))).isEmpty();
+    }
+
+    @Test
+    void verifyJobRebuildsDriftedPlans() {
+        create("점심", 1200, ExpenseCategory.FOOD, DAY1);
+        create("버스", 230, ExpenseCategory.TRANSPORT, DAY2);
+        // 집계를 거치지 않은 변경 (직접 SQL 등)
+        em.getEntityManager().createNativeQuery("UPDATE expenses SET amount = amount + 100").executeUpdate();
+
+        assertThat(expenseAggregateService.findMismatchedPlanIds(List.of(plan.getId()))).containsExactly(plan.getId());
+
+        ExpenseAggregateJob job = new ExpenseAggregateJob(expenseAggregateService, aggregateRepository,
+                expenseRepository, planRepository);
+        assertThat(job.verifyAll()).isEqualTo(1);
+        assertThat(expenseService.getTotalAmountByPlan(plan.getId())).isEqualTo(1630);
+        assertThat(job.verifyAll()).isZero();
+    }
+
+    private ExpenseResponse create(String item, int amount, ExpenseCategory category, LocalDate date) {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setPlanId(plan.getId());
+        request.setItem(item);
+        request.setAmount(amount);
+        request.setCategory(category);
+        request.setExpenseDate(date);
+        return expenseService.createExpense(request);
+    }
+}
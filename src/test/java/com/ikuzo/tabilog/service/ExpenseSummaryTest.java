@@ -0,0 +1,152 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.Expense;
+import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregateRepository;
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.domain.user.UserRepository;
+import com.ikuzo.tabilog.dto.response.ExpenseSummaryResponse;
+import com.ikuzo.tabilog.exception.PlanNotFoundException;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 지출 요약 테스트 (H2)
+ * 한 번 조회한 지출로 총액/카테고리별/날짜별/관광지별 합계가 함께 계산되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:expense-summary;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ExpenseSummaryTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2026, 6, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2026, 6, 2);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private PlanMemberRepository planMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlanExpenseAggregateRepository planExpenseAggregateRepository;
+
+    private ExpenseService expenseService;
+    private Plan plan;
+    private Spot temple;
+    private Spot market;
+
+    @BeforeEach
+    void setUp() {
+        expenseService = new ExpenseService(expenseRepository, planRepository, spotRepository,
+                new ExpenseAggregateService(planExpenseAggregateRepository, expenseRepository),
+                planMemberRepository, userRepository);
+
+        User owner = em.persist(TestFixtures.user("owner").build());
+        plan = em.persist(TestFixtures.plan(owner).startDate(DAY1).endDate(DAY2).build());
+        DailyPlan day = em.persist(TestFixtures.day(plan, DAY1).build());
+        temple = persistSpot(day, "기요미즈데라");
+        market = persistSpot(day, "니시키 시장");
+
+        persistExpense(temple, "입장료", 500, ExpenseCategory.SIGHTSEEING, DAY1);
+        persistExpense(market, "점심", 1200, ExpenseCategory.FOOD, DAY1);
+        persistExpense(market, "기념품", 3000, ExpenseCategory.SHOPPING, DAY2);
+        persistExpense(null, "버스", 230, ExpenseCategory.TRANSPORT, DAY2);
+        persistExpense(null, "저녁", 2000, ExpenseCategory.FOOD, DAY2);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void summarizesPlanInOnePass() {
+        ExpenseSummaryResponse summary = expenseService.getExpenseSummaryByPlan(plan.getId());
+
+        assertThat(summary.getPlanId()).isEqualTo(plan.getId());
+        assertThat(summary.getTotalAmount()).isEqualTo(6930);
+        assertThat(summary.getExpenseCount()).isEqualTo(5);
+        assertThat(summary.getAmountByCategory()).containsExactly(
+                Map.entry(ExpenseCategory.TRANSPORT, 230),
+                Map.entry(ExpenseCategory.FOOD, 3200),
+                Map.entry(ExpenseCategory.SHOPPING, 3000),
+                Map.entry(ExpenseCategory.SIGHTSEEING, 500));
+        assertThat(summary.getDailyAmounts())
+                .extracting(ExpenseSummaryResponse.DailyAmount::getDate, ExpenseSummaryResponse.DailyAmount::getAmount,
+                        ExpenseSummaryResponse.DailyAmount::getCount)
+                .containsExactly(tuple(DAY1, 1700, 2), tuple(DAY2, 5230, 3));
+        assertThat(summary.getSpotAmounts())
+                .extracting(ExpenseSummaryResponse.SpotAmount::getSpotName, ExpenseSummaryResponse.SpotAmount::getAmount)
+                .containsExactly(tuple("기요미즈데라", 500), tuple("니시키 시장", 4200));
+        assertThat(summary.getUnassignedAmount()).isEqualTo(2230);
+        assertThat(summary.getExpenses()).hasSize(5);
+    }
+
+    @Test
+    void summarizesSpot() {
+        ExpenseSummaryResponse summary = expenseService.getExpenseSummaryBySpot(market.getId());
+
+        assertThat(summary.getSpotId()).isEqualTo(market.getId());
+        assertThat(summary.getTotalAmount()).isEqualTo(4200);
+        assertThat(summary.getAmountByCategory()).containsOnlyKeys(ExpenseCategory.FOOD, ExpenseCategory.SHOPPING);
+        assertThat(summary.getUnassignedAmount()).isZero();
+    }
+
+    @Test
+    void emptyPlanHasZeroTotalsAndMissingPlanThrows() {
+        expenseRepository.deleteAll();
+
+        ExpenseSummaryResponse summary = expenseService.getExpenseSummaryByPlan(plan.getId());
+        assertThat(summary.getTotalAmount()).isZero();
+        assertThat(summary.getAmountByCategory()).isEmpty();
+
+        assertThatThrownBy(() -> expenseService.getExpenseSummaryByPlan(plan.getId() + 1000))
+                .isInstanceOf(PlanNotFoundException.class);
+    }
+
+    private Spot persistSpot(DailyPlan dailyPlan, String name) {
+        return em.persist(TestFixtures.spot(dailyPlan, name, 1).build());
+    }
+
+    private void persistExpense(Spot spot, String item, int amount, ExpenseCategory category, LocalDate date) {
+        em.persist(Expense.builder()
+                .plan(plan)
+                .spot(spot)
+                .item(item)
+                .amount(amount)
+                .category(category)
+                .expenseDate(date)
+                .build());
+    }
+}
@@ -0,0 +1,169 @@
+package com.ikuzo.tabilog.service;
+
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이미지 저장소 스트리밍 업로드 테스트
+ * 버퍼(256KB)보다 큰 업로드가 청크로 나뉘어 그대로 저장되고, 실패한 업로드는 결과물을 남기지 않아야 합니다.
+ */
+class ImageStorageTest {
+
+    private static final byte[] IMAGE = randomBytes(UploadStreams.BUFFER_SIZE * 2 + 12345);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void localStorageWritesFileThroughChannel() throws IOException {
+        LocalImageStorageService storage = new LocalImageStorageService(directory.toString(), "/uploads/");
+
+        String url = storage.uploadImage(new MockMultipartFile("file", "photo.png", "image/png", IMAGE));
+
+        assertThat(url).startsWith("/uploads/").endsWith(".png");
+        Path saved = directory.resolve(url.substring("/uploads/".length()));
+        assertThat(Files.readAllBytes(saved)).isEqualTo(IMAGE);
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(saved);
+        }
+    }
+
+    @Test
+    void objectNameUsesOnlyImageExtensions() {
+        assertThat(UploadStreams.newObjectName("photo.PNG", null)).endsWith(".png");
+        assertThat(UploadStreams.newObjectName("photo.jpeg", "application/octet-stream")).endsWith(".jpg");
+        assertThat(UploadStreams.newObjectName("photo", "image/webp")).endsWith(".webp");
+        // 콘텐츠 타입이 허용된 이미지면 원본 확장자보다 우선
+        assertThat(UploadStreams.newObjectName("evil.html", "image/png")).endsWith(".png");
+        assertThat(UploadStreams.newObjectName("evil.html", "text/html")).endsWith(".jpg");
+        assertThat(UploadStreams.newObjectName("evil.svg", "image/svg+xml")).endsWith(".jpg");
+        assertThat(UploadStreams.newObjectName(null, null)).endsWith(".jpg");
+        assertThat(UploadStreams.contentTypeOf("a.gif")).isEqualTo("image/gif");
+    }
+
+    @Test
+    void localStorageRemovesTempFileOnFailure() throws IOException {
+        LocalImageStorageService storage = new LocalImageStorageService(directory.toString(), "/uploads");
+
+        assertThatThrownBy(() -> storage.uploadImage(failingFile())).isInstanceOf(IOException.class);
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void gcsUploadsInChunksThroughWriteChannel() throws IOException {
+        Storage storage = mock(Storage.class);
+        RecordingWriteChannel writer = new RecordingWriteChannel();
+        when(storage.writer(any(BlobInfo.class))).thenReturn(writer);
+
+        String url = new GoogleCloudStorageService(storage, "bucket")
+                .uploadImage(new MockMultipartFile("file", "photo.jpg", "image/jpeg", IMAGE));
+
+        ArgumentCaptor<BlobInfo> blob = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage).writer(blob.capture());
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+        assertThat(blob.getValue().getContentType()).isEqualTo("image/jpeg");
+        assertThat(url).isEqualTo("https://storage.googleapis.com/bucket/" + blob.getValue().getName());
+        assertThat(writer.chunkSize).isEqualTo(UploadStreams.BUFFER_SIZE);
+        assertThat(writer.writes).isEqualTo(3);
+        assertThat(writer.closed).isTrue();
+        assertThat(writer.bytes.toByteArray()).isEqualTo(IMAGE);
+    }
+
+    @Test
+    void gcsLeavesChannelOpenOnFailure() {
+        Storage storage = mock(Storage.class);
+        RecordingWriteChannel writer = new RecordingWriteChannel();
+        when(storage.writer(any(BlobInfo.class))).thenReturn(writer);
+
+        assertThatThrownBy(() -> new GoogleCloudStorageService(storage, "bucket").uploadImage(failingFile()))
+                .isInstanceOf(IOException.class);
+        // close 하지 않으면 객체가 생성되지 않음
+        assertThat(writer.closed).isFalse();
+    }
+
+    private static MockMultipartFile failingFile() {
+        return new MockMultipartFile("file", "photo.png", "image/png", IMAGE) {
+            @Override
+            public InputStream getInputStream() {
+                return new InputStream() {
+                    private int remaining = UploadStreams.BUFFER_SIZE + 1;
+
+                    @Override
+                    public int read() throws IOException {
+                        if (remaining-- <= 0) {
+                            throw new IOException("connection reset");
+                        }
+                        return 0;
+                    }
+                };
+            }
+        };
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static class RecordingWriteChannel implements WriteChannel {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int chunkSize;
+        int writes;
+        boolean closed;
+
+        @Override
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public RestorableState<WriteChannel> capture() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int length = src.remaining();
+            byte[] chunk = new byte[length];
+            src.get(chunk);
+            bytes.write(chunk, 0, length);
+            writes++;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
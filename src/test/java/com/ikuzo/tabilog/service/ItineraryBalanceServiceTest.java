@@ -0,0 +1,193 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.Expense;
+import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregateRepository;
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelTimeEstimator;
+import com.ikuzo.tabilog.domain.spot.OrderKeys;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.domain.spot.TravelSegment;
+import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.request.ItineraryBalanceRequest;
+import com.ikuzo.tabilog.dto.response.ItineraryBalanceResponse;
+import com.ikuzo.tabilog.exception.InvalidSpotOrderException;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 날 일정 재배치 서비스 테스트 (H2)
+ * 미리보기는 저장하지 않고, 확정 시 관광지 소속/순서, 이동 구간, 지출 날짜가 함께 바뀌어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:itinerary-balance;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ItineraryBalanceServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanMemberRepository planMemberRepository;
+
+    @Autowired
+    private DailyPlanRepository dailyPlanRepository;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private TravelSegmentRepository travelSegmentRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private PlanExpenseAggregateRepository planExpenseAggregateRepository;
+
+    private ItineraryBalanceService itineraryBalanceService;
+    private User owner;
+    private Plan plan;
+    private DailyPlan firstDay;
+    private DailyPlan secondDay;
+
+    @BeforeEach
+    void setUp() {
+        itineraryBalanceService = new ItineraryBalanceService(planRepository, planMemberRepository,
+                dailyPlanRepository, spotRepository, travelSegmentRepository,
+                new ExpenseAggregateService(planExpenseAggregateRepository, expenseRepository),
+                new TravelTimeEstimator(), "21:00");
+
+        owner = em.persist(TestFixtures.user("owner").build());
+        plan = em.persist(TestFixtures.plan(owner).endDate(LocalDate.of(2026, 5, 2)).build());
+        firstDay = persistDay(LocalDate.of(2026, 5, 1));
+        secondDay = persistDay(LocalDate.of(2026, 5, 2));
+
+        // 아사쿠사 2곳, 시부야 2곳이 모두 첫째 날에 몰려 있음
+        Spot asakusa = persistSpot("아사쿠사", 1, 35.7148, 139.7967);
+        Spot shibuya = persistSpot("시부야", 2, 35.6586, 139.7016);
+        persistSpot("스카이트리", 3, 35.7101, 139.8107);
+        persistSpot("하라주쿠", 4, 35.6702, 139.7027);
+        em.persist(TravelSegment.builder()
+                .fromSpot(asakusa)
+                .toSpot(shibuya)
+                .duration("40분")
+                .travelMode(TravelMode.TRANSIT)
+                .segmentOrder(1)
+                .dailyPlan(firstDay)
+                .build());
+        // 두 지역 중 한쪽은 반드시 둘째 날로 옮겨짐
+        persistExpense(asakusa);
+        persistExpense(shibuya);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void previewSplitsSpotsByAreaWithoutSaving() {
+        ItineraryBalanceResponse preview = itineraryBalanceService.preview(plan.getId(), TravelMode.TRANSIT, owner.getId());
+
+        assertThat(preview.isCommitted()).isFalse();
+        assertThat(preview.getMovedSpotCount()).isEqualTo(2);
+        assertThat(preview.getDays()).allSatisfy(day -> {
+            assertThat(day.getSpotIds()).hasSize(2);
+            assertThat(day.getBudgetMinutes()).isEqualTo(12 * 60);
+            assertThat(day.isOverBudget()).isFalse();
+        });
+        // 아직 저장되지 않음
+        assertThat(spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(firstDay.getId())).hasSize(4);
+    }
+
+    @Test
+    void commitMovesSpotsAndDependentRows() {
+        ItineraryBalanceResponse preview = itineraryBalanceService.preview(plan.getId(), TravelMode.TRANSIT, owner.getId());
+        ItineraryBalanceRequest request = ItineraryBalanceRequest.builder()
+                .days(preview.getDays().stream()
+                        .map(day -> new ItineraryBalanceRequest.DayAssignment(day.getDailyPlanId(), day.getSpotIds()))
+                        .collect(Collectors.toList()))
+                .build();
+
+        ItineraryBalanceResponse committed = itineraryBalanceService.commit(plan.getId(), TravelMode.TRANSIT,
+                request, owner.getId());
+
+        assertThat(committed.isCommitted()).isTrue();
+        for (ItineraryBalanceResponse.DayPlan day : committed.getDays()) {
+            List<Spot> spots = spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(day.getDailyPlanId());
+            assertThat(spots).extracting(Spot::getId).containsExactlyElementsOf(day.getSpotIds());
+            assertThat(spots).extracting(Spot::getVisitOrder).containsExactly(OrderKeys.initial(0), OrderKeys.initial(1));
+        }
+        // 첫째 날 배치가 바뀌었으므로 기존 이동 구간은 삭제
+        assertThat(travelSegmentRepository.findAllByDailyPlanIdOrderBySegmentOrderAsc(firstDay.getId())).isEmpty();
+        // 지출 날짜는 관광지가 속한 날의 날짜
+        List<Expense> expenses = expenseRepository.findAllByPlanIdOrderByExpenseDateAsc(plan.getId());
+        assertThat(expenses).extracting(Expense::getExpenseDate)
+                .containsExactly(firstDay.getVisitDate(), secondDay.getVisitDate());
+        for (Expense expense : expenses) {
+            ItineraryBalanceResponse.DayPlan day = committed.getDays().stream()
+                    .filter(candidate -> candidate.getSpotIds().contains(expense.getSpot().getId()))
+                    .findFirst().orElseThrow();
+            assertThat(expense.getExpenseDate()).isEqualTo(day.getVisitDate());
+        }
+    }
+
+    @Test
+    void rejectsAssignmentMissingSpots() {
+        List<Long> firstDaySpots = spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(firstDay.getId()).stream()
+                .map(Spot::getId)
+                .collect(Collectors.toList());
+        ItineraryBalanceRequest request = ItineraryBalanceRequest.builder()
+                .days(List.of(new ItineraryBalanceRequest.DayAssignment(firstDay.getId(), firstDaySpots.subList(0, 3))))
+                .build();
+
+        assertThatThrownBy(() -> itineraryBalanceService.commit(plan.getId(), TravelMode.TRANSIT, request, owner.getId()))
+                .isInstanceOf(InvalidSpotOrderException.class);
+    }
+
+    private void persistExpense(Spot spot) {
+        em.persist(Expense.builder()
+                .plan(plan)
+                .spot(spot)
+                .item(spot.getName() + " 입장료")
+                .amount(1000)
+                .category(ExpenseCategory.SIGHTSEEING)
+                .expenseDate(firstDay.getVisitDate())
+                .build());
+    }
+
+    private DailyPlan persistDay(LocalDate visitDate) {
+        return em.persist(TestFixtures.day(plan, visitDate).build());
+    }
+
+    private Spot persistSpot(String name, int visitOrder, double latitude, double longitude) {
+        return em.persist(TestFixtures.spot(firstDay, name, visitOrder)
+                .duration("2시간")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build());
+    }
+}
@@ -0,0 +1,135 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.email.EmailOutboxRepository;
+import com.ikuzo.tabilog.domain.invitation.InvitationStatus;
+import com.ikuzo.tabilog.domain.invitation.PlanInvitation;
+import com.ikuzo.tabilog.domain.invitation.PlanInvitationRepository;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRole;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.DirectionsCacheEntry;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.DirectionsCacheRepository;
+import com.ikuzo.tabilog.domain.token.RefreshToken;
+import com.ikuzo.tabilog.domain.token.RefreshTokenRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.service.MaintenanceSweeper.SweepReport;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료 데이터 정리 테스트 (H2)
+ * 묶음 크기(2)보다 많은 대상을 여러 번의 UPDATE/DELETE 로 나누어 처리하고, 만료되지 않은 행은 그대로 두어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:maintenance-sweeper;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MaintenanceSweeperTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlanInvitationRepository planInvitationRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private DirectionsCacheRepository directionsCacheRepository;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    private MaintenanceSweeper sweeper;
+    private Plan plan;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new MaintenanceSweeper(planInvitationRepository, refreshTokenRepository,
+                directionsCacheRepository, emailOutboxRepository, 2, 7);
+
+        User owner = em.persist(TestFixtures.user("owner").build());
+        plan = em.persist(TestFixtures.plan(owner).build());
+    }
+
+    @Test
+    void expiresPendingInvitationsInBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expired.add(em.persist(invitation("expired" + i, now.minusHours(1))).getId());
+        }
+        Long valid = em.persist(invitation("valid", now.plusDays(1))).getId();
+        PlanInvitation accepted = invitation("accepted", now.minusHours(1));
+        accepted.accept();
+        Long acceptedId = em.persist(accepted).getId();
+        em.flush();
+
+        SweepReport report = sweeper.expireInvitations();
+        em.clear();
+
+        assertThat(report.rows()).isEqualTo(5);
+        assertThat(report.batches()).isEqualTo(3);
+        expired.forEach(id -> assertThat(em.find(PlanInvitation.class, id).getStatus()).isEqualTo(InvitationStatus.EXPIRED));
+        assertThat(em.find(PlanInvitation.class, valid).getStatus()).isEqualTo(InvitationStatus.PENDING);
+        assertThat(em.find(PlanInvitation.class, acceptedId).getStatus()).isEqualTo(InvitationStatus.ACCEPTED);
+        // 다시 실행하면 처리할 대상이 없음
+        assertThat(sweeper.expireInvitations().rows()).isZero();
+    }
+
+    @Test
+    void purgesExpiredTokensAndCache() {
+        Instant now = Instant.now();
+        for (int i = 0; i < 3; i++) {
+            em.persist(new RefreshToken(em.persist(TestFixtures.user("expired" + i).build()), "expired-token-" + i, now.minus(1, ChronoUnit.DAYS)));
+        }
+        Long valid = em.persist(new RefreshToken(em.persist(TestFixtures.user("valid").build()), "valid-token", now.plus(1, ChronoUnit.DAYS))).getId();
+        LocalDateTime localNow = LocalDateTime.now();
+        em.persist(cache("a", localNow.minusMinutes(1)));
+        em.persist(cache("b", localNow.minusMinutes(1)));
+        em.persist(cache("c", localNow.plusHours(1)));
+        em.flush();
+
+        List<SweepReport> reports = sweeper.runAll();
+        em.clear();
+
+        assertThat(reports).extracting(SweepReport::task)
+                .containsExactly("plan-invitation", "refresh-token", "directions-cache", "email-outbox");
+        assertThat(reports.get(1).rows()).isEqualTo(3);
+        assertThat(reports.get(2).rows()).isEqualTo(2);
+        assertThat(refreshTokenRepository.findAll()).extracting(RefreshToken::getId).containsExactly(valid);
+        assertThat(directionsCacheRepository.findAll()).extracting(DirectionsCacheEntry::getCacheKey).containsExactly("c");
+    }
+
+    private PlanInvitation invitation(String name, LocalDateTime expiresAt) {
+        return PlanInvitation.builder()
+                .plan(plan)
+                .inviteeEmail(name + "@example.com")
+                .token("token-" + name)
+                .role(PlanMemberRole.VIEWER)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static DirectionsCacheEntry cache(String key, LocalDateTime expiresAt) {
+        return DirectionsCacheEntry.builder()
+                .cacheKey(key)
+                .responseJson("{}")
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.response.GooglePlaceResponse;
+import com.ikuzo.tabilog.dto.response.NearbySpotResponse;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주변 관광지 검색 테스트 (H2)
+ * 좌표가 있는 공개 계획의 관광지만 가까운 순으로 반환되고, 충분하면 Google API 없이 응답해야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:nearby-spot;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NearbySpotServiceTest {
+
+    // 도쿄역
+    private static final double LAT = 35.6812;
+    private static final double LNG = 139.7671;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    private NearbySpotService nearbySpotService;
+    private Spot ginza;
+    private Spot palace;
+
+    @BeforeEach
+    void setUp() {
+        // Google API 를 호출하면 NullPointerException 이 나도록 GoogleMapsService 없이 생성
+        nearbySpotService = new NearbySpotService(spotRepository, planRepository, null, 2);
+
+        User owner = em.persist(TestFixtures.user("owner").build());
+        DailyPlan publicDay = persistDay(owner, true);
+        ginza = persistSpot(publicDay, "긴자", SpotCategory.STREET, 35.6717, 139.7650);
+        palace = persistSpot(publicDay, "황거", SpotCategory.LANDMARK, 35.6852, 139.7528);
+        persistSpot(publicDay, "좌표 없는 관광지", SpotCategory.LANDMARK, null, null);
+        persistSpot(persistDay(owner, false), "비공개 관광지", SpotCategory.LANDMARK, 35.6813, 139.7670);
+        em.flush();
+        em.clear();
+
+        nearbySpotService.rebuild();
+    }
+
+    @Test
+    void returnsPublicLocatedSpotsNearestFirst() {
+        List<NearbySpotResponse> result = nearbySpotService.findNearbySpots(LAT, LNG, 2000, 10, null);
+
+        assertThat(result).extracting(NearbySpotResponse::getSpotId).containsExactly(ginza.getId(), palace.getId());
+        assertThat(result.get(0).getDistanceMeters()).isBetween(1000L, 1200L);
+        assertThat(nearbySpotService.findNearbySpots(LAT, LNG, 2000, 10, List.of(SpotCategory.LANDMARK)))
+                .extracting(NearbySpotResponse::getSpotId).containsExactly(palace.getId());
+    }
+
+    @Test
+    void answersPlaceSearchFromStoredSpotsWhenEnough() {
+        // 도쿄역 1km 안에 공개 관광지 2개 추가 (테스트 트랜잭션은 커밋되지 않으므로 다시 색인)
+        Spot station = persistSpot(em.find(Spot.class, ginza.getId()).getDailyPlan(), "도쿄역",
+                SpotCategory.LANDMARK, 35.6813, 139.7668);
+        Spot marunouchi = persistSpot(station.getDailyPlan(), "마루노우치", SpotCategory.STREET, 35.6820, 139.7650);
+        em.flush();
+        nearbySpotService.rebuild();
+
+        List<GooglePlaceResponse> places = nearbySpotService.getNearbyPlacesAsync(LAT, LNG, "tourist_attraction").join();
+
+        assertThat(places).extracting(GooglePlaceResponse::getPlaceId)
+                .containsExactly("spot:" + station.getId(), "spot:" + marunouchi.getId());
+    }
+
+    @Test
+    void dropsSpotsDeletedOutsideIndex() {
+        spotRepository.deleteById(ginza.getId());
+        spotRepository.flush();
+
+        assertThat(nearbySpotService.findNearbySpots(LAT, LNG, 2000, 10, null))
+                .extracting(NearbySpotResponse::getSpotId).containsExactly(palace.getId());
+    }
+
+    @Test
+    void fillsLimitPastSpotsDeletedOutsideIndex() {
+        // 도쿄역 바로 옆 관광지 3개를 색인한 뒤 색인을 거치지 않고 삭제
+        DailyPlan day = em.find(Spot.class, ginza.getId()).getDailyPlan();
+        List<Long> deletedIds = List.of(
+                persistSpot(day, "삭제 1", SpotCategory.LANDMARK, 35.6813, 139.7670).getId(),
+                persistSpot(day, "삭제 2", SpotCategory.LANDMARK, 35.6814, 139.7670).getId(),
+                persistSpot(day, "삭제 3", SpotCategory.LANDMARK, 35.6815, 139.7670).getId());
+        em.flush();
+        nearbySpotService.rebuild();
+        deletedIds.forEach(spotRepository::deleteById);
+        spotRepository.flush();
+
+        assertThat(nearbySpotService.findNearbySpots(LAT, LNG, 2000, 1, null))
+                .extracting(NearbySpotResponse::getSpotId).containsExactly(ginza.getId());
+        assertThat(nearbySpotService.findNearbySpots(LAT, LNG, 2000, 2, null))
+                .extracting(NearbySpotResponse::getSpotId).containsExactly(ginza.getId(), palace.getId());
+    }
+
+    @Test
+    void refreshPicksUpSpotsChangedSinceLastIndex() {
+        // 다른 인스턴스에서 추가된 관광지처럼 색인을 거치지 않고 저장
+        Spot station = persistSpot(em.find(Spot.class, ginza.getId()).getDailyPlan(), "도쿄역",
+                SpotCategory.LANDMARK, 35.6813, 139.7668);
+        em.flush();
+        assertThat(nearbySpotService.findNearbySpots(LAT, LNG, 2000, 10, null))
+                .extracting(NearbySpotResponse::getSpotId).doesNotContain(station.getId());
+
+        nearbySpotService.refresh();
+
+        assertThat(nearbySpotService.findNearbySpots(LAT, LNG, 2000, 10, null))
+                .extracting(NearbySpotResponse::getSpotId).containsExactly(station.getId(), ginza.getId(), palace.getId());
+    }
+
+    private DailyPlan persistDay(User owner, boolean isPublic) {
+        Plan plan = em.persist(TestFixtures.plan(owner).isPublic(isPublic).build());
+        return em.persist(TestFixtures.day(plan, plan.getStartDate()).build());
+    }
+
+    private Spot persistSpot(DailyPlan dailyPlan, String name, SpotCategory category, Double latitude, Double longitude) {
+        return em.persist(TestFixtures.spot(dailyPlan, name, 1)
+                .category(category)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build());
+    }
+}
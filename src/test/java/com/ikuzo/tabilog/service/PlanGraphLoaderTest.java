@@ -0,0 +1,203 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.Expense;
+import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregateRepository;
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMember;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRole;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.domain.spot.TravelSegment;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.response.PlanResponse;
+import com.ikuzo.tabilog.dto.response.PlanSummaryResponse;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PlanGraphLoader 쿼리 수 회귀 테스트
+ * 여행 일수가 늘어나도 PlanResponse 트리 조립에 필요한 SQL 수가 고정되어야 합니다.
+ * 목록 요약도 계획 수와 관계없이 SQL 수가 고정되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plan-graph;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PlanGraphLoader.class, DailyScheduleService.class})
+class PlanGraphLoaderTest {
+
+    // plan(+dailyPlans+user), spots, travel segments, members, expenses
+    private static final long MAX_STATEMENTS = 5;
+
+    // plan list(+user), members, expense totals, day counts
+    private static final long MAX_SUMMARY_STATEMENTS = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanGraphLoader planGraphLoader;
+
+    @Autowired
+    private PlanExpenseAggregateRepository planExpenseAggregateRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(TestFixtures.user("owner").build());
+    }
+
+    @Test
+    void loadsWholeTreeInFixedNumberOfQueries() {
+        Plan shortTrip = persistPlan(1);
+        Plan longTrip = persistPlan(10);
+
+        long shortTripStatements = countStatementsForLoad(shortTrip.getId());
+        long longTripStatements = countStatementsForLoad(longTrip.getId());
+
+        assertThat(longTripStatements).isEqualTo(shortTripStatements);
+        assertThat(longTripStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void buildsCompleteResponse() {
+        Plan plan = persistPlan(3);
+        em.clear();
+
+        Plan loaded = planRepository.findByIdAndMemberUserIdWithDailyPlans(plan.getId(), owner.getId()).orElseThrow();
+        PlanResponse response = planGraphLoader.load(loaded);
+
+        assertThat(response.getDailyPlans()).hasSize(3);
+        assertThat(response.getDailyPlans()).allSatisfy(day -> {
+            assertThat(day.getSpots()).extracting("visitOrder").containsExactly(0, 1, 2);
+            assertThat(day.getTravelSegments()).extracting("segmentOrder").containsExactly(0, 1);
+        });
+        assertThat(response.getMembers()).singleElement()
+                .satisfies(member -> assertThat(member.getRole()).isEqualTo(PlanMemberRole.OWNER));
+        assertThat(response.getExpenses()).hasSize(3);
+        assertThat(response.getTotalExpenseAmount()).isEqualTo(3 * 1500L);
+    }
+
+    @Test
+    void loadsSummariesInFixedNumberOfQueries() {
+        persistPlan(2);
+        long fewPlansStatements = countStatementsForSummaries();
+
+        for (int i = 0; i < 9; i++) {
+            persistPlan(3);
+        }
+        long manyPlansStatements = countStatementsForSummaries();
+
+        assertThat(manyPlansStatements).isEqualTo(fewPlansStatements);
+        assertThat(manyPlansStatements).isLessThanOrEqualTo(MAX_SUMMARY_STATEMENTS);
+    }
+
+    @Test
+    void buildsSummaryWithoutDetailTree() {
+        Plan plan = persistPlan(4);
+        em.clear();
+
+        List<PlanSummaryResponse> summaries = planGraphLoader.loadSummaries(
+                planRepository.findAllByMemberUserIdOrderByStartDateDesc(owner.getId()));
+
+        assertThat(summaries).singleElement().satisfies(summary -> {
+            assertThat(summary.getId()).isEqualTo(plan.getId());
+            assertThat(summary.getDayCount()).isEqualTo(4);
+            assertThat(summary.getTotalExpenseAmount()).isEqualTo(4 * 1500L);
+            assertThat(summary.getMembers()).singleElement()
+                    .satisfies(member -> assertThat(member.getRole()).isEqualTo(PlanMemberRole.OWNER));
+        });
+    }
+
+    private long countStatementsForSummaries() {
+        em.clear();
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Plan> plans = planRepository.findAllByMemberUserIdOrderByStartDateDesc(owner.getId());
+        planGraphLoader.loadSummaries(plans);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatementsForLoad(Long planId) {
+        em.clear();
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Plan plan = planRepository.findByIdAndMemberUserIdWithDailyPlans(planId, owner.getId()).orElseThrow();
+        planGraphLoader.load(plan);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Plan persistPlan(int days) {
+        LocalDate startDate = TestFixtures.START_DATE;
+        Plan plan = em.persist(TestFixtures.plan(owner)
+                .title(days + "일 여행")
+                .endDate(startDate.plusDays(days - 1))
+                .build());
+        em.persist(PlanMember.builder().plan(plan).user(owner).role(PlanMemberRole.OWNER).build());
+
+        for (int day = 0; day < days; day++) {
+            DailyPlan dailyPlan = em.persist(TestFixtures.day(plan, startDate.plusDays(day)).build());
+
+            Spot previous = null;
+            for (int order = 0; order < 3; order++) {
+                Spot spot = em.persist(TestFixtures.spot(dailyPlan, "spot-" + day + "-" + order, order)
+                        .latitude(35.68 + order * 0.01)
+                        .longitude(139.76)
+                        .build());
+                if (previous != null) {
+                    em.persist(TravelSegment.builder()
+                            .fromSpot(previous)
+                            .toSpot(spot)
+                            .duration("10분")
+                            .travelMode(TravelMode.WALKING)
+                            .segmentOrder(order - 1)
+                            .dailyPlan(dailyPlan)
+                            .build());
+                }
+                previous = spot;
+            }
+
+            em.persist(Expense.builder()
+                    .plan(plan)
+                    .spot(previous)
+                    .item("입장료")
+                    .amount(1500)
+                    .category(ExpenseCategory.SIGHTSEEING)
+                    .expenseDate(dailyPlan.getVisitDate())
+                    .build());
+        }
+        em.flush();
+        // 지출을 직접 저장했으므로 집계도 원본에서 생성
+        planExpenseAggregateRepository.insertFromExpenses(plan.getId());
+        return plan;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.response.PlanFeedResponse;
+import com.ikuzo.tabilog.dto.response.PlanSummaryResponse;
+import com.ikuzo.tabilog.exception.InvalidCursorException;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 공개 피드 키셋 페이지네이션 테스트
+ * 비공개 계획과 공개 비동의 사용자의 계획은 제외되고, 커서를 따라가면 중복/누락 없이 전체를 순회해야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plan-feed;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PlanService.class, PlanGraphLoader.class, DailyScheduleService.class, ExpenseAggregateService.class})
+class PlanPublicFeedTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlanService planService;
+
+    private final List<Long> publicPlanIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User agreed = persistUser("agreed", true);
+        User notAgreed = persistUser("private", false);
+
+        for (int i = 0; i < 25; i++) {
+            publicPlanIds.add(persistPlan(agreed, true, i % 2 == 0 ? "東京" : "大阪").getId());
+        }
+        for (int i = 0; i < 3; i++) {
+            persistPlan(agreed, false, "東京");
+        }
+        persistPlan(notAgreed, true, "東京");
+        em.flush();
+        em.clear();
+
+        publicPlanIds.sort(Comparator.reverseOrder());
+    }
+
+    @Test
+    void walksWholeFeedWithCursor() {
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            PlanFeedResponse page = planService.getPublicPlanFeed(null, null, null, cursor, 10);
+            page.getPlans().stream().map(PlanSummaryResponse::getId).forEach(visited::add);
+            assertThat(page.isHasNext()).isEqualTo(page.getNextCursor() != null);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(visited).containsExactlyElementsOf(publicPlanIds);
+    }
+
+    @Test
+    void appliesFiltersInQuery() {
+        PlanFeedResponse page = planService.getPublicPlanFeed(null, "大阪", null, null, 50);
+
+        assertThat(page.getPlans()).hasSize(12)
+                .allSatisfy(plan -> assertThat(plan.getPrefecture()).isEqualTo("大阪"));
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> planService.getPublicPlanFeed(null, null, null, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private User persistUser(String name, boolean publicAgreement) {
+        return em.persist(TestFixtures.user(name).publicAgreement(publicAgreement).build());
+    }
+
+    private Plan persistPlan(User user, boolean isPublic, String prefecture) {
+        return em.persist(TestFixtures.plan(user)
+                .title(prefecture + " 여행")
+                .endDate(TestFixtures.START_DATE.plusDays(1))
+                .prefecture(prefecture)
+                .isPublic(isPublic)
+                .build());
+    }
+}
@@ -0,0 +1,134 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMember;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRole;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.response.PageResponse;
+import com.ikuzo.tabilog.dto.response.PlanSummaryResponse;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내 여행 계획 검색 테스트
+ * 작성/참여 여부, prefecture/status/기간 필터, 페이지네이션이 모두 쿼리에서 적용되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plan-search;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PlanService.class, PlanGraphLoader.class, DailyScheduleService.class, ExpenseAggregateService.class})
+class PlanSearchTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlanService planService;
+
+    private User me;
+    private Plan joinedPlan;
+
+    @BeforeEach
+    void setUp() {
+        me = persistUser("me");
+        User friend = persistUser("friend");
+
+        persistPlan(me, "東京", "PLANNING", LocalDate.of(2026, 3, 1));
+        persistPlan(me, "大阪", "COMPLETED", LocalDate.of(2026, 1, 10));
+        persistPlan(me, "京都", "PLANNING", LocalDate.of(2026, 6, 1));
+        joinedPlan = persistPlan(friend, "大阪", "PLANNING", LocalDate.of(2026, 4, 1));
+        em.persist(PlanMember.builder().plan(joinedPlan).user(me).role(PlanMemberRole.EDITOR).build());
+        persistPlan(friend, "東京", "PLANNING", LocalDate.of(2026, 5, 1));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void includesOwnedAndJoinedPlansOnly() {
+        PageResponse<PlanSummaryResponse> result = search(null, null, null, null, 0, 20);
+
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.getContent()).extracting(PlanSummaryResponse::getStartDate)
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    void filtersByPrefecturesStatusAndDateRange() {
+        assertThat(search(List.of("大阪", "京都"), null, null, null, 0, 20).getTotalElements()).isEqualTo(3);
+        assertThat(search(List.of("大阪"), "PLANNING", null, null, 0, 20).getContent())
+                .singleElement()
+                .satisfies(plan -> assertThat(plan.getId()).isEqualTo(joinedPlan.getId()));
+        assertThat(search(null, null, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 4, 1), 0, 20).getTotalElements())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void paginatesInDatabase() {
+        PageResponse<PlanSummaryResponse> first = search(null, null, null, null, 0, 3);
+        PageResponse<PlanSummaryResponse> second = search(null, null, null, null, 1, 3);
+
+        assertThat(first.getContent()).hasSize(3);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(first.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    void loadsOwnersWithPlansInsteadOfPerRow() {
+        Plan otherPlan = persistPlan(persistUser("other"), "京都", "PLANNING", LocalDate.of(2026, 7, 1));
+        em.persist(PlanMember.builder().plan(otherPlan).user(me).role(PlanMemberRole.VIEWER).build());
+        em.flush();
+
+        // 작성자가 1명(東京)이든 3명(전체)이든 쿼리 수가 같아야 함
+        assertThat(countStatementsForSearch(List.of("大阪", "京都", "東京")))
+                .isEqualTo(countStatementsForSearch(List.of("東京")));
+    }
+
+    private long countStatementsForSearch(List<String> prefectures) {
+        em.clear();
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        search(prefectures, null, null, null, 0, 20);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private PageResponse<PlanSummaryResponse> search(List<String> prefectures, String status,
+                                                     LocalDate from, LocalDate to, int page, int size) {
+        return planService.searchUserPlanSummaries(me.getId(), null, prefectures, status, from, to, page, size);
+    }
+
+    private User persistUser(String name) {
+        return em.persist(TestFixtures.user(name).build());
+    }
+
+    private Plan persistPlan(User user, String prefecture, String status, LocalDate startDate) {
+        return em.persist(TestFixtures.plan(user)
+                .title(prefecture + " 여행")
+                .startDate(startDate)
+                .endDate(startDate.plusDays(2))
+                .prefecture(prefecture)
+                .status(status)
+                .build());
+    }
+}
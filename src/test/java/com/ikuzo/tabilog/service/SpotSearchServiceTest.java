@@ -0,0 +1,112 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.response.PageResponse;
+import com.ikuzo.tabilog.dto.response.SpotResponse;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관광지 검색 테스트 (H2)
+ * 색인된 관광지 중 공개 계획과 작성/참여한 계획의 관광지만 관련도순으로 페이지 단위로 반환되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:spot-search;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SpotSearchServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    private SpotSearchService spotSearchService;
+    private User owner;
+    private Spot ownSpot;
+    private Spot publicSpot;
+    private Spot privateSpot;
+
+    @BeforeEach
+    void setUp() {
+        spotSearchService = new SpotSearchService(spotRepository, planRepository, 30);
+
+        owner = em.persist(TestFixtures.user("owner").build());
+        User other = em.persist(TestFixtures.user("other").build());
+        ownSpot = persistSpot(persistDay(owner, false), "교토 니시키 시장", "교토시 나카교구");
+        DailyPlan publicDay = persistDay(other, true);
+        publicSpot = persistSpot(publicDay, "니시키 텐만구", "교토시 나카교구 니시키코지");
+        privateSpot = persistSpot(persistDay(other, false), "니시키 시장 선물가게", "교토시");
+        em.flush();
+        em.clear();
+
+        spotSearchService.rebuild();
+    }
+
+    @Test
+    void returnsOnlyAccessibleSpotsRankedByRelevance() {
+        PageResponse<SpotResponse> result = spotSearchService.search("니시키 시장", owner.getId(), 0, 10);
+
+        assertThat(result.getContent()).extracting(SpotResponse::getId)
+                .containsExactly(ownSpot.getId(), publicSpot.getId());
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void anonymousUserSeesPublicPlansOnly() {
+        PageResponse<SpotResponse> result = spotSearchService.search("니시키", null, 0, 10);
+
+        assertThat(result.getContent()).extracting(SpotResponse::getId).containsExactly(publicSpot.getId());
+    }
+
+    @Test
+    void paginatesAndDropsDeletedSpots() {
+        PageResponse<SpotResponse> firstPage = spotSearchService.search("니시키", owner.getId(), 0, 1);
+        assertThat(firstPage.getContent()).hasSize(1);
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.isHasNext()).isTrue();
+
+        // 색인 밖에서 삭제된 관광지는 조회 시 색인에서 제거
+        spotRepository.deleteById(publicSpot.getId());
+        spotRepository.flush();
+        spotSearchService.search("니시키", owner.getId(), 0, 10);
+
+        assertThat(spotSearchService.search("니시키", owner.getId(), 0, 10).getContent())
+                .extracting(SpotResponse::getId).containsExactly(ownSpot.getId());
+    }
+
+    private DailyPlan persistDay(User owner, boolean isPublic) {
+        Plan plan = em.persist(TestFixtures.plan(owner)
+                .title("교토 여행")
+                .region("西日本")
+                .prefecture("京都")
+                .isPublic(isPublic)
+                .build());
+        return em.persist(TestFixtures.day(plan, plan.getStartDate()).build());
+    }
+
+    private Spot persistSpot(DailyPlan dailyPlan, String name, String address) {
+        return em.persist(TestFixtures.spot(dailyPlan, name, 1)
+                .address(address)
+                .category(SpotCategory.SHOPPING)
+                .build());
+    }
+}
@@ -0,0 +1,226 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.expense.PlanExpenseAggregateRepository;
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.spot.OrderKeys;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.domain.spot.TravelSegment;
+import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.request.SpotOrderRequest;
+import com.ikuzo.tabilog.dto.request.SpotRequest;
+import com.ikuzo.tabilog.dto.response.SpotOrderResponse;
+import com.ikuzo.tabilog.exception.InvalidSpotOrderException;
+import com.ikuzo.tabilog.exception.SpotOrderConflictException;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 관광지 순서 변경 테스트 (H2)
+ * 순서와 이동 구간이 한 트랜잭션에서 함께 바뀌고, 오래된 버전으로 보낸 요청은 거절되어야 합니다.
+ * 한 관광지 이동은 그 관광지의 키만 바꾸고, 키가 모자랄 때만 전체를 다시 매겨야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:spot-order;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SpotServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private DailyPlanRepository dailyPlanRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanMemberRepository planMemberRepository;
+
+    @Autowired
+    private TravelSegmentRepository travelSegmentRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private PlanExpenseAggregateRepository planExpenseAggregateRepository;
+
+    private SpotService spotService;
+    private User owner;
+    private DailyPlan dailyPlan;
+    private Spot first;
+    private Spot second;
+    private Spot third;
+
+    @BeforeEach
+    void setUp() {
+        spotService = new SpotService(spotRepository, dailyPlanRepository, planMemberRepository,
+                travelSegmentRepository, expenseRepository, new SpotSearchService(spotRepository, planRepository, 30),
+                new NearbySpotService(spotRepository, planRepository, null, 5),
+                new ExpenseAggregateService(planExpenseAggregateRepository, expenseRepository));
+
+        owner = em.persist(TestFixtures.user("owner").build());
+        Plan plan = em.persist(TestFixtures.plan(owner).build());
+        dailyPlan = em.persist(TestFixtures.day(plan, plan.getStartDate()).build());
+        first = persistSpot("기요미즈데라", OrderKeys.initial(0));
+        second = persistSpot("기온", OrderKeys.initial(1));
+        third = persistSpot("후시미 이나리", OrderKeys.initial(2));
+        persistSegment(first, second, OrderKeys.initial(0));
+        persistSegment(second, third, OrderKeys.initial(1));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void reordersSpotsAndMatchingSegments() {
+        SpotOrderResponse response = spotService.updateSpotOrder(dailyPlan.getId(),
+                new SpotOrderRequest(List.of(third.getId(), first.getId(), second.getId()), 0L), owner.getId());
+        em.clear();
+
+        assertThat(response.getSpotOrderVersion()).isEqualTo(1L);
+        assertThat(spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(dailyPlan.getId()))
+                .extracting(Spot::getId, Spot::getVisitOrder)
+                .containsExactly(
+                        Tuple.tuple(third.getId(), OrderKeys.initial(0)),
+                        Tuple.tuple(first.getId(), OrderKeys.initial(1)),
+                        Tuple.tuple(second.getId(), OrderKeys.initial(2)));
+        // 기요미즈데라 → 기온 구간은 두 번째 구간으로 유지, 기온 → 후시미 이나리 구간은 삭제
+        List<TravelSegment> segments = travelSegmentRepository.findAllByDailyPlanIdWithSpots(dailyPlan.getId());
+        assertThat(segments).hasSize(1);
+        assertThat(segments.get(0).getFromSpot().getId()).isEqualTo(first.getId());
+        assertThat(segments.get(0).getSegmentOrder()).isEqualTo(OrderKeys.initial(1));
+        assertThat(response.getRemovedSegmentCount()).isEqualTo(1);
+        assertThat(response.getTravelSegments()).extracting("segmentOrder").containsExactly(OrderKeys.initial(1));
+        assertThat(dailyPlanRepository.findById(dailyPlan.getId()).orElseThrow().getSpotOrderVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void movesSpotByChangingOnlyItsOwnKey() {
+        spotService.updateSpot(third.getId(), spotRequest(third, 0));
+        em.flush();
+        em.clear();
+
+        // 기요미즈데라 앞으로 이동, 나머지 관광지의 키는 그대로
+        assertThat(spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(dailyPlan.getId()))
+                .extracting(Spot::getId, Spot::getVisitOrder)
+                .containsExactly(
+                        Tuple.tuple(third.getId(), OrderKeys.initial(0) / 2 - 1),
+                        Tuple.tuple(first.getId(), OrderKeys.initial(0)),
+                        Tuple.tuple(second.getId(), OrderKeys.initial(1)));
+    }
+
+    @Test
+    void rebalancesOnlyWhenNoKeyIsLeftBetweenNeighbours() {
+        DailyPlan nextDay = em.persist(TestFixtures.day(dailyPlan.getPlan(),
+                dailyPlan.getVisitDate().plusDays(1)).build());
+        Spot a = persistSpot("A", 1, nextDay);
+        Spot b = persistSpot("B", 2, nextDay);
+        Spot c = persistSpot("C", 3, nextDay);
+        em.flush();
+        em.clear();
+
+        // C 를 두 번째 위치로 이동, 1과 2 사이에 남은 키가 없으므로 전체를 다시 매김
+        spotService.updateSpot(c.getId(), spotRequest(c, 1));
+        em.flush();
+        em.clear();
+
+        assertThat(spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(nextDay.getId()))
+                .extracting(Spot::getId, Spot::getVisitOrder)
+                .containsExactly(
+                        Tuple.tuple(a.getId(), OrderKeys.initial(0)),
+                        Tuple.tuple(c.getId(), OrderKeys.initial(1)),
+                        Tuple.tuple(b.getId(), OrderKeys.initial(2)));
+    }
+
+    @Test
+    void movesLegacyKeysByPositionEvenWhenPositionEqualsKey() {
+        // 0..n-1 키가 남아 있는 기존 데이터
+        DailyPlan nextDay = em.persist(TestFixtures.day(dailyPlan.getPlan(),
+                dailyPlan.getVisitDate().plusDays(1)).build());
+        Spot a = persistSpot("A", 0, nextDay);
+        Spot b = persistSpot("B", 1, nextDay);
+        Spot c = persistSpot("C", 2, nextDay);
+        em.flush();
+        em.clear();
+
+        spotService.updateSpot(a.getId(), spotRequest(a, 2));
+        em.flush();
+        em.clear();
+        // 키 1인 B 를 위치 1로 이동 (키와 위치가 같아도 이동해야 함)
+        spotService.updateSpot(b.getId(), spotRequest(b, 1));
+        em.flush();
+        em.clear();
+
+        assertThat(spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(nextDay.getId()))
+                .extracting(Spot::getId)
+                .containsExactly(c.getId(), b.getId(), a.getId());
+    }
+
+    @Test
+    void rejectsStaleVersion() {
+        spotService.updateSpotOrder(dailyPlan.getId(),
+                new SpotOrderRequest(List.of(second.getId(), first.getId(), third.getId()), 0L), owner.getId());
+
+        assertThatThrownBy(() -> spotService.updateSpotOrder(dailyPlan.getId(),
+                new SpotOrderRequest(List.of(third.getId(), second.getId(), first.getId()), 0L), owner.getId()))
+                .isInstanceOf(SpotOrderConflictException.class);
+    }
+
+    @Test
+    void rejectsIncompleteOrDuplicatedIds() {
+        assertThatThrownBy(() -> spotService.updateSpotOrder(dailyPlan.getId(),
+                new SpotOrderRequest(List.of(first.getId(), first.getId(), third.getId()), 0L), owner.getId()))
+                .isInstanceOf(InvalidSpotOrderException.class);
+        assertThatThrownBy(() -> spotService.updateSpotOrder(dailyPlan.getId(),
+                new SpotOrderRequest(List.of(first.getId(), second.getId()), 0L), owner.getId()))
+                .isInstanceOf(InvalidSpotOrderException.class);
+    }
+
+    private SpotRequest spotRequest(Spot spot, int visitOrder) {
+        return new SpotRequest(spot.getName(), spot.getAddress(), spot.getCategory(), visitOrder,
+                spot.getDuration(), spot.getCost(), spot.getLatitude(), spot.getLongitude());
+    }
+
+    private Spot persistSpot(String name, int visitOrder) {
+        return persistSpot(name, visitOrder, dailyPlan);
+    }
+
+    private Spot persistSpot(String name, int visitOrder, DailyPlan day) {
+        return em.persist(TestFixtures.spot(day, name, visitOrder).build());
+    }
+
+    private void persistSegment(Spot from, Spot to, int segmentOrder) {
+        em.persist(TravelSegment.builder()
+                .fromSpot(from)
+                .toSpot(to)
+                .duration("15분")
+                .travelMode(TravelMode.WALKING)
+                .segmentOrder(segmentOrder)
+                .dailyPlan(dailyPlan)
+                .build());
+    }
+}
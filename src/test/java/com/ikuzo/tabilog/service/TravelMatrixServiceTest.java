@@ -0,0 +1,323 @@
+package com.ikuzo.tabilog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.DirectionsCache;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.DirectionsCacheRepository;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.GoogleMapsService;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.MapsApiClient;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.StubGeoApiContext;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelMatrixCalculator;
+import com.ikuzo.tabilog.domain.spot.GoogleMap.TravelTimeEstimator;
+import com.ikuzo.tabilog.dto.response.RouteOptimizationResponse;
+import com.ikuzo.tabilog.domain.spot.OrderKeys;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.domain.spot.TravelSegment;
+import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.response.TravelMatrixResponse;
+import com.ikuzo.tabilog.dto.response.TravelSegmentResponse;
+import com.ikuzo.tabilog.exception.SpotOrderConflictException;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 일별 계획 이동 시간 행렬 테스트 (스텁 GeoApiContext + H2)
+ * 행렬은 Distance Matrix 한 번으로 채우고, 실패 시 제한된 수의 구간별 Directions 조회와 추정값으로 대체하며,
+ * 연속된 관광지 사이의 이동 구간은 기존 구간을 대체하여 저장되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:travel-matrix;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TravelMatrixServiceTest {
+
+    private static final int LOCATED_SPOTS = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DailyPlanRepository dailyPlanRepository;
+
+    @Autowired
+    private PlanMemberRepository planMemberRepository;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private TravelSegmentRepository travelSegmentRepository;
+
+    @Autowired
+    private DirectionsCacheRepository directionsCacheRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MapsApiClient mapsApiClient = new MapsApiClient(16, 100, 2000L, 1000L, 5, 30L);
+    private StubGeoApiContext stub;
+    private GoogleMapsService googleMapsService;
+    private TravelMatrixCalculator calculator;
+    private TravelMatrixService travelMatrixService;
+    private User owner;
+    private DailyPlan dailyPlan;
+
+    @BeforeEach
+    void setUp() {
+        stub = new StubGeoApiContext();
+        DirectionsCache directionsCache = new DirectionsCache(directionsCacheRepository, new ObjectMapper(), 100, 30, 24, 1000);
+        GoogleMapsService googleMapsService = new GoogleMapsService(stub.context(), directionsCache, new TravelTimeEstimator(), mapsApiClient);
+        this.googleMapsService = googleMapsService;
+        calculator = new TravelMatrixCalculator(stub.context(), googleMapsService, mapsApiClient,
+                new TravelTimeEstimator(), 4, 1000, 30, 24);
+        travelMatrixService = new TravelMatrixService(dailyPlanRepository, planMemberRepository,
+                spotRepository, travelSegmentRepository, calculator, transactionManager);
+
+        owner = em.persist(TestFixtures.user("owner").build());
+        Plan plan = em.persist(TestFixtures.plan(owner).endDate(LocalDate.of(2026, 5, 2)).build());
+        dailyPlan = em.persist(TestFixtures.day(plan, plan.getStartDate()).build());
+
+        Spot first = persistSpot(0, 35.681236, 139.767125);
+        Spot second = persistSpot(1, 35.658581, 139.745433);
+        persistSpot(2, null, null); // 좌표 없는 관광지는 제외
+        persistSpot(3, 35.714765, 139.796655);
+        persistSpot(4, 35.710063, 139.8107);
+        em.persist(TravelSegment.builder()
+                .fromSpot(first)
+                .toSpot(second)
+                .duration("99분")
+                .travelMode(TravelMode.DRIVING)
+                .segmentOrder(0)
+                .dailyPlan(dailyPlan)
+                .build());
+        em.flush();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        calculator.shutdown();
+        mapsApiClient.shutdown();
+    }
+
+    @Test
+    void fillsMatrixWithSingleDistanceMatrixRequest() {
+        stub.respond(StubGeoApiContext.DISTANCE_MATRIX, url -> StubGeoApiContext.distanceMatrix(
+                StubGeoApiContext.countLocations(url, "origins"),
+                StubGeoApiContext.countLocations(url, "destinations"), 600, 800));
+
+        TravelMatrixResponse response = rebuild();
+
+        assertThat(stub.callCount(StubGeoApiContext.DISTANCE_MATRIX)).isEqualTo(1);
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isZero();
+        assertThat(response.getSpotIds()).hasSize(LOCATED_SPOTS);
+        assertThat(response.getDurationSeconds()[0]).containsExactly(0, 600, 600, 600);
+        assertThat(response.getMatrixElementCount()).isEqualTo(LOCATED_SPOTS * (LOCATED_SPOTS - 1));
+
+        assertThat(response.getTravelSegments()).extracting(TravelSegmentResponse::getSegmentOrder)
+                .containsExactly(OrderKeys.initial(0), OrderKeys.initial(1), OrderKeys.initial(2));
+        assertThat(response.getTravelSegments()).allSatisfy(segment -> {
+            assertThat(segment.getId()).isNotNull();
+            assertThat(segment.getDuration()).isEqualTo("10분");
+            assertThat(segment.getTravelMode()).isEqualTo(TravelMode.WALKING);
+        });
+        // 기존 구간은 교체됨
+        assertThat(travelSegmentRepository.findAllByDailyPlanIdOrderBySegmentOrderAsc(dailyPlan.getId())).hasSize(3);
+    }
+
+    @Test
+    void fallsBackToCachedDirectionsWhenMatrixFails() {
+        stub.respond(StubGeoApiContext.DISTANCE_MATRIX, url -> {
+            throw new UncheckedIOException(new IOException("offline"));
+        });
+        stub.respond(StubGeoApiContext.DIRECTIONS, url -> StubGeoApiContext.directions(300, 400));
+
+        TravelMatrixResponse first = rebuild();
+        TravelMatrixResponse second = rebuild();
+
+        int pairs = LOCATED_SPOTS * (LOCATED_SPOTS - 1);
+        assertThat(first.getDirectionsCallCount()).isEqualTo(pairs);
+        assertThat(first.getDurationSeconds()[1]).containsExactly(300, 0, 300, 300);
+        assertThat(second.getCachedElementCount()).isEqualTo(pairs);
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(pairs);
+        assertThat(second.getTravelSegments()).extracting(TravelSegmentResponse::getDuration)
+                .containsOnly("5분");
+    }
+
+    @Test
+    void limitsDirectionsFallbackAndEstimatesTheRest() {
+        stub.respond(StubGeoApiContext.DISTANCE_MATRIX, url -> {
+            throw new UncheckedIOException(new IOException("offline"));
+        });
+        stub.respond(StubGeoApiContext.DIRECTIONS, url -> StubGeoApiContext.directions(300, 400));
+        TravelMatrixCalculator limited = new TravelMatrixCalculator(stub.context(), googleMapsService, mapsApiClient,
+                new TravelTimeEstimator(), 4, 1000, 30, LOCATED_SPOTS - 1);
+        travelMatrixService = new TravelMatrixService(dailyPlanRepository, planMemberRepository,
+                spotRepository, travelSegmentRepository, limited, transactionManager);
+
+        // (경로 캐시가 테스트 사이에 남으므로 다른 테스트와 겹치지 않게 BICYCLE 로 조회)
+        TravelMatrixResponse response = travelMatrixService.rebuildTravelSegments(dailyPlan.getId(),
+                TravelMode.BICYCLE, owner.getId());
+
+        // 방문 순서상 연속된 쌍만 Directions 로 조회, 나머지는 추정값
+        int pairs = LOCATED_SPOTS * (LOCATED_SPOTS - 1);
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(LOCATED_SPOTS - 1);
+        assertThat(response.getDirectionsCallCount()).isEqualTo(LOCATED_SPOTS - 1);
+        assertThat(response.getEstimatedElementCount()).isEqualTo(pairs - (LOCATED_SPOTS - 1));
+        assertThat(response.getTravelSegments()).extracting(TravelSegmentResponse::getDuration)
+                .containsOnly("5분");
+    }
+
+    @Test
+    void estimatesWithoutDirectionsWhileCircuitIsOpen() {
+        stub.respond(StubGeoApiContext.DISTANCE_MATRIX, url -> {
+            throw new UncheckedIOException(new IOException("offline"));
+        });
+        stub.respond(StubGeoApiContext.DIRECTIONS, url -> {
+            throw new UncheckedIOException(new IOException("offline"));
+        });
+
+        // (경로 캐시가 테스트 사이에 남으므로 다른 테스트와 겹치지 않게 TRANSIT 으로 조회)
+        TravelMatrixResponse first = travelMatrixService.rebuildTravelSegments(dailyPlan.getId(),
+                TravelMode.TRANSIT, owner.getId());
+        int directionsCalls = stub.callCount(StubGeoApiContext.DIRECTIONS);
+        TravelMatrixResponse second = travelMatrixService.rebuildTravelSegments(dailyPlan.getId(),
+                TravelMode.TRANSIT, owner.getId());
+
+        // 실패한 Directions 응답(Mock)은 Google 결과로 세지 않음
+        int pairs = LOCATED_SPOTS * (LOCATED_SPOTS - 1);
+        assertThat(first.getDirectionsCallCount()).isZero();
+        assertThat(first.getEstimatedElementCount()).isEqualTo(pairs);
+        // 첫 계산에서 회로가 열렸으므로 두 번째 계산은 Directions 를 호출하지 않음
+        assertThat(stub.callCount(StubGeoApiContext.DIRECTIONS)).isEqualTo(directionsCalls);
+        assertThat(second.getEstimatedElementCount()).isEqualTo(pairs);
+        assertThat(second.getDurationSeconds()[0][1]).isPositive();
+    }
+
+    @Test
+    void rejectsUserWithoutAccess() {
+        User stranger = em.persist(TestFixtures.user("stranger").build());
+
+        assertThatThrownBy(() -> travelMatrixService.rebuildTravelSegments(dailyPlan.getId(), TravelMode.WALKING,
+                stranger.getId()))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(stub.callCount(StubGeoApiContext.DISTANCE_MATRIX)).isZero();
+    }
+
+    @Test
+    void optimizesVisitOrderAndRegeneratesSegments() {
+        respondWithStraightLineDirections();
+        List<Long> before = spotIds();
+
+        RouteOptimizationResponse response = travelMatrixService.optimizeVisitOrder(dailyPlan.getId(),
+                TravelMode.DRIVING, null, null, owner.getId());
+
+        assertThat(response.getOptimizedDurationSeconds()).isLessThan(response.getPreviousDurationSeconds());
+        assertThat(response.getSpotIds()).containsExactlyInAnyOrderElementsOf(before);
+        // 좌표 없는 관광지는 원래 자리 유지
+        assertThat(response.getSpotIds().get(2)).isEqualTo(before.get(2));
+        // visit_order 가 새 순서로 저장되고, 이동 구간도 새 순서를 따름
+        assertThat(spotIds()).isEqualTo(response.getSpotIds());
+        List<Long> located = response.getSpotIds().stream()
+                .filter(id -> !id.equals(before.get(2)))
+                .collect(Collectors.toList());
+        assertThat(response.getTravelSegments()).extracting(TravelSegmentResponse::getFromSpotId)
+                .containsExactlyElementsOf(located.subList(0, 3));
+        assertThat(response.getTravelSegments()).extracting(TravelSegmentResponse::getToSpotId)
+                .containsExactlyElementsOf(located.subList(1, 4));
+    }
+
+    @Test
+    void keepsFixedFirstAndLastSpots() {
+        respondWithStraightLineDirections();
+        List<Long> before = spotIds();
+
+        RouteOptimizationResponse response = travelMatrixService.optimizeVisitOrder(dailyPlan.getId(),
+                TravelMode.DRIVING, before.get(1), before.get(0), owner.getId());
+
+        assertThat(response.getFixedFirstSpotId()).isEqualTo(before.get(1));
+        assertThat(response.getFixedLastSpotId()).isEqualTo(before.get(0));
+        assertThat(response.getSpotIds().get(0)).isEqualTo(before.get(1));
+        assertThat(response.getSpotIds().get(4)).isEqualTo(before.get(0));
+    }
+
+    @Test
+    void rejectsOptimizationWhenOrderChangedDuringCalculation() {
+        respondWithStraightLineDirections();
+        List<Long> before = spotIds();
+        // 행렬 계산(트랜잭션 밖) 중에 다른 요청이 관광지 순서를 바꾼 경우
+        TravelMatrixCalculator racing = spy(calculator);
+        doAnswer(invocation -> {
+            dailyPlanRepository.incrementSpotOrderVersion(dailyPlan.getId());
+            em.clear();
+            return invocation.callRealMethod();
+        }).when(racing).calculate(anyList(), any());
+        TravelMatrixService service = new TravelMatrixService(dailyPlanRepository, planMemberRepository,
+                spotRepository, travelSegmentRepository, racing, transactionManager);
+
+        assertThatThrownBy(() -> service.optimizeVisitOrder(dailyPlan.getId(), TravelMode.DRIVING, null, null, owner.getId()))
+                .isInstanceOf(SpotOrderConflictException.class);
+        assertThat(spotIds()).isEqualTo(before);
+        assertThat(travelSegmentRepository.findAllByDailyPlanIdOrderBySegmentOrderAsc(dailyPlan.getId()))
+                .extracting(TravelSegment::getDuration).containsExactly("99분");
+    }
+
+    // Distance Matrix 실패 → 구간별 Directions 조회가 좌표 간 직선 거리에 비례한 시간을 반환
+    // (경로 캐시가 테스트 사이에 남으므로 다른 테스트와 겹치지 않게 DRIVING 으로 조회)
+    private void respondWithStraightLineDirections() {
+        stub.respond(StubGeoApiContext.DISTANCE_MATRIX, url -> {
+            throw new UncheckedIOException(new IOException("offline"));
+        });
+        stub.respond(StubGeoApiContext.DIRECTIONS, url -> {
+            String[] origin = StubGeoApiContext.parameter(url, "origin").split(",");
+            String[] destination = StubGeoApiContext.parameter(url, "destination").split(",");
+            double meters = TravelTimeEstimator.haversineMeters(Double.parseDouble(origin[0]),
+                    Double.parseDouble(origin[1]), Double.parseDouble(destination[0]), Double.parseDouble(destination[1]));
+            return StubGeoApiContext.directions(Math.round(meters / 1.4), Math.round(meters));
+        });
+    }
+
+    private List<Long> spotIds() {
+        return spotRepository.findAllByDailyPlanIdOrderByVisitOrderAsc(dailyPlan.getId()).stream()
+                .map(Spot::getId)
+                .collect(Collectors.toList());
+    }
+
+    private TravelMatrixResponse rebuild() {
+        return travelMatrixService.rebuildTravelSegments(dailyPlan.getId(), TravelMode.WALKING, owner.getId());
+    }
+
+    private Spot persistSpot(int visitOrder, Double latitude, Double longitude) {
+        return em.persist(TestFixtures.spot(dailyPlan, "spot-" + visitOrder, visitOrder)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build());
+    }
+}
@@ -0,0 +1,146 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.DailyPlanRepository;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotRepository;
+import com.ikuzo.tabilog.domain.spot.TravelMode;
+import com.ikuzo.tabilog.domain.spot.TravelSegment;
+import com.ikuzo.tabilog.domain.spot.TravelSegmentRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.dto.request.TravelSegmentRequest;
+import com.ikuzo.tabilog.dto.response.TravelSegmentResponse;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이동 구간 순서 테스트 (H2)
+ * 요청의 segmentOrder 는 정렬된 구간 목록에서의 위치이므로, 0, 1, 2 순서로 만든 구간은 그 순서대로 조회되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:travel-segment;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TravelSegmentServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TravelSegmentRepository travelSegmentRepository;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private DailyPlanRepository dailyPlanRepository;
+
+    private TravelSegmentService travelSegmentService;
+    private DailyPlan dailyPlan;
+    private Spot a;
+    private Spot b;
+    private Spot c;
+    private Spot d;
+
+    @BeforeEach
+    void setUp() {
+        travelSegmentService = new TravelSegmentService(travelSegmentRepository, spotRepository, dailyPlanRepository);
+
+        User owner = em.persist(TestFixtures.user("owner").build());
+        Plan plan = em.persist(TestFixtures.plan(owner).build());
+        dailyPlan = em.persist(TestFixtures.day(plan, plan.getStartDate()).build());
+        a = persistSpot("A", 0);
+        b = persistSpot("B", 1);
+        c = persistSpot("C", 2);
+        d = persistSpot("D", 3);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void createsSegmentsAtRequestedPositions() {
+        travelSegmentService.createTravelSegment(request(a, b, 0));
+        travelSegmentService.createTravelSegment(request(b, c, 1));
+        travelSegmentService.createTravelSegment(request(c, d, 2));
+        em.flush();
+        em.clear();
+
+        assertThat(travelSegmentService.getTravelSegmentsByDailyPlan(dailyPlan.getId()))
+                .extracting(TravelSegmentResponse::getFromSpotId)
+                .containsExactly(a.getId(), b.getId(), c.getId());
+    }
+
+    @Test
+    void movesSegmentToRequestedPosition() {
+        travelSegmentService.createTravelSegment(request(a, b, 0));
+        travelSegmentService.createTravelSegment(request(b, c, 1));
+        TravelSegmentResponse last = travelSegmentService.createTravelSegment(request(c, d, 2));
+        em.flush();
+        em.clear();
+
+        // 현재 위치와 같으면 이동하지 않음
+        travelSegmentService.updateTravelSegment(last.getId(), request(c, d, 2));
+        em.flush();
+        em.clear();
+        assertThat(travelSegmentService.getTravelSegmentsByDailyPlan(dailyPlan.getId()))
+                .extracting(TravelSegmentResponse::getFromSpotId)
+                .containsExactly(a.getId(), b.getId(), c.getId());
+
+        travelSegmentService.updateTravelSegment(last.getId(), request(c, d, 0));
+        em.flush();
+        em.clear();
+        assertThat(travelSegmentService.getTravelSegmentsByDailyPlan(dailyPlan.getId()))
+                .extracting(TravelSegmentResponse::getFromSpotId)
+                .containsExactly(c.getId(), a.getId(), b.getId());
+    }
+
+    @Test
+    void movesLegacyKeysByPositionEvenWhenPositionEqualsKey() {
+        // 0..n-1 키가 남아 있는 기존 데이터
+        TravelSegment ab = persistSegment(a, b, 0);
+        TravelSegment bc = persistSegment(b, c, 1);
+        TravelSegment cd = persistSegment(c, d, 2);
+        em.flush();
+        em.clear();
+
+        travelSegmentService.updateTravelSegment(ab.getId(), request(a, b, 2));
+        em.flush();
+        em.clear();
+        // 키 1인 구간을 위치 1로 이동 (키와 위치가 같아도 이동해야 함)
+        travelSegmentService.updateTravelSegment(bc.getId(), request(b, c, 1));
+        em.flush();
+        em.clear();
+
+        assertThat(travelSegmentService.getTravelSegmentsByDailyPlan(dailyPlan.getId()))
+                .extracting(TravelSegmentResponse::getId)
+                .containsExactly(cd.getId(), bc.getId(), ab.getId());
+    }
+
+    private TravelSegment persistSegment(Spot from, Spot to, int segmentOrder) {
+        return em.persist(TravelSegment.builder()
+                .fromSpot(from)
+                .toSpot(to)
+                .duration("15분")
+                .travelMode(TravelMode.WALKING)
+                .segmentOrder(segmentOrder)
+                .dailyPlan(dailyPlan)
+                .build());
+    }
+
+    private static TravelSegmentRequest request(Spot from, Spot to, int segmentOrder) {
+        return new TravelSegmentRequest(from.getId(), to.getId(), "15분", TravelMode.WALKING, segmentOrder);
+    }
+
+    private Spot persistSpot(String name, int visitOrder) {
+        return em.persist(TestFixtures.spot(dailyPlan, name, visitOrder).build());
+    }
+}
@@ -0,0 +1,141 @@
+package com.ikuzo.tabilog.service;
+
+import com.ikuzo.tabilog.domain.expense.Expense;
+import com.ikuzo.tabilog.domain.expense.ExpenseCategory;
+import com.ikuzo.tabilog.domain.expense.ExpenseRepository;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.plan.PlanMember;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRepository;
+import com.ikuzo.tabilog.domain.plan.PlanMemberRole;
+import com.ikuzo.tabilog.domain.plan.PlanRepository;
+import com.ikuzo.tabilog.domain.user.User;
+import com.ikuzo.tabilog.domain.user.UserRepository;
+import com.ikuzo.tabilog.dto.request.SettlementRequest;
+import com.ikuzo.tabilog.dto.response.SettlementResponse;
+import com.ikuzo.tabilog.exception.InvalidSettlementException;
+import com.ikuzo.tabilog.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 와리깡 정산 테스트 (H2)
+ * 결제자별 지출 합계와 가중치로 멤버별 잔액과 송금 목록이 계산되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warikan-settlement;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class WarikanSettlementTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2026, 6, 1);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanMemberRepository planMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    private WarikanService warikanService;
+    private Plan plan;
+    private User owner;
+    private User friend;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        warikanService = new WarikanService(planRepository, planMemberRepository, userRepository, null, expenseRepository);
+
+        owner = em.persist(TestFixtures.user("owner").build());
+        friend = em.persist(TestFixtures.user("friend").build());
+        other = em.persist(TestFixtures.user("other").build());
+        plan = em.persist(TestFixtures.plan(owner)
+                .startDate(DAY1)
+                .endDate(DAY1.plusDays(1))
+                .participant_count(3L)
+                .build());
+        em.persist(PlanMember.builder().plan(plan).user(owner).role(PlanMemberRole.OWNER).build());
+        em.persist(PlanMember.builder().plan(plan).user(friend).role(PlanMemberRole.EDITOR).build());
+        em.persist(PlanMember.builder().plan(plan).user(other).role(PlanMemberRole.VIEWER).build());
+
+        // 작성자 9000엔(결제자 미지정 3000엔 포함), 친구 3000엔
+        em.persist(expense(owner, 6000));
+        em.persist(expense(null, 3000));
+        em.persist(expense(friend, 3000));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void settlesEquallyByDefault() {
+        SettlementResponse response = warikanService.calculateSettlement(plan.getId(), null, friend.getId());
+
+        assertThat(response.getTotalAmount()).isEqualTo(12000L);
+        assertThat(response.getMembers())
+                .extracting(SettlementResponse.MemberBalance::getUserId,
+                        SettlementResponse.MemberBalance::getPaidAmount,
+                        SettlementResponse.MemberBalance::getBalance)
+                .containsExactly(
+                        tuple(owner.getId(), 9000L, 5000L),
+                        tuple(friend.getId(), 3000L, -1000L),
+                        tuple(other.getId(), 0L, -4000L));
+        assertThat(response.getTransfers())
+                .extracting(SettlementResponse.Transfer::getFromUserId,
+                        SettlementResponse.Transfer::getToUserId,
+                        SettlementResponse.Transfer::getAmount)
+                .containsExactly(
+                        tuple(other.getId(), owner.getId(), 4000L),
+                        tuple(friend.getId(), owner.getId(), 1000L));
+    }
+
+    @Test
+    void appliesWeightsAndRejectsNonMembers() {
+        SettlementRequest request = SettlementRequest.builder()
+                .weights(List.of(new SettlementRequest.MemberWeight(other.getId(), 0)))
+                .build();
+
+        SettlementResponse response = warikanService.calculateSettlement(plan.getId(), request, owner.getId());
+
+        // 남은 두 명이 6000엔씩 부담 → 친구가 작성자에게 3000엔
+        assertThat(response.getTransfers())
+                .extracting(SettlementResponse.Transfer::getFromUserId, SettlementResponse.Transfer::getAmount)
+                .containsExactly(tuple(friend.getId(), 3000L));
+
+        SettlementRequest invalid = SettlementRequest.builder()
+                .weights(List.of(new SettlementRequest.MemberWeight(-1L, 1)))
+                .build();
+        assertThatThrownBy(() -> warikanService.calculateSettlement(plan.getId(), invalid, owner.getId()))
+                .isInstanceOf(InvalidSettlementException.class);
+    }
+
+    private Expense expense(User paidBy, int amount) {
+        return Expense.builder()
+                .plan(plan)
+                .paidBy(paidBy)
+                .item("식비")
+                .amount(amount)
+                .category(ExpenseCategory.FOOD)
+                .expenseDate(DAY1)
+                .build();
+    }
+}
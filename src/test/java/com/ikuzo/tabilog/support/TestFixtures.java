@@ -0,0 +1,69 @@
+package com.ikuzo.tabilog.support;
+
+import com.ikuzo.tabilog.domain.plan.DailyPlan;
+import com.ikuzo.tabilog.domain.plan.Plan;
+import com.ikuzo.tabilog.domain.spot.Spot;
+import com.ikuzo.tabilog.domain.spot.SpotCategory;
+import com.ikuzo.tabilog.domain.user.User;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 테스트용 엔티티 빌더 모음
+ * 필수 필드를 기본값으로 채운 빌더를 반환하므로, 테스트에서는 확인하려는 필드만 덮어써서 저장합니다.
+ * 예) em.persist(TestFixtures.plan(owner).prefecture("京都").isPublic(true).build())
+ */
+public final class TestFixtures {
+
+    public static final LocalDate START_DATE = LocalDate.of(2026, 5, 1);
+
+    private TestFixtures() {
+    }
+
+    // name 을 userId, 닉네임, 이메일(name@example.com)로 사용
+    public static User.UserBuilder user(String name) {
+        return User.builder()
+                .email(name + "@example.com")
+                .userId(name)
+                .password("password")
+                .firstName("Gildong")
+                .lastName("Hong")
+                .nickname(name)
+                .privacyAgreement(true)
+                .publicAgreement(true);
+    }
+
+    // START_DATE 하루짜리 비공개 도쿄 여행
+    public static Plan.PlanBuilder plan(User owner) {
+        return Plan.builder()
+                .title("도쿄 여행")
+                .startDate(START_DATE)
+                .endDate(START_DATE)
+                .totalBudget(100000L)
+                .region("東日本")
+                .prefecture("東京")
+                .participant_count(1L)
+                .status("PLANNING")
+                .isPublic(false)
+                .user(owner);
+    }
+
+    public static DailyPlan.DailyPlanBuilder day(Plan plan, LocalDate visitDate) {
+        return DailyPlan.builder()
+                .plan(plan)
+                .visitDate(visitDate)
+                .departureTime(LocalTime.of(9, 0));
+    }
+
+    public static Spot.SpotBuilder spot(DailyPlan dailyPlan, String name, int visitOrder) {
+        return Spot.builder()
+                .name(name)
+                .address("address")
+                .category(SpotCategory.LANDMARK)
+                .visitOrder(visitOrder)
+                .duration("1시간")
+                .cost(0L)
+                .dailyPlan(dailyPlan);
+    }
+}